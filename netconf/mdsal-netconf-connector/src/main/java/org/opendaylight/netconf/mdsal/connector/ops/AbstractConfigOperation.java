@@ -100,7 +100,7 @@ abstract class AbstractConfigOperation extends AbstractSingletonNetconfOperation
         }
     }
 
-    private static InputStream openConnection(final URL url) throws IOException {
+    static InputStream openConnection(final URL url) throws IOException {
         final URLConnection connection = url.openConnection();
         connection.setConnectTimeout(TIMEOUT_MS);
         connection.setReadTimeout(TIMEOUT_MS);
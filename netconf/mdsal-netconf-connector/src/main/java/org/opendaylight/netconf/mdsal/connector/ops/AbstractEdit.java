@@ -66,6 +66,11 @@ abstract class AbstractEdit extends AbstractConfigOperation {
     }
 
     protected DataSchemaNode getSchemaNodeFromNamespace(final String namespace, final XmlElement element)
+        throws DocumentedException {
+        return getSchemaNodeFromNamespace(namespace, element.getName());
+    }
+
+    protected DataSchemaNode getSchemaNodeFromNamespace(final String namespace, final String elementName)
         throws DocumentedException {
         final Iterator<? extends Module> it;
         try {
@@ -84,9 +89,8 @@ abstract class AbstractEdit extends AbstractConfigOperation {
         }
 
         final Module module = it.next();
-        final String elementName = element.getName();
         final Optional<DataSchemaNode> schemaNode = module.findDataChildByName(QName.create(module.getQNameModule(),
-                    element.getName()));
+                    elementName));
         if (!schemaNode.isPresent()) {
             throw new DocumentedException(
                 "Unable to find node " + elementName + " with namespace: " + namespace + "in module: "
@@ -9,9 +9,15 @@ package org.opendaylight.netconf.mdsal.connector.ops;
 
 import static org.opendaylight.netconf.api.xml.XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -19,10 +25,12 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.xml.XMLConstants;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import javax.xml.transform.dom.DOMResult;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
 import org.opendaylight.netconf.api.DocumentedException;
@@ -31,7 +39,6 @@ import org.opendaylight.netconf.api.DocumentedException.ErrorTag;
 import org.opendaylight.netconf.api.DocumentedException.ErrorType;
 import org.opendaylight.netconf.api.xml.XmlElement;
 import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
-import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.mdsal.connector.CurrentSchemaContext;
 import org.opendaylight.netconf.mdsal.connector.TransactionProvider;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -47,13 +54,18 @@ import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
 
 public final class CopyConfig extends AbstractEdit {
+    private static final Logger LOG = LoggerFactory.getLogger(CopyConfig.class);
     private static final String OPERATION_NAME = "copy-config";
     private static final String SOURCE_KEY = "source";
+    // Target files with this suffix are written gzip-compressed
+    private static final String GZIP_SUFFIX = ".gz";
     private static final XMLOutputFactory XML_OUTPUT_FACTORY;
 
     static {
@@ -99,6 +111,12 @@ public final class CopyConfig extends AbstractEdit {
     private void copyToCandidate(final XmlElement operationElement)
         throws DocumentedException {
         final XmlElement source = getSourceElement(operationElement);
+        final Optional<XmlElement> urlElement = source.getOnlyChildElementOptionally(URL_KEY);
+        if (urlElement.isPresent() && source.getOnlyChildElementOptionally(CONFIG_KEY).isEmpty()) {
+            copyFromUrl(urlElement.get().getTextContent());
+            return;
+        }
+
         final List<XmlElement> configElements = getConfigElement(source).getChildElements();
 
         // <copy-config>, unlike <edit-config>, always replaces entire configuration,
@@ -119,6 +137,89 @@ public final class CopyConfig extends AbstractEdit {
         }
     }
 
+    /**
+     * Replace the candidate configuration with the configuration at given URL. The document is streamed into
+     * the transaction in small pieces, so that its size is not limited by available memory. Gzip-compressed
+     * documents are recognized by their content and decompressed on the fly. If the document cannot be read or
+     * parsed, the candidate is restored to the configuration it held before this operation rather than left partially
+     * replaced, i.e. edits made earlier in the candidate transaction are kept.
+     *
+     * @param url URL as defined in RFC 2396
+     */
+    private void copyFromUrl(final String url) throws DocumentedException {
+        try (InputStream connection = openConnection(new URL(url));
+             InputStream input = decompressed(connection)) {
+            // <copy-config>, unlike <edit-config>, always replaces entire configuration,
+            // so remove old configuration first:
+            final DOMDataTreeReadWriteTransaction rwTx = transactionProvider.getOrCreateTransaction();
+            final NormalizedNode<?, ?> previous = readCandidateRoot(rwTx);
+            rwTx.put(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.empty(), EMPTY_ROOT_NODE);
+
+            final long modifications = parseIntoCandidate(input, rwTx, previous);
+            LOG.debug("Configuration from {} merged into candidate in {} modifications", url, modifications);
+        } catch (MalformedURLException e) {
+            throw new DocumentedException(url + " URL is invalid or unsupported", e,
+                ErrorType.APPLICATION,
+                ErrorTag.INVALID_VALUE,
+                ErrorSeverity.ERROR);
+        } catch (IOException e) {
+            throw new DocumentedException("Could not open URL: " + url, e,
+                ErrorType.APPLICATION,
+                ErrorTag.OPERATION_FAILED,
+                ErrorSeverity.ERROR);
+        } catch (SAXException e) {
+            if (e.getException() instanceof DocumentedException) {
+                throw (DocumentedException) e.getException();
+            }
+            throw new DocumentedException("Could not parse XML at " + url, e,
+                ErrorType.APPLICATION,
+                ErrorTag.OPERATION_FAILED,
+                ErrorSeverity.ERROR);
+        }
+    }
+
+    // Snapshot of the candidate, including uncommitted edits, to be restored if the copy fails. Reading the root of
+    // a transaction does not copy the data.
+    private static NormalizedNode<?, ?> readCandidateRoot(final DOMDataTreeReadWriteTransaction rwTx)
+            throws DocumentedException {
+        try {
+            return rwTx.read(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.empty()).get()
+                .orElse(EMPTY_ROOT_NODE);
+        } catch (InterruptedException | ExecutionException e) {
+            throw new DocumentedException("Unable to read candidate configuration", e,
+                ErrorType.APPLICATION,
+                ErrorTag.OPERATION_FAILED,
+                ErrorSeverity.ERROR);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private long parseIntoCandidate(final InputStream input, final DOMDataTreeReadWriteTransaction rwTx,
+            final NormalizedNode<?, ?> previous) throws IOException, SAXException {
+        try {
+            return SplittingConfigHandler.parse(input, this, rwTx);
+        } catch (IOException | SAXException | RuntimeException e) {
+            // The candidate has already been emptied and possibly partially replaced, do not leave it that way
+            LOG.debug("Failed to replace candidate configuration, restoring previous candidate", e);
+            try {
+                rwTx.put(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.empty(), previous);
+            } catch (RuntimeException restoreFailure) {
+                LOG.warn("Failed to restore candidate configuration, aborting candidate transaction", restoreFailure);
+                e.addSuppressed(restoreFailure);
+                transactionProvider.abortTransaction();
+            }
+            throw e;
+        }
+    }
+
+    private static InputStream decompressed(final InputStream input) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(2);
+        final int magic = buffered.read() | buffered.read() << 8;
+        buffered.reset();
+        return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(buffered) : buffered;
+    }
+
     private static XmlElement getSourceElement(final XmlElement parent) throws DocumentedException {
         final Optional<XmlElement> sourceElement = parent.getOnlyChildElementOptionally(SOURCE_KEY);
         if (!sourceElement.isPresent()) {
@@ -144,21 +245,20 @@ public final class CopyConfig extends AbstractEdit {
         final XmlElement source = getSourceElement(operationElement).getOnlyChildElement();
         final ContainerNode data = readData(source);
 
-        // Transform NN to XML:
-        final Document document = operationElement.getDomElement().getOwnerDocument();
-        final Node node = transformNormalizedNode(document, data);
-
-        // Save XML to file:
-        final String xml = XmlUtil.toString((Element) node);
+        final Path file;
         try {
-            final Path file = Paths.get(new URI(url));
-            Files.write(file, xml.getBytes(StandardCharsets.UTF_8));
+            file = Paths.get(new URI(url));
         } catch (URISyntaxException | IllegalArgumentException e) {
             throw new DocumentedException("Invalid URI: " + url, e,
                 ErrorType.RPC,
                 ErrorTag.INVALID_VALUE,
                 ErrorSeverity.ERROR);
-        } catch (IOException e) {
+        }
+
+        // Stream NN as XML to file, without building the document in memory:
+        try (OutputStream output = openFile(file)) {
+            writeConfig(output, data);
+        } catch (IOException | XMLStreamException e) {
             throw new DocumentedException("Failed to write : " + url, e,
                 ErrorType.APPLICATION,
                 ErrorTag.OPERATION_FAILED,
@@ -166,6 +266,12 @@ public final class CopyConfig extends AbstractEdit {
         }
     }
 
+    private static OutputStream openFile(final Path file) throws IOException {
+        final OutputStream output = Files.newOutputStream(file);
+        return new BufferedOutputStream(file.getFileName().toString().endsWith(GZIP_SUFFIX)
+            ? new GZIPOutputStream(output) : output);
+    }
+
     private ContainerNode readData(final XmlElement source) throws DocumentedException {
         final Datastore sourceDatastore = getDatastore(source);
         final DOMDataTreeReadWriteTransaction rwTx = getTransaction(sourceDatastore);
@@ -203,11 +309,14 @@ public final class CopyConfig extends AbstractEdit {
             ErrorSeverity.ERROR);
     }
 
-    private Node transformNormalizedNode(final Document document, final ContainerNode data) {
-        final Element configElement = document.createElementNS(URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0, CONFIG_KEY);
-        final DOMResult result = new DOMResult(configElement);
+    private void writeConfig(final OutputStream output, final ContainerNode data)
+            throws XMLStreamException, IOException {
+        final XMLStreamWriter xmlWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(output,
+            StandardCharsets.UTF_8.name());
         try {
-            final XMLStreamWriter xmlWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(result);
+            xmlWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            xmlWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, CONFIG_KEY,
+                URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0);
             final NormalizedNodeStreamWriter nnStreamWriter = XMLStreamNormalizedNodeStreamWriter.create(xmlWriter,
                 schemaContext.getCurrentContext(), SchemaPath.ROOT);
 
@@ -216,11 +325,12 @@ public final class CopyConfig extends AbstractEdit {
                 nnWriter.write(child);
             }
             nnWriter.flush();
+            xmlWriter.writeEndElement();
+            xmlWriter.writeEndDocument();
             xmlWriter.flush();
-        } catch (XMLStreamException | IOException e) {
-            throw new RuntimeException(e);
+        } finally {
+            xmlWriter.close();
         }
-        return result.getNode();
     }
 
     @Override
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.connector.ops;
+
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.netconf.api.xml.XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Optional;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.netconf.api.DocumentedException;
+import org.opendaylight.netconf.api.DocumentedException.ErrorSeverity;
+import org.opendaylight.netconf.api.DocumentedException.ErrorTag;
+import org.opendaylight.netconf.api.DocumentedException.ErrorType;
+import org.opendaylight.netconf.api.xml.XmlElement;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * Streaming parser of a {@code <config>} document, which merges its content into a transaction piece by piece instead
+ * of building the DOM of the whole document. Containers are split into their child containers and keyed lists, which
+ * are split into their entries. Only a single list entry, or the remaining children of a single container, are held
+ * in memory at any time.
+ *
+ * <p>Errors reported by {@link AbstractEdit} are wrapped in a {@link SAXException}, see
+ * {@link SAXException#getException()}.
+ */
+final class SplittingConfigHandler extends DefaultHandler {
+    private static final SAXParserFactory PARSER_FACTORY;
+
+    static {
+        final SAXParserFactory factory = SAXParserFactory.newInstance();
+        try {
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        factory.setXIncludeAware(false);
+        factory.setNamespaceAware(true);
+        PARSER_FACTORY = factory;
+    }
+
+    /**
+     * A container which is being split. Its children which are not split are collected in a shell element and
+     * merged once the container ends.
+     */
+    private static final class SplitContainer {
+        private final YangInstanceIdentifier path;
+        // Null for the <config> element
+        private final ContainerSchemaNode schema;
+
+        private Element shell;
+
+        SplitContainer(final YangInstanceIdentifier path, final ContainerSchemaNode schema) {
+            this.path = path;
+            this.schema = schema;
+        }
+    }
+
+    private final Deque<SplitContainer> containers = new ArrayDeque<>();
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+    private final StringBuilder text = new StringBuilder();
+    private final AbstractEdit edit;
+    private final DOMDataTreeWriteTransaction tx;
+
+    // Set when the namespace context of the next element has been pushed by startPrefixMapping()
+    private boolean contextPushed;
+    // Element of the piece currently being built, null if not within a piece
+    private Element current;
+    private int pieceDepth;
+    // Schema of the piece being built, null if the piece belongs to the shell of its container
+    private DataSchemaNode pieceSchema;
+    private YangInstanceIdentifier pieceParent;
+    private long modifications;
+
+    private SplittingConfigHandler(final AbstractEdit edit, final DOMDataTreeWriteTransaction tx) {
+        this.edit = requireNonNull(edit);
+        this.tx = requireNonNull(tx);
+    }
+
+    /**
+     * Parse a {@code <config>} document and merge its content into a transaction.
+     *
+     * @param input document to parse
+     * @param edit operation used to look up and parse the data
+     * @param tx transaction to merge the data into
+     * @return number of merges performed
+     * @throws IOException if the document cannot be read
+     * @throws SAXException if the document cannot be parsed
+     */
+    static long parse(final InputStream input, final AbstractEdit edit, final DOMDataTreeWriteTransaction tx)
+            throws IOException, SAXException {
+        final SplittingConfigHandler handler = new SplittingConfigHandler(edit, tx);
+        try {
+            PARSER_FACTORY.newSAXParser().parse(input, handler);
+        } catch (ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+        return handler.modifications;
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) {
+        if (!contextPushed) {
+            namespaces.pushContext();
+            contextPushed = true;
+        }
+        namespaces.declarePrefix(prefix, uri);
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qname,
+            final Attributes attributes) throws SAXException {
+        if (!contextPushed) {
+            namespaces.pushContext();
+        }
+        contextPushed = false;
+
+        if (current != null) {
+            flushText();
+            final Element child = createElement(current.getOwnerDocument(), uri, localName, qname, attributes, false);
+            current.appendChild(child);
+            current = child;
+            pieceDepth++;
+            return;
+        }
+
+        final SplitContainer parent = containers.peek();
+        if (parent == null) {
+            if (!AbstractConfigOperation.CONFIG_KEY.equals(localName)
+                    || !URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0.equals(uri)) {
+                throw new SAXException(new DocumentedException("Expected <config> element in namespace "
+                    + URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0 + ", found " + qname, ErrorType.APPLICATION,
+                    ErrorTag.OPERATION_FAILED, ErrorSeverity.ERROR));
+            }
+            containers.push(new SplitContainer(YangInstanceIdentifier.empty(), null));
+            return;
+        }
+
+        final DataSchemaNode schema = parent.schema == null ? topLevelSchema(uri, localName)
+            : splitSchema(parent.schema, uri, localName);
+        if (schema instanceof ContainerSchemaNode) {
+            // Merge the container itself first, so that it exists even if it has no children
+            final YangInstanceIdentifier path = parent.path.node(schema.getQName());
+            merge(path, Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(schema.getQName()))
+                .build());
+            containers.push(new SplitContainer(path, (ContainerSchemaNode) schema));
+        } else if (schema != null) {
+            current = createElement(XmlUtil.newDocument(), uri, localName, qname, attributes, true);
+            pieceDepth = 1;
+            pieceSchema = schema;
+            pieceParent = parent.path;
+        } else {
+            if (parent.shell == null) {
+                final QName name = parent.schema.getQName();
+                parent.shell = XmlUtil.newDocument().createElementNS(name.getNamespace().toString(),
+                    name.getLocalName());
+            }
+            current = createElement(parent.shell.getOwnerDocument(), uri, localName, qname, attributes, true);
+            parent.shell.appendChild(current);
+            pieceDepth = 1;
+            pieceSchema = null;
+        }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qname) throws SAXException {
+        namespaces.popContext();
+
+        if (current != null) {
+            flushText();
+            if (--pieceDepth != 0) {
+                current = (Element) current.getParentNode();
+                return;
+            }
+
+            final Element piece = current;
+            current = null;
+            if (pieceSchema != null) {
+                final NormalizedNode<?, ?> data = parseNode(pieceSchema, piece);
+                merge(pieceParent.node(data.getIdentifier()), data);
+            }
+            return;
+        }
+
+        final SplitContainer container = containers.pop();
+        if (container.shell != null) {
+            merge(container.path, parseNode(container.schema, container.shell));
+        }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        if (current != null) {
+            text.append(ch, start, length);
+        }
+    }
+
+    private DataSchemaNode topLevelSchema(final String uri, final String localName) throws SAXException {
+        try {
+            return edit.getSchemaNodeFromNamespace(uri, localName);
+        } catch (DocumentedException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * Return the schema of a child of a container if the child is split out of the container, i.e. if it is a
+     * container or a keyed list which is neither augmenting nor within a choice.
+     */
+    private static DataSchemaNode splitSchema(final ContainerSchemaNode parent, final String uri,
+            final String localName) {
+        final QName parentName = parent.getQName();
+        if (!parentName.getNamespace().toString().equals(uri)) {
+            return null;
+        }
+
+        final Optional<DataSchemaNode> child = parent.findDataChildByName(QName.create(parentName, localName));
+        if (child.isEmpty() || child.get().isAugmenting()) {
+            return null;
+        }
+        final DataSchemaNode schema = child.get();
+        return schema instanceof ContainerSchemaNode
+            || (schema instanceof ListSchemaNode && !((ListSchemaNode) schema).getKeyDefinition().isEmpty())
+            ? schema : null;
+    }
+
+    private Element createElement(final Document document, final String uri, final String localName,
+            final String qname, final Attributes attributes, final boolean root) {
+        final Element element = document.createElementNS(uri.isEmpty() ? null : uri,
+            qname.isEmpty() ? localName : qname);
+
+        // The root of a piece needs all namespaces in scope, as they may be used in values
+        final Iterable<String> prefixes = Collections.list(root ? namespaces.getPrefixes()
+            : namespaces.getDeclaredPrefixes());
+        for (final String prefix : prefixes) {
+            if (!XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+                declarePrefix(element, prefix, namespaces.getURI(prefix));
+            }
+        }
+        if (root) {
+            declarePrefix(element, XMLConstants.DEFAULT_NS_PREFIX, namespaces.getURI(XMLConstants.DEFAULT_NS_PREFIX));
+        }
+
+        for (int i = 0; i < attributes.getLength(); i++) {
+            final String attributeUri = attributes.getURI(i);
+            element.setAttributeNS(attributeUri.isEmpty() ? null : attributeUri, attributes.getQName(i),
+                attributes.getValue(i));
+        }
+        return element;
+    }
+
+    private static void declarePrefix(final Element element, final String prefix, final String uri) {
+        if (uri != null) {
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, prefix.isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE
+                : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix, uri);
+        }
+    }
+
+    private void flushText() {
+        if (text.length() != 0) {
+            current.appendChild(current.getOwnerDocument().createTextNode(text.toString()));
+            text.setLength(0);
+        }
+    }
+
+    private NormalizedNode<?, ?> parseNode(final DataSchemaNode schema, final Element element) throws SAXException {
+        final NormalizedNodeResult resultHolder = new NormalizedNodeResult();
+        try {
+            edit.parseIntoNormalizedNode(schema, XmlElement.fromDomElement(element),
+                ImmutableNormalizedNodeStreamWriter.from(resultHolder));
+        } catch (DocumentedException e) {
+            throw new SAXException(e);
+        }
+        return resultHolder.getResult();
+    }
+
+    private void merge(final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+        // Doing merge instead of put to support lists split into entries
+        tx.merge(LogicalDatastoreType.CONFIGURATION, path, data);
+        modifications++;
+    }
+}
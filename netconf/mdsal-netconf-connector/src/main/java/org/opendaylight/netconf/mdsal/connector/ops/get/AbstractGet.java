@@ -141,6 +141,34 @@ public abstract class AbstractGet extends AbstractSingletonNetconfOperation {
         return (Element) transformNormalizedNode(document, node, ROOT);
     }
 
+    /**
+     * Serialize data read from the datastore, pruned to the nodes selected by the subtree filter of the operation.
+     * Only the selected nodes are serialized, the exact filtering is still done by the subtree filter applied to
+     * the reply.
+     *
+     * @param document document to create the data element in
+     * @param dataRoot path of the data in the datastore
+     * @param node data read from the datastore
+     * @param operationElement operation element
+     * @return data element
+     */
+    protected Element serializeNodeWithParentStructure(final Document document, final YangInstanceIdentifier dataRoot,
+                                                       final NormalizedNode<?, ?> node,
+                                                       final XmlElement operationElement) {
+        final Optional<FilterProjection> projection = FilterProjection.forOperation(operationElement);
+        if (projection.isEmpty()) {
+            return serializeNodeWithParentStructure(document, dataRoot, node);
+        }
+
+        final NormalizedNode<?, ?> data = dataRoot.equals(ROOT) ? node
+                : ImmutableNodes.fromInstanceId(schemaContext.getCurrentContext(), dataRoot, node);
+        final Optional<NormalizedNode<?, ?>> projected = projection.get().project(data);
+        if (projected.isEmpty()) {
+            return document.createElement(XmlNetconfConstants.DATA_KEY);
+        }
+        return (Element) transformNormalizedNode(document, projected.get(), ROOT);
+    }
+
     /**
      * Obtain data root according to filter from operation element.
      *
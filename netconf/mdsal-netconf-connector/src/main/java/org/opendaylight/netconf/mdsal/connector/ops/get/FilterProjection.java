@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.connector.ops.get;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.api.xml.XmlElement;
+import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Projection of a subtree filter onto {@link NormalizedNode} data. Data read from the datastore is pruned to the nodes
+ * selected by the filter before it is serialized, so that nodes outside of the filter are never turned into XML.
+ *
+ * <p>The projection follows the matching rules of the subtree filter applied to every get and get-config reply: nodes
+ * are matched by name and namespace, a content match node which does not match the value of the corresponding leaf
+ * excludes its parent and a parent with content match nodes only is selected as a whole. It is conservative, where it
+ * cannot decide locally whether a node is selected, it keeps the node and leaves the decision to the subtree filter.
+ * Keys of list entries are always kept, so that the pruned data remains valid.
+ */
+final class FilterProjection {
+    private static final String SUBTREE = "subtree";
+    private static final String TYPE = "type";
+
+    private final XmlElement filter;
+
+    private FilterProjection(final XmlElement filter) {
+        this.filter = requireNonNull(filter);
+    }
+
+    /**
+     * Create a projection of the filter of a get or get-config operation, if it has a subtree filter.
+     *
+     * @param operationElement operation element
+     * @return projection of the filter, empty if the operation has no subtree filter
+     */
+    static Optional<FilterProjection> forOperation(final XmlElement operationElement) {
+        return operationElement.getOnlyChildElementOptionally(XmlNetconfConstants.FILTER)
+            .filter(FilterProjection::isSubtree)
+            .map(FilterProjection::new);
+    }
+
+    /**
+     * Prune data to the nodes selected by the filter.
+     *
+     * @param data data to prune, either the root container of the datastore or a top-level node
+     * @return pruned data, empty if the filter selects no node
+     */
+    Optional<NormalizedNode<?, ?>> project(final NormalizedNode<?, ?> data) {
+        final List<XmlElement> filterChildren = filter.getChildElements();
+        if (data instanceof ContainerNode && SchemaContext.NAME.equals(data.getNodeType())) {
+            final ContainerNode root = pruneContainer((ContainerNode) data, filterChildren, Set.of());
+            return Optional.of(root);
+        }
+        return Optional.ofNullable(pruneChild(data, filterChildren, Set.of()));
+    }
+
+    // Same as SubtreeFilter, which will be applied to the reply
+    private static boolean isSubtree(final XmlElement filterElement) {
+        return SUBTREE.equals(filterElement.getAttribute(TYPE))
+            || SUBTREE.equals(filterElement.getAttribute(TYPE,
+                XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0));
+    }
+
+    /**
+     * Project a node, which has an element in XML, onto the filter elements matching it by name.
+     *
+     * @return the node itself if it is selected as a whole, a pruned copy of the node if only some of its descendants
+     *         are selected or null if it is not selected
+     */
+    private static @Nullable NormalizedNode<?, ?> projectElement(final NormalizedNode<?, ?> node,
+            final List<XmlElement> matchingFilters) {
+        NormalizedNode<?, ?> result = null;
+        int partialResults = 0;
+        for (final XmlElement matchingFilter : matchingFilters) {
+            final NormalizedNode<?, ?> projected = projectElement(node, matchingFilter);
+            if (projected == node) {
+                return node;
+            }
+            if (projected != null) {
+                result = projected;
+                partialResults++;
+            }
+        }
+        // Merging several partial selections is left to the subtree filter
+        return partialResults > 1 ? node : result;
+    }
+
+    private static @Nullable NormalizedNode<?, ?> projectElement(final NormalizedNode<?, ?> node,
+            final XmlElement matchingFilter) {
+        final List<XmlElement> filterChildren = matchingFilter.getChildElements();
+        if (!(node instanceof DataContainerNode) || filterChildren.isEmpty() || hasAttributes(matchingFilter)) {
+            return node;
+        }
+
+        final DataContainerNode<?> container = (DataContainerNode<?>) node;
+        boolean contentMatchOnly = true;
+        for (final XmlElement filterChild : filterChildren) {
+            final Optional<String> content = contentMatch(filterChild);
+            if (content.isEmpty()) {
+                contentMatchOnly = false;
+            } else if (isContentMismatch(container, filterChild, content.get())) {
+                return null;
+            }
+        }
+        if (contentMatchOnly) {
+            return node;
+        }
+
+        final Set<QName> keys = node instanceof MapEntryNode
+            ? ((MapEntryNode) node).getIdentifier().keySet() : Set.of();
+        return pruneContainer(container, filterChildren, keys);
+    }
+
+    private static <T extends DataContainerNode<?>> T pruneContainer(final T container,
+            final List<XmlElement> filterChildren, final Set<QName> keys) {
+        final DataContainerNodeBuilder<?, ?> builder = builderFor(container);
+        for (final DataContainerChild<?, ?> child : container.getValue()) {
+            final NormalizedNode<?, ?> pruned = pruneChild(child, filterChildren, keys);
+            if (pruned != null) {
+                builder.withChild((DataContainerChild<?, ?>) pruned);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        final T pruned = (T) builder.build();
+        return pruned;
+    }
+
+    private static @Nullable NormalizedNode<?, ?> pruneChild(final NormalizedNode<?, ?> child,
+            final List<XmlElement> filterChildren, final Set<QName> keys) {
+        if (child instanceof ChoiceNode || child instanceof AugmentationNode) {
+            // Not present in XML, their children are matched against the same filter elements
+            final DataContainerNode<?> pruned = pruneContainer((DataContainerNode<?>) child, filterChildren, keys);
+            return pruned.getValue().isEmpty() ? null : pruned;
+        }
+        if (child instanceof MapNode) {
+            return pruneMap((MapNode) child, filterChildren);
+        }
+        if (child instanceof UnkeyedListNode) {
+            return pruneUnkeyedList((UnkeyedListNode) child, filterChildren);
+        }
+
+        final List<XmlElement> matchingFilters = matchingFilters(filterChildren, child.getNodeType());
+        if (child instanceof LeafSetNode) {
+            return matchingFilters.isEmpty() ? null : child;
+        }
+        if (child instanceof LeafNode && keys.contains(child.getNodeType())) {
+            return child;
+        }
+        return matchingFilters.isEmpty() ? null : projectElement(child, matchingFilters);
+    }
+
+    private static @Nullable MapNode pruneMap(final MapNode map, final List<XmlElement> filterChildren) {
+        final List<XmlElement> matchingFilters = matchingFilters(filterChildren, map.getNodeType());
+        if (matchingFilters.isEmpty()) {
+            return null;
+        }
+
+        final CollectionNodeBuilder<MapEntryNode, ? extends MapNode> builder = map instanceof OrderedMapNode
+            ? Builders.orderedMapBuilder().withNodeIdentifier(map.getIdentifier())
+                : Builders.mapBuilder().withNodeIdentifier(map.getIdentifier());
+        boolean empty = true;
+        for (final MapEntryNode entry : map.getValue()) {
+            final NormalizedNode<?, ?> pruned = projectElement(entry, matchingFilters);
+            if (pruned != null) {
+                builder.withChild((MapEntryNode) pruned);
+                empty = false;
+            }
+        }
+        return empty ? null : builder.build();
+    }
+
+    private static @Nullable UnkeyedListNode pruneUnkeyedList(final UnkeyedListNode list,
+            final List<XmlElement> filterChildren) {
+        final List<XmlElement> matchingFilters = matchingFilters(filterChildren, list.getNodeType());
+        if (matchingFilters.isEmpty()) {
+            return null;
+        }
+
+        final CollectionNodeBuilder<UnkeyedListEntryNode, UnkeyedListNode> builder = Builders.unkeyedListBuilder()
+            .withNodeIdentifier(list.getIdentifier());
+        boolean empty = true;
+        for (final UnkeyedListEntryNode entry : list.getValue()) {
+            final NormalizedNode<?, ?> pruned = projectElement(entry, matchingFilters);
+            if (pruned != null) {
+                builder.withChild((UnkeyedListEntryNode) pruned);
+                empty = false;
+            }
+        }
+        return empty ? null : builder.build();
+    }
+
+    private static DataContainerNodeBuilder<?, ?> builderFor(final DataContainerNode<?> node) {
+        if (node instanceof ContainerNode) {
+            return Builders.containerBuilder().withNodeIdentifier(((ContainerNode) node).getIdentifier());
+        } else if (node instanceof MapEntryNode) {
+            return Builders.mapEntryBuilder().withNodeIdentifier(((MapEntryNode) node).getIdentifier());
+        } else if (node instanceof UnkeyedListEntryNode) {
+            return Builders.unkeyedListEntryBuilder().withNodeIdentifier(
+                ((UnkeyedListEntryNode) node).getIdentifier());
+        } else if (node instanceof ChoiceNode) {
+            return Builders.choiceBuilder().withNodeIdentifier(((ChoiceNode) node).getIdentifier());
+        } else if (node instanceof AugmentationNode) {
+            return Builders.augmentationBuilder().withNodeIdentifier(((AugmentationNode) node).getIdentifier());
+        }
+        throw new IllegalArgumentException("Unhandled data container " + node);
+    }
+
+    /**
+     * Check whether a content match node definitely does not match the corresponding leaf of a container. The leaf
+     * may be nested in choices and augmentations of the container, which are not present in XML.
+     */
+    private static boolean isContentMismatch(final DataContainerNode<?> container, final XmlElement filterChild,
+            final String content) {
+        for (final DataContainerChild<?, ?> child : container.getValue()) {
+            if (child instanceof ChoiceNode || child instanceof AugmentationNode) {
+                if (isContentMismatch((DataContainerNode<?>) child, filterChild, content)) {
+                    return true;
+                }
+            } else if (child instanceof LeafNode && matches(filterChild, child.getNodeType())) {
+                final Optional<String> text = canonicalText(child.getValue());
+                return text.isPresent() && !text.get().equals(content);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the text of a leaf value, as it is serialized to XML, for the types whose text does not depend on
+     * the schema or the namespace context.
+     */
+    private static Optional<String> canonicalText(final Object value) {
+        if (value instanceof String) {
+            // Empty values are serialized as empty elements, which have no text
+            return ((String) value).isEmpty() ? Optional.empty() : Optional.of((String) value);
+        }
+        if (value instanceof Boolean || value instanceof Byte || value instanceof Short || value instanceof Integer
+                || value instanceof Long || value instanceof Uint8 || value instanceof Uint16
+                || value instanceof Uint32 || value instanceof Uint64) {
+            return Optional.of(value.toString());
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> contentMatch(final XmlElement filterChild) {
+        return filterChild.getChildElements().isEmpty() ? filterChild.getOnlyTextContentOptionally()
+            : Optional.empty();
+    }
+
+    // Attribute matches are left to the subtree filter
+    private static boolean hasAttributes(final XmlElement filterElement) {
+        return filterElement.getAttributes().values().stream()
+            .anyMatch(attr -> !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI()));
+    }
+
+    private static List<XmlElement> matchingFilters(final List<XmlElement> filterChildren, final QName name) {
+        final List<XmlElement> matching = new ArrayList<>();
+        for (final XmlElement filterChild : filterChildren) {
+            if (matches(filterChild, name)) {
+                matching.add(filterChild);
+            }
+        }
+        return matching;
+    }
+
+    private static boolean matches(final XmlElement filterElement, final QName name) {
+        return name.getLocalName().equals(filterElement.getName())
+            && filterElement.getNamespaceOptionally().equals(Optional.of(name.getNamespace().toString()));
+    }
+}
@@ -61,7 +61,8 @@ public class Get extends AbstractGet {
                 return document.createElement(XmlNetconfConstants.DATA_KEY);
             }
 
-            return serializeNodeWithParentStructure(document, dataRoot, normalizedNodeOptional.get());
+            return serializeNodeWithParentStructure(document, dataRoot, normalizedNodeOptional.get(),
+                operationElement);
         } catch (final InterruptedException | ExecutionException e) {
             LOG.warn("Unable to read data: {}", dataRoot, e);
             throw new IllegalStateException("Unable to read data " + dataRoot, e);
@@ -7,13 +7,16 @@
  */
 package org.opendaylight.netconf.mdsal.connector.ops;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.util.zip.GZIPInputStream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -247,6 +250,56 @@ public class CopyConfigTest extends AbstractNetconfOperationTest {
         }
     }
 
+    @Test
+    public void testExternalConfigInvalidKeepsCandidate() throws Exception {
+        verifyResponse(copyConfig("messages/mapping/copyConfigs/copyConfig_top_modules.xml"), RPC_REPLY_OK);
+        verifyResponse(commit(), RPC_REPLY_OK);
+
+        try {
+            copyConfig(copyConfigFromResource("messages/mapping/copyConfigs/config_file_invalid.xml"));
+            fail("Should have failed - provided config is not valid XML");
+        } catch (final DocumentedException e) {
+            assertTrue(e.getCause() instanceof SAXException);
+        }
+
+        // The candidate is not left empty
+        verifyResponse(getConfigCandidate(), XmlFileLoader.xmlFileToDocument(
+            "messages/mapping/copyConfigs/copyConfig_top_modules_control.xml"));
+    }
+
+    @Test
+    public void testExternalConfigPartiallyMergedKeepsCandidate() throws Exception {
+        verifyResponse(copyConfig("messages/mapping/copyConfigs/copyConfig_top_modules.xml"), RPC_REPLY_OK);
+        verifyResponse(commit(), RPC_REPLY_OK);
+
+        try {
+            copyConfig(copyConfigFromResource("messages/mapping/copyConfigs/config_file_unknown_element.xml"));
+            fail("Should have failed - provided config contains an unknown element");
+        } catch (final DocumentedException e) {
+            assertTrue(e.getErrorTag() == ErrorTag.UNKNOWN_NAMESPACE);
+        }
+
+        // The entry merged before the unknown element was reached is not left in the candidate
+        verifyResponse(getConfigCandidate(), XmlFileLoader.xmlFileToDocument(
+            "messages/mapping/copyConfigs/copyConfig_top_modules_control.xml"));
+    }
+
+    @Test
+    public void testExternalConfigInvalidKeepsUncommittedEdits() throws Exception {
+        verifyResponse(edit("messages/mapping/editConfigs/editConfig_merge_n1.xml"), RPC_REPLY_OK);
+
+        try {
+            copyConfig(copyConfigFromResource("messages/mapping/copyConfigs/config_file_unknown_element.xml"));
+            fail("Should have failed - provided config contains an unknown element");
+        } catch (final DocumentedException e) {
+            assertTrue(e.getErrorTag() == ErrorTag.UNKNOWN_NAMESPACE);
+        }
+
+        // The edit made before the failed copy is neither lost nor replaced by the partially merged configuration
+        verifyResponse(getConfigCandidate(), XmlFileLoader.xmlFileToDocument(
+            "messages/mapping/editConfigs/editConfig_merge_n1_control.xml"));
+    }
+
     @Test
     public void testCopyToFile() throws Exception {
         // Initialize config:
@@ -299,6 +352,31 @@ public class CopyConfigTest extends AbstractNetconfOperationTest {
 
     }
 
+    @Test
+    public void testCompressedFileRoundTrip() throws Exception {
+        verifyResponse(copyConfig("messages/mapping/copyConfigs/copyConfig_top_augmentation.xml"),
+            RPC_REPLY_OK);
+        final Document expectedConfig = XmlFileLoader.xmlFileToDocument(
+            "messages/mapping/copyConfigs/copyConfig_top_augmentation_control.xml");
+
+        // Back up the candidate to a file, which is compressed because of its suffix:
+        final File outFile = new File(tmpDir.getRoot(), "test-copy-to-file.xml.gz");
+        final String toFile = XmlFileLoader.fileToString("messages/mapping/copyConfigs/copyConfig_to_file.xml")
+            .replaceFirst("URL", outFile.toURI().toString());
+        verifyResponse(copyConfig(XmlUtil.readXmlToDocument(toFile)), RPC_REPLY_OK);
+        try (InputStream input = new GZIPInputStream(new FileInputStream(outFile))) {
+            assertEquals("config", XmlUtil.readXmlToDocument(input).getDocumentElement().getLocalName());
+        }
+
+        // Restore the candidate from the file:
+        verifyResponse(discardChanges(), RPC_REPLY_OK);
+        assertEmptyDatastore(getConfigCandidate());
+        final String fromFile = XmlFileLoader.fileToString("messages/mapping/copyConfigs/copyConfig_from_file.xml")
+            .replaceFirst("URL", outFile.toURI().toString());
+        verifyResponse(copyConfig(XmlUtil.readXmlToDocument(fromFile)), RPC_REPLY_OK);
+        verifyResponse(getConfigCandidate(), expectedConfig);
+    }
+
     @Test
     public void testRemoteToRemoteOperationIsNotSupported() throws Exception {
         try {
@@ -311,6 +389,13 @@ public class CopyConfigTest extends AbstractNetconfOperationTest {
         }
     }
 
+    private Document copyConfigFromResource(final String resource) throws Exception {
+        // Ask class loader for URI of config file and use it as <url> in <copy-config> RPC:
+        final String template = XmlFileLoader.fileToString("messages/mapping/copyConfigs/copyConfig_from_file.xml");
+        final URI uri = getClass().getClassLoader().getResource(resource).toURI();
+        return XmlUtil.readXmlToDocument(template.replaceFirst("URL", uri.toString()));
+    }
+
     private Document copyConfig(final String resource) throws Exception {
         final CopyConfig copyConfig = new CopyConfig(SESSION_ID_FOR_REPORTING, getCurrentSchemaContext(),
             getTransactionProvider());
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.connector.ops;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+
+public class SplittingConfigHandlerTest extends AbstractNetconfOperationTest {
+    private static final QName TOP = QName.create("urn:opendaylight:mdsal:mapping:test", "2015-02-26", "top");
+    private static final QName MODULES = QName.create(TOP, "modules");
+    private static final QName MODULE = QName.create(TOP, "module");
+    private static final QName ID = QName.create(TOP, "id");
+
+    @Test
+    public void testKeyedListSplitIntoEntries() throws Exception {
+        final DOMDataTreeWriteTransaction tx = mock(DOMDataTreeWriteTransaction.class);
+        final CopyConfig edit = new CopyConfig(SESSION_ID_FOR_REPORTING, getCurrentSchemaContext(),
+            getTransactionProvider());
+
+        final long modifications;
+        try (InputStream input = getClass().getClassLoader()
+                .getResourceAsStream("messages/mapping/copyConfigs/config_file_valid.xml")) {
+            modifications = SplittingConfigHandler.parse(input, edit, tx);
+        }
+
+        // Both containers are merged on their own, each list entry is merged separately as a single-entry list
+        final YangInstanceIdentifier modules = YangInstanceIdentifier.of(TOP).node(MODULES);
+        final YangInstanceIdentifier moduleList = modules.node(MODULE);
+        final ArgumentCaptor<YangInstanceIdentifier> paths = ArgumentCaptor.forClass(YangInstanceIdentifier.class);
+        verify(tx, times(4)).merge(eq(LogicalDatastoreType.CONFIGURATION), paths.capture(), any());
+        assertEquals(List.of(YangInstanceIdentifier.of(TOP), modules, moduleList, moduleList), paths.getAllValues());
+        assertEquals(4, modifications);
+
+        final ArgumentCaptor<MapNode> entries = ArgumentCaptor.forClass(MapNode.class);
+        verify(tx, times(2)).merge(eq(LogicalDatastoreType.CONFIGURATION), eq(moduleList), entries.capture());
+        assertEquals(List.of(NodeIdentifierWithPredicates.of(MODULE, ID, "module1")),
+            entryIdentifiers(entries.getAllValues().get(0)));
+        assertEquals(List.of(NodeIdentifierWithPredicates.of(MODULE, ID, "module2")),
+            entryIdentifiers(entries.getAllValues().get(1)));
+    }
+
+    private static List<NodeIdentifierWithPredicates> entryIdentifiers(final MapNode list) {
+        return list.getValue().stream().map(MapEntryNode::getIdentifier).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.connector.ops.get;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opendaylight.netconf.api.xml.XmlElement;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class FilterProjectionTest {
+    private static final String NAMESPACE = "urn:opendaylight:filter:projection:test";
+    private static final QName TOP = QName.create(NAMESPACE, "2020-01-01", "top");
+    private static final QName USER = QName.create(TOP, "user");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName TYPE = QName.create(TOP, "type");
+    private static final QName AGE = QName.create(TOP, "age");
+    private static final QName COMPANY = QName.create(TOP, "company");
+
+    private static final MapEntryNode ADMIN = ImmutableNodes.mapEntryBuilder(USER, NAME, "alice")
+        .withChild(ImmutableNodes.leafNode(TYPE, "admin"))
+        .withChild(ImmutableNodes.leafNode(AGE, 30))
+        .build();
+    private static final MapEntryNode USER_BOB = ImmutableNodes.mapEntryBuilder(USER, NAME, "bob")
+        .withChild(ImmutableNodes.leafNode(TYPE, "user"))
+        .withChild(ImmutableNodes.leafNode(AGE, 40))
+        .build();
+    private static final ContainerNode DATA = root(top(
+        ImmutableNodes.mapNodeBuilder(USER).withChild(ADMIN).withChild(USER_BOB).build(),
+        ImmutableNodes.leafNode(COMPANY, "example")));
+
+    @Test
+    public void testSelectionAndContentMatch() throws Exception {
+        final ContainerNode expected = root(top(ImmutableNodes.mapNodeBuilder(USER)
+            .withChild(ImmutableNodes.mapEntryBuilder(USER, NAME, "alice")
+                .withChild(ImmutableNodes.leafNode(TYPE, "admin"))
+                .build())
+            .build()));
+
+        assertEquals(expected, project("<user><type>admin</type><name/></user>"));
+    }
+
+    @Test
+    public void testContentMatchOnly() throws Exception {
+        final ContainerNode expected = root(top(ImmutableNodes.mapNodeBuilder(USER).withChild(USER_BOB).build()));
+
+        assertEquals(expected, project("<user><name>bob</name></user>"));
+    }
+
+    @Test
+    public void testSeveralEntries() throws Exception {
+        final ContainerNode expected = root(top(ImmutableNodes.mapNodeBuilder(USER)
+            .withChild(ImmutableNodes.mapEntryBuilder(USER, NAME, "alice")
+                .withChild(ImmutableNodes.leafNode(AGE, 30))
+                .build())
+            .withChild(USER_BOB)
+            .build()));
+
+        assertEquals(expected, project("<user><name>alice</name><age/></user><user><name>bob</name></user>"));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        assertEquals(root(top()), project("<user><type>guest</type><age/></user>"));
+    }
+
+    @Test
+    public void testSelectWholeSubtree() throws Exception {
+        assertEquals(DATA, projection("<top xmlns=\"" + NAMESPACE + "\"/>", "subtree").project(DATA).get());
+    }
+
+    @Test
+    public void testNotSubtreeFilter() throws Exception {
+        assertFalse(FilterProjection.forOperation(operation("<top xmlns=\"" + NAMESPACE + "\"/>", "xpath"))
+            .isPresent());
+        assertTrue(FilterProjection.forOperation(operation("<top xmlns=\"" + NAMESPACE + "\"/>", "subtree"))
+            .isPresent());
+    }
+
+    private static Object project(final String topContent) throws Exception {
+        return projection("<top xmlns=\"" + NAMESPACE + "\">" + topContent + "</top>", "subtree").project(DATA)
+            .get();
+    }
+
+    private static FilterProjection projection(final String filterContent, final String type) throws Exception {
+        return FilterProjection.forOperation(operation(filterContent, type)).get();
+    }
+
+    private static XmlElement operation(final String filterContent, final String type) throws Exception {
+        return XmlElement.fromDomDocument(XmlUtil.readXmlToDocument(
+            "<get-config xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">"
+                + "<filter type=\"" + type + "\">" + filterContent + "</filter>"
+                + "</get-config>"));
+    }
+
+    private static ContainerNode top(final DataContainerChild<?, ?>... children) {
+        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> builder = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP));
+        for (final DataContainerChild<?, ?> child : children) {
+            builder.withChild(child);
+        }
+        return builder.build();
+    }
+
+    private static ContainerNode root(final ContainerNode top) {
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+            .withChild(top).build();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.api;
+
+import java.util.Map;
+
+/**
+ * JMX view of the placement of NETCONF device masters across cluster members, as seen by this member.
+ */
+public interface MasterPlacementMXBean {
+
+    /**
+     * Return the number of connected devices each cluster member is master of.
+     *
+     * @return device counts keyed by member address
+     */
+    Map<String, Integer> getMemberDeviceCounts();
+
+    /**
+     * Return the rate of requests from slave mount points to devices this member is master of.
+     *
+     * @return requests per second, keyed by node id
+     */
+    Map<String, Double> getLocalRequestRates();
+
+    /**
+     * Return the number of devices this member handed over to other members since it started.
+     *
+     * @return number of handed over devices
+     */
+    long getHandedOverDeviceCount();
+
+    /**
+     * Return a description of the last placement decision.
+     *
+     * @return last decision
+     */
+    String getLastDecision();
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl;
+
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.FutureCallback;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.topology.singleton.api.MasterPlacementMXBean;
+import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionStatus.ConnectionStatus;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Balances mastership of NETCONF devices across cluster members. Every member periodically counts the connected
+ * devices each member is master of, as recorded in the operational topology. When this member is master of more
+ * devices than the least loaded member plus a tolerance, it hands over mastership of a bounded number of devices,
+ * preferring devices with the lowest rate of requests from slave mount points. A device is handed over by
+ * re-registering its singleton service, which moves this member to the end of the candidate list.
+ *
+ * <p>
+ * Members only ever hand over their own devices, so the cluster converges gradually without coordination, with
+ * at most a few devices reconnecting per member and interval.
+ */
+final class MasterPlacement implements MasterPlacementMXBean, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(MasterPlacement.class);
+
+    private final ActorSystem actorSystem;
+    private final DataBroker dataBroker;
+    private final String topologyId;
+    private final Map<InstanceIdentifier<Node>, NetconfTopologyContext> contexts;
+    private final Consumer<InstanceIdentifier<Node>> handOver;
+    private final ScheduledExecutorService executor;
+    private final int intervalSeconds;
+    private final int maxMoves;
+    private final int tolerance;
+    private final AtomicLong handedOverDeviceCount = new AtomicLong();
+
+    // Accessed from the executor only
+    private final Map<InstanceIdentifier<Node>, Long> lastRequestCounts = new HashMap<>();
+
+    private volatile Map<String, Integer> memberDeviceCounts = ImmutableMap.of();
+    private volatile Map<String, Double> localRequestRates = ImmutableMap.of();
+    private volatile String lastDecision = "none";
+
+    private ScheduledFuture<?> task;
+    private ObjectName objectName;
+
+    MasterPlacement(final ActorSystem actorSystem, final DataBroker dataBroker, final String topologyId,
+            final Map<InstanceIdentifier<Node>, NetconfTopologyContext> contexts,
+            final Consumer<InstanceIdentifier<Node>> handOver, final ScheduledExecutorService executor,
+            final int intervalSeconds, final int maxMoves, final int tolerance) {
+        this.actorSystem = actorSystem;
+        this.dataBroker = dataBroker;
+        this.topologyId = topologyId;
+        this.contexts = contexts;
+        this.handOver = handOver;
+        this.executor = executor;
+        this.intervalSeconds = intervalSeconds;
+        this.maxMoves = maxMoves;
+        this.tolerance = tolerance;
+    }
+
+    void start() {
+        task = executor.scheduleWithFixedDelay(this::rebalance, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        try {
+            objectName = new ObjectName("org.opendaylight.netconf.topology.singleton:type=MasterPlacement,name="
+                    + ObjectName.quote(topologyId));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        } catch (JMException e) {
+            LOG.warn("Failed to register master placement MBean", e);
+            objectName = null;
+        }
+        LOG.info("Balancing device masters every {} seconds, handing over at most {} devices at a time",
+                intervalSeconds, maxMoves);
+    }
+
+    @Override
+    public void close() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.debug("Failed to unregister master placement MBean", e);
+            }
+            objectName = null;
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getMemberDeviceCounts() {
+        return memberDeviceCounts;
+    }
+
+    @Override
+    public Map<String, Double> getLocalRequestRates() {
+        return localRequestRates;
+    }
+
+    @Override
+    public long getHandedOverDeviceCount() {
+        return handedOverDeviceCount.get();
+    }
+
+    @Override
+    public String getLastDecision() {
+        return lastDecision;
+    }
+
+    private void rebalance() {
+        final ReadTransaction tx = dataBroker.newReadOnlyTransaction();
+        tx.read(LogicalDatastoreType.OPERATIONAL, NetconfTopologyUtils.createTopologyListPath(topologyId))
+            .addCallback(new FutureCallback<Optional<Topology>>() {
+                @Override
+                public void onSuccess(final Optional<Topology> result) {
+                    tx.close();
+                    rebalance(result);
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    tx.close();
+                    LOG.debug("Failed to read topology {}, skipping master placement", topologyId, throwable);
+                }
+            }, executor);
+    }
+
+    private void rebalance(final Optional<Topology> topology) {
+        final Map<String, Integer> counts = new HashMap<>();
+        for (final Member member : Cluster.get(actorSystem).state().getMembers()) {
+            if (MemberStatus.up().equals(member.status())) {
+                counts.put(member.address().toString(), 0);
+            }
+        }
+        if (topology.isPresent()) {
+            for (final Node node : topology.get().nonnullNode().values()) {
+                final NetconfNode netconfNode = node.augmentation(NetconfNode.class);
+                if (netconfNode != null && ConnectionStatus.Connected.equals(netconfNode.getConnectionStatus())
+                        && netconfNode.getClusteredConnectionStatus() != null
+                        && netconfNode.getClusteredConnectionStatus().getNetconfMasterNode() != null) {
+                    counts.merge(netconfNode.getClusteredConnectionStatus().getNetconfMasterNode(), 1, Integer::sum);
+                }
+            }
+        }
+        memberDeviceCounts = ImmutableMap.copyOf(counts);
+
+        final Map<InstanceIdentifier<Node>, Double> rates = updateRequestRates();
+        final String self = Cluster.get(actorSystem).selfAddress().toString();
+        final int moves = devicesToHandOver(self, counts, maxMoves, tolerance);
+        if (moves == 0) {
+            lastDecision = "balanced: " + counts;
+            LOG.debug("Device masters are balanced: {}", counts);
+            return;
+        }
+
+        final List<InstanceIdentifier<Node>> selected = selectDevices(rates, moves);
+        lastDecision = "handing over " + selected.size() + " devices: " + counts;
+        LOG.info("Member {} is master of {} devices out of {}, handing over {}", self, counts.get(self), counts,
+                selected.size());
+        for (final InstanceIdentifier<Node> device : selected) {
+            handOver.accept(device);
+            lastRequestCounts.remove(device);
+            handedOverDeviceCount.incrementAndGet();
+        }
+    }
+
+    private Map<InstanceIdentifier<Node>, Double> updateRequestRates() {
+        final Map<InstanceIdentifier<Node>, Double> rates = new HashMap<>();
+        final Map<String, Double> ratesByNodeId = new HashMap<>();
+        for (final Map.Entry<InstanceIdentifier<Node>, NetconfTopologyContext> entry : contexts.entrySet()) {
+            final NetconfTopologyContext context = entry.getValue();
+            if (!context.isMaster()) {
+                lastRequestCounts.remove(entry.getKey());
+                continue;
+            }
+
+            final long count = context.getRequestCount();
+            final Long lastCount = lastRequestCounts.put(entry.getKey(), count);
+            final double rate = lastCount == null || lastCount > count ? 0
+                    : (double) (count - lastCount) / intervalSeconds;
+            rates.put(entry.getKey(), rate);
+            ratesByNodeId.put(context.getNode().getNodeId().getValue(), rate);
+        }
+        lastRequestCounts.keySet().retainAll(contexts.keySet());
+        localRequestRates = ImmutableMap.copyOf(ratesByNodeId);
+        return rates;
+    }
+
+    /**
+     * Compute the number of devices this member should hand over.
+     *
+     * @param self               address of this member
+     * @param memberDeviceCounts number of devices each member is master of
+     * @param maxMoves           maximum number of devices to hand over
+     * @param tolerance          tolerated difference to the least loaded member
+     * @return number of devices to hand over
+     */
+    @VisibleForTesting
+    static int devicesToHandOver(final String self, final Map<String, Integer> memberDeviceCounts,
+            final int maxMoves, final int tolerance) {
+        final Integer selfCount = memberDeviceCounts.get(self);
+        if (selfCount == null || memberDeviceCounts.size() < 2) {
+            return 0;
+        }
+
+        final int difference = selfCount - Collections.min(memberDeviceCounts.values());
+        if (difference <= tolerance) {
+            return 0;
+        }
+        // Handing over half of the difference evens out this member and the least loaded one
+        return Math.min(maxMoves, Math.max(1, difference / 2));
+    }
+
+    /**
+     * Select the devices to hand over, the least busy ones first.
+     *
+     * @param requestRates request rates of devices this member is master of
+     * @param count        number of devices to select
+     * @return selected devices
+     */
+    @VisibleForTesting
+    static <T> List<T> selectDevices(final Map<T, Double> requestRates, final int count) {
+        final List<Map.Entry<T, Double>> entries = new ArrayList<>(requestRates.entrySet());
+        entries.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+        final List<T> selected = new ArrayList<>(count);
+        for (int i = 0; i < count && i < entries.size(); ++i) {
+            selected.add(entries.get(i).getKey());
+        }
+        return selected;
+    }
+}
@@ -55,6 +55,7 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
     private MountPointContext currentMountContext = null;
     private NetconfSessionPreferences netconfSessionPreferences = null;
     private DOMRpcService deviceRpc = null;
+    private DOMRpcService mountPointRpc = null;
     private DOMDataBroker deviceDataBroker = null;
     private NetconfDataTreeService netconfService = null;
     private DOMActionService deviceAction = null;
@@ -89,6 +90,8 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
         this.currentMountContext = mountContext;
         this.netconfSessionPreferences = sessionPreferences;
         this.deviceRpc = domRpcService;
+        // Configuration changes made by RPCs, rather than through the data brokers, invalidate read caches of slaves
+        this.mountPointRpc = new ReadCacheInvalidatingRpcService(masterActorRef, domRpcService);
 
         LOG.info("Device {} connected - registering master mount point", id);
 
@@ -126,6 +129,11 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
         salProvider.getMountInstance().publish(domNotification);
     }
 
+    @Override
+    public void onNotificationsDropped(final long droppedCount) {
+        salProvider.getTopologyDatastoreAdapter().updateDroppedNotifications(droppedCount);
+    }
+
     @Override
     public void close() {
         unregisterMasterMountPoint();
@@ -148,7 +156,7 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
         final NetconfDataTreeService proxyNetconfService = new ProxyNetconfDataTreeService(id, masterActorRef,
             actorSystem.dispatcher(), actorResponseWaitTime);
         salProvider.getMountInstance().onTopologyDeviceConnected(currentMountContext.getEffectiveModelContext(),
-            proxyDataBroker, proxyNetconfService, deviceRpc, notificationService, deviceAction);
+            proxyDataBroker, proxyNetconfService, mountPointRpc, notificationService, deviceAction);
     }
 
     protected DOMDataBroker newDeviceDataBroker() {
@@ -170,7 +178,7 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
 
         // send initial data to master actor
         return Patterns.ask(masterActorRef, new CreateInitialMasterActorData(deviceDataBroker, netconfService,
-            sourceIdentifiers, deviceRpc, deviceAction), actorResponseWaitTime);
+            sourceIdentifiers, mountPointRpc, deviceAction), actorResponseWaitTime);
     }
 
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
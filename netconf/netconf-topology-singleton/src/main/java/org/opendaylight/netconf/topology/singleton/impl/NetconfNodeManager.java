@@ -15,6 +15,7 @@ import akka.pattern.AskTimeoutException;
 import akka.pattern.Patterns;
 import akka.util.Timeout;
 import java.util.Collection;
+import java.util.Objects;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.checkerframework.checker.lock.qual.Holding;
 import org.opendaylight.mdsal.binding.api.ClusteredDataTreeChangeListener;
@@ -32,7 +33,9 @@ import org.opendaylight.netconf.topology.singleton.messages.AskForMasterMountPoi
 import org.opendaylight.netconf.topology.singleton.messages.RefreshSlaveActor;
 import org.opendaylight.netconf.topology.singleton.messages.UnregisterSlaveMountPoint;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionStatus;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.ClusteredConnectionStatusBuilder;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
@@ -83,6 +86,10 @@ class NetconfNodeManager
             final NodeId nodeId = NetconfTopologyUtils.getNodeId(rootNode.getIdentifier());
             switch (rootNode.getModificationType()) {
                 case SUBTREE_MODIFIED:
+                    if (isStatisticsUpdate(rootNode)) {
+                        LOG.trace("{}: Statistics for node {} updated", id, nodeId);
+                        break;
+                    }
                     LOG.debug("{}: Operational state for node {} - subtree modified from {} to {}",
                             id, nodeId, rootNode.getDataBefore(), rootNode.getDataAfter());
                     handleSlaveMountPoint(rootNode);
@@ -121,6 +128,34 @@ class NetconfNodeManager
         }
     }
 
+    // Slaves periodically write statistics of their read caches and the master writes the number of notifications
+    // dropped before the device schema was available, neither of which affects the slave mount points
+    private static boolean isStatisticsUpdate(final DataObjectModification<Node> rootNode) {
+        final Node before = rootNode.getDataBefore();
+        final Node after = rootNode.getDataAfter();
+        if (before == null || after == null) {
+            return false;
+        }
+
+        final NetconfNode netconfNodeBefore = before.augmentation(NetconfNode.class);
+        final NetconfNode netconfNodeAfter = after.augmentation(NetconfNode.class);
+        return !Objects.equals(netconfNodeBefore, netconfNodeAfter)
+                && Objects.equals(withoutStatistics(netconfNodeBefore), withoutStatistics(netconfNodeAfter));
+    }
+
+    private static NetconfNode withoutStatistics(final NetconfNode netconfNode) {
+        if (netconfNode == null) {
+            return null;
+        }
+
+        final NetconfNodeBuilder builder = new NetconfNodeBuilder(netconfNode).setDroppedNotifications(null);
+        if (netconfNode.getClusteredConnectionStatus() != null) {
+            builder.setClusteredConnectionStatus(new ClusteredConnectionStatusBuilder(
+                netconfNode.getClusteredConnectionStatus()).setReadCacheStatistics(null).build());
+        }
+        return builder.build();
+    }
+
     @Holding("this")
     private void closeActor() {
         if (slaveActorRef != null) {
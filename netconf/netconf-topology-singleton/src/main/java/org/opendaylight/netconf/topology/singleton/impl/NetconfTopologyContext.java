@@ -16,6 +16,7 @@ import akka.pattern.Patterns;
 import akka.util.Timeout;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
 import org.opendaylight.mdsal.singleton.common.api.ClusterSingletonService;
@@ -28,6 +29,7 @@ import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologySet
 import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils;
 import org.opendaylight.netconf.topology.singleton.messages.RefreshSetupMasterActorData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +51,7 @@ class NetconfTopologyContext implements ClusterSingletonService, AutoCloseable {
     private ActorRef masterActorRef;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final LongAdder requestCounter = new LongAdder();
     private volatile boolean isMaster;
 
     NetconfTopologyContext(final NetconfTopologySetup netconfTopologyDeviceSetup,
@@ -83,7 +86,7 @@ class NetconfTopologyContext implements ClusterSingletonService, AutoCloseable {
             final String masterAddress =
                     Cluster.get(netconfTopologyDeviceSetup.getActorSystem()).selfAddress().toString();
             masterActorRef = netconfTopologyDeviceSetup.getActorSystem().actorOf(NetconfNodeActor.props(
-                    netconfTopologyDeviceSetup, remoteDeviceId, actorResponseWaitTime, mountService),
+                    netconfTopologyDeviceSetup, remoteDeviceId, actorResponseWaitTime, mountService, requestCounter),
                     NetconfTopologyUtils.createMasterActorName(remoteDeviceId.getName(), masterAddress));
 
             remoteDeviceConnector.startRemoteDeviceConnection(newMasterSalFacade());
@@ -94,6 +97,7 @@ class NetconfTopologyContext implements ClusterSingletonService, AutoCloseable {
     // called when master is down/changed to slave
     @Override
     public ListenableFuture<?> closeServiceInstance() {
+        isMaster = false;
 
         if (!closed.get()) {
             // in case that master changes role to slave, new NodeDeviceManager must be created and listener registered
@@ -109,6 +113,23 @@ class NetconfTopologyContext implements ClusterSingletonService, AutoCloseable {
         return serviceGroupIdent;
     }
 
+    boolean isMaster() {
+        return isMaster;
+    }
+
+    /**
+     * Return the number of requests received from slave mount points while this member was master of the device.
+     *
+     * @return number of requests
+     */
+    long getRequestCount() {
+        return requestCounter.sum();
+    }
+
+    Node getNode() {
+        return netconfTopologyDeviceSetup.getNode();
+    }
+
     private NetconfNodeManager createNodeDeviceManager() {
         final NetconfNodeManager ndm =
                 new NetconfNodeManager(netconfTopologyDeviceSetup, remoteDeviceId, actorResponseWaitTime, mountService);
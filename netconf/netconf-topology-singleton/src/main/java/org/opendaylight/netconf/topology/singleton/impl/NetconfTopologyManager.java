@@ -60,6 +60,7 @@ import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.duration.Duration;
@@ -89,10 +90,14 @@ public class NetconfTopologyManager
     private final AAAEncryptionService encryptionService;
     private final DeviceActionFactory deviceActionFactory;
     private final SchemaResourceManager resourceManager;
+    private final int masterRebalanceInterval;
+    private final int masterRebalanceMaxMoves;
+    private final int masterRebalanceTolerance;
 
     private ListenerRegistration<NetconfTopologyManager> dataChangeListenerRegistration;
     private String privateKeyPath;
     private String privateKeyPassphrase;
+    private MasterPlacement masterPlacement;
 
     public NetconfTopologyManager(final BaseNetconfSchemas baseSchemas, final DataBroker dataBroker,
                                   final DOMRpcProviderService rpcProviderRegistry,
@@ -122,15 +127,24 @@ public class NetconfTopologyManager
         this.encryptionService = requireNonNull(encryptionService);
         this.deviceActionFactory = requireNonNull(deviceActionFactory);
         this.resourceManager = requireNonNull(resourceManager);
+        this.masterRebalanceInterval = toInt(config.getMasterRebalanceInterval(), 0);
+        this.masterRebalanceMaxMoves = toInt(config.getMasterRebalanceMaxMoves(), 1);
+        this.masterRebalanceTolerance = toInt(config.getMasterRebalanceTolerance(), 1);
     }
 
     // Blueprint init method
     public void init() {
         dataChangeListenerRegistration = registerDataTreeChangeListener();
+        if (masterRebalanceInterval > 0) {
+            masterPlacement = new MasterPlacement(actorSystem, dataBroker, topologyId, contexts,
+                this::handOverMastership, keepaliveExecutor, masterRebalanceInterval, masterRebalanceMaxMoves,
+                masterRebalanceTolerance);
+            masterPlacement.start();
+        }
     }
 
     @Override
-    public void onDataTreeChanged(final Collection<DataTreeModification<Node>> changes) {
+    public synchronized void onDataTreeChanged(final Collection<DataTreeModification<Node>> changes) {
         for (final DataTreeModification<Node> change : changes) {
             final DataObjectModification<Node> rootNode = change.getRootNode();
             final InstanceIdentifier<Node> dataModifIdent = change.getRootPath().getRootIdentifier();
@@ -213,6 +227,25 @@ public class NetconfTopologyManager
         }
     }
 
+    /**
+     * Hand over mastership of a device to another cluster member. The singleton service of the device is registered
+     * again, which places this member last among the candidates for mastership.
+     *
+     * @param instanceIdentifier path of the device node
+     */
+    @VisibleForTesting
+    synchronized void handOverMastership(final InstanceIdentifier<Node> instanceIdentifier) {
+        final NetconfTopologyContext context = contexts.get(instanceIdentifier);
+        if (context == null || !context.isMaster()) {
+            return;
+        }
+
+        final Node node = context.getNode();
+        LOG.info("Handing over mastership of {} to another cluster member", node.getNodeId().getValue());
+        stopNetconfDeviceContext(instanceIdentifier);
+        startNetconfDeviceContext(instanceIdentifier, node);
+    }
+
     @VisibleForTesting
     protected NetconfTopologyContext newNetconfTopologyContext(final NetconfTopologySetup setup,
             final ServiceGroupIdentifier serviceGroupIdent, final Timeout actorResponseWaitTime,
@@ -223,6 +256,10 @@ public class NetconfTopologyManager
 
     @Override
     public void close() {
+        if (masterPlacement != null) {
+            masterPlacement.close();
+            masterPlacement = null;
+        }
         if (dataChangeListenerRegistration != null) {
             dataChangeListenerRegistration.close();
             dataChangeListenerRegistration = null;
@@ -235,6 +272,10 @@ public class NetconfTopologyManager
         clusterRegistrations.clear();
     }
 
+    private static int toInt(final Uint16 value, final int defaultValue) {
+        return value != null ? value.toJava() : defaultValue;
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
     private static void close(final AutoCloseable closeable) {
         try {
@@ -12,6 +12,7 @@ import akka.pattern.Patterns;
 import akka.util.Timeout;
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.ImmutableClassToInstanceMap;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMDataBrokerExtension;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
@@ -34,6 +35,7 @@ public class ProxyDOMDataBroker implements PingPongMergingDOMDataBroker {
     private final RemoteDeviceId id;
     private final ActorRef masterNode;
     private final ExecutionContext executionContext;
+    private final @Nullable SlaveReadCache readCache;
 
     /**
      * Constructor for {@code ProxyDOMDataBroker}.
@@ -45,31 +47,47 @@ public class ProxyDOMDataBroker implements PingPongMergingDOMDataBroker {
      */
     public ProxyDOMDataBroker(final RemoteDeviceId id, final ActorRef masterNode,
             final ExecutionContext executionContext, final Timeout askTimeout) {
+        this(id, masterNode, executionContext, askTimeout, null);
+    }
+
+    /**
+     * Constructor for {@code ProxyDOMDataBroker} caching configuration datastore reads.
+     *
+     * @param id          id
+     * @param masterNode  {@link org.opendaylight.netconf.topology.singleton.impl.actors.NetconfNodeActor} ref
+     * @param executionContext ExecutionContext
+     * @param askTimeout  ask timeout
+     * @param readCache   read cache, or {@code null} if reads should not be cached
+     */
+    public ProxyDOMDataBroker(final RemoteDeviceId id, final ActorRef masterNode,
+            final ExecutionContext executionContext, final Timeout askTimeout,
+            final @Nullable SlaveReadCache readCache) {
         this.id = id;
         this.masterNode = masterNode;
         this.executionContext = executionContext;
         this.askTimeout = askTimeout;
+        this.readCache = readCache;
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public DOMDataTreeReadTransaction newReadOnlyTransaction() {
         final Future<Object> txActorFuture = Patterns.ask(masterNode, new NewReadTransactionRequest(), askTimeout);
-        return new ProxyReadTransaction(id, txActorFuture, executionContext, askTimeout);
+        return new ProxyReadTransaction(id, txActorFuture, executionContext, askTimeout, readCache);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public DOMDataTreeReadWriteTransaction newReadWriteTransaction() {
         final Future<Object> txActorFuture = Patterns.ask(masterNode, new NewReadWriteTransactionRequest(), askTimeout);
-        return new ProxyReadWriteTransaction(id, txActorFuture, executionContext, askTimeout);
+        return new ProxyReadWriteTransaction(id, txActorFuture, executionContext, askTimeout, readCache);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
         final Future<Object> txActorFuture = Patterns.ask(masterNode, new NewWriteTransactionRequest(), askTimeout);
-        return new ProxyReadWriteTransaction(id, txActorFuture, executionContext, askTimeout);
+        return new ProxyReadWriteTransaction(id, txActorFuture, executionContext, askTimeout, readCache);
     }
 
     @Override
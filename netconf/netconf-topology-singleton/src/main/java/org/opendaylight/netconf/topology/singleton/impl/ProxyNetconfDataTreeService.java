@@ -12,9 +12,13 @@ import akka.pattern.Patterns;
 import akka.util.Timeout;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
@@ -33,6 +37,10 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
     private final RemoteDeviceId id;
     private final ActorRef masterNode;
     private final ExecutionContext executionContext;
+    private final @Nullable SlaveReadCache readCache;
+
+    @GuardedBy("this")
+    private final List<YangInstanceIdentifier> editedConfigPaths = new ArrayList<>();
 
     private volatile ProxyNetconfService proxyNetconfService;
 
@@ -46,16 +54,33 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
      */
     public ProxyNetconfDataTreeService(final RemoteDeviceId id, final ActorRef masterNode,
                                        final ExecutionContext executionContext, final Timeout askTimeout) {
+        this(id, masterNode, executionContext, askTimeout, null);
+    }
+
+    /**
+     * Constructor for {@code ProxyNetconfDataTreeService} caching results of get-config.
+     *
+     * @param id               id
+     * @param masterNode       {@link org.opendaylight.netconf.topology.singleton.impl.actors.NetconfNodeActor} ref
+     * @param executionContext ExecutionContext
+     * @param askTimeout       ask timeout
+     * @param readCache        read cache, or {@code null} if reads should not be cached
+     */
+    public ProxyNetconfDataTreeService(final RemoteDeviceId id, final ActorRef masterNode,
+                                       final ExecutionContext executionContext, final Timeout askTimeout,
+                                       final @Nullable SlaveReadCache readCache) {
         this.id = id;
         this.masterNode = masterNode;
         this.executionContext = executionContext;
         this.askTimeout = askTimeout;
+        this.readCache = readCache;
     }
 
     @Override
     public synchronized List<ListenableFuture<? extends DOMRpcResult>> lock() {
         final Future<Object> masterActor = Patterns.ask(masterNode, new NetconfDataTreeServiceRequest(), askTimeout);
         proxyNetconfService = new ProxyNetconfService(id, masterActor, executionContext, askTimeout);
+        editedConfigPaths.clear();
         return proxyNetconfService.lock();
     }
 
@@ -81,6 +106,13 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
 
     @Override
     public ListenableFuture<Optional<NormalizedNode<?, ?>>> getConfig(YangInstanceIdentifier path) {
+        if (readCache != null) {
+            return readCache.read(path, () -> getConfigFromMaster(path));
+        }
+        return getConfigFromMaster(path);
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> getConfigFromMaster(YangInstanceIdentifier path) {
         final Future<Object> masterActor = Patterns.ask(masterNode, new NetconfDataTreeServiceRequest(), askTimeout);
         ProxyNetconfService netconfService = new ProxyNetconfService(id, masterActor, executionContext, askTimeout);
         return netconfService.getConfig(path);
@@ -91,6 +123,7 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
                                                           NormalizedNode<?, ?> data,
                                                           Optional<ModifyAction> defaultOperation) {
         isLocked();
+        recordEdit(store, path);
         return proxyNetconfService.merge(store, path, data, defaultOperation);
     }
 
@@ -99,6 +132,7 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
                                                             NormalizedNode<?, ?> data,
                                                             Optional<ModifyAction> defaultOperation) {
         isLocked();
+        recordEdit(store, path);
         return proxyNetconfService.replace(store, path, data, defaultOperation);
     }
 
@@ -107,18 +141,21 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
                                                            NormalizedNode<?, ?> data,
                                                            Optional<ModifyAction> defaultOperation) {
         isLocked();
+        recordEdit(store, path);
         return proxyNetconfService.create(store, path, data, defaultOperation);
     }
 
     @Override
     public ListenableFuture<? extends DOMRpcResult> delete(LogicalDatastoreType store, YangInstanceIdentifier path) {
         isLocked();
+        recordEdit(store, path);
         return proxyNetconfService.delete(store, path);
     }
 
     @Override
     public ListenableFuture<? extends DOMRpcResult> remove(LogicalDatastoreType store, YangInstanceIdentifier path) {
         isLocked();
+        recordEdit(store, path);
         return proxyNetconfService.remove(store, path);
     }
 
@@ -126,7 +163,9 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
     public ListenableFuture<? extends CommitInfo> commit(
         List<ListenableFuture<? extends DOMRpcResult>> resultsFutures) {
         isLocked();
-        return proxyNetconfService.commit(resultsFutures);
+        final ListenableFuture<? extends CommitInfo> commitFuture = proxyNetconfService.commit(resultsFutures);
+        invalidateReadCache(commitFuture);
+        return commitFuture;
     }
 
     @Override
@@ -134,6 +173,22 @@ public class ProxyNetconfDataTreeService implements NetconfDataTreeService {
         return id;
     }
 
+    private synchronized void recordEdit(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        if (readCache != null && store == LogicalDatastoreType.CONFIGURATION) {
+            editedConfigPaths.add(path);
+        }
+    }
+
+    private synchronized void invalidateReadCache(final ListenableFuture<?> commitFuture) {
+        if (readCache != null && !editedConfigPaths.isEmpty()) {
+            // Invalidate both now and once the commit completes, so that reads racing with the commit are not cached
+            final List<YangInstanceIdentifier> paths = new ArrayList<>(editedConfigPaths);
+            editedConfigPaths.clear();
+            readCache.invalidate(paths);
+            commitFuture.addListener(() -> readCache.invalidate(paths), MoreExecutors.directExecutor());
+        }
+    }
+
     private void isLocked() {
         Preconditions.checkState(proxyNetconfService != null,
             "%s: Device's datastore must be locked first", id);
@@ -12,12 +12,21 @@ import akka.dispatch.Futures;
 import akka.dispatch.OnComplete;
 import akka.pattern.Patterns;
 import akka.util.Timeout;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.opendaylight.controller.cluster.schema.provider.RemoteYangTextSourceProvider;
 import org.opendaylight.controller.cluster.schema.provider.impl.YangTextSchemaSourceSerializationProxy;
 import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourceRequest;
+import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourcesReply;
+import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourcesRequest;
 import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
 import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 import scala.concurrent.impl.Promise;
@@ -64,4 +73,38 @@ public class ProxyYangTextSourceProvider implements RemoteYangTextSourceProvider
 
         return promise.future();
     }
+
+    /**
+     * Resolve multiple schema sources from the master in a single round trip. The master does not send sources whose
+     * hash matches the one supplied in {@code knownHashes}. Sources the master fails to resolve are left out of the
+     * result.
+     *
+     * @param sourceIdentifiers identifiers of requested sources
+     * @param knownHashes hashes of sources available locally
+     * @return a ListenableFuture containing the resolved sources
+     */
+    public ListenableFuture<List<YangTextSchemaSource>> getYangTextSchemaSources(
+            final Collection<SourceIdentifier> sourceIdentifiers, final Map<SourceIdentifier, String> knownHashes) {
+        final Future<Object> scalaFuture = Patterns.ask(masterRef,
+                new YangTextSchemaSourcesRequest(sourceIdentifiers, knownHashes), actorResponseWaitTime);
+
+        final SettableFuture<List<YangTextSchemaSource>> future = SettableFuture.create();
+        scalaFuture.onComplete(new OnComplete<Object>() {
+            @Override
+            public void onComplete(final Throwable failure, final Object success) {
+                if (failure != null) {
+                    future.setException(failure);
+                    return;
+                }
+
+                try {
+                    future.set(((YangTextSchemaSourcesReply) success).getSources());
+                } catch (IOException e) {
+                    future.setException(e);
+                }
+            }
+        }, executionContext);
+
+        return future;
+    }
 }
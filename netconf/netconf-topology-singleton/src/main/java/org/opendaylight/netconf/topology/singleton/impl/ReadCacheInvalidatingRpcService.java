@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl;
+
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_COMMIT_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_COPY_CONFIG_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_QNAME;
+
+import akka.actor.ActorRef;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Set;
+import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.netconf.topology.singleton.messages.InvalidateReadCache;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * {@link DOMRpcService} of the master, which tells the master actor to invalidate read caches of slaves once
+ * a NETCONF operation modifying the configuration of the device completes. Such operations do not go through
+ * the transaction actors and do not say which part of the configuration they modify, hence the whole configuration
+ * is invalidated.
+ */
+final class ReadCacheInvalidatingRpcService implements DOMRpcService {
+    private static final Set<QName> CONFIG_OPERATIONS = ImmutableSet.of(NETCONF_EDIT_CONFIG_QNAME,
+        NETCONF_COPY_CONFIG_QNAME, QName.create(NETCONF_EDIT_CONFIG_QNAME, "delete-config").intern(),
+        NETCONF_COMMIT_QNAME);
+    private static final InvalidateReadCache INVALIDATE_ALL =
+        new InvalidateReadCache(ImmutableList.of(YangInstanceIdentifier.empty()));
+
+    private final ActorRef masterActorRef;
+    private final DOMRpcService delegate;
+
+    ReadCacheInvalidatingRpcService(final ActorRef masterActorRef, final DOMRpcService delegate) {
+        this.masterActorRef = requireNonNull(masterActorRef);
+        this.delegate = requireNonNull(delegate);
+    }
+
+    @Override
+    public FluentFuture<DOMRpcResult> invokeRpc(final SchemaPath type, final NormalizedNode<?, ?> input) {
+        final FluentFuture<DOMRpcResult> result = delegate.invokeRpc(type, input);
+        if (CONFIG_OPERATIONS.contains(type.getLastComponent())) {
+            // The device may have applied a part of the changes even if the operation failed
+            result.addListener(() -> masterActorRef.tell(INVALIDATE_ALL, ActorRef.noSender()),
+                MoreExecutors.directExecutor());
+        }
+        return result;
+    }
+
+    @Override
+    public <T extends DOMRpcAvailabilityListener> ListenerRegistration<T> registerRpcListener(final T listener) {
+        return delegate.registerRpcListener(listener);
+    }
+}
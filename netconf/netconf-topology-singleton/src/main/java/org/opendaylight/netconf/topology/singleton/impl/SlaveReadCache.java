@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of configuration datastore reads done through a slave mount point. Entries expire after a configured time
+ * and the number of entries is bounded. Writes invalidate all entries overlapping with the written paths, be it
+ * writes done through this mount point or writes reported by the master.
+ */
+public final class SlaveReadCache {
+    private static final Logger LOG = LoggerFactory.getLogger(SlaveReadCache.class);
+
+    private final Cache<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>> cache;
+    private final LongAdder invalidationCount = new LongAdder();
+
+    // Incremented on each invalidation, so that reads which were in flight do not populate the cache with stale data
+    @GuardedBy("this")
+    private long generation;
+
+    public SlaveReadCache(final long ttlMillis, final long maxEntries) {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Create the read cache configured for a node.
+     *
+     * @param id   device id
+     * @param node node configuration
+     * @return read cache or {@code null} if the cache is not enabled for the node
+     */
+    public static @Nullable SlaveReadCache forNode(final RemoteDeviceId id, final @Nullable NetconfNode node) {
+        if (node == null || node.getSlaveReadCacheTtlMillis() == null) {
+            return null;
+        }
+
+        final long ttlMillis = node.getSlaveReadCacheTtlMillis().toJava();
+        if (ttlMillis <= 0) {
+            return null;
+        }
+
+        final long maxEntries = node.getSlaveReadCacheMaxEntries() == null ? 1000
+                : node.getSlaveReadCacheMaxEntries().toJava();
+        LOG.debug("{}: Caching configuration reads for {} ms, up to {} entries", id, ttlMillis, maxEntries);
+        return new SlaveReadCache(ttlMillis, maxEntries);
+    }
+
+    /**
+     * Read data at a path, either from the cache or using the supplied loader. Successfully loaded data is cached,
+     * unless an invalidation occurred while it was loaded.
+     *
+     * @param path   path to read
+     * @param loader loader of data which are not cached
+     * @return a ListenableFuture containing the read data
+     */
+    public ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final YangInstanceIdentifier path,
+            final Supplier<? extends ListenableFuture<Optional<NormalizedNode<?, ?>>>> loader) {
+        final Optional<NormalizedNode<?, ?>> cached = cache.getIfPresent(path);
+        if (cached != null) {
+            return Futures.immediateFuture(cached);
+        }
+
+        final long readGeneration;
+        synchronized (this) {
+            readGeneration = generation;
+        }
+
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = loader.get();
+        Futures.addCallback(future, new FutureCallback<Optional<NormalizedNode<?, ?>>>() {
+            @Override
+            public void onSuccess(final Optional<NormalizedNode<?, ?>> result) {
+                synchronized (SlaveReadCache.this) {
+                    if (generation == readGeneration) {
+                        cache.put(path, result);
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                // Failures are not cached
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Invalidate cached data which overlap with any of specified paths, i.e. data at the paths themselves, at their
+     * parents and at their children.
+     *
+     * @param paths modified paths
+     */
+    public void invalidate(final Collection<YangInstanceIdentifier> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            generation++;
+            cache.asMap().keySet().removeIf(cached -> paths.stream()
+                .anyMatch(path -> cached.contains(path) || path.contains(cached)));
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * Invalidate all cached data.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            generation++;
+            cache.invalidateAll();
+        }
+        invalidationCount.increment();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long invalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+}
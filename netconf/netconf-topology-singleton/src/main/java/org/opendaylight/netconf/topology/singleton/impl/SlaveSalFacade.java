@@ -10,7 +10,9 @@ package org.opendaylight.netconf.topology.singleton.impl;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.util.Timeout;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMActionService;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
@@ -18,6 +20,7 @@ import org.opendaylight.netconf.dom.api.NetconfDataTreeService;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceNotificationService;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceSalProvider;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,15 +34,25 @@ public class SlaveSalFacade {
     private final ActorSystem actorSystem;
     private final Timeout actorResponseWaitTime;
     private final AtomicBoolean registered = new AtomicBoolean(false);
+    private final @Nullable SlaveReadCache readCache;
 
     public SlaveSalFacade(final RemoteDeviceId id,
                           final ActorSystem actorSystem,
                           final Timeout actorResponseWaitTime,
                           final DOMMountPointService mountPointService) {
+        this(id, actorSystem, actorResponseWaitTime, mountPointService, null);
+    }
+
+    public SlaveSalFacade(final RemoteDeviceId id,
+                          final ActorSystem actorSystem,
+                          final Timeout actorResponseWaitTime,
+                          final DOMMountPointService mountPointService,
+                          final @Nullable SlaveReadCache readCache) {
         this.id = id;
         this.salProvider = new NetconfDeviceSalProvider(id, mountPointService);
         this.actorSystem = actorSystem;
         this.actorResponseWaitTime = actorResponseWaitTime;
+        this.readCache = readCache;
     }
 
     public void registerSlaveMountPoint(final EffectiveModelContext remoteSchemaContext, final DOMRpcService deviceRpc,
@@ -50,9 +63,9 @@ public class SlaveSalFacade {
 
         final NetconfDeviceNotificationService notificationService = new NetconfDeviceNotificationService();
         final ProxyDOMDataBroker netconfDeviceDataBroker = new ProxyDOMDataBroker(id, masterActorRef,
-            actorSystem.dispatcher(), actorResponseWaitTime);
+            actorSystem.dispatcher(), actorResponseWaitTime, readCache);
         final NetconfDataTreeService proxyNetconfService = new ProxyNetconfDataTreeService(id, masterActorRef,
-            actorSystem.dispatcher(), actorResponseWaitTime);
+            actorSystem.dispatcher(), actorResponseWaitTime, readCache);
 
         salProvider.getMountInstance().onTopologyDeviceConnected(remoteSchemaContext, netconfDeviceDataBroker,
             proxyNetconfService, deviceRpc, notificationService, deviceAction);
@@ -60,7 +73,26 @@ public class SlaveSalFacade {
         LOG.info("{}: Slave mount point registered.", id);
     }
 
+    /**
+     * Invalidate the entries of the read cache overlapping with paths written through the master.
+     *
+     * @param paths written paths
+     */
+    public void invalidateReadCache(final Collection<YangInstanceIdentifier> paths) {
+        if (readCache != null) {
+            LOG.debug("{}: Invalidating cached reads of {}", id, paths);
+            readCache.invalidate(paths);
+        }
+    }
+
+    public @Nullable SlaveReadCache getReadCache() {
+        return readCache;
+    }
+
     public void close() {
+        if (readCache != null) {
+            readCache.invalidateAll();
+        }
         if (!registered.compareAndSet(true, false)) {
             return;
         }
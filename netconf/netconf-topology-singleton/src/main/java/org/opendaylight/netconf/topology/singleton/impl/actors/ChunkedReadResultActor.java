@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.actors;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.actor.ReceiveTimeout;
+import akka.actor.Status.Failure;
+import akka.actor.UntypedAbstractActor;
+import com.typesafe.config.Config;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ChunkedReadResponse;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadChunk;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadChunkRequest;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * ChunkedReadResultActor holds a serialized read result, which is too large to be sent to the slave in a single
+ * message, and hands it out chunk by chunk as the slave requests them. The slave requests the next chunk only after
+ * it received the previous one, so there is at most one chunk in flight per read. The actor stops once the last
+ * chunk was sent, or when the slave does not request a chunk for a while.
+ */
+public final class ChunkedReadResultActor extends UntypedAbstractActor {
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedReadResultActor.class);
+
+    /**
+     * Maximum size of a read result which is sent to the slave in a single {@link NormalizedNodeMessage}, and the
+     * size of chunks larger results are split into, unless a smaller maximum frame size is configured for remoting.
+     * It stays below 128000 bytes, the smallest default maximum frame size of Akka remoting transports.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 96 * 1024;
+
+    /**
+     * Part of the maximum frame size reserved for the envelope of a chunk.
+     */
+    private static final int FRAME_OVERHEAD = 4 * 1024;
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    // Akka 2.6 Artery, Akka 2.6 classic and Akka 2.5 classic remoting, whichever is configured
+    private static final String[] FRAME_SIZE_PATHS = {
+        "akka.remote.artery.advanced.maximum-frame-size",
+        "akka.remote.classic.netty.tcp.maximum-frame-size",
+        "akka.remote.netty.tcp.maximum-frame-size"
+    };
+
+    private static final FiniteDuration IDLE_TIMEOUT = Duration.create(60, TimeUnit.SECONDS);
+
+    private final byte[] data;
+    private final int chunkSize;
+
+    private ChunkedReadResultActor(final byte[] data, final int chunkSize) {
+        this.data = data;
+        this.chunkSize = chunkSize;
+        context().setReceiveTimeout(IDLE_TIMEOUT);
+    }
+
+    static Props props(final byte[] data, final int chunkSize) {
+        return Props.create(ChunkedReadResultActor.class, () -> new ChunkedReadResultActor(data, chunkSize));
+    }
+
+    /**
+     * Determine the chunk size to be used by an actor system, so that each chunk fits into a single remoting frame.
+     *
+     * @param system actor system
+     * @return chunk size
+     */
+    static int chunkSize(final ActorSystem system) {
+        return chunkSize(system.settings().config());
+    }
+
+    static int chunkSize(final Config config) {
+        long frameSize = Long.MAX_VALUE;
+        for (String path : FRAME_SIZE_PATHS) {
+            if (config.hasPath(path)) {
+                frameSize = Math.min(frameSize, config.getBytes(path));
+            }
+        }
+        if (frameSize == Long.MAX_VALUE) {
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return (int) Math.max(MIN_CHUNK_SIZE, Math.min(Integer.MAX_VALUE, frameSize - FRAME_OVERHEAD));
+    }
+
+    /**
+     * Create the response to a successful read. Results which fit into a single chunk are sent directly in
+     * a {@link NormalizedNodeMessage}, larger results are handed to a new {@link ChunkedReadResultActor}, which
+     * is announced to the slave in a {@link ChunkedReadResponse}.
+     *
+     * @param actorFactory factory used to create the chunk source, must be safe to use from any thread
+     * @param path         read path
+     * @param node         read data
+     * @param chunkSize    maximum size of a chunk
+     * @return response to be sent to the slave
+     */
+    static Object readResponse(final ActorRefFactory actorFactory, final YangInstanceIdentifier path,
+            final NormalizedNode<?, ?> node, final int chunkSize) {
+        final NormalizedNodeMessage message = new NormalizedNodeMessage(path, node);
+        final byte[] serialized;
+        try {
+            // The encoding is retained by the message, so it is not repeated when a small message is serialized
+            serialized = message.encode();
+        } catch (IOException e) {
+            LOG.warn("Failed to serialize read result of {}", path, e);
+            return new Failure(e);
+        }
+
+        if (serialized.length <= chunkSize) {
+            return message;
+        }
+
+        final int chunkCount = (serialized.length + chunkSize - 1) / chunkSize;
+        LOG.debug("Read result of {} has {} bytes, sending it in {} chunks", path, serialized.length, chunkCount);
+        return new ChunkedReadResponse(actorFactory.actorOf(props(serialized, chunkSize)), chunkCount,
+            serialized.length);
+    }
+
+    @Override
+    public void onReceive(final Object message) {
+        if (message instanceof ReadChunkRequest) {
+            final int index = ((ReadChunkRequest) message).getIndex();
+            final int from = index * chunkSize;
+            if (index < 0 || from >= data.length) {
+                sender().tell(new Failure(new IllegalArgumentException("Chunk " + index + " does not exist")),
+                    self());
+                return;
+            }
+
+            final int to = Math.min(from + chunkSize, data.length);
+            sender().tell(new ReadChunk(index, Arrays.copyOfRange(data, from, to)), self());
+            if (to == data.length) {
+                context().stop(self());
+            }
+        } else if (message instanceof ReceiveTimeout) {
+            LOG.warn("Haven't received any chunk request for {}, discarding read result", IDLE_TIMEOUT);
+            context().stop(self());
+        } else {
+            unhandled(message);
+        }
+    }
+}
@@ -8,6 +8,7 @@
 package org.opendaylight.netconf.topology.singleton.impl.actors;
 
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
 import akka.actor.Status;
@@ -20,9 +21,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.netconf.dom.api.NetconfDataTreeService;
-import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+import org.opendaylight.netconf.topology.singleton.messages.InvalidateReadCache;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.CommitRequest;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.CreateEditConfigRequest;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.DeleteEditConfigRequest;
@@ -46,12 +48,15 @@ public final class NetconfDataTreeServiceActor extends UntypedAbstractActor {
 
     private final NetconfDataTreeService netconfService;
     private final long idleTimeout;
+    private final int chunkSize;
 
     private List<ListenableFuture<? extends DOMRpcResult>> resultsFutures = new ArrayList<>();
+    private final List<YangInstanceIdentifier> configPaths = new ArrayList<>();
 
     private NetconfDataTreeServiceActor(final NetconfDataTreeService netconfService, final Duration idleTimeout) {
         this.netconfService = netconfService;
         this.idleTimeout = idleTimeout.toSeconds();
+        chunkSize = ChunkedReadResultActor.chunkSize(context().system());
         if (this.idleTimeout > 0) {
             context().setReceiveTimeout(idleTimeout);
         }
@@ -85,6 +90,7 @@ public final class NetconfDataTreeServiceActor extends UntypedAbstractActor {
                 request.getNormalizedNodeMessage().getIdentifier(),
                 request.getNormalizedNodeMessage().getNode(),
                 Optional.ofNullable(request.getDefaultOperation())));
+            recordEdit(request.getStore(), request.getNormalizedNodeMessage().getIdentifier());
         } else if (message instanceof ReplaceEditConfigRequest) {
             final ReplaceEditConfigRequest request = (ReplaceEditConfigRequest) message;
             resultsFutures.add(netconfService.replace(
@@ -92,6 +98,7 @@ public final class NetconfDataTreeServiceActor extends UntypedAbstractActor {
                 request.getNormalizedNodeMessage().getIdentifier(),
                 request.getNormalizedNodeMessage().getNode(),
                 Optional.ofNullable(request.getDefaultOperation())));
+            recordEdit(request.getStore(), request.getNormalizedNodeMessage().getIdentifier());
         } else if (message instanceof CreateEditConfigRequest) {
             final CreateEditConfigRequest request = (CreateEditConfigRequest) message;
             resultsFutures.add(netconfService.create(
@@ -99,17 +106,21 @@ public final class NetconfDataTreeServiceActor extends UntypedAbstractActor {
                 request.getNormalizedNodeMessage().getIdentifier(),
                 request.getNormalizedNodeMessage().getNode(),
                 Optional.ofNullable(request.getDefaultOperation())));
+            recordEdit(request.getStore(), request.getNormalizedNodeMessage().getIdentifier());
         } else if (message instanceof DeleteEditConfigRequest) {
             final DeleteEditConfigRequest request = (DeleteEditConfigRequest) message;
             resultsFutures.add(netconfService.delete(request.getStore(), request.getPath()));
+            recordEdit(request.getStore(), request.getPath());
         } else if (message instanceof RemoveEditConfigRequest) {
             final RemoveEditConfigRequest request = (RemoveEditConfigRequest) message;
             resultsFutures.add(netconfService.remove(request.getStore(), request.getPath()));
+            recordEdit(request.getStore(), request.getPath());
         } else if (message instanceof CommitRequest) {
             context().stop(self());
             submit(sender(), self());
         } else if (message instanceof DiscardChangesRequest) {
             netconfService.discardChanges();
+            configPaths.clear();
         } else if (message instanceof UnlockRequest) {
             context().stop(self());
             netconfService.unlock();
@@ -126,22 +137,40 @@ public final class NetconfDataTreeServiceActor extends UntypedAbstractActor {
 
     private void submit(final ActorRef requester, final ActorRef self) {
         final ListenableFuture<? extends CommitInfo> submitFuture = netconfService.commit(resultsFutures);
+        final ActorRef parent = context().parent();
+        final InvalidateReadCache invalidation = configPaths.isEmpty() ? null : new InvalidateReadCache(configPaths);
         FluentFuture.from(submitFuture).addCallback(new FutureCallback<CommitInfo>() {
             @Override
             public void onSuccess(final CommitInfo result) {
+                invalidateReadCaches(parent, invalidation);
                 requester.tell(new Status.Success(null), self);
             }
 
             @Override
             public void onFailure(final Throwable throwable) {
+                // The device may have applied a part of the changes
+                invalidateReadCaches(parent, invalidation);
                 requester.tell(new Status.Failure(throwable), self);
             }
         }, MoreExecutors.directExecutor());
     }
 
+    private static void invalidateReadCaches(final ActorRef parent, final InvalidateReadCache invalidation) {
+        if (invalidation != null) {
+            parent.tell(invalidation, ActorRef.noSender());
+        }
+    }
+
+    private void recordEdit(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        if (store == LogicalDatastoreType.CONFIGURATION) {
+            configPaths.add(path);
+        }
+    }
+
     private void sendResult(final ListenableFuture<Optional<NormalizedNode<?, ?>>> feature,
                             final YangInstanceIdentifier path,
                             final ActorRef sender, final ActorRef self) {
+        final ActorSystem system = context().system();
         FluentFuture.from(feature).addCallback(new FutureCallback<>() {
             @Override
             public void onSuccess(final Optional<NormalizedNode<?, ?>> result) {
@@ -149,7 +178,8 @@ public final class NetconfDataTreeServiceActor extends UntypedAbstractActor {
                     sender.tell(new EmptyReadResponse(), self);
                     return;
                 }
-                sender.tell(new NormalizedNodeMessage(path, result.get()), self);
+                sender.tell(ChunkedReadResultActor.readResponse(system, path, result.get(), chunkSize),
+                    self);
             }
 
             @Override
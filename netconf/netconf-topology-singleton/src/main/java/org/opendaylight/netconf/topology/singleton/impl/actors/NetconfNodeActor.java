@@ -8,9 +8,11 @@
 package org.opendaylight.netconf.topology.singleton.impl.actors;
 
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.actor.Status.Failure;
 import akka.actor.Status.Success;
+import akka.actor.Terminated;
 import akka.pattern.AskTimeoutException;
 import akka.util.Timeout;
 import com.google.common.base.Throwables;
@@ -20,7 +22,14 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
 import org.opendaylight.controller.cluster.schema.provider.RemoteYangTextSourceProvider;
@@ -41,11 +50,14 @@ import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.netconf.topology.singleton.impl.ProxyDOMActionService;
 import org.opendaylight.netconf.topology.singleton.impl.ProxyDOMRpcService;
 import org.opendaylight.netconf.topology.singleton.impl.ProxyYangTextSourceProvider;
+import org.opendaylight.netconf.topology.singleton.impl.SlaveReadCache;
 import org.opendaylight.netconf.topology.singleton.impl.SlaveSalFacade;
 import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologySetup;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ReadCacheStatisticsWriter;
 import org.opendaylight.netconf.topology.singleton.messages.AskForMasterMountPoint;
 import org.opendaylight.netconf.topology.singleton.messages.ContainerNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.CreateInitialMasterActorData;
+import org.opendaylight.netconf.topology.singleton.messages.InvalidateReadCache;
 import org.opendaylight.netconf.topology.singleton.messages.MasterActorDataInitialized;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.NotMasterException;
@@ -54,6 +66,8 @@ import org.opendaylight.netconf.topology.singleton.messages.RefreshSlaveActor;
 import org.opendaylight.netconf.topology.singleton.messages.RegisterMountPoint;
 import org.opendaylight.netconf.topology.singleton.messages.UnregisterSlaveMountPoint;
 import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourceRequest;
+import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourcesReply;
+import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourcesRequest;
 import org.opendaylight.netconf.topology.singleton.messages.action.InvokeActionMessage;
 import org.opendaylight.netconf.topology.singleton.messages.action.InvokeActionMessageReply;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.NetconfDataTreeServiceRequest;
@@ -63,6 +77,7 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.EmptyRe
 import org.opendaylight.netconf.topology.singleton.messages.transactions.NewReadTransactionRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.NewReadWriteTransactionRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.NewWriteTransactionRequest;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
@@ -78,6 +93,7 @@ import scala.concurrent.duration.Duration;
 public class NetconfNodeActor extends AbstractUntypedActor {
     private final Duration writeTxIdleTimeout;
     private final DOMMountPointService mountPointService;
+    private final LongAdder requestCounter;
 
     private SchemaSourceRegistry schemaRegistry;
     private SchemaRepository schemaRepository;
@@ -93,16 +109,42 @@ public class NetconfNodeActor extends AbstractUntypedActor {
     //readTxActor can be shared
     private ActorRef readTxActor;
     private List<SchemaSourceRegistration<YangTextSchemaSource>> registeredSchemas;
+    // slaves which asked for the mount point, notified about writes to the configuration datastore
+    private final Set<ActorRef> slaveActors = new HashSet<>();
+    private Cancellable readCacheStatisticsWriter;
 
     public static Props props(final NetconfTopologySetup setup, final RemoteDeviceId id,
             final Timeout actorResponseWaitTime, final DOMMountPointService mountPointService) {
+        return props(setup, id, actorResponseWaitTime, mountPointService, new LongAdder());
+    }
+
+    /**
+     * Creates new actor Props.
+     *
+     * @param setup                 setup of the device
+     * @param id                    device id
+     * @param actorResponseWaitTime time to wait for responses of other actors
+     * @param mountPointService     mount point service
+     * @param requestCounter        counter of requests received from slave mount points while acting as master
+     * @return props
+     */
+    public static Props props(final NetconfTopologySetup setup, final RemoteDeviceId id,
+            final Timeout actorResponseWaitTime, final DOMMountPointService mountPointService,
+            final LongAdder requestCounter) {
         return Props.create(NetconfNodeActor.class, () ->
-                new NetconfNodeActor(setup, id, actorResponseWaitTime, mountPointService));
+                new NetconfNodeActor(setup, id, actorResponseWaitTime, mountPointService, requestCounter));
     }
 
     protected NetconfNodeActor(final NetconfTopologySetup setup,
                                final RemoteDeviceId id, final Timeout actorResponseWaitTime,
                                final DOMMountPointService mountPointService) {
+        this(setup, id, actorResponseWaitTime, mountPointService, new LongAdder());
+    }
+
+    protected NetconfNodeActor(final NetconfTopologySetup setup,
+                               final RemoteDeviceId id, final Timeout actorResponseWaitTime,
+                               final DOMMountPointService mountPointService, final LongAdder requestCounter) {
+        this.requestCounter = requestCounter;
         this.setup = setup;
         this.id = id;
         this.schemaRegistry = setup.getSchemaResourcesDTO().getSchemaRegistry();
@@ -140,6 +182,9 @@ public class NetconfNodeActor extends AbstractUntypedActor {
                 LOG.debug("{}: Sending RegisterMountPoint reply to {}", id, askForMasterMountPoint.getSlaveActorRef());
                 askForMasterMountPoint.getSlaveActorRef().tell(new RegisterMountPoint(sourceIdentifiers, self()),
                     sender());
+                if (slaveActors.add(askForMasterMountPoint.getSlaveActorRef())) {
+                    context().watch(askForMasterMountPoint.getSlaveActorRef());
+                }
             } else {
                 LOG.warn("{}: Received {} but we don't appear to be the master", id, askForMasterMountPoint);
                 sender().tell(new Failure(new NotMasterException(self())), self());
@@ -147,9 +192,13 @@ public class NetconfNodeActor extends AbstractUntypedActor {
         } else if (message instanceof YangTextSchemaSourceRequest) { // master
             final YangTextSchemaSourceRequest yangTextSchemaSourceRequest = (YangTextSchemaSourceRequest) message;
             sendYangTextSchemaSourceProxy(yangTextSchemaSourceRequest.getSourceIdentifier(), sender());
+        } else if (message instanceof YangTextSchemaSourcesRequest) { // master
+            sendYangTextSchemaSources((YangTextSchemaSourcesRequest) message, sender());
         } else if (message instanceof NewReadTransactionRequest) { // master
+            requestCounter.increment();
             sender().tell(new Success(readTxActor), self());
         } else if (message instanceof NewWriteTransactionRequest) { // master
+            requestCounter.increment();
             try {
                 final DOMDataTreeWriteTransaction tx = deviceDataBroker.newWriteOnlyTransaction();
                 final ActorRef txActor = context().actorOf(WriteTransactionActor.props(tx, writeTxIdleTimeout));
@@ -158,6 +207,7 @@ public class NetconfNodeActor extends AbstractUntypedActor {
                 sender().tell(new Failure(t), self());
             }
         } else if (message instanceof NewReadWriteTransactionRequest) {
+            requestCounter.increment();
             try {
                 final DOMDataTreeReadWriteTransaction tx = deviceDataBroker.newReadWriteTransaction();
                 final ActorRef txActor = context().actorOf(ReadWriteTransactionActor.props(tx, writeTxIdleTimeout));
@@ -166,9 +216,11 @@ public class NetconfNodeActor extends AbstractUntypedActor {
                 sender().tell(new Failure(t), self());
             }
         } else if (message instanceof InvokeRpcMessage) { // master
+            requestCounter.increment();
             final InvokeRpcMessage invokeRpcMessage = (InvokeRpcMessage) message;
             invokeSlaveRpc(invokeRpcMessage.getSchemaPath(), invokeRpcMessage.getNormalizedNodeMessage(), sender());
         } else if (message instanceof InvokeActionMessage) { // master
+            requestCounter.increment();
             final InvokeActionMessage invokeActionMessage = (InvokeActionMessage) message;
             LOG.info("InvokeActionMessage Details : {}", invokeActionMessage.toString());
             invokeSlaveAction(invokeActionMessage.getSchemaPath(), invokeActionMessage.getContainerNodeMessage(),
@@ -187,9 +239,19 @@ public class NetconfNodeActor extends AbstractUntypedActor {
             setup = ((RefreshSlaveActor) message).getSetup();
             schemaRepository = ((RefreshSlaveActor) message).getSchemaRepository();
         } else if (message instanceof NetconfDataTreeServiceRequest) {
+            requestCounter.increment();
             ActorRef netconfActor = context()
                 .actorOf(NetconfDataTreeServiceActor.props(netconfService, writeTxIdleTimeout));
             sender().tell(new Success(netconfActor), self());
+        } else if (message instanceof InvalidateReadCache) {
+            if (deviceDataBroker != null) { // master
+                LOG.debug("{}: Broadcasting {} to {}", id, message, slaveActors);
+                slaveActors.forEach(slave -> slave.tell(message, self()));
+            } else if (slaveSalManager != null) { // slave
+                slaveSalManager.invalidateReadCache(((InvalidateReadCache) message).getPaths());
+            }
+        } else if (message instanceof Terminated) { // master
+            slaveActors.remove(((Terminated) message).actor());
         }
     }
 
@@ -203,6 +265,10 @@ public class NetconfNodeActor extends AbstractUntypedActor {
     }
 
     private void unregisterSlaveMountPoint() {
+        if (readCacheStatisticsWriter != null) {
+            readCacheStatisticsWriter.cancel();
+            readCacheStatisticsWriter = null;
+        }
         if (slaveSalManager != null) {
             slaveSalManager.close();
             slaveSalManager = null;
@@ -234,6 +300,44 @@ public class NetconfNodeActor extends AbstractUntypedActor {
         }, MoreExecutors.directExecutor());
     }
 
+    private void sendYangTextSchemaSources(final YangTextSchemaSourcesRequest request, final ActorRef sender) {
+        final List<SourceIdentifier> requested = request.getSourceIdentifiers();
+        final List<ListenableFuture<YangTextSchemaSource>> futures = requested.stream()
+                .map(sourceId -> schemaRepository.getSchemaSource(sourceId, YangTextSchemaSource.class))
+                .collect(Collectors.toList());
+
+        Futures.addCallback(Futures.successfulAsList(futures), new FutureCallback<List<YangTextSchemaSource>>() {
+            @Override
+            public void onSuccess(final List<YangTextSchemaSource> sources) {
+                final List<YangTextSchemaSource> toSend = new ArrayList<>(sources.size());
+                try {
+                    for (int i = 0; i < sources.size(); ++i) {
+                        final YangTextSchemaSource source = sources.get(i);
+                        // Sources which failed to resolve are left out, the slave requests them separately
+                        if (source != null) {
+                            final SourceIdentifier sourceId = requested.get(i);
+                            final String knownHash = request.getKnownHashes().get(sourceId);
+                            if (knownHash == null || !knownHash.equals(YangTextSchemaSourcesRequest.hashOf(source))) {
+                                toSend.add(YangTextSchemaSource.delegateForByteSource(sourceId, source));
+                            }
+                        }
+                    }
+
+                    LOG.debug("{}: Sending {} of {} requested sources", id, toSend.size(), requested.size());
+                    sender.tell(YangTextSchemaSourcesReply.of(toSend), getSelf());
+                } catch (IOException e) {
+                    sender.tell(new Failure(e), getSelf());
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.debug("{}: getSchemaSource for {} failed", id, requested, throwable);
+                sender.tell(new Failure(throwable), getSelf());
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
     private void invokeSlaveRpc(final SchemaPath schemaPath, final NormalizedNodeMessage normalizedNodeMessage,
                                 final ActorRef recipient) {
 
@@ -309,9 +413,68 @@ public class NetconfNodeActor extends AbstractUntypedActor {
     private void registerSlaveMountPoint(final ActorRef masterReference) {
         unregisterSlaveMountPoint();
 
-        slaveSalManager = new SlaveSalFacade(id, setup.getActorSystem(), actorResponseWaitTime, mountPointService);
+        final SlaveReadCache readCache = SlaveReadCache.forNode(id,
+            setup.getNode() == null ? null : setup.getNode().augmentation(NetconfNode.class));
+        slaveSalManager = new SlaveSalFacade(id, setup.getActorSystem(), actorResponseWaitTime, mountPointService,
+            readCache);
+        if (readCache != null) {
+            readCacheStatisticsWriter = ReadCacheStatisticsWriter.schedule(id, setup.getActorSystem(),
+                setup.getDataBroker(), setup.getInstanceIdentifier(), readCache);
+        }
+
+        final SlaveSalFacade localSlaveSalManager = slaveSalManager;
+        final ProxyYangTextSourceProvider sourceProvider = new ProxyYangTextSourceProvider(masterReference,
+                getContext().dispatcher(), actorResponseWaitTime);
+        Futures.addCallback(prefetchSchemaSources(sourceProvider, sourceIdentifiers),
+            new FutureCallback<List<YangTextSchemaSource>>() {
+                @Override
+                public void onSuccess(final List<YangTextSchemaSource> result) {
+                    executeInSelf(() -> resolveSchemaContext(localSlaveSalManager, sourceProvider, result,
+                        masterReference));
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    LOG.warn("{}: Failed to prefetch schema sources, resolving them one by one", id, throwable);
+                    executeInSelf(() -> resolveSchemaContext(localSlaveSalManager, sourceProvider,
+                        Collections.emptyList(), masterReference));
+                }
+            }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Fetch the schema sources from the master in a single round trip. Sources already available locally, typically
+     * from the filesystem cache, are sent along with their hashes, so the master skips them unless they differ.
+     */
+    private ListenableFuture<List<YangTextSchemaSource>> prefetchSchemaSources(
+            final ProxyYangTextSourceProvider sourceProvider, final List<SourceIdentifier> sourceIds) {
+        final List<ListenableFuture<YangTextSchemaSource>> localSources = sourceIds.stream()
+                .map(sourceId -> schemaRepository.getSchemaSource(sourceId, YangTextSchemaSource.class))
+                .collect(Collectors.toList());
 
-        resolveSchemaContext(createSchemaContextFactory(masterReference), slaveSalManager, masterReference, 1);
+        return Futures.transformAsync(Futures.successfulAsList(localSources), sources -> {
+            final Map<SourceIdentifier, String> knownHashes = new HashMap<>();
+            for (int i = 0; i < sources.size(); ++i) {
+                final YangTextSchemaSource source = sources.get(i);
+                if (source != null) {
+                    knownHashes.put(sourceIds.get(i), YangTextSchemaSourcesRequest.hashOf(source));
+                }
+            }
+
+            LOG.debug("{}: Requesting {} schema sources from master, {} available locally", id, sourceIds.size(),
+                    knownHashes.size());
+            return sourceProvider.getYangTextSchemaSources(sourceIds, knownHashes);
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void resolveSchemaContext(final SlaveSalFacade localSlaveSalManager,
+            final ProxyYangTextSourceProvider sourceProvider, final List<YangTextSchemaSource> prefetchedSources,
+            final ActorRef masterReference) {
+        // Make sure the slaveSalManager instance hasn't changed since we initiated the prefetch
+        if (slaveSalManager == localSlaveSalManager) {
+            resolveSchemaContext(createSchemaContextFactory(sourceProvider, prefetchedSources), localSlaveSalManager,
+                    masterReference, 1);
+        }
     }
 
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
@@ -326,9 +489,9 @@ public class NetconfNodeActor extends AbstractUntypedActor {
         return new ProxyDOMActionService(setup.getActorSystem(), masterReference, id, actorResponseWaitTime);
     }
 
-    private EffectiveModelContextFactory createSchemaContextFactory(final ActorRef masterReference) {
-        final RemoteYangTextSourceProvider remoteYangTextSourceProvider =
-                new ProxyYangTextSourceProvider(masterReference, getContext().dispatcher(), actorResponseWaitTime);
+    private EffectiveModelContextFactory createSchemaContextFactory(
+            final RemoteYangTextSourceProvider remoteYangTextSourceProvider,
+            final List<YangTextSchemaSource> prefetchedSources) {
         final RemoteSchemaProvider remoteProvider = new RemoteSchemaProvider(remoteYangTextSourceProvider,
                 getContext().dispatcher());
 
@@ -336,7 +499,14 @@ public class NetconfNodeActor extends AbstractUntypedActor {
                 .map(sourceId ->
                         schemaRegistry.registerSchemaSource(remoteProvider, PotentialSchemaSource.create(sourceId,
                                 YangTextSchemaSource.class, PotentialSchemaSource.Costs.REMOTE_IO.getValue())))
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // Prefetched sources are served from memory, taking precedence over both the local cache and the master
+        for (final YangTextSchemaSource source : prefetchedSources) {
+            registeredSchemas.add(schemaRegistry.registerSchemaSource(sourceId -> Futures.immediateFuture(source),
+                PotentialSchemaSource.create(source.getIdentifier(), YangTextSchemaSource.class,
+                    PotentialSchemaSource.Costs.IMMEDIATE.getValue())));
+        }
 
         return schemaRepository.createEffectiveModelContextFactory();
     }
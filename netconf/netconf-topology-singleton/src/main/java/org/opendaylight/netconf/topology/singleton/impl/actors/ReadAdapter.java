@@ -8,13 +8,13 @@
 package org.opendaylight.netconf.topology.singleton.impl.actors;
 
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Status.Failure;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadOperations;
-import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.EmptyReadResponse;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ExistsRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
@@ -24,9 +24,13 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 class ReadAdapter {
 
     private final DOMDataTreeReadOperations tx;
+    private final ActorSystem system;
+    private final int chunkSize;
 
-    ReadAdapter(final DOMDataTreeReadOperations tx) {
+    ReadAdapter(final DOMDataTreeReadOperations tx, final ActorSystem system) {
         this.tx = tx;
+        this.system = system;
+        chunkSize = ChunkedReadResultActor.chunkSize(system);
     }
 
     @SuppressWarnings("checkstyle:IllegalThrows")
@@ -55,7 +59,8 @@ class ReadAdapter {
                     sender.tell(new EmptyReadResponse(), self);
                     return;
                 }
-                sender.tell(new NormalizedNodeMessage(path, result.get()), self);
+                sender.tell(ChunkedReadResultActor.readResponse(system, path, result.get(), chunkSize),
+                    self);
             }
 
             @Override
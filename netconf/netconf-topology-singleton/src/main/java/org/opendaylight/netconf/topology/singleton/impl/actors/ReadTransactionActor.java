@@ -20,7 +20,7 @@ public final class ReadTransactionActor extends UntypedAbstractActor {
     private final ReadAdapter readAdapter;
 
     private ReadTransactionActor(final DOMDataTreeReadTransaction tx) {
-        readAdapter = new ReadAdapter(tx);
+        readAdapter = new ReadAdapter(tx, context().system());
     }
 
     /**
@@ -32,7 +32,7 @@ public final class ReadWriteTransactionActor extends UntypedAbstractActor {
         if (this.idleTimeout > 0) {
             context().setReceiveTimeout(idleTimeout);
         }
-        readAdapter = new ReadAdapter(tx);
+        readAdapter = new ReadAdapter(tx, context().system());
         writeAdapter = new WriteAdapter(tx);
     }
 
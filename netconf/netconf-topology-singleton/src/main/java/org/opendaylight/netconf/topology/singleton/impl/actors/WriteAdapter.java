@@ -14,14 +14,24 @@ import akka.actor.Status.Success;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.netconf.topology.singleton.messages.InvalidateReadCache;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.CancelRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatch;
+import org.opendaylight.yangtools.yang.common.RpcError;
+import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +40,9 @@ class WriteAdapter {
     private static final Logger LOG = LoggerFactory.getLogger(WriteAdapter.class);
 
     private final DOMDataTreeWriteTransaction tx;
+    private final List<YangInstanceIdentifier> configPaths = new ArrayList<>();
+    private final List<RpcError> failures = new ArrayList<>();
+    private int operationCount;
 
     WriteAdapter(final DOMDataTreeWriteTransaction tx) {
         this.tx = tx;
@@ -42,45 +55,90 @@ class WriteAdapter {
     }
 
     private void submit(final ActorRef requester, final ActorRef self, final ActorContext context) {
+        if (!failures.isEmpty()) {
+            // Committing would apply only a part of the requested changes
+            LOG.debug("{} of {} write operations failed, cancelling transaction", failures.size(), operationCount);
+            tx.cancel();
+            invalidateReadCaches(context.parent());
+            requester.tell(new Failure(new TransactionCommitFailedException(String.format(
+                "%d of %d write operations failed", failures.size(), operationCount),
+                failures.toArray(new RpcError[0]))), self);
+            context.stop(self);
+            return;
+        }
+
         final FluentFuture<? extends CommitInfo> submitFuture = tx.commit();
+        final ActorRef parent = context.parent();
         context.stop(self);
         submitFuture.addCallback(new FutureCallback<CommitInfo>() {
             @Override
             public void onSuccess(final CommitInfo result) {
+                invalidateReadCaches(parent);
                 requester.tell(new Success(null), self);
             }
 
             @Override
             public void onFailure(final Throwable throwable) {
+                // The device may have applied a part of the changes
+                invalidateReadCaches(parent);
                 requester.tell(new Failure(throwable), self);
             }
         }, MoreExecutors.directExecutor());
     }
 
+    private void invalidateReadCaches(final ActorRef parent) {
+        if (!configPaths.isEmpty()) {
+            parent.tell(new InvalidateReadCache(configPaths), ActorRef.noSender());
+        }
+    }
+
+    private void recordWrite(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        if (store == LogicalDatastoreType.CONFIGURATION) {
+            configPaths.add(path);
+        }
+    }
+
+    // we need to catch everything, since an unchecked exception can be thrown from the underlying parse.
     @SuppressWarnings("checkstyle:IllegalCatch")
-    public void handle(final Object message, final ActorRef sender, final ActorContext context, final ActorRef self) {
-        // we need to catch everything, since an unchecked exception can be thrown from the underlying parse.
-        // TODO Maybe we should store it and fail the submit immediately?.
+    private void applyOperation(final Object message) {
+        final int index = operationCount++;
         try {
             if (message instanceof MergeRequest) {
                 final MergeRequest mergeRequest = (MergeRequest) message;
                 final NormalizedNodeMessage data = mergeRequest.getNormalizedNodeMessage();
                 tx.merge(mergeRequest.getStore(), data.getIdentifier(), data.getNode());
+                recordWrite(mergeRequest.getStore(), data.getIdentifier());
             } else if (message instanceof PutRequest) {
                 final PutRequest putRequest = (PutRequest) message;
                 final NormalizedNodeMessage data = putRequest.getNormalizedNodeMessage();
                 tx.put(putRequest.getStore(), data.getIdentifier(), data.getNode());
+                recordWrite(putRequest.getStore(), data.getIdentifier());
             } else if (message instanceof DeleteRequest) {
                 final DeleteRequest deleteRequest = (DeleteRequest) message;
                 tx.delete(deleteRequest.getStore(), deleteRequest.getPath());
-            } else if (message instanceof CancelRequest) {
-                cancel(context, sender, self);
-            } else if (message instanceof SubmitRequest) {
-                submit(sender, self, context);
+                recordWrite(deleteRequest.getStore(), deleteRequest.getPath());
             }
-
         } catch (final RuntimeException exception) {
             LOG.error("Write command has failed.", exception);
+            failures.add(RpcResultBuilder.newError(ErrorType.APPLICATION, "operation-failed",
+                "Write operation " + index + " (" + message.getClass().getSimpleName() + ") failed: "
+                    + exception.getMessage()));
+        }
+    }
+
+    public void handle(final Object message, final ActorRef sender, final ActorContext context, final ActorRef self) {
+        if (message instanceof WriteBatch) {
+            final WriteBatch batch = (WriteBatch) message;
+            batch.getOperations().forEach(this::applyOperation);
+            if (batch.isSubmit()) {
+                submit(sender, self, context);
+            }
+        } else if (message instanceof CancelRequest) {
+            cancel(context, sender, self);
+        } else if (message instanceof SubmitRequest) {
+            submit(sender, self, context);
+        } else {
+            applyOperation(message);
         }
     }
 }
@@ -25,11 +25,11 @@ import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
 import org.opendaylight.netconf.api.ModifyAction;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedReadCollector;
 import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.CommitRequest;
@@ -43,7 +43,6 @@ import org.opendaylight.netconf.topology.singleton.messages.netconf.MergeEditCon
 import org.opendaylight.netconf.topology.singleton.messages.netconf.RemoveEditConfigRequest;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.ReplaceEditConfigRequest;
 import org.opendaylight.netconf.topology.singleton.messages.netconf.UnlockRequest;
-import org.opendaylight.netconf.topology.singleton.messages.transactions.EmptyReadResponse;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -90,14 +89,14 @@ public class ActorProxyNetconfServiceFacade implements ProxyNetconfServiceFacade
     public ListenableFuture<Optional<NormalizedNode<?, ?>>> get(YangInstanceIdentifier path) {
         LOG.debug("{}: Get {} {} via actor {}", id, OPERATIONAL, path, masterActor);
         final Future<Object> future = Patterns.ask(masterActor, new GetRequest(path), askTimeout);
-        return read(future, OPERATIONAL, path);
+        return ChunkedReadCollector.readResult(id, OPERATIONAL, path, future, askTimeout, executionContext);
     }
 
     @Override
     public ListenableFuture<Optional<NormalizedNode<?, ?>>> getConfig(YangInstanceIdentifier path) {
         LOG.debug("{}: GetConfig {} {} via actor {}", id, CONFIGURATION, path, masterActor);
         final Future<Object> future = Patterns.ask(masterActor, new GetConfigRequest(path), askTimeout);
-        return read(future, CONFIGURATION, path);
+        return ChunkedReadCollector.readResult(id, CONFIGURATION, path, future, askTimeout, executionContext);
     }
 
     @Override
@@ -179,43 +178,6 @@ public class ActorProxyNetconfServiceFacade implements ProxyNetconfServiceFacade
         return id;
     }
 
-    private SettableFuture<Optional<NormalizedNode<?, ?>>> read(final Future<Object> future,
-                                                                final LogicalDatastoreType store,
-                                                                final YangInstanceIdentifier path) {
-        final SettableFuture<Optional<NormalizedNode<?, ?>>> settableFuture = SettableFuture.create();
-        future.onComplete(new OnComplete<>() {
-            @Override
-            public void onComplete(final Throwable failure, final Object response) {
-                if (failure != null) {
-                    LOG.debug("{}: Read {} {} failed", id, store, path, failure);
-
-                    final Throwable processedFailure = processFailure(failure);
-                    if (processedFailure instanceof ReadFailedException) {
-                        settableFuture.setException(processedFailure);
-                    } else {
-                        settableFuture.setException(new ReadFailedException("Read of store " + store + " path " + path
-                            + " failed", processedFailure));
-                    }
-                    return;
-                }
-
-                LOG.debug("{}: Read {} {} succeeded: {}", id, store, path, response);
-
-                if (response instanceof EmptyReadResponse) {
-                    settableFuture.set(Optional.empty());
-                    return;
-                }
-
-                if (response instanceof NormalizedNodeMessage) {
-                    final NormalizedNodeMessage data = (NormalizedNodeMessage) response;
-                    settableFuture.set(Optional.of(data.getNode()));
-                }
-            }
-        }, executionContext);
-
-        return settableFuture;
-    }
-
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
         justification = "https://github.com/spotbugs/spotbugs/issues/811")
     private Throwable processFailure(final Throwable failure) {
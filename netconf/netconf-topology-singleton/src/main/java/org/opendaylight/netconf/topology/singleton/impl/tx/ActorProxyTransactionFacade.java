@@ -12,26 +12,33 @@ import akka.dispatch.OnComplete;
 import akka.pattern.AskTimeoutException;
 import akka.pattern.Patterns;
 import akka.util.Timeout;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedReadCollector;
 import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.CancelRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteRequest;
-import org.opendaylight.netconf.topology.singleton.messages.transactions.EmptyReadResponse;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ExistsRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteActorMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatch;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -40,18 +47,43 @@ import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
 /**
- * ProxyTransactionFacade implementation that interfaces with an actor.
+ * ProxyTransactionFacade implementation that interfaces with an actor. Write operations are buffered and sent to the
+ * master in a single {@link WriteBatch}, together with the commit. Buffered operations are flushed before reads, so
+ * that the master sees all operations in the order they were issued. Batches are flushed before they outgrow
+ * a remoting frame, so large transactions are sent in multiple batches.
  *
  * @author Thomas Pantelis
  */
 class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     private static final Logger LOG = LoggerFactory.getLogger(ActorProxyTransactionFacade.class);
 
+    /**
+     * Maximum number of buffered write operations, larger transactions are sent to the master in multiple batches.
+     */
+    @VisibleForTesting
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Maximum encoded size of buffered write operations, in bytes. It stays below 128000 bytes, the smallest default
+     * maximum frame size of Akka remoting transports, leaving room for the serialization of the batch itself.
+     */
+    @VisibleForTesting
+    static final int MAX_BATCH_BYTES = 96 * 1024;
+
+    // Estimated serialization overhead of an operation and of a path argument of a deleted path
+    private static final int OPERATION_OVERHEAD = 16;
+    private static final int PATH_ARGUMENT_SIZE = 64;
+
     private final ActorRef masterTxActor;
     private final RemoteDeviceId id;
     private final ExecutionContext executionContext;
     private final Timeout askTimeout;
 
+    @GuardedBy("this")
+    private List<WriteActorMessage> pendingWrites = new ArrayList<>();
+    @GuardedBy("this")
+    private long pendingBytes;
+
     ActorProxyTransactionFacade(final ActorRef masterTxActor, final RemoteDeviceId id,
             final ExecutionContext executionContext, final Timeout askTimeout) {
         this.masterTxActor = Objects.requireNonNull(masterTxActor);
@@ -68,6 +100,8 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     @Override
     public boolean cancel() {
         LOG.debug("{}: Cancel via actor {}", id, masterTxActor);
+        // Buffered operations never reached the master, they are simply dropped
+        takePendingWrites();
 
         final Future<Object> future = Patterns.ask(masterTxActor, new CancelRequest(), askTimeout);
 
@@ -90,46 +124,18 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     public FluentFuture<Optional<NormalizedNode<?, ?>>> read(final LogicalDatastoreType store,
             final YangInstanceIdentifier path) {
         LOG.debug("{}: Read {} {} via actor {}", id, store, path, masterTxActor);
+        flushPendingWrites();
 
         final Future<Object> future = Patterns.ask(masterTxActor, new ReadRequest(store, path), askTimeout);
 
-        final SettableFuture<Optional<NormalizedNode<?, ?>>> settableFuture = SettableFuture.create();
-        future.onComplete(new OnComplete<Object>() {
-            @Override
-            public void onComplete(final Throwable failure, final Object response) {
-                if (failure != null) {
-                    LOG.debug("{}: Read {} {} failed", id, store, path, failure);
-
-                    final Throwable processedFailure = processFailure(failure);
-                    if (processedFailure instanceof ReadFailedException) {
-                        settableFuture.setException(processedFailure);
-                    } else {
-                        settableFuture.setException(new ReadFailedException("Read of store " + store + " path " + path
-                            + " failed", processedFailure));
-                    }
-                    return;
-                }
-
-                LOG.debug("{}: Read {} {} succeeded: {}", id, store, path, response);
-
-                if (response instanceof EmptyReadResponse) {
-                    settableFuture.set(Optional.empty());
-                    return;
-                }
-
-                if (response instanceof NormalizedNodeMessage) {
-                    final NormalizedNodeMessage data = (NormalizedNodeMessage) response;
-                    settableFuture.set(Optional.of(data.getNode()));
-                }
-            }
-        }, executionContext);
-
-        return FluentFuture.from(settableFuture);
+        return FluentFuture.from(ChunkedReadCollector.readResult(id, store, path, future, askTimeout,
+            executionContext));
     }
 
     @Override
     public FluentFuture<Boolean> exists(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         LOG.debug("{}: Exists {} {} via actor {}", id, store, path, masterTxActor);
+        flushPendingWrites();
 
         final Future<Object> future = Patterns.ask(masterTxActor, new ExistsRequest(store, path), askTimeout);
 
@@ -162,28 +168,33 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     @Override
     public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         LOG.debug("{}: Delete {} {} via actor {}", id, store, path, masterTxActor);
-        masterTxActor.tell(new DeleteRequest(store, path), ActorRef.noSender());
+        bufferWrite(new DeleteRequest(store, path),
+            OPERATION_OVERHEAD + PATH_ARGUMENT_SIZE * path.getPathArguments().size());
     }
 
     @Override
     public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
             final NormalizedNode<?, ?> data) {
         LOG.debug("{}: Put {} {} via actor {}", id, store, path, masterTxActor);
-        masterTxActor.tell(new PutRequest(store, new NormalizedNodeMessage(path, data)), ActorRef.noSender());
+        final NormalizedNodeMessage message = new NormalizedNodeMessage(path, data);
+        bufferWrite(new PutRequest(store, message), encodedSize(message));
     }
 
     @Override
     public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
             final NormalizedNode<?, ?> data) {
         LOG.debug("{}: Merge {} {} via actor {}", id, store, path, masterTxActor);
-        masterTxActor.tell(new MergeRequest(store, new NormalizedNodeMessage(path, data)), ActorRef.noSender());
+        final NormalizedNodeMessage message = new NormalizedNodeMessage(path, data);
+        bufferWrite(new MergeRequest(store, message), encodedSize(message));
     }
 
     @Override
     public FluentFuture<? extends CommitInfo> commit() {
-        LOG.debug("{}: Commit via actor {}", id, masterTxActor);
+        final List<WriteActorMessage> writes = takePendingWrites();
+        LOG.debug("{}: Commit with {} buffered operations via actor {}", id, writes.size(), masterTxActor);
 
-        final Future<Object> future = Patterns.ask(masterTxActor, new SubmitRequest(), askTimeout);
+        final Future<Object> future = Patterns.ask(masterTxActor,
+            writes.isEmpty() ? new SubmitRequest() : new WriteBatch(writes, true), askTimeout);
 
         final SettableFuture<CommitInfo> settableFuture = SettableFuture.create();
         future.onComplete(new OnComplete<Object>() {
@@ -209,6 +220,62 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
         return FluentFuture.from(settableFuture);
     }
 
+    /**
+     * Buffer a write operation. Buffered operations are flushed before the operation if it would push them past
+     * {@link #MAX_BATCH_BYTES}, and together with it once they reach either {@link #MAX_BATCH_BYTES} or
+     * {@link #MAX_BATCH_SIZE}. Hence the batch sent with the commit stays within the limits as well, unless it
+     * consists of a single operation exceeding them on its own.
+     */
+    private void bufferWrite(final WriteActorMessage write, final long size) {
+        List<WriteActorMessage> previous = null;
+        List<WriteActorMessage> batch = null;
+        synchronized (this) {
+            if (!pendingWrites.isEmpty() && pendingBytes + size > MAX_BATCH_BYTES) {
+                previous = takePendingWrites();
+            }
+            pendingWrites.add(write);
+            pendingBytes += size;
+            if (pendingWrites.size() >= MAX_BATCH_SIZE || pendingBytes >= MAX_BATCH_BYTES) {
+                batch = takePendingWrites();
+            }
+        }
+        if (previous != null) {
+            sendWriteBatch(previous);
+        }
+        if (batch != null) {
+            sendWriteBatch(batch);
+        }
+    }
+
+    private long encodedSize(final NormalizedNodeMessage message) {
+        // The encoding is retained by the message, so it is not repeated when the batch is serialized
+        try {
+            return OPERATION_OVERHEAD + message.encode().length;
+        } catch (IOException e) {
+            LOG.debug("{}: Failed to encode {}, sending it in a batch of its own", id, message.getIdentifier(), e);
+            return MAX_BATCH_BYTES;
+        }
+    }
+
+    private void flushPendingWrites() {
+        final List<WriteActorMessage> batch = takePendingWrites();
+        if (!batch.isEmpty()) {
+            sendWriteBatch(batch);
+        }
+    }
+
+    private synchronized List<WriteActorMessage> takePendingWrites() {
+        final List<WriteActorMessage> batch = pendingWrites;
+        pendingWrites = new ArrayList<>();
+        pendingBytes = 0;
+        return batch;
+    }
+
+    private void sendWriteBatch(final List<WriteActorMessage> batch) {
+        LOG.debug("{}: Sending {} buffered operations via actor {}", id, batch.size(), masterTxActor);
+        masterTxActor.tell(new WriteBatch(batch, false), ActorRef.noSender());
+    }
+
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
             justification = "https://github.com/spotbugs/spotbugs/issues/811")
     private Throwable processFailure(final Throwable failure) {
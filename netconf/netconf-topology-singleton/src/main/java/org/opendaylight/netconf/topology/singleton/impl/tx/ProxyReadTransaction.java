@@ -9,8 +9,15 @@ package org.opendaylight.netconf.topology.singleton.impl.tx;
 
 import akka.actor.ActorRef;
 import akka.util.Timeout;
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.SlaveReadCache;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
@@ -19,10 +26,27 @@ import scala.concurrent.Future;
  * {@link org.opendaylight.netconf.topology.singleton.impl.actors.ReadTransactionActor}.
  */
 public class ProxyReadTransaction extends ProxyReadWriteTransaction implements DOMDataTreeReadTransaction {
+    private final @Nullable SlaveReadCache readCache;
 
     public ProxyReadTransaction(final RemoteDeviceId id, final Future<Object> masterTxActorFuture,
             final ExecutionContext executionContext, final Timeout askTimeout) {
+        this(id, masterTxActorFuture, executionContext, askTimeout, null);
+    }
+
+    public ProxyReadTransaction(final RemoteDeviceId id, final Future<Object> masterTxActorFuture,
+            final ExecutionContext executionContext, final Timeout askTimeout,
+            final @Nullable SlaveReadCache readCache) {
         super(id, masterTxActorFuture, executionContext, askTimeout);
+        this.readCache = readCache;
+    }
+
+    @Override
+    public FluentFuture<Optional<NormalizedNode<?, ?>>> read(final LogicalDatastoreType store,
+            final YangInstanceIdentifier path) {
+        if (readCache == null || store != LogicalDatastoreType.CONFIGURATION) {
+            return super.read(store, path);
+        }
+        return FluentFuture.from(readCache.read(path, () -> super.read(store, path)));
     }
 
     @Override
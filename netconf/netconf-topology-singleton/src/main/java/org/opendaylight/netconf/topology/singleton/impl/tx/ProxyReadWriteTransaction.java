@@ -12,6 +12,7 @@ import akka.dispatch.OnComplete;
 import akka.util.Timeout;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
@@ -22,11 +23,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.SlaveReadCache;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -43,6 +46,10 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
 
     private final RemoteDeviceId id;
     private final AtomicBoolean opened = new AtomicBoolean(true);
+    private final @Nullable SlaveReadCache readCache;
+
+    @GuardedBy("this")
+    private final List<YangInstanceIdentifier> writtenConfigPaths = new ArrayList<>();
 
     @GuardedBy("queuedTxOperations")
     private final List<Consumer<ProxyTransactionFacade>> queuedTxOperations = new ArrayList<>();
@@ -51,7 +58,14 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
 
     public ProxyReadWriteTransaction(final RemoteDeviceId id, final Future<Object> masterTxActorFuture,
             final ExecutionContext executionContext, final Timeout askTimeout) {
+        this(id, masterTxActorFuture, executionContext, askTimeout, null);
+    }
+
+    public ProxyReadWriteTransaction(final RemoteDeviceId id, final Future<Object> masterTxActorFuture,
+            final ExecutionContext executionContext, final Timeout askTimeout,
+            final @Nullable SlaveReadCache readCache) {
         this.id = id;
+        this.readCache = readCache;
 
         masterTxActorFuture.onComplete(new OnComplete<Object>() {
             @Override
@@ -105,6 +119,7 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
     public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         checkOpen();
         LOG.debug("{}: Delete {} {}", id, store, path);
+        recordWrite(store, path);
         processTransactionOperation(facade -> facade.delete(store, path));
     }
 
@@ -113,6 +128,7 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
                     final NormalizedNode<?, ?> data) {
         checkOpen();
         LOG.debug("{}: Put {} {}", id, store, path);
+        recordWrite(store, path);
         processTransactionOperation(facade -> facade.put(store, path, data));
     }
 
@@ -121,6 +137,7 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
                       final NormalizedNode<?, ?> data) {
         checkOpen();
         LOG.debug("{}: Merge {} {}", id, store, path);
+        recordWrite(store, path);
         processTransactionOperation(facade -> facade.merge(store, path, data));
     }
 
@@ -130,6 +147,7 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
         LOG.debug("{}: Commit", id);
 
         final SettableFuture<CommitInfo> returnFuture = SettableFuture.create();
+        invalidateReadCache(returnFuture);
         processTransactionOperation(facade -> returnFuture.setFuture(facade.commit()));
         return FluentFuture.from(returnFuture);
     }
@@ -190,6 +208,21 @@ public class ProxyReadWriteTransaction implements DOMDataTreeReadWriteTransactio
         }
     }
 
+    private synchronized void recordWrite(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        if (readCache != null && store == LogicalDatastoreType.CONFIGURATION) {
+            writtenConfigPaths.add(path);
+        }
+    }
+
+    private synchronized void invalidateReadCache(final SettableFuture<CommitInfo> commitFuture) {
+        if (readCache != null && !writtenConfigPaths.isEmpty()) {
+            // Invalidate both now and once the commit completes, so that reads racing with the commit are not cached
+            final List<YangInstanceIdentifier> paths = new ArrayList<>(writtenConfigPaths);
+            readCache.invalidate(paths);
+            commitFuture.addListener(() -> readCache.invalidate(paths), MoreExecutors.directExecutor());
+        }
+    }
+
     private void checkOpen() {
         Preconditions.checkState(opened.get(), "%s: Transaction is closed", id);
     }
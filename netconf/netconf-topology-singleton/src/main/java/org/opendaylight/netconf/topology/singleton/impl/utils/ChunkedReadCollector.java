@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.utils;
+
+import akka.dispatch.OnComplete;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+import akka.util.Timeout;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.util.Optional;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ChunkedReadResponse;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.EmptyReadResponse;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadChunk;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadChunkRequest;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.Future;
+
+/**
+ * Collects the chunks of a read result announced by a {@link ChunkedReadResponse} and reassembles the read data.
+ * Chunks are requested sequentially, the next chunk is requested only after the previous one arrived.
+ */
+public final class ChunkedReadCollector {
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedReadCollector.class);
+
+    private final ChunkedReadResponse response;
+    private final Timeout askTimeout;
+    private final ExecutionContext executionContext;
+    private final SettableFuture<NormalizedNode<?, ?>> future = SettableFuture.create();
+    private final byte[] data;
+    private int offset;
+
+    private ChunkedReadCollector(final ChunkedReadResponse response, final Timeout askTimeout,
+            final ExecutionContext executionContext) {
+        this.response = response;
+        this.askTimeout = askTimeout;
+        this.executionContext = executionContext;
+        data = new byte[response.getSize()];
+    }
+
+    /**
+     * Collect the read result announced by a {@link ChunkedReadResponse}.
+     *
+     * @param response         response announcing the chunked result
+     * @param askTimeout       timeout of a single chunk request
+     * @param executionContext execution context to process the chunks in
+     * @return a ListenableFuture containing the read data
+     */
+    public static ListenableFuture<NormalizedNode<?, ?>> collect(final ChunkedReadResponse response,
+            final Timeout askTimeout, final ExecutionContext executionContext) {
+        final ChunkedReadCollector collector = new ChunkedReadCollector(response, askTimeout, executionContext);
+        collector.requestChunk(0);
+        return collector.future;
+    }
+
+    /**
+     * Process the master's response to a read request. The response is either an {@link EmptyReadResponse},
+     * a {@link NormalizedNodeMessage} carrying the whole result, or a {@link ChunkedReadResponse}, in which case
+     * the chunks are collected before the returned future completes. Failures are reported as
+     * {@link ReadFailedException}s, a timed out request is reported as the master being down.
+     *
+     * @param id               device id
+     * @param store            read datastore
+     * @param path             read path
+     * @param response         future response of the master
+     * @param askTimeout       timeout of a single chunk request
+     * @param executionContext execution context to process the response in
+     * @return a ListenableFuture containing the read data
+     */
+    public static ListenableFuture<Optional<NormalizedNode<?, ?>>> readResult(final RemoteDeviceId id,
+            final LogicalDatastoreType store, final YangInstanceIdentifier path, final Future<Object> response,
+            final Timeout askTimeout, final ExecutionContext executionContext) {
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> future = SettableFuture.create();
+        response.onComplete(new OnComplete<>() {
+            @Override
+            public void onComplete(final Throwable failure, final Object result) {
+                if (failure != null) {
+                    readFailed(id, store, path, failure, future);
+                    return;
+                }
+
+                LOG.debug("{}: Read {} {} succeeded: {}", id, store, path, result);
+                if (result instanceof EmptyReadResponse) {
+                    future.set(Optional.empty());
+                } else if (result instanceof NormalizedNodeMessage) {
+                    future.set(Optional.of(((NormalizedNodeMessage) result).getNode()));
+                } else if (result instanceof ChunkedReadResponse) {
+                    Futures.addCallback(collect((ChunkedReadResponse) result, askTimeout, executionContext),
+                        new FutureCallback<NormalizedNode<?, ?>>() {
+                            @Override
+                            public void onSuccess(final NormalizedNode<?, ?> data) {
+                                future.set(Optional.of(data));
+                            }
+
+                            @Override
+                            public void onFailure(final Throwable cause) {
+                                readFailed(id, store, path, cause, future);
+                            }
+                        }, MoreExecutors.directExecutor());
+                } else {
+                    readFailed(id, store, path, new IllegalStateException("Unexpected read response " + result),
+                        future);
+                }
+            }
+        }, executionContext);
+        return future;
+    }
+
+    private static void readFailed(final RemoteDeviceId id, final LogicalDatastoreType store,
+            final YangInstanceIdentifier path, final Throwable failure,
+            final SettableFuture<Optional<NormalizedNode<?, ?>>> future) {
+        LOG.debug("{}: Read {} {} failed", id, store, path, failure);
+        final Throwable processedFailure = failure instanceof AskTimeoutException
+            ? NetconfTopologyUtils.createMasterIsDownException(id, (Exception) failure) : failure;
+        if (processedFailure instanceof ReadFailedException) {
+            future.setException(processedFailure);
+        } else {
+            future.setException(new ReadFailedException("Read of store " + store + " path " + path + " failed",
+                processedFailure));
+        }
+    }
+
+    private void requestChunk(final int index) {
+        Patterns.ask(response.getChunkSource(), new ReadChunkRequest(index), askTimeout).onComplete(
+            new OnComplete<>() {
+                @Override
+                public void onComplete(final Throwable failure, final Object chunk) {
+                    if (failure != null) {
+                        LOG.debug("Failed to read chunk {} of {}", index, response, failure);
+                        future.setException(failure);
+                    } else if (chunk instanceof ReadChunk && ((ReadChunk) chunk).getIndex() == index) {
+                        onChunk(index, ((ReadChunk) chunk).getData());
+                    } else {
+                        future.setException(new IllegalStateException("Unexpected response " + chunk
+                            + " to request for chunk " + index));
+                    }
+                }
+            }, executionContext);
+    }
+
+    private void onChunk(final int index, final byte[] chunk) {
+        if (offset + chunk.length > data.length) {
+            future.setException(new IllegalStateException("Chunk " + index + " of " + response
+                + " exceeds the announced size"));
+            return;
+        }
+        System.arraycopy(chunk, 0, data, offset, chunk.length);
+        offset += chunk.length;
+
+        if (index + 1 < response.getChunkCount()) {
+            requestChunk(index + 1);
+            return;
+        }
+        if (offset != data.length) {
+            future.setException(new IllegalStateException("Received " + offset + " bytes of " + response));
+            return;
+        }
+
+        final NormalizedNodeMessage message;
+        try {
+            message = NormalizedNodeMessage.decode(data);
+        } catch (IOException e) {
+            future.setException(e);
+            return;
+        }
+        future.set(message.getNode());
+    }
+}
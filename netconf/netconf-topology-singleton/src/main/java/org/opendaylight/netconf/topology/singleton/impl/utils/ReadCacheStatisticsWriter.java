@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.utils;
+
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
+import akka.cluster.Cluster;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.SlaveReadCache;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.ClusteredConnectionStatus;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.clustered.connection.status.ReadCacheStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.clustered.connection.status.ReadCacheStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.clustered.connection.status.ReadCacheStatisticsKey;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Periodically writes the statistics of a {@link SlaveReadCache} to the operational topology, under the clustered
+ * connection status of the node, keyed by the address of this cluster member.
+ */
+public final class ReadCacheStatisticsWriter implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadCacheStatisticsWriter.class);
+    private static final FiniteDuration INTERVAL = Duration.create(30, TimeUnit.SECONDS);
+
+    private final RemoteDeviceId id;
+    private final DataBroker dataBroker;
+    private final InstanceIdentifier<ReadCacheStatistics> path;
+    private final SlaveReadCache readCache;
+    private final String member;
+
+    private ReadCacheStatisticsWriter(final RemoteDeviceId id, final DataBroker dataBroker,
+            final InstanceIdentifier<Node> nodePath, final SlaveReadCache readCache, final String member) {
+        this.id = id;
+        this.dataBroker = dataBroker;
+        this.readCache = readCache;
+        this.member = member;
+        path = nodePath.augmentation(NetconfNode.class).child(ClusteredConnectionStatus.class)
+                .child(ReadCacheStatistics.class, new ReadCacheStatisticsKey(member));
+    }
+
+    /**
+     * Start writing statistics of a read cache.
+     *
+     * @param id          device id
+     * @param actorSystem actor system of this cluster member
+     * @param dataBroker  data broker
+     * @param nodePath    path of the node in the topology
+     * @param readCache   read cache
+     * @return handle to stop writing the statistics
+     */
+    public static Cancellable schedule(final RemoteDeviceId id, final ActorSystem actorSystem,
+            final DataBroker dataBroker, final InstanceIdentifier<Node> nodePath, final SlaveReadCache readCache) {
+        final ReadCacheStatisticsWriter writer = new ReadCacheStatisticsWriter(id, dataBroker, nodePath, readCache,
+                Cluster.get(actorSystem).selfAddress().toString());
+        return actorSystem.scheduler().scheduleWithFixedDelay(INTERVAL, INTERVAL, writer, actorSystem.dispatcher());
+    }
+
+    @Override
+    public void run() {
+        final CacheStats stats = readCache.stats();
+        final ReadCacheStatistics statistics = new ReadCacheStatisticsBuilder()
+                .setNode(member)
+                .setHitCount(Uint64.valueOf(stats.hitCount()))
+                .setMissCount(Uint64.valueOf(stats.missCount()))
+                .setEvictionCount(Uint64.valueOf(stats.evictionCount()))
+                .setInvalidationCount(Uint64.valueOf(readCache.invalidationCount()))
+                .setSize(Uint64.valueOf(readCache.size()))
+                .build();
+
+        // The entry is only written while the master maintains the status of the node, never creating the node
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, path, statistics);
+        tx.commit().addCallback(new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                LOG.trace("{}: Read cache statistics written", id);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.debug("{}: Failed to write read cache statistics", id, throwable);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+}
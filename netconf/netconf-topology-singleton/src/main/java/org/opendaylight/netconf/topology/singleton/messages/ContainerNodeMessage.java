@@ -21,7 +21,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
  * serialization when remote action is invoked.
  */
 public class ContainerNodeMessage implements Externalizable {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private ContainerNode node;
 
@@ -44,12 +44,12 @@ public class ContainerNodeMessage implements Externalizable {
 
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
-        SerializationUtils.writeNormalizedNode(out, node);
+        MessageEncoding.writePayload(out, payload -> SerializationUtils.writeNormalizedNode(payload, node));
     }
 
     @Override
     public void readExternal(final ObjectInput in) throws IOException {
-        node = (ContainerNode) SerializationUtils.readNormalizedNode(in).get();
+        node = (ContainerNode) SerializationUtils.readNormalizedNode(MessageEncoding.readPayload(in)).get();
     }
 
     @Override
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import com.google.common.collect.ImmutableList;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * Sent by transaction actors and the RPC service of the master to the master actor once a write to the configuration
+ * datastore of the device completed. The master broadcasts it to slaves, which invalidate the affected entries of
+ * their read caches.
+ */
+public class InvalidateReadCache implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ImmutableList<YangInstanceIdentifier> paths;
+
+    public InvalidateReadCache(final Collection<YangInstanceIdentifier> paths) {
+        this.paths = ImmutableList.copyOf(paths);
+    }
+
+    public List<YangInstanceIdentifier> getPaths() {
+        return paths;
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidateReadCache [paths=" + paths + "]";
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Compact encoding shared by messages exchanged between master and slaves. Schema paths are written with a
+ * dictionary of their modules and variable-length integers, data payloads are framed with their length and
+ * compressed once they grow past {@link #COMPRESSION_THRESHOLD}. Each frame records whether it is compressed, so
+ * receivers decode whatever the sender chose.
+ *
+ * <p>
+ * The encoding is not compatible with the Java serialization of these messages used by earlier releases, which is
+ * why the serialVersionUIDs of the messages using it were bumped. Members running different encodings fail to
+ * exchange such messages, so a cluster has to be upgraded as a whole rather than member by member.
+ */
+public final class MessageEncoding {
+    /**
+     * Encoded size of a payload, in bytes, from which it is compressed.
+     */
+    @VisibleForTesting
+    static final int COMPRESSION_THRESHOLD = 4096;
+
+    /**
+     * Maximum size of a payload accepted from the wire, in bytes. Lengths are checked before buffers are allocated
+     * for them, so a corrupted or hostile frame cannot make the receiver allocate arbitrary amounts of memory.
+     */
+    @VisibleForTesting
+    static final int MAX_PAYLOAD_LENGTH = 256 * 1024 * 1024;
+
+    /**
+     * Maximum number of QNames in a schema path accepted from the wire.
+     */
+    @VisibleForTesting
+    static final int MAX_SCHEMA_PATH_LENGTH = 4096;
+
+    private static final int READ_STEP = 64 * 1024;
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    /**
+     * Writes a payload to a {@link DataOutput}.
+     */
+    @FunctionalInterface
+    public interface PayloadWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    private MessageEncoding() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Write a payload as a frame, compressing it if it is large.
+     *
+     * @param out    output
+     * @param writer writer of the payload
+     * @throws IOException if the payload cannot be written
+     */
+    public static void writePayload(final DataOutput out, final PayloadWriter writer) throws IOException {
+        out.write(encodePayload(writer));
+    }
+
+    /**
+     * Encode a payload as a frame, compressing it if it is large. The frame is the same as written by
+     * {@link #writePayload(DataOutput, PayloadWriter)}.
+     *
+     * @param writer writer of the payload
+     * @return encoded frame
+     * @throws IOException if the payload cannot be written
+     */
+    public static byte[] encodePayload(final PayloadWriter writer) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataOutputStream dos = new DataOutputStream(bos)) {
+            writer.write(dos);
+        }
+        final byte[] payload = bos.toByteArray();
+
+        final ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + 11);
+        try (DataOutputStream out = new DataOutputStream(frame)) {
+            if (payload.length >= COMPRESSION_THRESHOLD) {
+                final byte[] compressed = deflate(payload);
+                if (compressed.length < payload.length) {
+                    out.writeByte(DEFLATED);
+                    writeVarInt(out, payload.length);
+                    writeVarInt(out, compressed.length);
+                    out.write(compressed);
+                    return frame.toByteArray();
+                }
+            }
+
+            out.writeByte(PLAIN);
+            writeVarInt(out, payload.length);
+            out.write(payload);
+        }
+        return frame.toByteArray();
+    }
+
+    /**
+     * Read a frame written by {@link #writePayload(DataOutput, PayloadWriter)}.
+     *
+     * @param in input
+     * @return input positioned at the start of the payload
+     * @throws IOException if the frame cannot be read
+     */
+    public static DataInput readPayload(final DataInput in) throws IOException {
+        final byte format = in.readByte();
+        final byte[] payload;
+        switch (format) {
+            case PLAIN:
+                payload = readBytes(in, readLength(in, 1, MAX_PAYLOAD_LENGTH, "payload"));
+                break;
+            case DEFLATED:
+                final int length = readLength(in, 1, MAX_PAYLOAD_LENGTH, "payload");
+                // Compressed payloads are sent only if they are smaller than the payload itself
+                final byte[] compressed = readBytes(in, readLength(in, 1, length - 1, "compressed payload"));
+                payload = new byte[length];
+                inflate(compressed, payload);
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown payload format " + format);
+        }
+        return new DataInputStream(new ByteArrayInputStream(payload));
+    }
+
+    /**
+     * Write a schema path. Modules of its QNames are written once, further QNames of the same module refer to them
+     * by index.
+     *
+     * @param out  output
+     * @param path schema path
+     * @throws IOException if the path cannot be written
+     */
+    public static void writeSchemaPath(final DataOutput out, final SchemaPath path) throws IOException {
+        final List<QName> qnames = new ArrayList<>();
+        path.getPathFromRoot().forEach(qnames::add);
+
+        out.writeBoolean(path.isAbsolute());
+        writeVarInt(out, qnames.size());
+        final Map<QNameModule, Integer> modules = new HashMap<>();
+        for (final QName qname : qnames) {
+            final Integer index = modules.get(qname.getModule());
+            if (index != null) {
+                writeVarInt(out, index);
+            } else {
+                // Index of a module which is not known to the reader yet, followed by the module itself
+                writeVarInt(out, modules.size());
+                modules.put(qname.getModule(), modules.size());
+                qname.getModule().writeTo(out);
+            }
+            out.writeUTF(qname.getLocalName());
+        }
+    }
+
+    /**
+     * Read a schema path written by {@link #writeSchemaPath(DataOutput, SchemaPath)}.
+     *
+     * @param in input
+     * @return schema path
+     * @throws IOException if the path cannot be read
+     */
+    public static SchemaPath readSchemaPath(final DataInput in) throws IOException {
+        final boolean absolute = in.readBoolean();
+        final QName[] qnames = new QName[readLength(in, 0, MAX_SCHEMA_PATH_LENGTH, "schema path")];
+        final List<QNameModule> modules = new ArrayList<>();
+        for (int i = 0; i < qnames.length; ++i) {
+            final int index = readVarInt(in);
+            if (index == modules.size()) {
+                modules.add(QNameModule.readFrom(in));
+            } else if (index < 0 || index > modules.size()) {
+                throw new StreamCorruptedException("Unknown module index " + index);
+            }
+            qnames[i] = QName.create(modules.get(index), in.readUTF());
+        }
+        return SchemaPath.create(absolute, qnames);
+    }
+
+    @VisibleForTesting
+    static void writeVarInt(final DataOutput out, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte(remaining & 0x7F | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Read a length and check it is within bounds, before anything is allocated for it.
+     *
+     * @param in   input
+     * @param min  minimum length
+     * @param max  maximum length
+     * @param what what the length is of, for the error message
+     * @return length
+     * @throws IOException if the length cannot be read or is out of bounds
+     */
+    private static int readLength(final DataInput in, final int min, final int max, final String what)
+            throws IOException {
+        final int length = readVarInt(in);
+        if (length < min || length > max) {
+            throw new StreamCorruptedException("Invalid " + what + " length " + length + ", expected " + min + ".."
+                + max);
+        }
+        return length;
+    }
+
+    /**
+     * Read a number of bytes. The bytes are read in bounded steps, so that the memory allocated is proportional to
+     * the data actually received, even if the length announced by the sender is larger.
+     */
+    private static byte[] readBytes(final DataInput in, final int length) throws IOException {
+        if (length <= READ_STEP) {
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return bytes;
+        }
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream(READ_STEP);
+        final byte[] buffer = new byte[READ_STEP];
+        int remaining = length;
+        while (remaining > 0) {
+            final int step = Math.min(remaining, READ_STEP);
+            in.readFully(buffer, 0, step);
+            bos.write(buffer, 0, step);
+            remaining -= step;
+        }
+        return bos.toByteArray();
+    }
+
+    @VisibleForTesting
+    static int readVarInt(final DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte part = in.readByte();
+            value |= (part & 0x7F) << shift;
+            if ((part & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable-length integer");
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        // Favour speed, most of the gain comes from repeated namespaces and names anyway
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 4);
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                bos.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void inflate(final byte[] compressed, final byte[] payload) throws IOException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int offset = 0;
+            while (offset < payload.length && !inflater.finished()) {
+                final int inflated = inflater.inflate(payload, offset, payload.length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != payload.length || !inflater.finished()) {
+                throw new StreamCorruptedException("Compressed payload does not match its length " + payload.length);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Failed to decompress payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
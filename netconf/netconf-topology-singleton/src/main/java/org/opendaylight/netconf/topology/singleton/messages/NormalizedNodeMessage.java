@@ -8,6 +8,8 @@
 
 package org.opendaylight.netconf.topology.singleton.messages;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
@@ -20,10 +22,11 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  * Message which holds node data, prepared to sending between remote hosts with serialization.
  */
 public class NormalizedNodeMessage implements Externalizable {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private YangInstanceIdentifier identifier;
     private NormalizedNode<?, ?> node;
+    private byte[] encoded;
 
     public NormalizedNodeMessage() {
         // empty constructor needed for Externalizable
@@ -42,14 +45,43 @@ public class NormalizedNodeMessage implements Externalizable {
         return node;
     }
 
+    /**
+     * Encode this message. The encoding is computed once and reused when the message is serialized, hence
+     * the size of a message can be checked before it is sent without encoding it twice.
+     *
+     * @return encoded message, must not be modified
+     * @throws IOException if the message cannot be encoded
+     */
+    public byte[] encode() throws IOException {
+        if (encoded == null) {
+            encoded = MessageEncoding.encodePayload(
+                payload -> SerializationUtils.writeNodeAndPath(payload, identifier, node));
+        }
+        return encoded;
+    }
+
+    /**
+     * Decode a message encoded by {@link #encode()}.
+     *
+     * @param encoded encoded message
+     * @return decoded message
+     * @throws IOException if the message cannot be decoded
+     */
+    public static NormalizedNodeMessage decode(final byte[] encoded) throws IOException {
+        final NormalizedNodeMessage message = new NormalizedNodeMessage();
+        SerializationUtils.readNodeAndPath(MessageEncoding.readPayload(
+            new DataInputStream(new ByteArrayInputStream(encoded))), message, APPLIER);
+        return message;
+    }
+
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
-        SerializationUtils.writeNodeAndPath(out, getIdentifier(), node);
+        out.write(encode());
     }
 
     @Override
     public void readExternal(final ObjectInput in) throws IOException {
-        SerializationUtils.readNodeAndPath(in, this, APPLIER);
+        SerializationUtils.readNodeAndPath(MessageEncoding.readPayload(in), this, APPLIER);
     }
 
     @Override
@@ -8,14 +8,12 @@
 
 package org.opendaylight.netconf.topology.singleton.messages;
 
-import com.google.common.collect.Iterables;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
-import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 public class SchemaPathMessage implements Serializable {
@@ -42,7 +40,7 @@ public class SchemaPathMessage implements Serializable {
     }
 
     private static class Proxy implements Externalizable {
-        private static final long serialVersionUID = 2L;
+        private static final long serialVersionUID = 3L;
 
         private SchemaPathMessage schemaPathMessage;
 
@@ -57,26 +55,12 @@ public class SchemaPathMessage implements Serializable {
 
         @Override
         public void writeExternal(final ObjectOutput out) throws IOException {
-            final Iterable<QName> path = schemaPathMessage.getSchemaPath().getPathFromRoot();
-            out.writeInt(Iterables.size(path));
-            for (final QName qualifiedName : path) {
-                // FIXME: switch to QName.writeTo() or a sal-clustering-commons stream
-                out.writeObject(qualifiedName);
-            }
-
-            out.writeBoolean(schemaPathMessage.getSchemaPath().isAbsolute());
+            MessageEncoding.writeSchemaPath(out, schemaPathMessage.getSchemaPath());
         }
 
         @Override
-        public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
-            final int sizePath = in.readInt();
-            final QName[] paths = new QName[sizePath];
-            for (int i = 0; i < sizePath; i++) {
-                // FIXME: switch to QName.readFrom() or a sal-clustering-commons stream
-                paths[i] = (QName) in.readObject();
-            }
-            final boolean absolute = in.readBoolean();
-            schemaPathMessage = new SchemaPathMessage(SchemaPath.create(absolute, paths));
+        public void readExternal(final ObjectInput in) throws IOException {
+            schemaPathMessage = new SchemaPathMessage(MessageEncoding.readSchemaPath(in));
         }
 
         private Object readResolve() {
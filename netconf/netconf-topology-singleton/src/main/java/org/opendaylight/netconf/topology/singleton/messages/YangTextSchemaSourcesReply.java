@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import com.google.common.io.ByteSource;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+
+/**
+ * Master responds with this message to {@link YangTextSchemaSourcesRequest}. Resolved schema sources are shipped
+ * as a single compressed stream.
+ */
+public class YangTextSchemaSourcesReply implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] compressedSources;
+    private final int sourceCount;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Constructed from a private copy only")
+    private YangTextSchemaSourcesReply(final byte[] compressedSources, final int sourceCount) {
+        this.compressedSources = compressedSources;
+        this.sourceCount = sourceCount;
+    }
+
+    /**
+     * Create a reply containing specified sources.
+     *
+     * @param sources schema sources
+     * @return reply message
+     * @throws IOException if a source cannot be read
+     */
+    public static YangTextSchemaSourcesReply of(final Collection<YangTextSchemaSource> sources) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bos))) {
+            for (final YangTextSchemaSource source : sources) {
+                final SourceIdentifier sourceId = source.getIdentifier();
+                final byte[] content = source.read();
+                out.writeUTF(sourceId.getName());
+                final Optional<Revision> revision = sourceId.getRevision();
+                out.writeBoolean(revision.isPresent());
+                if (revision.isPresent()) {
+                    out.writeUTF(revision.get().toString());
+                }
+                out.writeInt(content.length);
+                out.write(content);
+            }
+        }
+        return new YangTextSchemaSourcesReply(bos.toByteArray(), sources.size());
+    }
+
+    /**
+     * Decompress the sources contained in this reply.
+     *
+     * @return schema sources
+     * @throws IOException if the sources cannot be decompressed
+     */
+    public List<YangTextSchemaSource> getSources() throws IOException {
+        final List<YangTextSchemaSource> sources = new ArrayList<>(sourceCount);
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(
+                new ByteArrayInputStream(compressedSources)))) {
+            for (int i = 0; i < sourceCount; ++i) {
+                final String name = in.readUTF();
+                final Optional<Revision> revision = in.readBoolean() ? Optional.of(Revision.of(in.readUTF()))
+                        : Optional.empty();
+                final byte[] content = new byte[in.readInt()];
+                in.readFully(content);
+                sources.add(YangTextSchemaSource.delegateForByteSource(RevisionSourceIdentifier.create(name, revision),
+                    ByteSource.wrap(content)));
+            }
+        }
+        return sources;
+    }
+
+    @Override
+    public String toString() {
+        return "YangTextSchemaSourcesReply [sourceCount=" + sourceCount + ", compressedSize="
+                + compressedSources.length + "]";
+    }
+}
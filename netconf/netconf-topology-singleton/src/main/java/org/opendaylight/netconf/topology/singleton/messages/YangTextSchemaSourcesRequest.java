@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+
+/**
+ * Slave sends message to master to resolve multiple schema sources in a single round trip. Hashes of sources
+ * the slave already has locally are attached, master responds with a {@link YangTextSchemaSourcesReply} containing
+ * only the sources the slave does not have or whose content differs.
+ */
+public class YangTextSchemaSourcesRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ImmutableList<SourceIdentifier> sourceIdentifiers;
+    private final ImmutableMap<SourceIdentifier, String> knownHashes;
+
+    public YangTextSchemaSourcesRequest(final Collection<SourceIdentifier> sourceIdentifiers,
+            final Map<SourceIdentifier, String> knownHashes) {
+        this.sourceIdentifiers = ImmutableList.copyOf(sourceIdentifiers);
+        this.knownHashes = ImmutableMap.copyOf(knownHashes);
+    }
+
+    public List<SourceIdentifier> getSourceIdentifiers() {
+        return sourceIdentifiers;
+    }
+
+    public Map<SourceIdentifier, String> getKnownHashes() {
+        return knownHashes;
+    }
+
+    /**
+     * Compute the hash of a schema source, as used in {@link #getKnownHashes()}.
+     *
+     * @param source schema source
+     * @return hash of source content
+     * @throws IOException if the source cannot be read
+     */
+    public static String hashOf(final YangTextSchemaSource source) throws IOException {
+        return source.hash(Hashing.sha256()).toString();
+    }
+
+    @Override
+    public String toString() {
+        return "YangTextSchemaSourcesRequest [sourceIdentifiers=" + sourceIdentifiers + ", knownHashes="
+                + knownHashes.keySet() + "]";
+    }
+}
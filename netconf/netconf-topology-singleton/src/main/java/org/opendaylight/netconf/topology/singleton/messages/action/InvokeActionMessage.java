@@ -17,6 +17,7 @@ import java.io.Serializable;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.netconf.topology.singleton.messages.ContainerNodeMessage;
+import org.opendaylight.netconf.topology.singleton.messages.MessageEncoding;
 import org.opendaylight.netconf.topology.singleton.messages.SchemaPathMessage;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
@@ -73,7 +74,7 @@ public class InvokeActionMessage implements Serializable {
     }
 
     private static class Proxy implements Externalizable {
-        private static final long serialVersionUID = 2L;
+        private static final long serialVersionUID = 3L;
 
         private InvokeActionMessage invokeActionMessage;
 
@@ -88,15 +89,19 @@ public class InvokeActionMessage implements Serializable {
 
         @Override
         public void writeExternal(final ObjectOutput out) throws IOException {
-            out.writeObject(invokeActionMessage.getSchemaPathMessage());
-            out.writeObject(invokeActionMessage.getContainerNodeMessage());
+            // Schema path and input are written inline, without the class descriptors of nested objects
+            MessageEncoding.writeSchemaPath(out, invokeActionMessage.getSchemaPath());
+            invokeActionMessage.getContainerNodeMessage().writeExternal(out);
             out.writeObject(invokeActionMessage.getDOMDataTreeIdentifier());
         }
 
         @Override
         public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
-            invokeActionMessage = new InvokeActionMessage((SchemaPathMessage) in.readObject(),
-                (ContainerNodeMessage) in.readObject(), (DOMDataTreeIdentifier) in.readObject());
+            final SchemaPathMessage schemaPathMessage = new SchemaPathMessage(MessageEncoding.readSchemaPath(in));
+            final ContainerNodeMessage containerNodeMessage = new ContainerNodeMessage();
+            containerNodeMessage.readExternal(in);
+            invokeActionMessage = new InvokeActionMessage(schemaPathMessage, containerNodeMessage,
+                (DOMDataTreeIdentifier) in.readObject());
         }
 
         private Object readResolve() {
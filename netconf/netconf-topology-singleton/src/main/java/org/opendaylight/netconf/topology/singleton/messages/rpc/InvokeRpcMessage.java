@@ -13,6 +13,7 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.topology.singleton.messages.MessageEncoding;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.SchemaPathMessage;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
@@ -53,7 +54,7 @@ public class InvokeRpcMessage implements Serializable {
     }
 
     private static class Proxy implements Externalizable {
-        private static final long serialVersionUID = 2L;
+        private static final long serialVersionUID = 3L;
 
         private InvokeRpcMessage invokeRpcMessage;
 
@@ -68,14 +69,26 @@ public class InvokeRpcMessage implements Serializable {
 
         @Override
         public void writeExternal(final ObjectOutput out) throws IOException {
-            out.writeObject(invokeRpcMessage.getSchemaPathMessage());
-            out.writeObject(invokeRpcMessage.getNormalizedNodeMessage());
+            // Both parts are written inline, without the class descriptors of nested objects
+            MessageEncoding.writeSchemaPath(out, invokeRpcMessage.getSchemaPath());
+            final NormalizedNodeMessage normalizedNodeMessage = invokeRpcMessage.getNormalizedNodeMessage();
+            out.writeBoolean(normalizedNodeMessage != null);
+            if (normalizedNodeMessage != null) {
+                normalizedNodeMessage.writeExternal(out);
+            }
         }
 
         @Override
-        public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
-            invokeRpcMessage = new InvokeRpcMessage((SchemaPathMessage) in.readObject(),
-                    (NormalizedNodeMessage) in.readObject());
+        public void readExternal(final ObjectInput in) throws IOException {
+            final SchemaPathMessage schemaPathMessage = new SchemaPathMessage(MessageEncoding.readSchemaPath(in));
+            final NormalizedNodeMessage normalizedNodeMessage;
+            if (in.readBoolean()) {
+                normalizedNodeMessage = new NormalizedNodeMessage();
+                normalizedNodeMessage.readExternal(in);
+            } else {
+                normalizedNodeMessage = null;
+            }
+            invokeRpcMessage = new InvokeRpcMessage(schemaPathMessage, normalizedNodeMessage);
         }
 
         private Object readResolve() {
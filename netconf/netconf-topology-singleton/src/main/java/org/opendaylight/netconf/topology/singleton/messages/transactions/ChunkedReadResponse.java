@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import akka.actor.ActorRef;
+import java.io.Serializable;
+
+/**
+ * Master sends the message as a response to a read whose serialized result is too large to be sent in a single
+ * message. The slave then requests the individual chunks of the serialized result from the chunk source one by one,
+ * using {@link ReadChunkRequest}.
+ */
+public class ChunkedReadResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ActorRef chunkSource;
+    private final int chunkCount;
+    private final int size;
+
+    public ChunkedReadResponse(final ActorRef chunkSource, final int chunkCount, final int size) {
+        this.chunkSource = chunkSource;
+        this.chunkCount = chunkCount;
+        this.size = size;
+    }
+
+    public ActorRef getChunkSource() {
+        return chunkSource;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedReadResponse [chunkSource=" + chunkSource + ", chunkCount=" + chunkCount + ", size=" + size
+                + "]";
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Serializable;
+
+/**
+ * Single chunk of a serialized read result, sent as a response to {@link ReadChunkRequest}.
+ */
+public class ReadChunk implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int index;
+    private final byte[] data;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Chunks are not modified once sent")
+    public ReadChunk(final int index, final byte[] data) {
+        this.index = index;
+        this.data = data;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Chunks are not modified once sent")
+    public byte[] getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadChunk [index=" + index + ", length=" + data.length + "]";
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import java.io.Serializable;
+
+/**
+ * Slave sends the message to the chunk source of a {@link ChunkedReadResponse} to request a single chunk.
+ */
+public class ReadChunkRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int index;
+
+    public ReadChunkRequest(final int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadChunkRequest [index=" + index + "]";
+    }
+}
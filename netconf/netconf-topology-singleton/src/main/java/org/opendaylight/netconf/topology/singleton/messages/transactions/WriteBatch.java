@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Slave sends a batch of buffered {@link PutRequest}s, {@link MergeRequest}s and {@link DeleteRequest}s to the master
+ * transaction actor in a single message. The operations are applied in order. If the batch submits the transaction,
+ * the master replies as it does to a {@link SubmitRequest}, failing the commit with an error for each operation which
+ * could not be applied.
+ */
+public class WriteBatch implements WriteActorMessage {
+    private static final long serialVersionUID = 1L;
+
+    private final ImmutableList<WriteActorMessage> operations;
+    private final boolean submit;
+
+    public WriteBatch(final Collection<? extends WriteActorMessage> operations, final boolean submit) {
+        this.operations = ImmutableList.copyOf(operations);
+        this.submit = submit;
+    }
+
+    public List<WriteActorMessage> getOperations() {
+        return operations;
+    }
+
+    public boolean isSubmit() {
+        return submit;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBatch [operations=" + operations.size() + ", submit=" + submit + "]";
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+public class MasterPlacementTest {
+    private static final String SELF = "akka://opendaylight-cluster-data@member-1:2550";
+    private static final String OTHER = "akka://opendaylight-cluster-data@member-2:2550";
+    private static final String THIRD = "akka://opendaylight-cluster-data@member-3:2550";
+
+    @Test
+    public void testBalanced() {
+        assertEquals(0, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(SELF, 10, OTHER, 9), 5, 1));
+        assertEquals(0, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(SELF, 9, OTHER, 10), 5, 1));
+    }
+
+    @Test
+    public void testSingleMember() {
+        assertEquals(0, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(SELF, 100), 5, 1));
+        assertEquals(0, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(OTHER, 100, THIRD, 0), 5, 1));
+    }
+
+    @Test
+    public void testHandOverHalfOfDifference() {
+        assertEquals(4, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(SELF, 12, OTHER, 4), 5, 1));
+        assertEquals(1, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(SELF, 2, OTHER, 0), 5, 1));
+    }
+
+    @Test
+    public void testHandOverBounded() {
+        assertEquals(2, MasterPlacement.devicesToHandOver(SELF, ImmutableMap.of(SELF, 100, OTHER, 50, THIRD, 0),
+            2, 1));
+    }
+
+    @Test
+    public void testSelectLeastBusyDevices() {
+        assertEquals(ImmutableList.of("idle", "quiet"), MasterPlacement.selectDevices(
+            ImmutableMap.of("busy", 100.0, "idle", 0.0, "quiet", 1.5), 2));
+        assertEquals(ImmutableList.of("busy"), MasterPlacement.selectDevices(ImmutableMap.of("busy", 100.0), 2));
+    }
+}
@@ -44,6 +44,7 @@ import akka.testkit.TestActorRef;
 import akka.testkit.javadsl.TestKit;
 import akka.util.Timeout;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.io.ByteSource;
 import com.google.common.net.InetAddresses;
@@ -95,11 +96,17 @@ import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologySet
 import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologySetup.NetconfTopologySetupBuilder;
 import org.opendaylight.netconf.topology.singleton.messages.AskForMasterMountPoint;
 import org.opendaylight.netconf.topology.singleton.messages.CreateInitialMasterActorData;
+import org.opendaylight.netconf.topology.singleton.messages.InvalidateReadCache;
 import org.opendaylight.netconf.topology.singleton.messages.MasterActorDataInitialized;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.NotMasterException;
 import org.opendaylight.netconf.topology.singleton.messages.RefreshSetupMasterActorData;
 import org.opendaylight.netconf.topology.singleton.messages.RegisterMountPoint;
 import org.opendaylight.netconf.topology.singleton.messages.UnregisterSlaveMountPoint;
+import org.opendaylight.netconf.topology.singleton.messages.YangTextSchemaSourcesRequest;
+import org.opendaylight.netconf.topology.singleton.messages.netconf.CommitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.netconf.MergeEditConfigRequest;
+import org.opendaylight.netconf.topology.singleton.messages.netconf.NetconfDataTreeServiceRequest;
 import org.opendaylight.yangtools.concepts.ObjectRegistration;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -213,6 +220,7 @@ public class NetconfNodeActorTest extends AbstractBaseSchemasTest {
 
         doReturn(mockSchemaContextFactory).when(mockSchemaRepository)
                 .createEffectiveModelContextFactory();
+        mockMissingLocalSchemaSources();
     }
 
     @After
@@ -283,6 +291,7 @@ public class NetconfNodeActorTest extends AbstractBaseSchemasTest {
 
         reset(mockSchemaSourceReg1, mockRegistry, mockSchemaRepository);
         resetMountPointMocks();
+        mockMissingLocalSchemaSources();
 
         doReturn(mockSchemaSourceReg1).when(mockRegistry).registerSchemaSource(any(), withSourceId(SOURCE_IDENTIFIER1));
 
@@ -388,6 +397,7 @@ public class NetconfNodeActorTest extends AbstractBaseSchemasTest {
 
         reset(mockSchemaSourceReg1, mockSchemaSourceReg2, mockSchemaRepository, mockSchemaContextFactory);
         resetMountPointMocks();
+        mockMissingLocalSchemaSources();
 
         final EffectiveModelContextFactory mockSchemaContextFactorySuccess = mock(EffectiveModelContextFactory.class);
         doReturn(Futures.immediateFuture(mockSchemaContext))
@@ -477,6 +487,50 @@ public class NetconfNodeActorTest extends AbstractBaseSchemasTest {
         assertThat(ex.getMessage(), containsString(sourceIdentifier.toString()));
     }
 
+    @Test
+    public void testYangTextSchemaSourcesRequest() throws Exception {
+        final SourceIdentifier sourceIdentifier1 = RevisionSourceIdentifier.create("testID1");
+        final SourceIdentifier sourceIdentifier2 = RevisionSourceIdentifier.create("testID2");
+        final SourceIdentifier missingIdentifier = RevisionSourceIdentifier.create("missingID");
+
+        final ProxyYangTextSourceProvider proxyYangProvider =
+                new ProxyYangTextSourceProvider(masterRef, system.dispatcher(), TIMEOUT);
+
+        final YangTextSchemaSource yangTextSchemaSource1 = YangTextSchemaSource.delegateForByteSource(
+                sourceIdentifier1, ByteSource.wrap("YANG1".getBytes(UTF_8)));
+        final YangTextSchemaSource yangTextSchemaSource2 = YangTextSchemaSource.delegateForByteSource(
+                sourceIdentifier2, ByteSource.wrap("YANG2".getBytes(UTF_8)));
+
+        masterSchemaRepository.registerSchemaSource(id -> Futures.immediateFuture(yangTextSchemaSource1),
+                PotentialSchemaSource.create(sourceIdentifier1, YangTextSchemaSource.class, 1));
+        masterSchemaRepository.registerSchemaSource(id -> Futures.immediateFuture(yangTextSchemaSource2),
+                PotentialSchemaSource.create(sourceIdentifier2, YangTextSchemaSource.class, 1));
+
+        final List<SourceIdentifier> requested = ImmutableList.of(sourceIdentifier1, sourceIdentifier2,
+                missingIdentifier);
+
+        // Sources unknown to the slave are sent, missing sources are left out.
+
+        List<YangTextSchemaSource> sources = proxyYangProvider.getYangTextSchemaSources(requested,
+                ImmutableMap.of()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, sources.size());
+        assertEquals(sourceIdentifier1, sources.get(0).getIdentifier());
+        assertEquals("YANG1", convertStreamToString(sources.get(0).openStream()));
+        assertEquals(sourceIdentifier2, sources.get(1).getIdentifier());
+        assertEquals("YANG2", convertStreamToString(sources.get(1).openStream()));
+
+        // Sources the slave already has are not sent again, stale ones are.
+
+        sources = proxyYangProvider.getYangTextSchemaSources(requested, ImmutableMap.of(
+                sourceIdentifier1, YangTextSchemaSourcesRequest.hashOf(yangTextSchemaSource1),
+                sourceIdentifier2, "stale")).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, sources.size());
+        assertEquals(sourceIdentifier2, sources.get(0).getIdentifier());
+        assertEquals("YANG2", convertStreamToString(sources.get(0).openStream()));
+    }
+
     @Test
     public void testSlaveInvokeRpc() throws Exception {
 
@@ -672,6 +726,31 @@ public class NetconfNodeActorTest extends AbstractBaseSchemasTest {
         verify(netconfService, timeout(1000)).commit(any());
     }
 
+    @Test
+    public void testMasterCommitInvalidatesSlaveReadCaches() {
+        initializeMaster(Collections.emptyList());
+
+        // A slave which asked for the mount point receives invalidations
+        final TestKit slave = new TestKit(system);
+        masterRef.tell(new AskForMasterMountPoint(slave.getRef()), slave.getRef());
+        slave.expectMsgClass(RegisterMountPoint.class);
+
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(QName.create("", "cont"));
+        final NormalizedNode<?, ?> node = Builders.containerBuilder()
+            .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(QName.create("", "cont"))).build();
+        doReturn(emptyFluentFuture()).when(netconfService).commit(any());
+
+        masterRef.tell(new NetconfDataTreeServiceRequest(), testKit.getRef());
+        final ActorRef netconfActor = (ActorRef) testKit.expectMsgClass(Success.class).status();
+        netconfActor.tell(new MergeEditConfigRequest(LogicalDatastoreType.CONFIGURATION,
+            new NormalizedNodeMessage(path, node), null), testKit.getRef());
+        netconfActor.tell(new CommitRequest(), testKit.getRef());
+        testKit.expectMsgClass(Success.class);
+
+        final InvalidateReadCache invalidation = slave.expectMsgClass(InvalidateReadCache.class);
+        assertEquals(List.of(path), invalidation.getPaths());
+    }
+
     private ActorRef registerSlaveMountPoint() {
         SchemaResourcesDTO schemaResourceDTO2 = mock(SchemaResourcesDTO.class);
         doReturn(mockRegistry).when(schemaResourceDTO2).getSchemaRegistry();
@@ -703,6 +782,11 @@ public class NetconfNodeActorTest extends AbstractBaseSchemasTest {
         testKit.expectMsgClass(MasterActorDataInitialized.class);
     }
 
+    private void mockMissingLocalSchemaSources() {
+        doReturn(Futures.immediateFailedFuture(new MissingSchemaSourceException("mock", SOURCE_IDENTIFIER1)))
+                .when(mockSchemaRepository).getSchemaSource(any(), any());
+    }
+
     private void resetMountPointMocks() {
         reset(mockMountPointReg, mockMountPointBuilder);
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_PATH;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_PATH;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.netconf.topology.singleton.messages.InvalidateReadCache;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
+
+public class ReadCacheInvalidatingRpcServiceTest {
+    private static final FiniteDuration EXP_NO_MESSAGE_TIMEOUT = Duration.apply(300, TimeUnit.MILLISECONDS);
+
+    private static ActorSystem system = ActorSystem.apply();
+
+    private final TestKit masterActor = new TestKit(system);
+    private final DOMRpcService delegate = mock(DOMRpcService.class);
+    private final DOMRpcService rpcService = new ReadCacheInvalidatingRpcService(masterActor.getRef(), delegate);
+
+    @AfterClass
+    public static void staticTearDown() {
+        TestKit.shutdownActorSystem(system, true);
+    }
+
+    @Test
+    public void testConfigurationChangeInvalidatesReadCaches() {
+        final SettableFuture<DOMRpcResult> result = SettableFuture.create();
+        doReturn(FluentFuture.from(result)).when(delegate).invokeRpc(any(), any());
+
+        rpcService.invokeRpc(NETCONF_EDIT_CONFIG_PATH, null);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        result.set(new DefaultDOMRpcResult());
+        final InvalidateReadCache invalidation = masterActor.expectMsgClass(InvalidateReadCache.class);
+        assertEquals(List.of(YangInstanceIdentifier.empty()), invalidation.getPaths());
+    }
+
+    @Test
+    public void testReadDoesNotInvalidateReadCaches() {
+        doReturn(FluentFutures.immediateFluentFuture(new DefaultDOMRpcResult())).when(delegate)
+            .invokeRpc(any(), any());
+
+        rpcService.invokeRpc(NETCONF_GET_CONFIG_PATH, null);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+    }
+}
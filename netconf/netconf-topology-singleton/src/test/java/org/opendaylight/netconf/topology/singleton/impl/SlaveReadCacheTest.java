@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class SlaveReadCacheTest {
+    private static final QName CONT = QName.create("ns", "2016-02-28", "cont");
+    private static final QName OTHER = QName.create(CONT, "other");
+    private static final YangInstanceIdentifier CONT_PATH = YangInstanceIdentifier.of(CONT);
+    private static final YangInstanceIdentifier LEAF_PATH = CONT_PATH.node(QName.create(CONT, "leaf"));
+    private static final YangInstanceIdentifier OTHER_PATH = YangInstanceIdentifier.of(OTHER);
+
+    private final SlaveReadCache cache = new SlaveReadCache(60000, 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testCachedRead() throws Exception {
+        final Optional<NormalizedNode<?, ?>> data = read(CONT_PATH);
+        assertTrue(data.isPresent());
+        assertEquals(data, read(CONT_PATH));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidateOverlappingPaths() throws Exception {
+        read(CONT_PATH);
+        read(LEAF_PATH);
+        read(OTHER_PATH);
+
+        cache.invalidate(ImmutableList.of(LEAF_PATH));
+        read(CONT_PATH);
+        read(LEAF_PATH);
+        read(OTHER_PATH);
+        assertEquals(5, loads.get());
+
+        cache.invalidate(ImmutableList.of(CONT_PATH));
+        read(LEAF_PATH);
+        read(OTHER_PATH);
+        assertEquals(6, loads.get());
+        assertEquals(2, cache.invalidationCount());
+    }
+
+    @Test
+    public void testInvalidationDuringRead() throws Exception {
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> pending = SettableFuture.create();
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = cache.read(CONT_PATH, () -> pending);
+
+        cache.invalidate(ImmutableList.of(LEAF_PATH));
+        pending.set(Optional.of(ImmutableNodes.containerNode(CONT)));
+        assertTrue(future.get().isPresent());
+
+        // The result of the read started before the invalidation must not be cached
+        read(CONT_PATH);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testFailedReadNotCached() throws Exception {
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = cache.read(CONT_PATH,
+            () -> Futures.immediateFailedFuture(new IllegalStateException("read failed")));
+        assertTrue(future.isDone());
+        assertEquals(0, cache.size());
+        assertTrue(read(OTHER_PATH).isPresent());
+    }
+
+    private Optional<NormalizedNode<?, ?>> read(final YangInstanceIdentifier path) throws Exception {
+        return cache.read(path, () -> {
+            loads.incrementAndGet();
+            return Futures.immediateFuture(Optional.of(ImmutableNodes.containerNode(path.getLastPathArgument()
+                .getNodeType())));
+        }).get();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+import akka.util.Timeout;
+import com.google.common.base.Strings;
+import com.typesafe.config.ConfigFactory;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedReadCollector;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.ChunkedReadResponse;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class ChunkedReadResultActorTest {
+    private static final QName CONT = QName.create("ns", "2016-02-28", "cont");
+    private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of(CONT);
+    private static final Timeout TIMEOUT = Timeout.apply(5, TimeUnit.SECONDS);
+    private static final int CHUNK_SIZE = 64;
+
+    private static ActorSystem system = ActorSystem.apply();
+
+    @AfterClass
+    public static void staticTearDown() {
+        TestKit.shutdownActorSystem(system, true);
+    }
+
+    @Test
+    public void testSmallResultIsNotChunked() {
+        final NormalizedNode<?, ?> node = container("value");
+        final Object response = ChunkedReadResultActor.readResponse(system, PATH, node, 1024);
+        assertTrue(response instanceof NormalizedNodeMessage);
+        assertEquals(node, ((NormalizedNodeMessage) response).getNode());
+    }
+
+    @Test
+    public void testLargeResultIsChunked() throws Exception {
+        final NormalizedNode<?, ?> node = container(Strings.repeat("value", 100));
+        final Object response = ChunkedReadResultActor.readResponse(system, PATH, node, CHUNK_SIZE);
+        assertTrue(response instanceof ChunkedReadResponse);
+
+        final ChunkedReadResponse chunked = (ChunkedReadResponse) response;
+        assertEquals((chunked.getSize() + CHUNK_SIZE - 1) / CHUNK_SIZE, chunked.getChunkCount());
+        assertTrue(chunked.getChunkCount() > 1);
+
+        assertEquals(node, ChunkedReadCollector.collect(chunked, TIMEOUT, system.dispatcher())
+            .get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testChunkSizeFitsIntoFrame() {
+        assertEquals(ChunkedReadResultActor.DEFAULT_CHUNK_SIZE,
+            ChunkedReadResultActor.chunkSize(ConfigFactory.empty()));
+        assertTrue(ChunkedReadResultActor.DEFAULT_CHUNK_SIZE < 128000);
+
+        // The smallest configured frame size wins
+        final int chunkSize = ChunkedReadResultActor.chunkSize(ConfigFactory.parseString(
+            "akka.remote.artery.advanced.maximum-frame-size = 512 KiB\n"
+                + "akka.remote.netty.tcp.maximum-frame-size = 128000b"));
+        assertTrue(chunkSize < 128000);
+        assertTrue(chunkSize > 64 * 1024);
+
+        assertTrue(ChunkedReadResultActor.chunkSize(system) < 128000);
+    }
+
+    private static NormalizedNode<?, ?> container(final String value) {
+        return Builders.containerBuilder().withNodeIdentifier(NodeIdentifier.create(CONT))
+            .withChild(ImmutableNodes.leafNode(QName.create(CONT, "leaf"), value))
+            .build();
+    }
+}
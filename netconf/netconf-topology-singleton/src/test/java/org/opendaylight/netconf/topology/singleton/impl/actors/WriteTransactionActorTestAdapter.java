@@ -8,7 +8,11 @@
 package org.opendaylight.netconf.topology.singleton.impl.actors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,7 +27,10 @@ import akka.actor.ActorSystem;
 import akka.actor.Status.Failure;
 import akka.actor.Status.Success;
 import akka.testkit.TestProbe;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
@@ -32,6 +39,7 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteR
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatch;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -106,6 +114,36 @@ public abstract class WriteTransactionActorTestAdapter {
         assertEquals(cause, response.cause());
     }
 
+    @Test
+    public void testSubmitWriteBatch() {
+        doReturn(emptyFluentFuture()).when(mockWriteTx).commit();
+        actorRef.tell(new WriteBatch(ImmutableList.of(new PutRequest(STORE, new NormalizedNodeMessage(PATH, NODE)),
+            new MergeRequest(STORE, new NormalizedNodeMessage(PATH, NODE)), new DeleteRequest(STORE, PATH)), true),
+            probe.ref());
+
+        probe.expectMsgClass(Success.class);
+        final InOrder inOrder = inOrder(mockWriteTx);
+        inOrder.verify(mockWriteTx).put(STORE, PATH, NODE);
+        inOrder.verify(mockWriteTx).merge(STORE, PATH, NODE);
+        inOrder.verify(mockWriteTx).delete(STORE, PATH);
+        inOrder.verify(mockWriteTx).commit();
+    }
+
+    @Test
+    public void testSubmitWriteBatchWithFailedOperation() {
+        doThrow(new IllegalArgumentException("invalid data")).when(mockWriteTx).merge(STORE, PATH, NODE);
+        actorRef.tell(new WriteBatch(ImmutableList.of(new PutRequest(STORE, new NormalizedNodeMessage(PATH, NODE)),
+            new MergeRequest(STORE, new NormalizedNodeMessage(PATH, NODE))), true), probe.ref());
+
+        final Failure response = probe.expectMsgClass(Failure.class);
+        assertTrue(response.cause() instanceof TransactionCommitFailedException);
+        final List<RpcError> errors = ((TransactionCommitFailedException) response.cause()).getErrorList();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().contains("Write operation 1"));
+        verify(mockWriteTx).cancel();
+        verify(mockWriteTx, never()).commit();
+    }
+
     @Test
     public void testIdleTimeout() {
         final TestProbe testProbe = new TestProbe(system);
@@ -22,7 +22,9 @@ import akka.testkit.javadsl.TestKit;
 import akka.util.Timeout;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -43,11 +45,14 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRe
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteActorMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatch;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import scala.concurrent.Promise;
 import scala.concurrent.duration.Duration;
 import scala.concurrent.duration.FiniteDuration;
@@ -125,7 +130,10 @@ public class ProxyReadWriteTransactionTest {
         ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
 
         tx.delete(STORE, PATH);
-        final DeleteRequest deleteRequest = masterActor.expectMsgClass(DeleteRequest.class);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        tx.commit();
+        final DeleteRequest deleteRequest = (DeleteRequest) expectSubmittedBatch(1).get(0);
         assertEquals(STORE, deleteRequest.getStore());
         assertEquals(PATH, deleteRequest.getPath());
     }
@@ -148,7 +156,10 @@ public class ProxyReadWriteTransactionTest {
         ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
 
         tx.put(STORE, PATH, node);
-        final PutRequest putRequest = masterActor.expectMsgClass(PutRequest.class);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        tx.commit();
+        final PutRequest putRequest = (PutRequest) expectSubmittedBatch(1).get(0);
         assertEquals(STORE, putRequest.getStore());
         assertEquals(PATH, putRequest.getNormalizedNodeMessage().getIdentifier());
         assertEquals(node, putRequest.getNormalizedNodeMessage().getNode());
@@ -172,7 +183,10 @@ public class ProxyReadWriteTransactionTest {
         ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
 
         tx.merge(STORE, PATH, node);
-        final MergeRequest mergeRequest = masterActor.expectMsgClass(MergeRequest.class);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        tx.commit();
+        final MergeRequest mergeRequest = (MergeRequest) expectSubmittedBatch(1).get(0);
         assertEquals(STORE, mergeRequest.getStore());
         assertEquals(PATH, mergeRequest.getNormalizedNodeMessage().getIdentifier());
         assertEquals(node, mergeRequest.getNormalizedNodeMessage().getNode());
@@ -191,6 +205,84 @@ public class ProxyReadWriteTransactionTest {
         }
     }
 
+    @Test
+    public void testWritesFlushedBeforeRead() throws InterruptedException, ExecutionException, TimeoutException {
+        ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
+
+        tx.put(STORE, PATH, node);
+        tx.delete(STORE, PATH);
+        final ListenableFuture<Boolean> exists = tx.exists(STORE, PATH);
+
+        final WriteBatch batch = masterActor.expectMsgClass(WriteBatch.class);
+        assertFalse(batch.isSubmit());
+        assertEquals(2, batch.getOperations().size());
+        assertTrue(batch.getOperations().get(0) instanceof PutRequest);
+        assertTrue(batch.getOperations().get(1) instanceof DeleteRequest);
+
+        masterActor.expectMsgClass(ExistsRequest.class);
+        masterActor.reply(Boolean.FALSE);
+        assertFalse(exists.get(5, TimeUnit.SECONDS));
+
+        commit(tx);
+    }
+
+    @Test
+    public void testLargeTransactionSentInBatches() {
+        ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
+
+        for (int i = 0; i <= ActorProxyTransactionFacade.MAX_BATCH_SIZE; ++i) {
+            tx.merge(STORE, PATH, node);
+        }
+        final WriteBatch batch = masterActor.expectMsgClass(WriteBatch.class);
+        assertFalse(batch.isSubmit());
+        assertEquals(ActorProxyTransactionFacade.MAX_BATCH_SIZE, batch.getOperations().size());
+
+        tx.commit();
+        expectSubmittedBatch(1);
+    }
+
+    @Test
+    public void testLargeDataSentInBatchesFittingIntoFrames() throws Exception {
+        ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
+
+        // Random content, so that compression does not shrink the nodes
+        final Random random = new Random(0);
+        final int count = 16;
+        for (int i = 0; i < count; ++i) {
+            final char[] value = new char[ActorProxyTransactionFacade.MAX_BATCH_BYTES / 4];
+            for (int j = 0; j < value.length; ++j) {
+                value[j] = (char) ('a' + random.nextInt(26));
+            }
+            tx.put(STORE, PATH, Builders.containerBuilder().withNodeIdentifier(node.getIdentifier())
+                .withChild(ImmutableNodes.leafNode(QName.create("", "leaf"), new String(value))).build());
+        }
+        tx.commit();
+
+        int batches = 0;
+        int operations = 0;
+        WriteBatch batch;
+        do {
+            batch = masterActor.expectMsgClass(WriteBatch.class);
+            batches++;
+            long size = 0;
+            for (WriteActorMessage operation : batch.getOperations()) {
+                size += ((PutRequest) operation).getNormalizedNodeMessage().encode().length;
+                operations++;
+            }
+            assertTrue(size <= ActorProxyTransactionFacade.MAX_BATCH_BYTES);
+        } while (!batch.isSubmit());
+
+        assertEquals(count, operations);
+        assertTrue(batches > 1);
+    }
+
+    private List<WriteActorMessage> expectSubmittedBatch(final int size) {
+        final WriteBatch batch = masterActor.expectMsgClass(WriteBatch.class);
+        assertTrue(batch.isSubmit());
+        assertEquals(size, batch.getOperations().size());
+        return batch.getOperations();
+    }
+
     private void commit(final ProxyReadWriteTransaction tx)
             throws InterruptedException, ExecutionException, TimeoutException {
         final ListenableFuture<?> submit = tx.commit();
@@ -344,11 +436,10 @@ public class ProxyReadWriteTransactionTest {
         masterActor.expectMsgClass(ExistsRequest.class);
         masterActor.reply(Boolean.TRUE);
 
-        masterActor.expectMsgClass(PutRequest.class);
-        masterActor.expectMsgClass(MergeRequest.class);
-        masterActor.expectMsgClass(DeleteRequest.class);
-
-        masterActor.expectMsgClass(SubmitRequest.class);
+        final List<WriteActorMessage> writes = expectSubmittedBatch(3);
+        assertTrue(writes.get(0) instanceof PutRequest);
+        assertTrue(writes.get(1) instanceof MergeRequest);
+        assertTrue(writes.get(2) instanceof DeleteRequest);
         masterActor.reply(new Success(null));
 
         read.get(5, TimeUnit.SECONDS).isPresent();
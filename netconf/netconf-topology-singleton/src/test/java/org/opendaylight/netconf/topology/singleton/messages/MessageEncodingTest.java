@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.SerializationUtils;
+import org.opendaylight.netconf.topology.singleton.messages.rpc.InvokeRpcMessage;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class MessageEncodingTest {
+    private static final QName LIST = QName.create("urn:test:message-encoding", "2020-10-01", "list");
+    private static final QName KEY = QName.create(LIST, "key");
+    private static final QName VALUE = QName.create(LIST, "value");
+    private static final QName OTHER = QName.create("urn:test:other", "other");
+
+    @Test
+    public void testVarInt() throws IOException {
+        for (final int value : new int[] { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1 }) {
+            final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+            MessageEncoding.writeVarInt(out, value);
+            assertEquals(value, MessageEncoding.readVarInt(ByteStreams.newDataInput(out.toByteArray())));
+        }
+    }
+
+    @Test
+    public void testSchemaPath() throws IOException {
+        final SchemaPath path = SchemaPath.create(true, LIST, KEY, OTHER, VALUE);
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        MessageEncoding.writeSchemaPath(out, path);
+        assertEquals(path, MessageEncoding.readSchemaPath(ByteStreams.newDataInput(out.toByteArray())));
+    }
+
+    @Test
+    public void testInvalidPayloadLengths() throws IOException {
+        // plain payloads
+        assertCorrupted(0, 0);
+        assertCorrupted(0, -1);
+        assertCorrupted(0, MessageEncoding.MAX_PAYLOAD_LENGTH + 1);
+        // compressed payloads, the compressed length has to be positive and smaller than the payload
+        assertCorrupted(1, -1);
+        assertCorrupted(1, 16, 0);
+        assertCorrupted(1, 16, 16);
+        assertCorrupted(1, 16, -1);
+    }
+
+    @Test
+    public void testTruncatedPayload() throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        out.writeByte(0);
+        MessageEncoding.writeVarInt(out, MessageEncoding.MAX_PAYLOAD_LENGTH);
+        out.write(new byte[16]);
+        // the announced length is not allocated up front, reading stops at the end of the data
+        assertThrows(EOFException.class, () -> MessageEncoding.readPayload(
+            new DataInputStream(new ByteArrayInputStream(out.toByteArray()))));
+    }
+
+    @Test
+    public void testInvalidSchemaPathLength() throws IOException {
+        for (final int length : new int[] { -1, MessageEncoding.MAX_SCHEMA_PATH_LENGTH + 1 }) {
+            final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+            out.writeBoolean(true);
+            MessageEncoding.writeVarInt(out, length);
+            assertThrows(StreamCorruptedException.class,
+                () -> MessageEncoding.readSchemaPath(ByteStreams.newDataInput(out.toByteArray())));
+        }
+    }
+
+    @Test
+    public void testInvalidSchemaPathModuleIndex() throws IOException {
+        for (final int index : new int[] { -1, 1 }) {
+            final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+            out.writeBoolean(true);
+            MessageEncoding.writeVarInt(out, 1);
+            MessageEncoding.writeVarInt(out, index);
+            assertThrows(StreamCorruptedException.class,
+                () -> MessageEncoding.readSchemaPath(ByteStreams.newDataInput(out.toByteArray())));
+        }
+    }
+
+    @Test
+    public void testSmallNodeMessage() throws Exception {
+        final NormalizedNodeMessage message = new NormalizedNodeMessage(YangInstanceIdentifier.of(LIST),
+            createList(2));
+        final NormalizedNodeMessage copy = roundTrip(message);
+        assertEquals(message.getIdentifier(), copy.getIdentifier());
+        assertEquals(message.getNode(), copy.getNode());
+    }
+
+    @Test
+    public void testLargeNodeMessageCompressed() throws Exception {
+        final MapNode list = createList(1000);
+        final NormalizedNodeMessage message = new NormalizedNodeMessage(YangInstanceIdentifier.of(LIST), list);
+        final byte[] serialized = serialize(message);
+        final NormalizedNodeMessage copy = deserialize(serialized);
+        assertEquals(list, copy.getNode());
+
+        final ByteArrayDataOutput uncompressed = ByteStreams.newDataOutput();
+        SerializationUtils.writeNodeAndPath(uncompressed, message.getIdentifier(), list);
+        assertTrue(serialized.length < uncompressed.toByteArray().length);
+    }
+
+    @Test
+    public void testEncodedNodeMessage() throws Exception {
+        final MapNode list = createList(1000);
+        final NormalizedNodeMessage message = new NormalizedNodeMessage(YangInstanceIdentifier.of(LIST), list);
+        final byte[] encoded = message.encode();
+        assertSame(encoded, message.encode());
+        assertEquals(list, NormalizedNodeMessage.decode(encoded).getNode());
+
+        // serialization writes the encoding computed beforehand
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            message.writeExternal(oos);
+        }
+        final NormalizedNodeMessage copy = new NormalizedNodeMessage();
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            copy.readExternal(ois);
+        }
+        assertEquals(list, copy.getNode());
+    }
+
+    @Test
+    public void testInvokeRpcMessage() throws Exception {
+        final SchemaPath type = SchemaPath.create(true, LIST);
+        final InvokeRpcMessage withoutInput = roundTrip(new InvokeRpcMessage(new SchemaPathMessage(type), null));
+        assertEquals(type, withoutInput.getSchemaPath());
+        assertNull(withoutInput.getNormalizedNodeMessage());
+
+        final InvokeRpcMessage withInput = roundTrip(new InvokeRpcMessage(new SchemaPathMessage(type),
+            new NormalizedNodeMessage(YangInstanceIdentifier.empty(), createList(3))));
+        assertEquals(type, withInput.getSchemaPath());
+        assertEquals(createList(3), withInput.getNormalizedNodeMessage().getNode());
+    }
+
+    private static void assertCorrupted(final int format, final int... lengths) throws IOException {
+        final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        out.writeByte(format);
+        for (final int length : lengths) {
+            MessageEncoding.writeVarInt(out, length);
+        }
+        out.write(new byte[64]);
+        assertThrows(StreamCorruptedException.class,
+            () -> MessageEncoding.readPayload(ByteStreams.newDataInput(out.toByteArray())));
+    }
+
+    private static MapNode createList(final int size) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> builder = ImmutableNodes.mapNodeBuilder(LIST);
+        for (int i = 0; i < size; ++i) {
+            builder.addChild(ImmutableNodes.mapEntryBuilder(LIST, KEY, "key-" + i)
+                .withChild(ImmutableNodes.leafNode(VALUE, "value")).build());
+        }
+        return builder.build();
+    }
+
+    private static <T> T roundTrip(final T message) throws Exception {
+        return deserialize(serialize(message));
+    }
+
+    private static byte[] serialize(final Object message) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(message);
+        }
+        return bos.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(final byte[] bytes) throws Exception {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) ois.readObject();
+        }
+    }
+}
@@ -50,6 +50,16 @@ public interface RemoteDeviceHandler<PREF> extends AutoCloseable {
 
     void onNotification(DOMNotification domNotification);
 
+    /**
+     * When notifications had to be dropped, either before the schema of the device was available or because too many
+     * were waiting to be decoded.
+     *
+     * @param droppedCount - total number of notifications dropped since the device was first connected
+     */
+    default void onNotificationsDropped(final long droppedCount) {
+        // DO NOTHING
+    }
+
     @Override
     void close();
 }
@@ -11,6 +11,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_NODEID;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicates;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
@@ -22,6 +23,7 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.util.concurrent.EventExecutor;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,6 +35,8 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
@@ -117,6 +121,8 @@ public class NetconfDevice
 
     @GuardedBy("this")
     private boolean connected = false;
+    @GuardedBy("this")
+    private ObjectName notificationStatisticsName;
 
     // Message transformer is constructed once the schemas are available
     private MessageTransformer<NetconfMessage> messageTransformer;
@@ -146,7 +152,8 @@ public class NetconfDevice
         this.salFacade = salFacade;
         this.stateSchemasResolver = schemaResourcesDTO.getStateSchemasResolver();
         this.processingExecutor = requireNonNull(globalProcessingExecutor);
-        this.notificationHandler = new NotificationHandler(salFacade, id);
+        this.notificationHandler = new NotificationHandler(salFacade, id, processingExecutor,
+            NotificationHandler.DEFAULT_MAX_PENDING_NOTIFICATIONS);
     }
 
     @Override
@@ -158,6 +165,7 @@ public class NetconfDevice
         // deadlock if we used the netty thread
         // http://netty.io/wiki/thread-model.html
         setConnected(true);
+        registerNotificationStatistics();
         LOG.debug("{}: Session to remote device established with {}", id, remoteSessionCapabilities);
 
         final BaseSchema baseSchema = resolveBaseSchema(remoteSessionCapabilities.isNotificationsSupported());
@@ -295,6 +303,31 @@ public class NetconfDevice
         this.connected = connected;
     }
 
+    private synchronized void registerNotificationStatistics() {
+        if (notificationStatisticsName != null) {
+            return;
+        }
+        try {
+            final ObjectName name = new ObjectName("org.opendaylight.netconf.sal.connect:type=NotificationStatistics,"
+                + "name=" + ObjectName.quote(id.getName()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(notificationHandler.getStatistics(), name);
+            notificationStatisticsName = name;
+        } catch (JMException e) {
+            LOG.warn("{}: Failed to register notification statistics MBean", id, e);
+        }
+    }
+
+    private synchronized void unregisterNotificationStatistics() {
+        if (notificationStatisticsName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(notificationStatisticsName);
+            } catch (JMException e) {
+                LOG.debug("{}: Failed to unregister notification statistics MBean", id, e);
+            }
+            notificationStatisticsName = null;
+        }
+    }
+
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
             justification = "https://github.com/spotbugs/spotbugs/issues/811")
     private ListenableFuture<EffectiveModelContext> assembleSchemaContext(final DeviceSources deviceSources,
@@ -349,6 +382,7 @@ public class NetconfDevice
     @Override
     public void onRemoteSessionDown() {
         setConnected(false);
+        unregisterNotificationStatistics();
         notificationHandler.onRemoteSchemaDown();
 
         salFacade.onDeviceDisconnected();
@@ -368,6 +402,17 @@ public class NetconfDevice
         notificationHandler.handleNotification(notification);
     }
 
+    /**
+     * Return the statistics of the notifications received from this device. They are published as
+     * a {@link NotificationStatisticsMXBean} while the session is up.
+     *
+     * @return notification statistics
+     */
+    @VisibleForTesting
+    NotificationStatistics getNotificationStatistics() {
+        return notificationHandler.getStatistics();
+    }
+
     private BaseSchema resolveBaseSchema(final boolean notificationSupport) {
         return notificationSupport ? baseSchemas.getBaseSchemaWithNotifications() : baseSchemas.getBaseSchema();
     }
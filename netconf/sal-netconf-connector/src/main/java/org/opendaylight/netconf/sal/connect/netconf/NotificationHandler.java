@@ -11,9 +11,13 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.xml.XmlUtil;
@@ -25,27 +29,61 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Handles incoming notifications. Either caches them(until onRemoteSchemaUp is called) or passes to sal Facade.
+ * Cached notifications are held in a bounded {@link PreSchemaNotificationBuffer}, notifications which do not fit
+ * are dropped and reported to sal Facade once the schema is up. The buffer is confined to the decoding executor: the
+ * notifications are added to it, which may involve writing them to a file, and replayed from it by tasks on that
+ * executor rather than on the I/O thread under the lock of this handler. The cached notifications are replayed by
+ * a single task, ahead of the notifications received afterwards.
+ *
+ * <p>Notifications are decoded off the I/O thread, on a {@link YieldingSequentialExecutor} backed by the global
+ * processing executor, so that they are passed to sal Facade in the order they were received, while a device sending
+ * notifications continuously does not keep any of the few threads of the global processing executor. The number of
+ * notifications waiting to be decoded is bounded; once the bound is reached, further notifications are dropped rather
+ * than blocking the I/O thread, which is shared with other sessions. Dropped notifications are counted and reported to
+ * sal Facade once the decoding catches up.
  */
 final class NotificationHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(NotificationHandler.class);
 
+    /**
+     * Maximum number of notifications waiting to be decoded.
+     */
+    static final int DEFAULT_MAX_PENDING_NOTIFICATIONS = 1024;
+
     private final RemoteDeviceHandler<?> salFacade;
-    private final List<NetconfMessage> queue = new LinkedList<>();
     private final RemoteDeviceId id;
-    private boolean passNotifications = false;
+    private final Executor decodeExecutor;
+    private final Semaphore pendingPermits;
+    private final NotificationStatistics statistics = new NotificationStatistics();
+    // Buffer the notifications received from now on are added to. The buffer itself is accessed only by the tasks of
+    // the decoding executor.
+    @GuardedBy("this")
+    private PreSchemaNotificationBuffer buffer;
+    // Bumped when the session goes down, so that notifications of that session still waiting to be decoded are
+    // discarded
+    private final AtomicLong generation = new AtomicLong();
+    // Set when a notification is dropped, cleared once the dropped notifications are reported to sal Facade
+    private final AtomicBoolean dropsUnreported = new AtomicBoolean();
 
-    private NotificationFilter filter;
+    @GuardedBy("this")
+    private boolean passNotifications = false;
+    @GuardedBy("this")
     private MessageTransformer<NetconfMessage> messageTransformer;
+    private volatile NotificationFilter filter;
 
-    NotificationHandler(final RemoteDeviceHandler<?> salFacade, final RemoteDeviceId id) {
+    NotificationHandler(final RemoteDeviceHandler<?> salFacade, final RemoteDeviceId id, final Executor executor,
+            final int maxPendingNotifications) {
         this.salFacade = requireNonNull(salFacade);
         this.id = requireNonNull(id);
+        this.decodeExecutor = new YieldingSequentialExecutor(executor);
+        this.pendingPermits = new Semaphore(maxPendingNotifications);
+        this.buffer = new PreSchemaNotificationBuffer(id);
     }
 
     synchronized void handleNotification(final NetconfMessage notification) {
         if (passNotifications) {
-            passNotification(transformNotification(notification));
+            submitNotification(notification);
         } else {
             queueNotification(notification);
         }
@@ -60,18 +98,126 @@ final class NotificationHandler {
 
         passNotifications = true;
 
-        for (final NetconfMessage cachedNotification : queue) {
-            passNotification(transformNotification(cachedNotification));
+        // The buffer may hold more notifications than are allowed to wait for decoding, hence the replay does not take
+        // permits. It runs behind the tasks adding notifications to the buffer and ahead of the notifications received
+        // from now on.
+        final PreSchemaNotificationBuffer replayed = buffer;
+        buffer = new PreSchemaNotificationBuffer(id);
+        final long replayGeneration = generation.get();
+        try {
+            decodeExecutor.execute(() -> replayNotifications(replayed, transformer, replayGeneration));
+        } catch (RuntimeException e) {
+            replayed.clear();
+            throw e;
+        }
+    }
+
+    NotificationStatistics getStatistics() {
+        return statistics;
+    }
+
+    @GuardedBy("this")
+    private void submitNotification(final NetconfMessage notification) {
+        if (!pendingPermits.tryAcquire()) {
+            dropNotification(notification);
+            return;
+        }
+
+        statistics.notificationReceived();
+        final MessageTransformer<NetconfMessage> transformer = messageTransformer;
+        final long submitGeneration = generation.get();
+        try {
+            decodeExecutor.execute(() -> decodeSubmittedNotification(transformer, notification, submitGeneration));
+        } catch (RuntimeException e) {
+            pendingPermits.release();
+            statistics.notificationDiscarded();
+            throw e;
+        }
+    }
+
+    private void replayNotifications(final PreSchemaNotificationBuffer replayed,
+            final MessageTransformer<NetconfMessage> transformer, final long replayGeneration) {
+        if (replayGeneration != generation.get()) {
+            LOG.debug("{}: Discarding notifications buffered in a previous session", id);
+            replayed.clear();
+            return;
+        }
+
+        // Replayed notifications are received one at a time, each of them is decoded before the next one is read
+        final int lost = replayed.drain(notification -> {
+            statistics.notificationReceived();
+            decodeNotification(transformer, notification, replayGeneration);
+        });
+        if (lost > 0) {
+            statistics.notificationsDropped(lost);
+            dropsUnreported.set(true);
+        }
+        reportDroppedNotifications();
+    }
+
+    private void decodeSubmittedNotification(final MessageTransformer<NetconfMessage> transformer,
+            final NetconfMessage notification, final long submitGeneration) {
+        try {
+            decodeNotification(transformer, notification, submitGeneration);
+        } finally {
+            pendingPermits.release();
+        }
+        if (statistics.getQueueDepth() == 0) {
+            reportDroppedNotifications();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void decodeNotification(final MessageTransformer<NetconfMessage> transformer,
+            final NetconfMessage notification, final long submitGeneration) {
+        if (submitGeneration != generation.get()) {
+            LOG.debug("{}: Discarding notification {} received in a previous session", id, notification);
+            statistics.notificationDiscarded();
+            return;
         }
 
-        queue.clear();
+        final long start = System.nanoTime();
+        final DOMNotification parsedNotification;
+        try {
+            parsedNotification = transformNotification(transformer, notification);
+        } catch (RuntimeException e) {
+            statistics.notificationDecoded(System.nanoTime() - start, false);
+            LOG.warn("{}: Failed to decode notification {}", id, notification, e);
+            return;
+        }
+        if (statistics.notificationDecoded(System.nanoTime() - start, true)) {
+            LOG.debug("{}: Notification statistics {}", id, statistics);
+            reportDroppedNotifications();
+        }
+
+        passNotification(parsedNotification);
+    }
+
+    private void dropNotification(final NetconfMessage notification) {
+        statistics.notificationsDropped(1);
+        if (dropsUnreported.compareAndSet(false, true)) {
+            LOG.warn("{}: {} notifications waiting to be decoded, dropping further notifications until some are "
+                + "processed", id, statistics.getQueueDepth());
+        } else {
+            LOG.debug("{}: Dropping notification {}", id, notification);
+        }
     }
 
-    private DOMNotification transformNotification(final NetconfMessage cachedNotification) {
-        return checkNotNull(messageTransformer.toNotification(cachedNotification),
+    private void reportDroppedNotifications() {
+        if (dropsUnreported.compareAndSet(true, false)) {
+            final long dropped = statistics.getDroppedCount();
+            LOG.info("{}: {} notifications dropped so far", id, dropped);
+            salFacade.onNotificationsDropped(dropped);
+        }
+    }
+
+    private DOMNotification transformNotification(final MessageTransformer<NetconfMessage> transformer,
+            final NetconfMessage cachedNotification) {
+        return checkNotNull(transformer.toNotification(cachedNotification),
             "%s: Unable to parse received notification: %s", id, cachedNotification);
     }
 
+    @GuardedBy("this")
     private void queueNotification(final NetconfMessage notification) {
         checkState(!passNotifications);
 
@@ -80,25 +226,63 @@ final class NotificationHandler {
             LOG.trace("{}: Caching notification {}", id, XmlUtil.toString(notification.getDocument()));
         }
 
-        queue.add(notification);
+        // Notifications waiting to be buffered are bounded just like those waiting to be decoded
+        if (!pendingPermits.tryAcquire()) {
+            dropNotification(notification);
+            return;
+        }
+
+        final PreSchemaNotificationBuffer target = buffer;
+        try {
+            decodeExecutor.execute(() -> bufferNotification(target, notification));
+        } catch (RuntimeException e) {
+            pendingPermits.release();
+            throw e;
+        }
     }
 
-    private synchronized void passNotification(final DOMNotification parsedNotification) {
+    private void bufferNotification(final PreSchemaNotificationBuffer target, final NetconfMessage notification) {
+        try {
+            if (!target.add(notification)) {
+                statistics.notificationsDropped(1);
+                dropsUnreported.set(true);
+            }
+        } finally {
+            pendingPermits.release();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void passNotification(final DOMNotification parsedNotification) {
         LOG.debug("{}: Forwarding notification {}", id, parsedNotification);
 
-        if (filter == null || filter.filterNotification(parsedNotification).isPresent()) {
-            salFacade.onNotification(parsedNotification);
+        final NotificationFilter currentFilter = filter;
+        try {
+            if (currentFilter == null || currentFilter.filterNotification(parsedNotification).isPresent()) {
+                salFacade.onNotification(parsedNotification);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("{}: Failed to forward notification {}", id, parsedNotification, e);
         }
     }
 
-    synchronized void addNotificationFilter(final NotificationFilter newFilter) {
+    void addNotificationFilter(final NotificationFilter newFilter) {
         this.filter = newFilter;
     }
 
     synchronized void onRemoteSchemaDown() {
-        queue.clear();
+        // Notifications still waiting to be added to the discarded buffer are added to it and discarded along with it
+        final PreSchemaNotificationBuffer discarded = buffer;
+        buffer = new PreSchemaNotificationBuffer(id);
+        try {
+            decodeExecutor.execute(discarded::clear);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("{}: Decoding executor rejected clearing of buffered notifications, clearing them now", id, e);
+            discarded.clear();
+        }
         passNotifications = false;
         messageTransformer = null;
+        generation.incrementAndGet();
     }
 
     interface NotificationFilter {
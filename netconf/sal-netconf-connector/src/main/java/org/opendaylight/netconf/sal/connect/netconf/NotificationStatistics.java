@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of the notifications received from a single device: how many were received and at which rate, how
+ * many are waiting to be decoded, how long decoding takes and how many were dropped, either before the schema of the
+ * device was available or because too many were waiting to be decoded.
+ *
+ * <p>Notifications are counted as received by the I/O thread and as decoded by the per-device decoding task, which
+ * never runs concurrently with itself. All values can be read from any thread.
+ */
+public final class NotificationStatistics implements NotificationStatisticsMXBean {
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong maxQueueDepth = new AtomicLong();
+    private final AtomicLong decodedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong decodeNanos = new AtomicLong();
+    private final AtomicLong maxDecodeNanos = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // Written only by the decoding task
+    private volatile double rate;
+    private long windowStartNanos = System.nanoTime();
+    private long windowStartCount;
+
+    NotificationStatistics() {
+        // Hidden on purpose
+    }
+
+    void notificationReceived() {
+        receivedCount.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * Record a notification which has left the queue. Invoked only by the decoding task.
+     *
+     * @param elapsedNanos time spent decoding the notification
+     * @param successful whether the notification was decoded successfully
+     * @return true if a new rate window has been started, so that the statistics are worth reporting
+     */
+    boolean notificationDecoded(final long elapsedNanos, final boolean successful) {
+        queueDepth.decrementAndGet();
+        decodeNanos.addAndGet(elapsedNanos);
+        maxDecodeNanos.accumulateAndGet(elapsedNanos, Math::max);
+        (successful ? decodedCount : failedCount).incrementAndGet();
+
+        final long now = System.nanoTime();
+        final long windowNanos = now - windowStartNanos;
+        if (windowNanos < RATE_WINDOW_NANOS) {
+            return false;
+        }
+
+        final long processed = processedCount();
+        rate = (double) (processed - windowStartCount) * TimeUnit.SECONDS.toNanos(1) / windowNanos;
+        windowStartNanos = now;
+        windowStartCount = processed;
+        return true;
+    }
+
+    /**
+     * Record notifications which were dropped: before the schema of the device was available because they did not
+     * fit into the buffer or could not be replayed from it, afterwards because too many were waiting to be decoded.
+     *
+     * @param count number of dropped notifications
+     */
+    void notificationsDropped(final long count) {
+        droppedCount.addAndGet(count);
+    }
+
+    /**
+     * Record a notification which has left the queue without being decoded, because the session went down.
+     */
+    void notificationDiscarded() {
+        queueDepth.decrementAndGet();
+    }
+
+    @Override
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    @Override
+    public long getDecodedCount() {
+        return decodedCount.get();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public double getRate() {
+        return rate;
+    }
+
+    @Override
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    public long getMeanDecodeNanos() {
+        final long processed = processedCount();
+        return processed == 0 ? 0 : decodeNanos.get() / processed;
+    }
+
+    @Override
+    public long getMaxDecodeNanos() {
+        return maxDecodeNanos.get();
+    }
+
+    private long processedCount() {
+        return decodedCount.get() + failedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("received", getReceivedCount())
+            .add("decoded", getDecodedCount())
+            .add("failed", getFailedCount())
+            .add("dropped", getDroppedCount())
+            .add("rate", rate)
+            .add("queueDepth", getQueueDepth())
+            .add("maxQueueDepth", getMaxQueueDepth())
+            .add("meanDecodeMicros", TimeUnit.NANOSECONDS.toMicros(getMeanDecodeNanos()))
+            .add("maxDecodeMicros", TimeUnit.NANOSECONDS.toMicros(getMaxDecodeNanos()))
+            .toString();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+/**
+ * JMX view of the {@link NotificationStatistics} of a single device, registered while the session to the device is up.
+ */
+public interface NotificationStatisticsMXBean {
+
+    /**
+     * Return the number of notifications accepted for decoding.
+     *
+     * @return number of received notifications
+     */
+    long getReceivedCount();
+
+    /**
+     * Return the number of notifications decoded successfully.
+     *
+     * @return number of decoded notifications
+     */
+    long getDecodedCount();
+
+    /**
+     * Return the number of notifications which failed to decode.
+     *
+     * @return number of failed notifications
+     */
+    long getFailedCount();
+
+    /**
+     * Return the number of notifications dropped, either before the schema of the device was available or because
+     * too many notifications were waiting to be decoded.
+     *
+     * @return number of dropped notifications
+     */
+    long getDroppedCount();
+
+    /**
+     * Return the rate at which notifications were processed, measured over the last completed window of about ten
+     * seconds.
+     *
+     * @return notifications per second
+     */
+    double getRate();
+
+    /**
+     * Return the number of notifications waiting to be decoded.
+     *
+     * @return current queue depth
+     */
+    long getQueueDepth();
+
+    /**
+     * Return the highest number of notifications which were waiting to be decoded at the same time.
+     *
+     * @return maximum queue depth
+     */
+    long getMaxQueueDepth();
+
+    /**
+     * Return the mean time spent decoding a notification.
+     *
+     * @return mean decoding time in nanoseconds
+     */
+    long getMeanDecodeNanos();
+
+    /**
+     * Return the longest time spent decoding a notification.
+     *
+     * @return maximum decoding time in nanoseconds
+     */
+    long getMaxDecodeNanos();
+}
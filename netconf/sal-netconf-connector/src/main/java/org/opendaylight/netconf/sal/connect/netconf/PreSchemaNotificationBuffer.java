@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Buffer of the notifications received before the schema of a device is available. Notifications are held in their
+ * serialized form, which is much smaller than their DOM. Once the serialized notifications take more than a threshold
+ * of memory, further notifications are spilled to a temporary file. The buffer is bounded by the number of
+ * notifications and by their total size, notifications which do not fit are dropped.
+ *
+ * <p>This class is not thread-safe, it is confined to the sequential decoding executor of its
+ * {@link NotificationHandler}, so that neither serialization nor spilling happens on the I/O thread.
+ */
+final class PreSchemaNotificationBuffer {
+    private static final Logger LOG = LoggerFactory.getLogger(PreSchemaNotificationBuffer.class);
+    // TransformerFactory is not thread-safe, buffers of different devices are filled concurrently
+    private static final ThreadLocal<TransformerFactory> TRANSFORMER_FACTORY =
+        ThreadLocal.withInitial(TransformerFactory::newInstance);
+
+    static final int DEFAULT_MAX_COUNT = 10_000;
+    static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    static final long DEFAULT_MAX_MEMORY_BYTES = 16L * 1024 * 1024;
+
+    private final RemoteDeviceId id;
+    private final int maxCount;
+    private final long maxBytes;
+    private final long maxMemoryBytes;
+    private final Queue<byte[]> memory = new ArrayDeque<>();
+
+    private long memoryBytes;
+    private long bytes;
+    private int count;
+    private int spilledCount;
+    private Path spillFile;
+    private DataOutputStream spillOutput;
+    private boolean dropWarned;
+
+    PreSchemaNotificationBuffer(final RemoteDeviceId id) {
+        this(id, DEFAULT_MAX_COUNT, DEFAULT_MAX_BYTES, DEFAULT_MAX_MEMORY_BYTES);
+    }
+
+    PreSchemaNotificationBuffer(final RemoteDeviceId id, final int maxCount, final long maxBytes,
+            final long maxMemoryBytes) {
+        checkArgument(maxCount > 0, "Maximum count %s must be positive", maxCount);
+        checkArgument(maxMemoryBytes <= maxBytes, "Maximum memory %s exceeds maximum size %s", maxMemoryBytes,
+            maxBytes);
+        this.id = requireNonNull(id);
+        this.maxCount = maxCount;
+        this.maxBytes = maxBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * Add a notification to the buffer, unless the buffer is full.
+     *
+     * @param notification notification to add
+     * @return true if the notification was added, false if it was dropped
+     */
+    boolean add(final NetconfMessage notification) {
+        if (count >= maxCount) {
+            return dropped("maximum number of notifications is buffered");
+        }
+
+        final byte[] serialized;
+        try {
+            serialized = serialize(notification);
+        } catch (TransformerException e) {
+            LOG.warn("{}: Failed to serialize notification {}", id, notification, e);
+            return dropped("it cannot be serialized");
+        }
+        if (bytes + serialized.length > maxBytes) {
+            return dropped("maximum size of notifications is buffered");
+        }
+
+        // Once spilling started, all further notifications have to be spilled to keep them in order
+        if (spillOutput == null && memoryBytes + serialized.length <= maxMemoryBytes) {
+            memory.add(serialized);
+            memoryBytes += serialized.length;
+        } else {
+            try {
+                spill(serialized);
+            } catch (IOException e) {
+                LOG.warn("{}: Failed to spill notification {} to {}", id, notification, spillFile, e);
+                return dropped("it cannot be spilled");
+            }
+        }
+
+        bytes += serialized.length;
+        count++;
+        return true;
+    }
+
+    /**
+     * Pass all buffered notifications, in the order they were added, to a consumer and empty the buffer.
+     *
+     * @param consumer consumer of the notifications
+     * @return number of buffered notifications which could not be read back and were lost
+     */
+    int drain(final Consumer<NetconfMessage> consumer) {
+        LOG.debug("{}: Replaying {} buffered notifications, {} of them spilled", id, count, spilledCount);
+        int replayed = 0;
+        for (byte[] serialized = memory.poll(); serialized != null; serialized = memory.poll()) {
+            replayed += replay(serialized, consumer) ? 1 : 0;
+        }
+
+        if (spillOutput != null) {
+            try {
+                spillOutput.close();
+                spillOutput = null;
+                try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                        Files.newInputStream(spillFile)))) {
+                    for (int i = 0; i < spilledCount; i++) {
+                        final byte[] serialized = new byte[input.readInt()];
+                        input.readFully(serialized);
+                        replayed += replay(serialized, consumer) ? 1 : 0;
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("{}: Failed to read spilled notifications from {}", id, spillFile, e);
+            }
+        }
+
+        final int lost = count - replayed;
+        clear();
+        return lost;
+    }
+
+    /**
+     * Discard all buffered notifications.
+     */
+    void clear() {
+        memory.clear();
+        memoryBytes = 0;
+        bytes = 0;
+        count = 0;
+        spilledCount = 0;
+        dropWarned = false;
+        deleteSpillFile();
+    }
+
+    private boolean dropped(final String reason) {
+        if (dropWarned) {
+            LOG.debug("{}: Dropping notification, {}", id, reason);
+        } else {
+            LOG.warn("{}: Dropping notifications received before the schema is available, {}: {} notifications in {} "
+                + "bytes buffered", id, reason, count, bytes);
+            dropWarned = true;
+        }
+        return false;
+    }
+
+    private void spill(final byte[] serialized) throws IOException {
+        if (spillOutput == null) {
+            spillFile = Files.createTempFile("netconf-notifications-", ".bin");
+            spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+            LOG.info("{}: Buffered notifications exceed {} bytes, spilling further notifications to {}", id,
+                maxMemoryBytes, spillFile);
+        }
+        spillOutput.writeInt(serialized.length);
+        spillOutput.write(serialized);
+        spilledCount++;
+    }
+
+    private boolean replay(final byte[] serialized, final Consumer<NetconfMessage> consumer) {
+        final NetconfMessage notification;
+        try {
+            notification = new NetconfMessage(XmlUtil.readXmlToDocument(new ByteArrayInputStream(serialized)));
+        } catch (SAXException | IOException e) {
+            LOG.warn("{}: Failed to deserialize buffered notification", id, e);
+            return false;
+        }
+        consumer.accept(notification);
+        return true;
+    }
+
+    private void deleteSpillFile() {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            if (spillOutput != null) {
+                spillOutput.close();
+                spillOutput = null;
+            }
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            LOG.warn("{}: Failed to delete spilled notifications in {}", id, spillFile, e);
+        }
+        spillFile = null;
+    }
+
+    private static byte[] serialize(final NetconfMessage notification) throws TransformerException {
+        final Transformer transformer = TRANSFORMER_FACTORY.get().newTransformer();
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        transformer.transform(new DOMSource(notification.getDocument()), new StreamResult(output));
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor running tasks one after another, in the order they were submitted, on a shared executor. Unlike
+ * {@link com.google.common.util.concurrent.MoreExecutors#newSequentialExecutor(Executor)}, it does not keep a thread of
+ * the shared executor for as long as tasks keep coming: after running a number of tasks it submits itself again behind
+ * the tasks already waiting for the shared executor. A single busy device therefore cannot take over one of the few
+ * threads of the global processing executor.
+ */
+final class YieldingSequentialExecutor implements Executor {
+    private static final Logger LOG = LoggerFactory.getLogger(YieldingSequentialExecutor.class);
+
+    /**
+     * Maximum number of tasks run before the thread is yielded to other tasks of the shared executor.
+     */
+    static final int DEFAULT_MAX_TASKS_PER_RUN = 64;
+
+    private final Executor executor;
+    private final int maxTasksPerRun;
+    private final Runnable worker = this::runTasks;
+
+    @GuardedBy("this")
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    @GuardedBy("this")
+    private boolean scheduled;
+
+    YieldingSequentialExecutor(final Executor executor) {
+        this(executor, DEFAULT_MAX_TASKS_PER_RUN);
+    }
+
+    YieldingSequentialExecutor(final Executor executor, final int maxTasksPerRun) {
+        checkArgument(maxTasksPerRun > 0, "Maximum tasks per run %s must be positive", maxTasksPerRun);
+        this.executor = requireNonNull(executor);
+        this.maxTasksPerRun = maxTasksPerRun;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        requireNonNull(task);
+        synchronized (this) {
+            tasks.add(task);
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+
+        try {
+            executor.execute(worker);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                tasks.remove(task);
+                scheduled = false;
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void runTasks() {
+        while (true) {
+            for (int run = 0; run < maxTasksPerRun; run++) {
+                final Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOG.warn("Task {} failed", task, e);
+                }
+            }
+
+            try {
+                executor.execute(worker);
+                return;
+            } catch (RejectedExecutionException e) {
+                // The shared executor does not take any more tasks, keep running the queued ones on this thread
+                LOG.debug("Failed to yield to other tasks, continuing", e);
+            }
+        }
+    }
+}
@@ -173,6 +173,11 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
         salFacade.onNotification(domNotification);
     }
 
+    @Override
+    public void onNotificationsDropped(final long droppedCount) {
+        salFacade.onNotificationsDropped(droppedCount);
+    }
+
     @Override
     public void close() {
         stopKeepalives();
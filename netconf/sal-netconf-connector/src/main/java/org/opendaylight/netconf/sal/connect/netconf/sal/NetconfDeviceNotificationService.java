@@ -8,9 +8,11 @@
 package org.opendaylight.netconf.sal.connect.netconf.sal;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
 import java.util.Collection;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMNotificationService;
@@ -24,13 +26,18 @@ public class NetconfDeviceNotificationService implements DOMNotificationService
 
     private static final Logger LOG = LoggerFactory.getLogger(NetconfDeviceNotificationService.class);
 
-    private final Multimap<SchemaPath, DOMNotificationListener> listeners = HashMultimap.create();
+    @GuardedBy("this")
+    private final SetMultimap<SchemaPath, DOMNotificationListener> listeners = HashMultimap.create();
+
+    // Immutable copy of listeners, republished on each change, so that publishing does not need to lock
+    private volatile ImmutableSetMultimap<SchemaPath, DOMNotificationListener> listenerSnapshot =
+        ImmutableSetMultimap.of();
 
     // Notification publish is very simple and hijacks the thread of the caller
     // TODO shouldnt we reuse the implementation for notification router from sal-broker-impl ?
     @SuppressWarnings("checkstyle:IllegalCatch")
-    public synchronized void publishNotification(final DOMNotification notification) {
-        for (final DOMNotificationListener domNotificationListener : listeners.get(notification.getType())) {
+    public void publishNotification(final DOMNotification notification) {
+        for (final DOMNotificationListener domNotificationListener : listenerSnapshot.get(notification.getType())) {
             try {
                 domNotificationListener.onNotification(notification);
             } catch (final Exception e) {
@@ -46,12 +53,16 @@ public class NetconfDeviceNotificationService implements DOMNotificationService
         for (final SchemaPath type : types) {
             listeners.put(type, listener);
         }
+        updateSnapshot();
 
         return new AbstractListenerRegistration<T>(listener) {
             @Override
             protected void removeRegistration() {
-                for (final SchemaPath type : types) {
-                    listeners.remove(type, listener);
+                synchronized (NetconfDeviceNotificationService.this) {
+                    for (final SchemaPath type : types) {
+                        listeners.remove(type, listener);
+                    }
+                    updateSnapshot();
                 }
             }
         };
@@ -62,4 +73,9 @@ public class NetconfDeviceNotificationService implements DOMNotificationService
             final T listener, final SchemaPath... types) {
         return registerNotificationListener(listener, Lists.newArrayList(types));
     }
+
+    @GuardedBy("this")
+    private void updateSnapshot() {
+        listenerSnapshot = ImmutableSetMultimap.copyOf(listeners);
+    }
 }
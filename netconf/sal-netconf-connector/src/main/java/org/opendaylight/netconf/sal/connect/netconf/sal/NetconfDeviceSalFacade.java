@@ -71,6 +71,11 @@ public final class NetconfDeviceSalFacade implements AutoCloseable, RemoteDevice
         salProvider.getMountInstance().publish(domNotification);
     }
 
+    @Override
+    public synchronized void onNotificationsDropped(final long droppedCount) {
+        salProvider.getTopologyDatastoreAdapter().updateDroppedNotifications(droppedCount);
+    }
+
     @Override
     public synchronized void onDeviceConnected(final MountPointContext mountContext,
                                                final NetconfSessionPreferences netconfSessionPreferences,
@@ -48,6 +48,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -135,6 +136,23 @@ public class NetconfDeviceTopologyAdapter implements AutoCloseable {
         commitTransaction(writeTx, "update");
     }
 
+    public void updateDroppedNotifications(final long droppedCount) {
+        final NetconfNode data = new NetconfNodeBuilder()
+                .setHost(id.getHost())
+                .setPort(new PortNumber(Uint16.valueOf(id.getAddress().getPort())))
+                .setDroppedNotifications(Uint64.valueOf(droppedCount)).build();
+
+        final WriteTransaction writeTx = txChain.newWriteOnlyTransaction();
+        LOG.trace("{}: Update dropped notifications transaction {} merging operational data started.",
+                id, writeTx.getIdentifier());
+        writeTx.mergeParentStructurePut(LogicalDatastoreType.OPERATIONAL,
+                id.getTopologyBindingPath().augmentation(NetconfNode.class), data);
+        LOG.trace("{}: Update dropped notifications transaction {} merging operational data ended.",
+                id, writeTx.getIdentifier());
+
+        commitTransaction(writeTx, "update-dropped-notifications");
+    }
+
     public void setDeviceAsFailed(final Throwable throwable) {
         String reason = throwable != null && throwable.getMessage() != null ? throwable.getMessage() : UNKNOWN_REASON;
 
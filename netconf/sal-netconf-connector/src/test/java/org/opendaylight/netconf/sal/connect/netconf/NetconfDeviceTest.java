@@ -42,7 +42,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.opendaylight.mdsal.dom.api.DOMActionService;
@@ -297,16 +299,35 @@ public class NetconfDeviceTest extends AbstractTestModelTest {
                 Lists.newArrayList(TEST_CAPABILITY));
         device.onRemoteSessionUp(sessionCaps, listener);
 
+        // Hold the decoding task in the first forwarded notification, so that the queue depth is deterministic
+        final CountDownLatch forwarding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            forwarding.countDown();
+            release.await();
+            return null;
+        }).when(facade).onNotification(any(DOMNotification.class));
+
         device.onNotification(NOTIFICATION);
         device.onNotification(NOTIFICATION);
         verify(facade, times(0)).onNotification(any(DOMNotification.class));
 
         verify(facade, times(0)).onNotification(any(DOMNotification.class));
         schemaFuture.set(NetconfToNotificationTest.getNotificationSchemaContext(getClass(), false));
-        verify(facade, timeout(10000).times(2)).onNotification(any(DOMNotification.class));
+        assertTrue(forwarding.await(10, TimeUnit.SECONDS));
 
+        // This notification waits for the replay, which receives the second buffered notification once released
         device.onNotification(NOTIFICATION);
+        release.countDown();
         verify(facade, timeout(10000).times(3)).onNotification(any(DOMNotification.class));
+
+        final NotificationStatistics statistics = device.getNotificationStatistics();
+        assertEquals(3, statistics.getReceivedCount());
+        assertEquals(3, statistics.getDecodedCount());
+        assertEquals(0, statistics.getFailedCount());
+        assertEquals(0, statistics.getDroppedCount());
+        assertEquals(0, statistics.getQueueDepth());
+        assertEquals(2, statistics.getMaxQueueDepth());
     }
 
     @Test
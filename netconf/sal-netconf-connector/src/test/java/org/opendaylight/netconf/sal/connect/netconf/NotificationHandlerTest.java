@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.sal.connect.api.MessageTransformer;
+import org.opendaylight.netconf.sal.connect.api.RemoteDeviceHandler;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+
+public class NotificationHandlerTest {
+    private static final RemoteDeviceId ID =
+        new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22));
+
+    private final Deque<Runnable> executorTasks = new ArrayDeque<>();
+    private final RemoteDeviceHandler<?> salFacade = mock(RemoteDeviceHandler.class);
+    @SuppressWarnings("unchecked")
+    private final MessageTransformer<NetconfMessage> transformer = mock(MessageTransformer.class);
+    private final List<String> decoded = new ArrayList<>();
+    private final NotificationHandler handler = new NotificationHandler(salFacade, ID, executorTasks::add, 2);
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> {
+            decoded.add(sequence(invocation.getArgument(0)));
+            return mock(DOMNotification.class);
+        }).when(transformer).toNotification(any(NetconfMessage.class));
+    }
+
+    @Test
+    public void testNotificationsDecodedInOrder() throws Exception {
+        handler.handleNotification(notification(0));
+        handler.onRemoteSchemaUp(transformer);
+        handler.handleNotification(notification(1));
+
+        // Nothing is decoded on the I/O thread
+        assertTrue(decoded.isEmpty());
+        runExecutorTasks();
+
+        assertEquals(List.of("0", "1"), decoded);
+        verify(salFacade, times(2)).onNotification(any(DOMNotification.class));
+        final NotificationStatistics statistics = handler.getStatistics();
+        assertEquals(2, statistics.getReceivedCount());
+        assertEquals(2, statistics.getDecodedCount());
+        assertEquals(0, statistics.getQueueDepth());
+        assertEquals(2, statistics.getMaxQueueDepth());
+    }
+
+    @Test
+    public void testReplayMoreNotificationsThanQueueHolds() throws Exception {
+        final NotificationHandler defaultHandler = new NotificationHandler(salFacade, ID, executorTasks::add,
+            NotificationHandler.DEFAULT_MAX_PENDING_NOTIFICATIONS);
+        final int count = NotificationHandler.DEFAULT_MAX_PENDING_NOTIFICATIONS + 100;
+        for (int i = 0; i < count; i++) {
+            defaultHandler.handleNotification(notification(i));
+            // Buffering keeps up with the device
+            runExecutorTasks();
+        }
+
+        // The replay neither blocks nor drops, even though no decoding task runs until schema up returns
+        defaultHandler.onRemoteSchemaUp(transformer);
+        defaultHandler.handleNotification(notification(count));
+        assertTrue(decoded.isEmpty());
+        runExecutorTasks();
+
+        assertEquals(count + 1, decoded.size());
+        for (int i = 0; i <= count; i++) {
+            assertEquals(String.valueOf(i), decoded.get(i));
+        }
+        final NotificationStatistics statistics = defaultHandler.getStatistics();
+        assertEquals(count + 1, statistics.getDecodedCount());
+        assertEquals(0, statistics.getDroppedCount());
+        assertEquals(0, statistics.getQueueDepth());
+        verify(salFacade, never()).onNotificationsDropped(anyLong());
+    }
+
+    @Test
+    public void testNotificationsDroppedWhenQueueIsFull() throws Exception {
+        handler.onRemoteSchemaUp(transformer);
+        handler.handleNotification(notification(0));
+        handler.handleNotification(notification(1));
+        handler.handleNotification(notification(2));
+
+        // The I/O thread is not blocked, the notification which does not fit is dropped and reported once the queue
+        // is drained
+        final NotificationStatistics statistics = handler.getStatistics();
+        assertEquals(2, statistics.getQueueDepth());
+        assertEquals(1, statistics.getDroppedCount());
+        verify(salFacade, never()).onNotificationsDropped(anyLong());
+
+        runExecutorTasks();
+        assertEquals(List.of("0", "1"), decoded);
+        verify(salFacade).onNotificationsDropped(1);
+
+        // Once decoded, the queue accepts notifications again
+        handler.handleNotification(notification(3));
+        runExecutorTasks();
+        assertEquals(List.of("0", "1", "3"), decoded);
+        verify(salFacade).onNotificationsDropped(anyLong());
+    }
+
+    @Test
+    public void testQueuedNotificationsDiscardedWhenSessionGoesDown() throws Exception {
+        handler.onRemoteSchemaUp(transformer);
+        handler.handleNotification(notification(0));
+        handler.onRemoteSchemaDown();
+        runExecutorTasks();
+
+        assertTrue(decoded.isEmpty());
+        verify(salFacade, never()).onNotification(any(DOMNotification.class));
+        final NotificationStatistics statistics = handler.getStatistics();
+        assertEquals(0, statistics.getDecodedCount());
+        assertEquals(0, statistics.getQueueDepth());
+
+        // Notifications of the next session are decoded
+        handler.onRemoteSchemaUp(transformer);
+        handler.handleNotification(notification(1));
+        runExecutorTasks();
+        assertEquals(List.of("1"), decoded);
+    }
+
+    @Test
+    public void testNotificationsBufferedOffIoThread() throws Exception {
+        handler.handleNotification(notification(0));
+        handler.handleNotification(notification(1));
+        handler.handleNotification(notification(2));
+
+        // Notifications are buffered by the decoding executor, those which do not fit into its queue are dropped
+        assertEquals(1, executorTasks.size());
+        assertEquals(1, handler.getStatistics().getDroppedCount());
+
+        handler.onRemoteSchemaUp(transformer);
+        runExecutorTasks();
+        assertEquals(List.of("0", "1"), decoded);
+        verify(salFacade).onNotificationsDropped(1);
+    }
+
+    @Test
+    public void testDecodingYieldsToOtherTasks() throws Exception {
+        final NotificationHandler defaultHandler = new NotificationHandler(salFacade, ID, executorTasks::add,
+            NotificationHandler.DEFAULT_MAX_PENDING_NOTIFICATIONS);
+        defaultHandler.onRemoteSchemaUp(transformer);
+        // Replay of the empty buffer
+        executorTasks.poll().run();
+
+        final int count = YieldingSequentialExecutor.DEFAULT_MAX_TASKS_PER_RUN + 10;
+        for (int i = 0; i < count; i++) {
+            defaultHandler.handleNotification(notification(i));
+        }
+        assertEquals(1, executorTasks.size());
+
+        // A task submitted by someone else in the meantime runs before the remaining notifications are decoded
+        final List<String> otherTasks = new ArrayList<>();
+        executorTasks.add(() -> otherTasks.add(String.valueOf(decoded.size())));
+        executorTasks.poll().run();
+        assertEquals(YieldingSequentialExecutor.DEFAULT_MAX_TASKS_PER_RUN, decoded.size());
+
+        runExecutorTasks();
+        assertEquals(List.of(String.valueOf(YieldingSequentialExecutor.DEFAULT_MAX_TASKS_PER_RUN)), otherTasks);
+        assertEquals(count, decoded.size());
+        assertEquals(String.valueOf(count - 1), decoded.get(count - 1));
+    }
+
+    private void runExecutorTasks() {
+        for (Runnable task = executorTasks.poll(); task != null; task = executorTasks.poll()) {
+            task.run();
+        }
+    }
+
+    private static NetconfMessage notification(final int sequence) throws Exception {
+        return new NetconfMessage(XmlUtil.readXmlToDocument(
+            "<notification xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">"
+                + "<eventTime>2020-01-01T00:00:00Z</eventTime>"
+                + "<event xmlns=\"urn:test\"><sequence>" + sequence + "</sequence></event>"
+                + "</notification>"));
+    }
+
+    private static String sequence(final NetconfMessage message) {
+        return message.getDocument().getElementsByTagNameNS("urn:test", "sequence").item(0).getTextContent();
+    }
+}
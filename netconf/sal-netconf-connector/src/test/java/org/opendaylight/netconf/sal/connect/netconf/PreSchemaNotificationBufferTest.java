@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+
+public class PreSchemaNotificationBufferTest {
+    private static final RemoteDeviceId ID =
+        new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22));
+
+    @Test
+    public void testReplayInOrder() throws Exception {
+        final PreSchemaNotificationBuffer buffer = new PreSchemaNotificationBuffer(ID, 100, 1024 * 1024, 400);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.add(notification(i)));
+        }
+
+        // Some of the notifications were spilled, they are still replayed in order
+        final List<String> replayed = new ArrayList<>();
+        assertEquals(0, buffer.drain(message -> replayed.add(sequence(message))));
+        assertEquals(10, replayed.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(String.valueOf(i), replayed.get(i));
+        }
+
+        final List<String> replayedAgain = new ArrayList<>();
+        buffer.drain(message -> replayedAgain.add(sequence(message)));
+        assertTrue(replayedAgain.isEmpty());
+    }
+
+    @Test
+    public void testCountBound() throws Exception {
+        final PreSchemaNotificationBuffer buffer = new PreSchemaNotificationBuffer(ID, 2, 1024 * 1024, 1024);
+        assertTrue(buffer.add(notification(0)));
+        assertTrue(buffer.add(notification(1)));
+        assertFalse(buffer.add(notification(2)));
+
+        final List<String> replayed = new ArrayList<>();
+        buffer.drain(message -> replayed.add(sequence(message)));
+        assertEquals(List.of("0", "1"), replayed);
+    }
+
+    @Test
+    public void testByteBound() throws Exception {
+        final PreSchemaNotificationBuffer buffer = new PreSchemaNotificationBuffer(ID, 100, 300, 300);
+        assertTrue(buffer.add(notification(0)));
+        assertFalse(buffer.add(notification(1)));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        final PreSchemaNotificationBuffer buffer = new PreSchemaNotificationBuffer(ID, 100, 1024 * 1024, 0);
+        assertTrue(buffer.add(notification(0)));
+        buffer.clear();
+
+        final List<String> replayed = new ArrayList<>();
+        buffer.drain(message -> replayed.add(sequence(message)));
+        assertTrue(replayed.isEmpty());
+    }
+
+    private static NetconfMessage notification(final int sequence) throws Exception {
+        return new NetconfMessage(XmlUtil.readXmlToDocument(
+            "<notification xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">"
+                + "<eventTime>2020-01-01T00:00:00Z</eventTime>"
+                + "<event xmlns=\"urn:test\"><sequence>" + sequence + "</sequence></event>"
+                + "</notification>"));
+    }
+
+    private static String sequence(final NetconfMessage message) {
+        return message.getDocument().getElementsByTagNameNS("urn:test", "sequence").item(0).getTextContent();
+    }
+}
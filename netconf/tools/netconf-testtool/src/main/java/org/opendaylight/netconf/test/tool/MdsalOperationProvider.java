@@ -10,6 +10,7 @@ package org.opendaylight.netconf.test.tool;
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -17,7 +18,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
@@ -73,16 +73,22 @@ class MdsalOperationProvider implements NetconfOperationServiceFactory {
             .getLogger(MdsalOperationProvider.class);
 
     private final Set<Capability> caps;
-    private final EffectiveModelContext schemaContext;
     private final SchemaSourceProvider<YangTextSchemaSource> sourceProvider;
+    // Shared by the data stores of all sessions
+    private final DOMSchemaService schemaService;
+    private final ContainerNode netconfState;
+    private final ListeningExecutorService commitExecutor;
 
     MdsalOperationProvider(final SessionIdProvider idProvider,
                            final Set<Capability> caps,
                            final EffectiveModelContext schemaContext,
                            final SchemaSourceProvider<YangTextSchemaSource> sourceProvider) {
         this.caps = caps;
-        this.schemaContext = schemaContext;
         this.sourceProvider = sourceProvider;
+        this.schemaService = createSchemaService(schemaContext);
+        this.netconfState = createNetconfState(caps);
+        this.commitExecutor = MoreExecutors.listeningDecorator(SpecialExecutors.newBlockingBoundedCachedThreadPool(
+            16, 1024, "CommitFutures", MdsalOperationProvider.class));
     }
 
     @Override
@@ -100,29 +106,108 @@ class MdsalOperationProvider implements NetconfOperationServiceFactory {
 
     @Override
     public NetconfOperationService createService(final String netconfSessionIdForReporting) {
-        return new MdsalOperationService(Long.parseLong(netconfSessionIdForReporting), schemaContext,
-            caps, sourceProvider);
+        return new MdsalOperationService(Long.parseLong(netconfSessionIdForReporting), schemaService, netconfState,
+            commitExecutor, sourceProvider);
+    }
+
+    private static ContainerNode createNetconfState(final Set<Capability> caps) {
+        DummyMonitoringService monitor = new DummyMonitoringService(
+                caps);
+
+        final QName identifier = QName.create(Schema.QNAME, "identifier");
+        final QName version = QName.create(Schema.QNAME, "version");
+        final QName format = QName.create(Schema.QNAME, "format");
+        final QName location = QName.create(Schema.QNAME, "location");
+        final QName namespace = QName.create(Schema.QNAME, "namespace");
+
+        CollectionNodeBuilder<MapEntryNode, MapNode> schemaMapEntryNodeMapNodeCollectionNodeBuilder = Builders
+                .mapBuilder().withNodeIdentifier(new NodeIdentifier(Schema.QNAME));
+        LeafSetEntryNode locationLeafSetEntryNode = Builders.leafSetEntryBuilder().withNodeIdentifier(
+                        new NodeWithValue<>(location, "NETCONF")).withValue("NETCONF").build();
+
+        Map<QName, Object> keyValues = new HashMap<>();
+        for (final Schema schema : monitor.getSchemas().getSchema().values()) {
+            keyValues.put(identifier, schema.getIdentifier());
+            keyValues.put(version, schema.getVersion());
+            keyValues.put(format, Yang.QNAME);
+
+            MapEntryNode schemaMapEntryNode = Builders.mapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(Schema.QNAME, keyValues))
+                    .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(identifier))
+                        .withValue(schema.getIdentifier()).build())
+                    .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(version))
+                        .withValue(schema.getVersion()).build())
+                    .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(format))
+                        .withValue(Yang.QNAME).build())
+                    .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(namespace))
+                        .withValue(schema.getNamespace().getValue()).build())
+                    .withChild((DataContainerChild<?, ?>) Builders.leafSetBuilder().withNodeIdentifier(
+                                    new NodeIdentifier(location))
+                            .withChild(locationLeafSetEntryNode).build())
+                    .build();
+
+            schemaMapEntryNodeMapNodeCollectionNodeBuilder.withChild(schemaMapEntryNode);
+        }
+
+        DataContainerChild<?, ?> schemaList = schemaMapEntryNodeMapNodeCollectionNodeBuilder.build();
+
+        ContainerNode schemasContainer = Builders.containerBuilder().withNodeIdentifier(
+                new NodeIdentifier(Schemas.QNAME)).withChild(schemaList).build();
+        return Builders.containerBuilder().withNodeIdentifier(
+                new NodeIdentifier(NetconfState.QNAME)).withChild(schemasContainer).build();
+    }
+
+    private static DOMSchemaService createSchemaService(final EffectiveModelContext schemaContext) {
+        return new DOMSchemaService() {
+
+            @Override
+            public EffectiveModelContext getSessionContext() {
+                return schemaContext;
+            }
+
+            @Override
+            public EffectiveModelContext getGlobalContext() {
+                return schemaContext;
+            }
+
+            @Override
+            public ListenerRegistration<EffectiveModelContextListener> registerSchemaContextListener(
+                    final EffectiveModelContextListener listener) {
+                listener.onModelContextUpdated(getGlobalContext());
+                return new AbstractListenerRegistration<>(listener) {
+
+                    @Override
+                    protected void removeRegistration() {
+                        // No-op
+                    }
+                };
+            }
+
+            @Override
+            public ClassToInstanceMap<DOMSchemaServiceExtension> getExtensions() {
+                return ImmutableClassToInstanceMap.of();
+            }
+        };
     }
 
     static class MdsalOperationService implements NetconfOperationService {
         private final long currentSessionId;
-        private final EffectiveModelContext schemaContext;
-        private final Set<Capability> caps;
         private final DOMSchemaService schemaService;
+        private final ContainerNode netconfState;
         private final DOMDataBroker dataBroker;
         private final SchemaSourceProvider<YangTextSchemaSource> sourceProvider;
 
         MdsalOperationService(final long currentSessionId,
-                              final EffectiveModelContext schemaContext,
-                              final Set<Capability> caps,
+                              final DOMSchemaService schemaService,
+                              final ContainerNode netconfState,
+                              final ListeningExecutorService commitExecutor,
                               final SchemaSourceProvider<YangTextSchemaSource> sourceProvider) {
             this.currentSessionId = currentSessionId;
-            this.schemaContext = schemaContext;
-            this.caps = caps;
+            this.schemaService = schemaService;
+            this.netconfState = netconfState;
             this.sourceProvider = sourceProvider;
-            this.schemaService = createSchemaService();
 
-            this.dataBroker = createDataStore(schemaService, currentSessionId);
+            this.dataBroker = createDataStore(schemaService, commitExecutor, currentSessionId);
 
         }
 
@@ -132,13 +217,12 @@ class MdsalOperationProvider implements NetconfOperationServiceFactory {
                 dataBroker, String.valueOf(currentSessionId));
             CurrentSchemaContext currentSchemaContext = new CurrentSchemaContext(schemaService, sourceProvider);
 
-            ContainerNode netconf = createNetconfState();
-
             YangInstanceIdentifier yangInstanceIdentifier = YangInstanceIdentifier.builder().node(NetconfState.QNAME)
                     .build();
 
+            // The state is immutable, data stores of all sessions share it until they modify it
             final DOMDataTreeWriteTransaction tx = dataBroker.newWriteOnlyTransaction();
-            tx.put(LogicalDatastoreType.OPERATIONAL, yangInstanceIdentifier, netconf);
+            tx.put(LogicalDatastoreType.OPERATIONAL, yangInstanceIdentifier, netconfState);
 
             try {
                 tx.commit().get();
@@ -166,100 +250,17 @@ class MdsalOperationProvider implements NetconfOperationServiceFactory {
         public void close() {
         }
 
-        private ContainerNode createNetconfState() {
-            DummyMonitoringService monitor = new DummyMonitoringService(
-                    caps);
-
-            final QName identifier = QName.create(Schema.QNAME, "identifier");
-            final QName version = QName.create(Schema.QNAME, "version");
-            final QName format = QName.create(Schema.QNAME, "format");
-            final QName location = QName.create(Schema.QNAME, "location");
-            final QName namespace = QName.create(Schema.QNAME, "namespace");
-
-            CollectionNodeBuilder<MapEntryNode, MapNode> schemaMapEntryNodeMapNodeCollectionNodeBuilder = Builders
-                    .mapBuilder().withNodeIdentifier(new NodeIdentifier(Schema.QNAME));
-            LeafSetEntryNode locationLeafSetEntryNode = Builders.leafSetEntryBuilder().withNodeIdentifier(
-                            new NodeWithValue<>(location, "NETCONF")).withValue("NETCONF").build();
-
-            Map<QName, Object> keyValues = new HashMap<>();
-            for (final Schema schema : monitor.getSchemas().getSchema().values()) {
-                keyValues.put(identifier, schema.getIdentifier());
-                keyValues.put(version, schema.getVersion());
-                keyValues.put(format, Yang.QNAME);
-
-                MapEntryNode schemaMapEntryNode = Builders.mapEntryBuilder()
-                        .withNodeIdentifier(NodeIdentifierWithPredicates.of(Schema.QNAME, keyValues))
-                        .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(identifier))
-                            .withValue(schema.getIdentifier()).build())
-                        .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(version))
-                            .withValue(schema.getVersion()).build())
-                        .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(format))
-                            .withValue(Yang.QNAME).build())
-                        .withChild(Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(namespace))
-                            .withValue(schema.getNamespace().getValue()).build())
-                        .withChild((DataContainerChild<?, ?>) Builders.leafSetBuilder().withNodeIdentifier(
-                                        new NodeIdentifier(location))
-                                .withChild(locationLeafSetEntryNode).build())
-                        .build();
-
-                schemaMapEntryNodeMapNodeCollectionNodeBuilder.withChild(schemaMapEntryNode);
-            }
-
-            DataContainerChild<?, ?> schemaList = schemaMapEntryNodeMapNodeCollectionNodeBuilder.build();
-
-            ContainerNode schemasContainer = Builders.containerBuilder().withNodeIdentifier(
-                    new NodeIdentifier(Schemas.QNAME)).withChild(schemaList).build();
-            return Builders.containerBuilder().withNodeIdentifier(
-                    new NodeIdentifier(NetconfState.QNAME)).withChild(schemasContainer).build();
-        }
-
-        private static DOMDataBroker createDataStore(final DOMSchemaService schemaService, final long sessionId) {
+        private static DOMDataBroker createDataStore(final DOMSchemaService schemaService,
+                final ListeningExecutorService commitExecutor, final long sessionId) {
             LOG.debug("Session {}: Creating data stores for simulated device", sessionId);
             final DOMStore operStore = InMemoryDOMDataStoreFactory.create("DOM-OPER", schemaService);
             final DOMStore configStore = InMemoryDOMDataStoreFactory.create("DOM-CFG", schemaService);
 
-            ExecutorService listenableFutureExecutor = SpecialExecutors.newBlockingBoundedCachedThreadPool(
-                    16, 16, "CommitFutures", MdsalOperationProvider.class);
-
             final EnumMap<LogicalDatastoreType, DOMStore> datastores = new EnumMap<>(LogicalDatastoreType.class);
             datastores.put(LogicalDatastoreType.CONFIGURATION, configStore);
             datastores.put(LogicalDatastoreType.OPERATIONAL, operStore);
 
-            return new SerializedDOMDataBroker(datastores, MoreExecutors.listeningDecorator(listenableFutureExecutor));
-        }
-
-        private DOMSchemaService createSchemaService() {
-            return new DOMSchemaService() {
-
-                @Override
-                public EffectiveModelContext getSessionContext() {
-                    return schemaContext;
-                }
-
-                @Override
-                public EffectiveModelContext getGlobalContext() {
-                    return schemaContext;
-                }
-
-                @Override
-                public ListenerRegistration<EffectiveModelContextListener> registerSchemaContextListener(
-                        final EffectiveModelContextListener listener) {
-                    listener.onModelContextUpdated(getGlobalContext());
-                    return new AbstractListenerRegistration<>(listener) {
-
-                        @Override
-                        protected void removeRegistration() {
-                            // No-op
-                        }
-                    };
-                }
-
-                @Override
-                public ClassToInstanceMap<DOMSchemaServiceExtension> getExtensions() {
-                    return ImmutableClassToInstanceMap.of();
-                }
-            };
+            return new SerializedDOMDataBroker(datastores, commitExecutor);
         }
     }
-
 }
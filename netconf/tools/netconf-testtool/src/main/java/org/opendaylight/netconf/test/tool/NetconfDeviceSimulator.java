@@ -14,9 +14,13 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.Promise;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,8 +32,12 @@ import java.nio.channels.AsynchronousChannelGroup;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -39,6 +47,7 @@ import org.opendaylight.netconf.api.capability.Capability;
 import org.opendaylight.netconf.api.capability.YangModuleCapability;
 import org.opendaylight.netconf.api.monitoring.NetconfMonitoringService;
 import org.opendaylight.netconf.impl.NetconfServerDispatcherImpl;
+import org.opendaylight.netconf.impl.NetconfServerSession;
 import org.opendaylight.netconf.impl.NetconfServerSessionNegotiatorFactory;
 import org.opendaylight.netconf.impl.ServerChannelInitializer;
 import org.opendaylight.netconf.impl.SessionIdProvider;
@@ -49,6 +58,7 @@ import org.opendaylight.netconf.shaded.sshd.common.util.threads.ThreadUtils;
 import org.opendaylight.netconf.ssh.SshProxyServer;
 import org.opendaylight.netconf.ssh.SshProxyServerConfiguration;
 import org.opendaylight.netconf.ssh.SshProxyServerConfigurationBuilder;
+import org.opendaylight.netconf.test.tool.behavior.BehaviorProfile;
 import org.opendaylight.netconf.test.tool.config.Configuration;
 import org.opendaylight.netconf.test.tool.customrpc.SettableOperationProvider;
 import org.opendaylight.netconf.test.tool.monitoring.NetconfMonitoringOperationService;
@@ -84,6 +94,11 @@ public class NetconfDeviceSimulator implements Closeable {
     private final List<SshProxyServer> sshWrappers = new ArrayList<>();
     private final ScheduledExecutorService minaTimerExecutor;
     private final ExecutorService nioExecutor;
+    // Notifications of all simulated devices are scheduled on a single thread
+    private final ScheduledExecutorService notificationExecutor;
+    // Session channels and the time the last session was negotiated, by the address of the device
+    private final ConcurrentMap<String, ChannelGroup> deviceSessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> sessionUpNanos = new ConcurrentHashMap<>();
     private final Configuration configuration;
     private EffectiveModelContext schemaContext;
 
@@ -97,6 +112,8 @@ public class NetconfDeviceSimulator implements Closeable {
                 new ThreadFactoryBuilder().setNameFormat("netconf-ssh-server-mina-timers-%d").build());
         this.nioExecutor = ThreadUtils
                 .newFixedThreadPool("netconf-ssh-server-nio-group", configuration.getThreadPoolSize());
+        this.notificationExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("netconf-simulator-notifications").build());
     }
 
     private NetconfServerDispatcherImpl createDispatcher(final Set<Capability> capabilities,
@@ -124,8 +141,20 @@ public class NetconfDeviceSimulator implements Closeable {
                 configuration.getGenerateConfigsTimeout(),
                 monitoringService1, serverCapabilities);
 
+        final BehaviorProfile behaviorProfile = configuration.getBehaviorProfile() == null ? null
+            : BehaviorProfile.load(configuration.getBehaviorProfile());
         final ServerChannelInitializer serverChannelInitializer =
-            new ServerChannelInitializer(serverNegotiatorFactory);
+            new ServerChannelInitializer(serverNegotiatorFactory) {
+                @Override
+                protected void initializeSessionNegotiator(final Channel ch,
+                        final Promise<NetconfServerSession> promise) {
+                    super.initializeSessionNegotiator(ch, promise);
+                    trackSession(ch, promise);
+                    if (behaviorProfile != null) {
+                        behaviorProfile.install(ch);
+                    }
+                }
+            };
         return new NetconfServerDispatcherImpl(serverChannelInitializer, nettyThreadgroup, nettyThreadgroup);
     }
 
@@ -145,7 +174,7 @@ public class NetconfDeviceSimulator implements Closeable {
             LOG.info("using SimulatedOperationProvider.");
             operationProvider = new SimulatedOperationProvider(idProvider, transformedCapabilities,
                     Optional.ofNullable(configuration.getNotificationFile()),
-                    Optional.ofNullable(configuration.getInitialConfigXMLFile()));
+                    Optional.ofNullable(configuration.getInitialConfigXMLFile()), notificationExecutor);
         } else {
             LOG.info("using OperationsProvider.");
             operationProvider = new OperationsProvider(idProvider, transformedCapabilities,
@@ -174,6 +203,7 @@ public class NetconfDeviceSimulator implements Closeable {
     public List<Integer> start() {
         LOG.info("Starting {}, {} simulated devices starting on port {}",
                 configuration.getDeviceCount(), configuration.isSsh() ? "SSH" : "TCP", configuration.getStartingPort());
+        final long usedMemoryBefore = usedMemory();
 
         final SharedSchemaRepository schemaRepo = new SharedSchemaRepository("netconf-simulator");
         final Set<Capability> capabilities = parseSchemasToModuleCapabilities(schemaRepo);
@@ -267,10 +297,64 @@ public class NetconfDeviceSimulator implements Closeable {
         } else {
             LOG.warn("Not all simulated devices started successfully. Started devices ar on ports {}", openDevices);
         }
+        if (!openDevices.isEmpty()) {
+            final long usedMemory = usedMemory() - usedMemoryBefore;
+            LOG.info("Simulated devices use approximately {} KiB of heap, {} KiB per device", usedMemory / 1024,
+                    usedMemory / 1024 / openDevices.size());
+        }
 
         return openDevices;
     }
 
+    private void trackSession(final Channel channel, final Promise<NetconfServerSession> promise) {
+        final String device = String.valueOf(channel.parent().localAddress());
+        deviceSessions.computeIfAbsent(device, key -> new DefaultChannelGroup(GlobalEventExecutor.INSTANCE))
+            .add(channel);
+        promise.addListener(future -> {
+            if (future.isSuccess()) {
+                sessionUpNanos.put(device, System.nanoTime());
+            }
+        });
+    }
+
+    /**
+     * Drop all sessions of a number of simulated devices, as if the devices were restarted. The devices accept new
+     * sessions right away.
+     *
+     * @param count number of devices
+     * @return addresses of the devices whose sessions were dropped
+     */
+    public List<String> dropSessions(final int count) {
+        final List<String> dropped = new ArrayList<>(count);
+        for (final Map.Entry<String, ChannelGroup> entry : deviceSessions.entrySet()) {
+            if (dropped.size() == count) {
+                break;
+            }
+            if (!entry.getValue().isEmpty()) {
+                entry.getValue().close();
+                dropped.add(entry.getKey());
+            }
+        }
+        LOG.info("Dropped sessions of {} simulated devices", dropped.size());
+        return dropped;
+    }
+
+    /**
+     * Return the time the last session of a simulated device was negotiated.
+     *
+     * @param device address of the device, as returned by {@link #dropSessions(int)}
+     * @return {@link System#nanoTime()} based time, empty if the device has had no session yet
+     */
+    public OptionalLong getSessionUpNanos(final String device) {
+        final Long nanos = sessionUpNanos.get(device);
+        return nanos != null ? OptionalLong.of(nanos) : OptionalLong.empty();
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
     private SshProxyServerConfiguration getSshConfiguration(final InetSocketAddress bindingAddress,
             final LocalAddress tcpLocalAddress, final KeyPairProvider keyPairProvider) {
         return new SshProxyServerConfigurationBuilder()
@@ -397,6 +481,7 @@ public class NetconfDeviceSimulator implements Closeable {
         }
         nettyThreadgroup.shutdownGracefully();
         minaTimerExecutor.shutdownNow();
+        notificationExecutor.shutdownNow();
         nioExecutor.shutdownNow();
     }
 
@@ -8,6 +8,8 @@
 
 package org.opendaylight.netconf.test.tool;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import ch.qos.logback.classic.Level;
 import com.google.common.base.Stopwatch;
 import com.google.common.io.CharStreams;
@@ -21,7 +23,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -29,10 +34,11 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.opendaylight.netconf.test.tool.config.Configuration;
 import org.opendaylight.netconf.test.tool.config.ConfigurationBuilder;
+import org.opendaylight.netconf.test.tool.scale.util.ControllerSampler;
+import org.opendaylight.netconf.test.tool.scale.util.ScaleReport;
+import org.opendaylight.netconf.test.tool.scale.util.TopologyStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +49,7 @@ public final class ScaleUtil {
     private static final Stopwatch STOPWATCH = Stopwatch.createUnstarted();
 
     private static final long TIMEOUT = 20L;
-    private static final long RETRY_DELAY = 10L;
+    private static final long SESSION_POLL_DELAY = 100L;
     private static final int DEVICE_STEP = 1000;
 
     private static ch.qos.logback.classic.Logger root;
@@ -57,6 +63,11 @@ public final class ScaleUtil {
         final TesttoolParameters params = TesttoolParameters.parseArgs(args, TesttoolParameters.getParser());
 
         setUpLoggers(params);
+        checkArgument(params.scalePollInterval > 0, "Scale poll interval must be greater than 0");
+        checkArgument(params.scaleSampleInterval >= 0, "Scale sample interval must not be negative");
+        checkArgument(params.scaleKillDevices >= 0, "Number of devices to kill must not be negative");
+        checkArgument(params.scaleReportDir == null || params.scaleReportDir.isDirectory(),
+            "Scale report directory has to exist");
 
         // cleanup at the start in case controller was already running
         final Runtime runtime = Runtime.getRuntime();
@@ -64,8 +75,6 @@ public final class ScaleUtil {
 
         while (true) {
             root.warn("Starting scale test with {} devices", params.deviceCount);
-            final ScheduledFuture<?> timeoutGuardFuture = EXECUTOR.schedule(new TimeoutGuard(), TIMEOUT,
-                TimeUnit.MINUTES);
             final Configuration configuration = new ConfigurationBuilder().from(params).build();
             final NetconfDeviceSimulator netconfDeviceSimulator = new NetconfDeviceSimulator(configuration);
 
@@ -74,6 +83,11 @@ public final class ScaleUtil {
                 root.error("Failed to start any simulated devices, exiting...");
                 System.exit(1);
             }
+            final ScaleReport report = new ScaleReport(openDevices.size(), params.scalePollInterval);
+            final File reportFile = params.scaleReportDir == null ? null
+                : new File(params.scaleReportDir, "scale-report-" + params.deviceCount + ".json");
+            final ScheduledFuture<?> timeoutGuardFuture = EXECUTOR.schedule(new TimeoutGuard(report, reportFile),
+                TIMEOUT, TimeUnit.MINUTES);
 
             if (params.distroFolder == null) {
                 root.error("Distro folder is not set, exiting...");
@@ -110,10 +124,14 @@ public final class ScaleUtil {
 
             root.warn("Karaf started, starting stopwatch");
             STOPWATCH.start();
+            report.start();
+            final ScheduledFuture<?> samplerFuture = params.scaleSampleInterval > 0
+                ? EXECUTOR.scheduleAtFixedRate(new ControllerSampler(report), 0, params.scaleSampleInterval,
+                    TimeUnit.SECONDS) : null;
 
             try {
-                EXECUTOR.schedule(
-                    new ScaleVerifyCallable(netconfDeviceSimulator, params.deviceCount), RETRY_DELAY, TimeUnit.SECONDS);
+                EXECUTOR.schedule(new ScaleVerifyCallable(netconfDeviceSimulator, report, openDevices.size(),
+                    params.scaleKillDevices, params.scalePollInterval), params.scalePollInterval, TimeUnit.SECONDS);
                 root.warn("First callable scheduled");
                 SEMAPHORE.acquire();
                 root.warn("semaphore released");
@@ -122,6 +140,10 @@ public final class ScaleUtil {
             }
 
             timeoutGuardFuture.cancel(false);
+            if (samplerFuture != null) {
+                samplerFuture.cancel(false);
+            }
+            report.finish(reportFile);
             params.deviceCount += DEVICE_STEP;
             netconfDeviceSimulator.close();
             STOPWATCH.reset();
@@ -188,7 +210,6 @@ public final class ScaleUtil {
 
         private static final String RESTCONF_URL = "http://127.0.0.1:8181/restconf/operational/"
                 + "network-topology:network-topology/topology/topology-netconf/";
-        private static final Pattern PATTERN = Pattern.compile("connected");
 
         private final AsyncHttpClient asyncHttpClient = new AsyncHttpClient(new Builder()
                 .setConnectTimeout(Integer.MAX_VALUE)
@@ -196,13 +217,20 @@ public final class ScaleUtil {
                 .setAllowPoolingConnections(true)
                 .build());
         private final NetconfDeviceSimulator simulator;
+        private final ScaleReport report;
         private final int deviceCount;
+        private final int killDevices;
+        private final long pollInterval;
         private final Request request;
 
-        ScaleVerifyCallable(final NetconfDeviceSimulator simulator, final int deviceCount) {
+        ScaleVerifyCallable(final NetconfDeviceSimulator simulator, final ScaleReport report, final int deviceCount,
+                final int killDevices, final long pollInterval) {
             LOG.info("New callable created");
             this.simulator = simulator;
+            this.report = report;
             this.deviceCount = deviceCount;
+            this.killDevices = killDevices;
+            this.pollInterval = pollInterval;
             AsyncHttpClient.BoundRequestBuilder requestBuilder = asyncHttpClient.prepareGet(RESTCONF_URL)
                     .addHeader("content-type", "application/xml")
                     .addHeader("Accept", "application/xml")
@@ -217,38 +245,110 @@ public final class ScaleUtil {
 
                 if (response.getStatusCode() != 200 && response.getStatusCode() != 204) {
                     LOG.warn("Request failed, status code: {}", response.getStatusCode() + response.getStatusText());
-                    EXECUTOR.schedule(new ScaleVerifyCallable(simulator, deviceCount), RETRY_DELAY, TimeUnit.SECONDS);
+                    reschedule();
                 } else {
-                    final String body = response.getResponseBody();
-                    final Matcher matcher = PATTERN.matcher(body);
-                    int count = 0;
-                    while (matcher.find()) {
-                        count++;
-                    }
+                    final int count = report.topologyPolled(TopologyStatus.parse(response.getResponseBody()));
                     resultsLog.info("Currently connected devices : {} out of {}, time elapsed: {}",
-                        count, deviceCount + 1, STOPWATCH);
-                    if (count != deviceCount + 1) {
-                        EXECUTOR.schedule(
-                            new ScaleVerifyCallable(simulator, deviceCount), RETRY_DELAY, TimeUnit.SECONDS);
+                        count, deviceCount, STOPWATCH);
+                    if (count < deviceCount) {
+                        reschedule();
                     } else {
-                        STOPWATCH.stop();
-                        resultsLog.info("All devices connected in {}", STOPWATCH);
-                        SEMAPHORE.release();
+                        allConnected();
                     }
                 }
             } catch (ConnectException | ExecutionException e) {
                 LOG.warn("Failed to connect to Restconf, is the controller running?", e);
-                EXECUTOR.schedule(new ScaleVerifyCallable(simulator, deviceCount), RETRY_DELAY, TimeUnit.SECONDS);
+                reschedule();
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Failed to parse the topology", e);
+                reschedule();
+            }
+            return null;
+        }
+
+        private void allConnected() {
+            if (!report.isReconnectStormStarted()) {
+                report.allConnected();
+                resultsLog.info("All devices connected in {}", STOPWATCH);
+                if (killDevices > 0) {
+                    final List<String> dropped = simulator.dropSessions(killDevices);
+                    final long stormStartNanos = report.reconnectStormStarted(dropped.size());
+                    resultsLog.info("Reconnect storm started by dropping sessions of {} devices", dropped.size());
+                    EXECUTOR.schedule(new SessionRecoveryCallable(simulator, report, dropped, stormStartNanos),
+                        SESSION_POLL_DELAY, TimeUnit.MILLISECONDS);
+                    reschedule();
+                    return;
+                }
+            } else if (!report.isSessionsRecovered()) {
+                // Devices may still show as connected until the controller notices their sessions are gone
+                reschedule();
+                return;
+            } else {
+                report.controllerRecovered();
+                resultsLog.info("All devices connected again after the reconnect storm, time elapsed: {}", STOPWATCH);
+            }
+
+            STOPWATCH.stop();
+            SEMAPHORE.release();
+        }
+
+        private void reschedule() {
+            EXECUTOR.schedule(this, pollInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Waits for the devices whose sessions were dropped to get new sessions from the controller.
+     */
+    private static class SessionRecoveryCallable implements Callable<Void> {
+        private final NetconfDeviceSimulator simulator;
+        private final ScaleReport report;
+        private final List<String> pendingDevices;
+        private final long stormStartNanos;
+
+        SessionRecoveryCallable(final NetconfDeviceSimulator simulator, final ScaleReport report,
+                final List<String> droppedDevices, final long stormStartNanos) {
+            this.simulator = simulator;
+            this.report = report;
+            this.pendingDevices = new ArrayList<>(droppedDevices);
+            this.stormStartNanos = stormStartNanos;
+        }
+
+        @Override
+        public Void call() {
+            final Iterator<String> it = pendingDevices.iterator();
+            while (it.hasNext()) {
+                final OptionalLong sessionUpNanos = simulator.getSessionUpNanos(it.next());
+                if (sessionUpNanos.isPresent() && sessionUpNanos.getAsLong() - stormStartNanos > 0) {
+                    report.deviceReconnected(sessionUpNanos.getAsLong());
+                    it.remove();
+                }
+            }
+
+            if (pendingDevices.isEmpty()) {
+                report.sessionsRecovered();
+                resultsLog.info("All dropped devices have new sessions, time elapsed: {}", STOPWATCH);
+            } else {
+                EXECUTOR.schedule(this, SESSION_POLL_DELAY, TimeUnit.MILLISECONDS);
             }
             return null;
         }
     }
 
     private static class TimeoutGuard implements Callable<Void> {
+        private final ScaleReport report;
+        private final File reportFile;
+
+        TimeoutGuard(final ScaleReport report, final File reportFile) {
+            this.report = report;
+            this.reportFile = reportFile;
+        }
+
         @Override
         public Void call() {
             resultsLog.warn("Timeout for scale test reached after: {} ..aborting", STOPWATCH);
             root.warn("Timeout for scale test reached after: {} ..aborting", STOPWATCH);
+            report.finish(reportFile);
             System.exit(0);
             return null;
         }
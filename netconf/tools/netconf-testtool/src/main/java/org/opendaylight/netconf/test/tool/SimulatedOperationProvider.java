@@ -10,8 +10,11 @@ package org.opendaylight.netconf.test.tool;
 import com.google.common.collect.Sets;
 import java.io.File;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.capability.Capability;
 import org.opendaylight.netconf.api.monitoring.CapabilityListener;
 import org.opendaylight.netconf.impl.SessionIdProvider;
@@ -21,6 +24,7 @@ import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
 import org.opendaylight.netconf.test.tool.rpc.DataList;
 import org.opendaylight.netconf.test.tool.rpc.SimulatedCommit;
 import org.opendaylight.netconf.test.tool.rpc.SimulatedCreateSubscription;
+import org.opendaylight.netconf.test.tool.rpc.SimulatedCreateSubscription.Notification;
 import org.opendaylight.netconf.test.tool.rpc.SimulatedDiscardChanges;
 import org.opendaylight.netconf.test.tool.rpc.SimulatedEditConfig;
 import org.opendaylight.netconf.test.tool.rpc.SimulatedGet;
@@ -35,10 +39,13 @@ class SimulatedOperationProvider implements NetconfOperationServiceFactory {
     SimulatedOperationProvider(final SessionIdProvider idProvider,
                                final Set<Capability> caps,
                                final Optional<File> notificationsFile,
-                               final Optional<File> initialConfigXMLFile) {
+                               final Optional<File> initialConfigXMLFile,
+                               final ScheduledExecutorService notificationExecutor) {
         this.caps = caps;
-        simulatedOperationService = new SimulatedOperationService(
-            idProvider.getCurrentSessionId(), notificationsFile, initialConfigXMLFile);
+        // Files are loaded once and their content is shared by all sessions
+        simulatedOperationService = new SimulatedOperationService(idProvider.getCurrentSessionId(),
+            notificationsFile.map(SimulatedCreateSubscription::loadNotifications).orElse(Collections.emptyMap()),
+            initialConfigXMLFile.map(SimulatedGetConfig::loadInitialConfigXMLFile), notificationExecutor);
     }
 
     @Override
@@ -62,14 +69,17 @@ class SimulatedOperationProvider implements NetconfOperationServiceFactory {
 
     static class SimulatedOperationService implements NetconfOperationService {
         private final long currentSessionId;
-        private final Optional<File> notificationsFile;
-        private final Optional<File> initialConfigXMLFile;
+        private final Map<Notification, NetconfMessage> notifications;
+        private final Optional<DataList> initialConfig;
+        private final ScheduledExecutorService notificationExecutor;
 
-        SimulatedOperationService(final long currentSessionId, final Optional<File> notificationsFile,
-                                  final Optional<File> initialConfigXMLFile) {
+        SimulatedOperationService(final long currentSessionId, final Map<Notification, NetconfMessage> notifications,
+                                  final Optional<DataList> initialConfig,
+                                  final ScheduledExecutorService notificationExecutor) {
             this.currentSessionId = currentSessionId;
-            this.notificationsFile = notificationsFile;
-            this.initialConfigXMLFile = initialConfigXMLFile;
+            this.notifications = notifications;
+            this.initialConfig = initialConfig;
+            this.notificationExecutor = notificationExecutor;
         }
 
         @Override
@@ -78,12 +88,12 @@ class SimulatedOperationProvider implements NetconfOperationServiceFactory {
             final SimulatedGet sGet = new SimulatedGet(String.valueOf(currentSessionId), storage);
             final SimulatedEditConfig sEditConfig = new SimulatedEditConfig(String.valueOf(currentSessionId), storage);
             final SimulatedGetConfig sGetConfig = new SimulatedGetConfig(
-                String.valueOf(currentSessionId), storage, initialConfigXMLFile);
+                String.valueOf(currentSessionId), initialConfig.orElse(storage));
             final SimulatedCommit sCommit = new SimulatedCommit(String.valueOf(currentSessionId));
             final SimulatedLock sLock = new SimulatedLock(String.valueOf(currentSessionId));
             final SimulatedUnLock sUnlock = new SimulatedUnLock(String.valueOf(currentSessionId));
             final SimulatedCreateSubscription sCreateSubs = new SimulatedCreateSubscription(
-                    String.valueOf(currentSessionId), notificationsFile);
+                    String.valueOf(currentSessionId), notifications, notificationExecutor);
             final SimulatedDiscardChanges sDiscardChanges = new SimulatedDiscardChanges(
                 String.valueOf(currentSessionId));
             return Sets.newHashSet(
@@ -75,6 +75,14 @@ public class TesttoolParameters {
     public String generateConfigsAddress;
     @Arg(dest = "distro-folder")
     public File distroFolder;
+    @Arg(dest = "scale-poll-interval")
+    public long scalePollInterval;
+    @Arg(dest = "scale-sample-interval")
+    public long scaleSampleInterval;
+    @Arg(dest = "scale-kill-devices")
+    public int scaleKillDevices;
+    @Arg(dest = "scale-report-dir")
+    public File scaleReportDir;
     @Arg(dest = "generate-configs-batch-size")
     public int generateConfigBatchSize;
     @Arg(dest = "ssh")
@@ -98,6 +106,8 @@ public class TesttoolParameters {
     public int threadPoolSize;
     @Arg(dest = "rpc-config")
     public File rpcConfig;
+    @Arg(dest = "behavior-profile")
+    public File behaviorProfile;
 
     @SuppressWarnings("checkstyle:lineLength")
     static ArgumentParser getParser() {
@@ -196,6 +206,30 @@ public class TesttoolParameters {
                 .help("Directory where the karaf distribution for controller is located")
                 .dest("distro-folder");
 
+        parser.addArgument("--scale-poll-interval")
+                .type(Long.class)
+                .setDefault(10L)
+                .help("Interval in seconds at which scale util polls the controller for connected devices")
+                .dest("scale-poll-interval");
+
+        parser.addArgument("--scale-sample-interval")
+                .type(Long.class)
+                .setDefault(10L)
+                .help("Interval in seconds at which scale util samples controller heap and threads, 0 to disable")
+                .dest("scale-sample-interval");
+
+        parser.addArgument("--scale-kill-devices")
+                .type(Integer.class)
+                .setDefault(0)
+                .help("Number of devices whose sessions scale util drops once all devices are connected, to measure "
+                    + "recovery from the reconnect storm")
+                .dest("scale-kill-devices");
+
+        parser.addArgument("--scale-report-dir")
+                .type(File.class)
+                .help("Directory to write scale util reports to, one JSON report per device count")
+                .dest("scale-report-dir");
+
         parser.addArgument("--ssh")
                 .type(Boolean.class)
                 .setDefault(Boolean.TRUE)
@@ -244,6 +278,12 @@ public class TesttoolParameters {
                 .help("Rpc config file. It can be used to define custom rpc behavior, or override the default one."
                     + "Usable for testing buggy device behavior.")
                 .dest("rpc-config");
+        parser.addArgument("--behavior-profile")
+                .type(File.class)
+                .help("Xml file describing the behavior of simulated devices: latency and padding of replies per rpc, "
+                    + "rate and bursts of notifications and dropped sessions. Random choices are seeded from the "
+                    + "profile, so that runs can be replayed.")
+                .dest("behavior-profile");
 
         return parser;
     }
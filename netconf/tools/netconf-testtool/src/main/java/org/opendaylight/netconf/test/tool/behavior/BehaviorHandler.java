@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.messages.NetconfHelloMessage;
+import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Applies the behavior of a device to one of its sessions. The handler sits at the tail of the pipeline, where it
+ * sees the replies of the session before they are encoded, while its request tracker sits in front of the session,
+ * where it sees the requests the replies belong to. Both run on the event loop of the channel, delays are scheduled
+ * on it rather than blocking it, as it is shared with other devices.
+ */
+final class BehaviorHandler extends ChannelOutboundHandlerAdapter {
+    private static final Logger LOG = LoggerFactory.getLogger(BehaviorHandler.class);
+
+    private static final String CREATE_SUBSCRIPTION = "create-subscription";
+    // The session changes its encoding or closes right after sending replies to these, they must not be delayed
+    private static final Set<String> IMMEDIATE_RPCS = ImmutableSet.of("start-exi", "close-session");
+
+    /**
+     * Records the rpcs of incoming requests, replies are sent in the same order.
+     */
+    private final class RequestTracker extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (msg instanceof NetconfMessage && !(msg instanceof NetconfHelloMessage)) {
+                final Element root = ((NetconfMessage) msg).getDocument().getDocumentElement();
+                if (XmlNetconfConstants.RPC_KEY.equals(root.getLocalName())) {
+                    final String rpc = rpcName(root);
+                    pendingRpcs.add(rpc);
+                    if (CREATE_SUBSCRIPTION.equals(rpc)) {
+                        startNotifications();
+                    }
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private final Queue<String> pendingRpcs = new ArrayDeque<>();
+    private final RequestTracker requestTracker = new RequestTracker();
+    private final DeviceBehavior device;
+
+    private ChannelHandlerContext context;
+    private long lastReplyNanos;
+    private boolean notificationsStarted;
+    private ScheduledFuture<?> dropTimer;
+    private ScheduledFuture<?> notificationTimer;
+    private ScheduledFuture<?> burstTimer;
+
+    BehaviorHandler(final DeviceBehavior device) {
+        this.device = requireNonNull(device);
+    }
+
+    ChannelInboundHandlerAdapter getRequestTracker() {
+        return requestTracker;
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        context = ctx;
+        lastReplyNanos = System.nanoTime();
+        if (device.isDown()) {
+            LOG.debug("Simulated device {} is down, refusing session {}", device, ctx.channel());
+            ctx.channel().close();
+            return;
+        }
+
+        final long uptime = device.sampleUptimeNanos();
+        if (uptime > 0) {
+            dropTimer = ctx.executor().schedule(this::dropSession, uptime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        cancel(dropTimer);
+        cancel(notificationTimer);
+        cancel(burstTimer);
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (!(msg instanceof NetconfMessage) || msg instanceof NetconfHelloMessage) {
+            ctx.write(msg, promise);
+            return;
+        }
+        final Document document = ((NetconfMessage) msg).getDocument();
+        if (!XmlNetconfConstants.RPC_REPLY_KEY.equals(document.getDocumentElement().getLocalName())) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        final String rpc = pendingRpcs.poll();
+        final RpcBehavior behavior = rpc == null || IMMEDIATE_RPCS.contains(rpc) ? null
+            : device.getRpcBehavior(rpc);
+        long latency = 0;
+        if (behavior != null) {
+            if (behavior.getPadding() > 0) {
+                // A comment makes the reply larger without changing its content
+                document.getDocumentElement().appendChild(
+                    document.createComment(Strings.repeat("x", behavior.getPadding())));
+            }
+            latency = device.sampleLatencyNanos(behavior);
+        }
+
+        // Replies must not overtake replies delayed more
+        final long now = System.nanoTime();
+        final long sendNanos = Math.max(now + latency, lastReplyNanos);
+        lastReplyNanos = sendNanos;
+        if (sendNanos - now > 0) {
+            ctx.executor().schedule(() -> {
+                ctx.writeAndFlush(msg, promise);
+            }, sendNanos - now, TimeUnit.NANOSECONDS);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void startNotifications() {
+        final NotificationBehavior notifications = device.getNotifications();
+        if (notificationsStarted || notifications == null) {
+            return;
+        }
+        notificationsStarted = true;
+        LOG.debug("Starting notifications of simulated device {} on session {}", device, context.channel());
+
+        scheduleNotification();
+        if (notifications.getBurstSize() > 0) {
+            burstTimer = context.executor().scheduleAtFixedRate(() -> sendNotifications(notifications.getBurstSize()),
+                notifications.getBurstInterval(), notifications.getBurstInterval(), TimeUnit.SECONDS);
+        }
+    }
+
+    private void scheduleNotification() {
+        final long interval = device.nextNotificationNanos();
+        if (interval > 0) {
+            notificationTimer = context.executor().schedule(() -> {
+                sendNotifications(1);
+                scheduleNotification();
+            }, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void sendNotifications(final int count) {
+        if (!context.channel().isActive()) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            context.write(device.newNotification());
+        }
+        context.flush();
+    }
+
+    private void dropSession() {
+        LOG.info("Simulated device {} dropping session {}", device, context.channel());
+        device.sessionDropped();
+        context.channel().close();
+    }
+
+    private static void cancel(final ScheduledFuture<?> timer) {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    private static String rpcName(final Element rpc) {
+        for (Node child = rpc.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                return child.getLocalName();
+            }
+        }
+        return "";
+    }
+}
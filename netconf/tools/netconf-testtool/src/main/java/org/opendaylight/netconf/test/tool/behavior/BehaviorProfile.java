@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableMap;
+import io.netty.channel.Channel;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.JAXB;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.nettyutil.AbstractChannelInitializer;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+
+/**
+ * Behavior of simulated devices, loaded from an XML file: latency and padding of replies per rpc, notifications sent
+ * once a session subscribes to them and sessions dropped by the devices. Random choices of each device are drawn from
+ * its own generator, seeded from the seed of the profile and the address of the device, so that runs with the same
+ * profile and devices can be replayed.
+ */
+public final class BehaviorProfile {
+    private static final Logger LOG = LoggerFactory.getLogger(BehaviorProfile.class);
+
+    private static final String REQUEST_TRACKER = "behaviorRequestTracker";
+    private static final String BEHAVIOR_HANDLER = "behavior";
+
+    private final ConcurrentMap<String, DeviceBehavior> devices = new ConcurrentHashMap<>();
+    private final Map<String, RpcBehavior> rpcs;
+    private final long seed;
+    private final NotificationBehavior notifications;
+    private final Document notificationContent;
+    private final SessionBehavior session;
+
+    private BehaviorProfile(final Profile profile) {
+        final Map<String, RpcBehavior> byName = new HashMap<>();
+        for (final RpcBehavior rpc : profile.getRpcs()) {
+            checkArgument(rpc.getName() != null && byName.put(rpc.getName(), rpc) == null,
+                "Rpc %s has multiple behaviors", rpc.getName());
+            checkArgument(rpc.getPadding() >= 0, "Padding of rpc %s must not be negative", rpc.getName());
+            if (rpc.getLatency() != null) {
+                rpc.getLatency().validate(rpc.getName());
+            }
+        }
+        rpcs = ImmutableMap.copyOf(byName);
+        seed = profile.getSeed();
+
+        notifications = profile.getNotifications();
+        if (notifications != null) {
+            checkArgument(notifications.getRate() >= 0 && notifications.getBurstSize() >= 0,
+                "Notification rate and burst size must not be negative");
+            checkArgument(notifications.getBurstSize() == 0 || notifications.getBurstInterval() > 0,
+                "Notification bursts need a positive burst interval");
+            checkArgument(notifications.getContent() != null, "Notifications have no content");
+            notificationContent = XmlUtil.newDocument();
+            notificationContent.appendChild(notificationContent.importNode(notifications.getContent(), true));
+        } else {
+            notificationContent = null;
+        }
+
+        session = profile.getSession();
+        if (session != null) {
+            checkArgument(session.getMeanUptime() >= 0 && session.getDowntime() >= 0,
+                "Session uptime and downtime must not be negative");
+        }
+    }
+
+    /**
+     * Load a profile from a file.
+     *
+     * @param file profile file
+     * @return loaded profile
+     * @throws IllegalArgumentException if the profile is not valid
+     */
+    public static BehaviorProfile load(final File file) {
+        final BehaviorProfile profile = new BehaviorProfile(JAXB.unmarshal(file, Profile.class));
+        LOG.info("Loaded behavior profile {} with seed {}", file, profile.seed);
+        return profile;
+    }
+
+    /**
+     * Apply the profile to a session channel of a simulated device. Must be called once the session negotiator has
+     * been added to the channel pipeline.
+     *
+     * @param channel channel of the session
+     */
+    public void install(final Channel channel) {
+        final DeviceBehavior device = devices.computeIfAbsent(String.valueOf(channel.parent().localAddress()),
+            address -> new DeviceBehavior(this, address, seed * 31 + address.hashCode()));
+        final BehaviorHandler handler = new BehaviorHandler(device);
+        channel.pipeline().addBefore(AbstractChannelInitializer.NETCONF_SESSION_NEGOTIATOR, REQUEST_TRACKER,
+            handler.getRequestTracker());
+        channel.pipeline().addLast(BEHAVIOR_HANDLER, handler);
+    }
+
+    RpcBehavior getRpcBehavior(final String rpc) {
+        final RpcBehavior behavior = rpcs.get(rpc);
+        return behavior != null ? behavior : rpcs.get(RpcBehavior.ANY);
+    }
+
+    NotificationBehavior getNotifications() {
+        return notifications;
+    }
+
+    NetconfNotification newNotification() {
+        final Document document = XmlUtil.newDocument();
+        document.appendChild(document.importNode(notificationContent.getDocumentElement(), true));
+        return new NetconfNotification(document);
+    }
+
+    SessionBehavior getSession() {
+        return session;
+    }
+}
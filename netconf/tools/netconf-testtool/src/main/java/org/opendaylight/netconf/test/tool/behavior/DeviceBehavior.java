@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+
+/**
+ * Behavior of a single simulated device. Its sessions may be served by different threads, random choices are made
+ * under its lock so that each of them is drawn exactly once from the generator of the device.
+ */
+final class DeviceBehavior {
+    private final BehaviorProfile profile;
+    private final String address;
+    private final Random random;
+
+    // Guarded by this
+    private boolean down;
+    private long downUntilNanos;
+
+    DeviceBehavior(final BehaviorProfile profile, final String address, final long seed) {
+        this.profile = requireNonNull(profile);
+        this.address = requireNonNull(address);
+        this.random = new Random(seed);
+    }
+
+    RpcBehavior getRpcBehavior(final String rpc) {
+        return profile.getRpcBehavior(rpc);
+    }
+
+    synchronized long sampleLatencyNanos(final RpcBehavior rpc) {
+        return rpc.getLatency() != null ? rpc.getLatency().sampleNanos(random) : 0;
+    }
+
+    NotificationBehavior getNotifications() {
+        return profile.getNotifications();
+    }
+
+    NetconfNotification newNotification() {
+        return profile.newNotification();
+    }
+
+    /**
+     * Return the interval to the next notification sent at the notification rate.
+     *
+     * @return interval in nanoseconds, 0 if notifications are not sent at a rate
+     */
+    synchronized long nextNotificationNanos() {
+        final NotificationBehavior notifications = profile.getNotifications();
+        if (notifications == null || notifications.getRate() <= 0) {
+            return 0;
+        }
+        return Math.max(1, exponentialNanos(TimeUnit.SECONDS.toNanos(1) / notifications.getRate()));
+    }
+
+    /**
+     * Return the time a new session stays up before the device drops it.
+     *
+     * @return uptime in nanoseconds, 0 if the device does not drop sessions
+     */
+    synchronized long sampleUptimeNanos() {
+        final SessionBehavior session = profile.getSession();
+        if (session == null || session.getMeanUptime() <= 0) {
+            return 0;
+        }
+        return Math.max(1, exponentialNanos(TimeUnit.SECONDS.toNanos(1) * session.getMeanUptime()));
+    }
+
+    /**
+     * Check whether the device refuses sessions, because it has dropped one less than the downtime ago.
+     *
+     * @return {@code true} if the device is down
+     */
+    synchronized boolean isDown() {
+        if (down && System.nanoTime() - downUntilNanos >= 0) {
+            down = false;
+        }
+        return down;
+    }
+
+    synchronized void sessionDropped() {
+        final SessionBehavior session = profile.getSession();
+        if (session != null && session.getDowntime() > 0) {
+            down = true;
+            downUntilNanos = System.nanoTime() + (long) (TimeUnit.SECONDS.toNanos(1) * session.getDowntime());
+        }
+    }
+
+    private long exponentialNanos(final double meanNanos) {
+        return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+    }
+
+    @Override
+    public String toString() {
+        return address;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+
+/**
+ * Distribution of the latency of replies, all values are in milliseconds.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+class Latency {
+    @XmlEnum
+    enum Distribution {
+        @XmlEnumValue("constant")
+        CONSTANT,
+        @XmlEnumValue("uniform")
+        UNIFORM,
+        @XmlEnumValue("exponential")
+        EXPONENTIAL,
+        @XmlEnumValue("normal")
+        NORMAL
+    }
+
+    @XmlAttribute(name = "distribution")
+    private Distribution distribution = Distribution.CONSTANT;
+
+    @XmlAttribute(name = "mean")
+    private double mean;
+
+    @XmlAttribute(name = "deviation")
+    private double deviation;
+
+    @XmlAttribute(name = "min")
+    private double min;
+
+    /**
+     * Upper bound of the latency, non-positive for no bound. Upper bound of the range of the uniform distribution.
+     */
+    @XmlAttribute(name = "max")
+    private double max;
+
+    void validate(final String rpc) {
+        checkArgument(mean >= 0 && deviation >= 0 && min >= 0, "Latency of rpc %s must not be negative", rpc);
+        switch (distribution) {
+            case UNIFORM:
+                checkArgument(max >= min, "Latency of rpc %s has max lower than min", rpc);
+                break;
+            case EXPONENTIAL:
+                checkArgument(mean > 0, "Latency of rpc %s needs a positive mean", rpc);
+                break;
+            default:
+                break;
+        }
+    }
+
+    long sampleNanos(final Random random) {
+        final double millis;
+        switch (distribution) {
+            case CONSTANT:
+                millis = mean;
+                break;
+            case UNIFORM:
+                millis = min + random.nextDouble() * (max - min);
+                break;
+            case EXPONENTIAL:
+                millis = -Math.log(1 - random.nextDouble()) * mean;
+                break;
+            case NORMAL:
+                millis = Math.max(0, mean + random.nextGaussian() * deviation);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled distribution " + distribution);
+        }
+        return (long) (TimeUnit.MILLISECONDS.toNanos(1) * (max > 0 ? Math.min(millis, max) : millis));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAnyElement;
+import javax.xml.bind.annotation.XmlAttribute;
+import org.w3c.dom.Element;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+class NotificationBehavior {
+    /**
+     * Mean rate of notifications arriving as a Poisson process, per second.
+     */
+    @XmlAttribute(name = "rate")
+    private double rate;
+
+    /**
+     * Number of notifications sent at once in each burst.
+     */
+    @XmlAttribute(name = "burst-size")
+    private int burstSize;
+
+    /**
+     * Interval between bursts, in seconds.
+     */
+    @XmlAttribute(name = "burst-interval")
+    private long burstInterval;
+
+    @XmlAnyElement
+    private Element content;
+
+    double getRate() {
+        return rate;
+    }
+
+    int getBurstSize() {
+        return burstSize;
+    }
+
+    long getBurstInterval() {
+        return burstInterval;
+    }
+
+    Element getContent() {
+        return content;
+    }
+}
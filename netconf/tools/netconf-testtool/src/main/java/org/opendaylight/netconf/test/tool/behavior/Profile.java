@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import java.util.Collections;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@XmlRootElement(name = "behavior")
+@XmlAccessorType(XmlAccessType.FIELD)
+class Profile {
+
+    @XmlAttribute(name = "seed")
+    private long seed;
+
+    @XmlElement(name = "rpc")
+    private List<RpcBehavior> rpcs;
+
+    @XmlElement(name = "notifications")
+    private NotificationBehavior notifications;
+
+    @XmlElement(name = "session")
+    private SessionBehavior session;
+
+    long getSeed() {
+        return seed;
+    }
+
+    List<RpcBehavior> getRpcs() {
+        return rpcs != null ? rpcs : Collections.emptyList();
+    }
+
+    NotificationBehavior getNotifications() {
+        return notifications;
+    }
+
+    SessionBehavior getSession() {
+        return session;
+    }
+}
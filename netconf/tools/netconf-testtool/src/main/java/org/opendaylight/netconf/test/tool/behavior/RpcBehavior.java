@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+class RpcBehavior {
+    /**
+     * Name matching all rpcs without a behavior of their own.
+     */
+    static final String ANY = "*";
+
+    @XmlAttribute(name = "name")
+    private String name = ANY;
+
+    /**
+     * Number of bytes to pad replies with.
+     */
+    @XmlAttribute(name = "padding")
+    private int padding;
+
+    @XmlElement(name = "latency")
+    private Latency latency;
+
+    String getName() {
+        return name;
+    }
+
+    int getPadding() {
+        return padding;
+    }
+
+    Latency getLatency() {
+        return latency;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+class SessionBehavior {
+    /**
+     * Mean time a session stays up before the device drops it, exponentially distributed, in seconds.
+     */
+    @XmlAttribute(name = "mean-uptime")
+    private double meanUptime;
+
+    /**
+     * Time the device refuses new sessions after dropping one, in seconds.
+     */
+    @XmlAttribute(name = "downtime")
+    private double downtime;
+
+    double getMeanUptime() {
+        return meanUptime;
+    }
+
+    double getDowntime() {
+        return downtime;
+    }
+}
@@ -15,6 +15,7 @@ import com.ning.http.client.Request;
 import com.ning.http.client.Response;
 import java.util.ArrayList;
 import java.util.concurrent.Semaphore;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
 import org.opendaylight.netconf.test.tool.client.stress.ExecutionStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,12 +28,14 @@ public class AsyncExecutionStrategy implements ExecutionStrategy {
     private final ArrayList<Request> payloads;
     private final AsyncHttpClient asyncHttpClient;
     private final Semaphore semaphore;
+    private final LatencyRecorder latencyRecorder;
 
     AsyncExecutionStrategy(final Parameters params, final AsyncHttpClient asyncHttpClient,
-                           final ArrayList<Request> payloads) {
+                           final ArrayList<Request> payloads, final LatencyRecorder latencyRecorder) {
         this.params = params;
         this.asyncHttpClient = asyncHttpClient;
         this.payloads = payloads;
+        this.latencyRecorder = latencyRecorder;
         this.semaphore = new Semaphore(RestPerfClient.throttle);
     }
 
@@ -46,11 +49,15 @@ public class AsyncExecutionStrategy implements ExecutionStrategy {
             } catch (InterruptedException e) {
                 LOG.warn("Semaphore acquire interrupted");
             }
+            final long sentNanos = System.nanoTime();
             asyncHttpClient.executeRequest(request, new AsyncCompletionHandler<Response>() {
+                private boolean successful;
+
                 @Override
                 public STATE onStatusReceived(HttpResponseStatus status) throws Exception {
                     super.onStatusReceived(status);
-                    if (status.getStatusCode() != 200 && status.getStatusCode() != 204) {
+                    successful = status.getStatusCode() == 200 || status.getStatusCode() == 204;
+                    if (!successful) {
                         LOG.warn("Request failed, status code: {}", status.getStatusCode() + status.getStatusText());
                         LOG.warn("request: {}", request.toString());
                     }
@@ -59,9 +66,21 @@ public class AsyncExecutionStrategy implements ExecutionStrategy {
 
                 @Override
                 public Response onCompleted(Response response) {
+                    if (successful) {
+                        latencyRecorder.recordLatency(sentNanos);
+                    } else {
+                        latencyRecorder.recordFailure();
+                    }
                     semaphore.release();
                     return response;
                 }
+
+                @Override
+                public void onThrowable(Throwable throwable) {
+                    LOG.warn("Request failed", throwable);
+                    latencyRecorder.recordFailure();
+                    semaphore.release();
+                }
             });
         }
         LOG.info("Requests sent, waiting for responses");
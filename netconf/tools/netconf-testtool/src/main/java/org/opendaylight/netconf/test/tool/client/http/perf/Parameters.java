@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.annotation.Arg;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyReporter;
 
 public class Parameters {
 
@@ -56,6 +57,18 @@ public class Parameters {
     @Arg(dest = "timeout")
     public long timeout;
 
+    @Arg(dest = "latency-report")
+    public File latencyReport;
+
+    @Arg(dest = "latency-report-format")
+    public LatencyReporter.Format latencyReportFormat;
+
+    @Arg(dest = "latency-report-interval")
+    public long latencyReportInterval;
+
+    @Arg(dest = "latency-expected-interval")
+    public long latencyExpectedInterval;
+
     static ArgumentParser getParser() {
         final ArgumentParser parser = ArgumentParsers.newArgumentParser("netconf stress client");
 
@@ -132,6 +145,31 @@ public class Parameters {
                 .help("Maximum time in minutes to wait for finishing all requests.")
                 .dest("timeout");
 
+        parser.addArgument("--latency-report")
+                .type(File.class)
+                .required(false)
+                .help("File to write latency percentiles and throughput, total, per thread and per interval, to")
+                .dest("latency-report");
+
+        parser.addArgument("--latency-report-format")
+                .type(LatencyReporter.Format.class)
+                .setDefault(LatencyReporter.Format.JSON)
+                .help("Format of the latency report, JSON or CSV")
+                .dest("latency-report-format");
+
+        parser.addArgument("--latency-report-interval")
+                .type(Long.class)
+                .setDefault(10L)
+                .help("Interval in seconds at which latency percentiles are logged, 0 to log them only at the end")
+                .dest("latency-report-interval");
+
+        parser.addArgument("--latency-expected-interval")
+                .type(Long.class)
+                .setDefault(0L)
+                .help("Expected interval in microseconds between requests sent by a thread. If set, latencies are "
+                    + "corrected for coordinated omission, as if requests were sent at this rate.")
+                .dest("latency-expected-interval");
+
         return parser;
     }
 
@@ -146,6 +184,10 @@ public class Parameters {
 
         Preconditions.checkArgument(destination.startsWith("/"), "Destination should start with a '/'");
         Preconditions.checkArgument(threadAmount > 0, "Parameter thread-amount must be greater than 0");
+        Preconditions.checkArgument(latencyReportInterval >= 0, "Parameter latency-report-interval must not be "
+            + "negative");
+        Preconditions.checkArgument(latencyExpectedInterval >= 0, "Parameter latency-expected-interval must not be "
+            + "negative");
     }
 
     public InetSocketAddress getInetAddress() {
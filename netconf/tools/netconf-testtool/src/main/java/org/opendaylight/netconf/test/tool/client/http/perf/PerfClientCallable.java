@@ -15,6 +15,7 @@ import com.ning.http.client.Request;
 import java.util.ArrayList;
 import java.util.concurrent.Callable;
 import org.opendaylight.netconf.test.tool.client.http.perf.RestPerfClient.DestToPayload;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
 import org.opendaylight.netconf.test.tool.client.stress.ExecutionStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,10 +26,12 @@ public class PerfClientCallable implements Callable<Void> {
     private final Parameters params;
     private final ArrayList<Request> payloads;
     private final AsyncHttpClient asyncHttpClient;
+    private final LatencyRecorder latencyRecorder;
     private ExecutionStrategy executionStrategy;
 
-    public PerfClientCallable(Parameters params, ArrayList<DestToPayload> payloads) {
+    public PerfClientCallable(Parameters params, ArrayList<DestToPayload> payloads, LatencyRecorder latencyRecorder) {
         this.params = params;
+        this.latencyRecorder = latencyRecorder;
         this.asyncHttpClient = new AsyncHttpClient(new AsyncHttpClientConfig.Builder()
                 .setConnectTimeout(Integer.MAX_VALUE)
                 .setRequestTimeout(Integer.MAX_VALUE)
@@ -58,13 +61,18 @@ public class PerfClientCallable implements Callable<Void> {
 
     private ExecutionStrategy getExecutionStrategy() {
         return params.async
-                ? new AsyncExecutionStrategy(params, asyncHttpClient, payloads)
-                : new SyncExecutionStrategy(params, asyncHttpClient, payloads);
+                ? new AsyncExecutionStrategy(params, asyncHttpClient, payloads, latencyRecorder)
+                : new SyncExecutionStrategy(params, asyncHttpClient, payloads, latencyRecorder);
     }
 
     @Override
     public Void call() {
-        executionStrategy.invoke();
+        latencyRecorder.start();
+        try {
+            executionStrategy.invoke();
+        } finally {
+            latencyRecorder.stop();
+        }
         asyncHttpClient.closeAsynchronously();
         return null;
     }
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
 import net.sourceforge.argparse4j.inf.ArgumentParserException;
 import org.opendaylight.netconf.test.tool.TestToolUtils;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -151,9 +152,12 @@ public final class RestPerfClient {
                     prepareMessage(threadAmount - 1, requestsPerThread + i, editContentString, devicePort)));
         }
 
+        final LatencyReporter latencyReporter = new LatencyReporter(parameters.latencyReportInterval,
+            parameters.latencyExpectedInterval);
         final ArrayList<PerfClientCallable> callables = new ArrayList<>();
-        for (ArrayList<DestToPayload> payloads : allThreadsPayloads) {
-            callables.add(new PerfClientCallable(parameters, payloads));
+        for (int i = 0; i < allThreadsPayloads.size(); i++) {
+            callables.add(new PerfClientCallable(parameters, allThreadsPayloads.get(i),
+                latencyReporter.newRecorder("thread-" + (i + 1))));
         }
 
         final ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
@@ -161,6 +165,7 @@ public final class RestPerfClient {
         LOG.info("Starting performance test");
         boolean allThreadsCompleted = true;
         final Stopwatch started = Stopwatch.createStarted();
+        latencyReporter.start();
         try {
             final List<Future<Void>> futures = executorService.invokeAll(
                 callables, parameters.timeout, TimeUnit.MINUTES);
@@ -192,6 +197,7 @@ public final class RestPerfClient {
             LOG.info(
                 "Requests per second: {}", parameters.editCount * 1000.0 / started.elapsed(TimeUnit.MILLISECONDS));
         }
+        latencyReporter.finish(parameters.latencyReport, parameters.latencyReportFormat);
         System.exit(0);
     }
 
@@ -13,6 +13,7 @@ import com.ning.http.client.Response;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.concurrent.ExecutionException;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
 import org.opendaylight.netconf.test.tool.client.stress.ExecutionStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,12 +25,14 @@ public class SyncExecutionStrategy implements ExecutionStrategy {
     private final Parameters params;
     private final ArrayList<Request> payloads;
     private final AsyncHttpClient asyncHttpClient;
+    private final LatencyRecorder latencyRecorder;
 
     SyncExecutionStrategy(final Parameters params, final AsyncHttpClient asyncHttpClient,
-                          final ArrayList<Request> payloads) {
+                          final ArrayList<Request> payloads, final LatencyRecorder latencyRecorder) {
         this.params = params;
         this.asyncHttpClient = asyncHttpClient;
         this.payloads = payloads;
+        this.latencyRecorder = latencyRecorder;
     }
 
     @Override
@@ -37,14 +40,19 @@ public class SyncExecutionStrategy implements ExecutionStrategy {
 
         LOG.info("Begin sending sync requests");
         for (Request request : payloads) {
+            final long sentNanos = System.nanoTime();
             try {
                 Response response = asyncHttpClient.executeRequest(request).get();
-                if (response.getStatusCode() != 200 && response.getStatusCode() != 204) {
+                if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                    latencyRecorder.recordLatency(sentNanos);
+                } else {
+                    latencyRecorder.recordFailure();
                     LOG.warn("Status code: {}", response.getStatusCode());
                     LOG.warn("url: {}", request.getUrl());
                     LOG.warn("body: {}", response.getResponseBody());
                 }
             } catch (InterruptedException | ExecutionException | IOException e) {
+                latencyRecorder.recordFailure();
                 LOG.warn("Failed to execute request", e);
             }
         }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stats;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in microseconds, using the same log-linear bucketing as HdrHistogram: values are recorded
+ * with a precision of three significant digits over the whole trackable range, in constant space and time. Values
+ * can be recorded concurrently from multiple threads.
+ */
+public final class LatencyHistogram {
+    /**
+     * Highest trackable latency, one hour. Higher values are recorded as this value.
+     */
+    public static final long HIGHEST_TRACKABLE_VALUE = 3_600_000_000L;
+
+    // Three significant digits need 2000 sub-buckets, rounded up to a power of two
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 10;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT << 1;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int LEADING_ZERO_COUNT_BASE = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+    private static final int COUNTS_LENGTH = countsLength(HIGHEST_TRACKABLE_VALUE);
+
+    private final AtomicLongArray counts = new AtomicLongArray(COUNTS_LENGTH);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param value latency in microseconds
+     */
+    public void recordValue(final long value) {
+        checkArgument(value >= 0, "Negative latency %s", value);
+        final long recorded = Math.min(value, HIGHEST_TRACKABLE_VALUE);
+        counts.incrementAndGet(countsIndex(recorded));
+        totalCount.incrementAndGet();
+        sum.addAndGet(recorded);
+        min.accumulateAndGet(recorded, Math::min);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Record a latency, correcting for coordinated omission. If the latency is longer than the interval in which
+     * requests are expected to be sent, the requests which would have been sent in the meantime are recorded too,
+     * with linearly decreasing latencies, as the client was prevented from sending them by the slow response.
+     *
+     * @param value latency in microseconds
+     * @param expectedInterval expected interval between requests in microseconds, non-positive to disable the
+     *                         correction
+     */
+    public void recordValueWithExpectedInterval(final long value, final long expectedInterval) {
+        recordValue(value);
+        if (expectedInterval > 0) {
+            for (long missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval) {
+                recordValue(missing);
+            }
+        }
+    }
+
+    /**
+     * Add all values recorded in another histogram to this one.
+     *
+     * @param other histogram to add
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < COUNTS_LENGTH; i++) {
+            final long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        sum.addAndGet(other.sum.get());
+        min.accumulateAndGet(other.min.get(), Math::min);
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Move all values recorded so far to a new histogram, leaving this one empty. Values recorded concurrently end
+     * up in either of the histograms.
+     *
+     * @return histogram with the values recorded so far
+     */
+    public LatencyHistogram snapshotAndReset() {
+        final LatencyHistogram snapshot = new LatencyHistogram();
+        for (int i = 0; i < COUNTS_LENGTH; i++) {
+            if (counts.get(i) != 0) {
+                snapshot.counts.set(i, counts.getAndSet(i, 0));
+            }
+        }
+        snapshot.totalCount.set(totalCount.getAndSet(0));
+        snapshot.sum.set(sum.getAndSet(0));
+        snapshot.min.set(min.getAndSet(Long.MAX_VALUE));
+        snapshot.max.set(max.getAndSet(0));
+        return snapshot;
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMinValue() {
+        return getTotalCount() == 0 ? 0 : min.get();
+    }
+
+    public long getMaxValue() {
+        return max.get();
+    }
+
+    public double getMean() {
+        final long count = getTotalCount();
+        return count == 0 ? 0 : (double) sum.get() / count;
+    }
+
+    /**
+     * Return the latency below which the given percentage of recorded latencies fall.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return the highest latency equivalent, within the histogram precision, to the latency at the percentile
+     */
+    public long getValueAtPercentile(final double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Invalid percentile %s", percentile);
+        final long count = getTotalCount();
+        if (count == 0) {
+            return 0;
+        }
+        final long countAtPercentile = Math.max(1, (long) (percentile / 100 * count + 0.5));
+        long seen = 0;
+        for (int i = 0; i < COUNTS_LENGTH; i++) {
+            seen += counts.get(i);
+            if (seen >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    /**
+     * Return the number of recorded latencies higher than a value. Latencies equivalent to the value, within
+     * the histogram precision, are not counted.
+     *
+     * @param value latency in microseconds
+     * @return number of higher latencies
+     */
+    public long getCountAboveValue(final long value) {
+        checkArgument(value >= 0, "Negative latency %s", value);
+        long count = 0;
+        for (int i = countsIndex(Math.min(value, HIGHEST_TRACKABLE_VALUE)) + 1; i < COUNTS_LENGTH; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    private static int countsIndex(final long value) {
+        final int bucketIndex = LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+        final int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_MAGNITUDE) + subBucketIndex - SUB_BUCKET_HALF_COUNT;
+    }
+
+    private static long highestEquivalentValue(final int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+            bucketIndex = 0;
+        }
+        final long lowestEquivalentValue = (long) subBucketIndex << bucketIndex;
+        return lowestEquivalentValue + (1L << bucketIndex) - 1;
+    }
+
+    private static int countsLength(final long highestTrackableValue) {
+        long smallestUntrackableValue = SUB_BUCKET_COUNT;
+        int bucketCount = 1;
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            smallestUntrackableValue <<= 1;
+            bucketCount++;
+        }
+        return (bucketCount + 1) * SUB_BUCKET_HALF_COUNT;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records latencies of the requests issued by a single client thread, along with the time the thread was running,
+ * from which its throughput is computed. Latencies may be recorded from any thread, such as the one completing
+ * a response future.
+ */
+public final class LatencyRecorder {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LatencyHistogram intervalHistogram = new LatencyHistogram();
+    private final AtomicLong failures = new AtomicLong();
+    private final String name;
+    private final long expectedInterval;
+
+    private volatile long startNanos;
+    private volatile long stopNanos;
+
+    LatencyRecorder(final String name, final long expectedInterval) {
+        this.name = requireNonNull(name);
+        this.expectedInterval = expectedInterval;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Mark the start of the thread's run.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the end of the thread's run.
+     */
+    public void stop() {
+        stopNanos = System.nanoTime();
+    }
+
+    /**
+     * Record the latency of a request which has just completed successfully.
+     *
+     * @param sentNanos {@link System#nanoTime()} at which the request was sent
+     */
+    public void recordLatency(final long sentNanos) {
+        final long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentNanos);
+        histogram.recordValueWithExpectedInterval(latency, expectedInterval);
+        intervalHistogram.recordValueWithExpectedInterval(latency, expectedInterval);
+    }
+
+    /**
+     * Record a request which has failed. Latencies of failed requests are not recorded.
+     */
+    public void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    LatencyHistogram snapshotInterval() {
+        return intervalHistogram.snapshotAndReset();
+    }
+
+    long getFailures() {
+        return failures.get();
+    }
+
+    long getElapsedNanos() {
+        final long start = startNanos;
+        if (start == 0) {
+            return 0;
+        }
+        final long stop = stopNanos;
+        return (stop == 0 ? System.nanoTime() : stop) - start;
+    }
+}
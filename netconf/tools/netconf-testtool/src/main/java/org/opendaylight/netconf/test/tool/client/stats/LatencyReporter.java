@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stats;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects latencies from the {@link LatencyRecorder}s of all client threads. Percentiles over the last interval are
+ * logged periodically, percentiles over the whole run, total and per thread, are logged at the end and optionally
+ * written to a JSON or CSV report, along with the interval percentiles.
+ */
+public final class LatencyReporter {
+    public enum Format {
+        JSON,
+        CSV
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(LatencyReporter.class);
+
+    /**
+     * Statistics of a set of requests.
+     */
+    private static final class Stats {
+        private final String type;
+        private final String name;
+        private final long count;
+        private final long failures;
+        private final long elapsedNanos;
+        private final long min;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long p999;
+        private final long max;
+
+        Stats(final String type, final String name, final LatencyHistogram histogram, final long failures,
+                final long elapsedNanos) {
+            this.type = type;
+            this.name = name;
+            this.count = histogram.getTotalCount();
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.min = histogram.getMinValue();
+            this.mean = histogram.getMean();
+            this.p50 = histogram.getValueAtPercentile(50);
+            this.p90 = histogram.getValueAtPercentile(90);
+            this.p99 = histogram.getValueAtPercentile(99);
+            this.p999 = histogram.getValueAtPercentile(99.9);
+            this.max = histogram.getMaxValue();
+        }
+
+        double throughput() {
+            return elapsedNanos == 0 ? 0 : count * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        void log() {
+            LOG.info("{} {}: {} requests, {} failed, {} req/s, latency us: min {}, mean {}, p50 {}, p90 {}, p99 {}, "
+                + "p99.9 {}, max {}", type, name, count, failures, format(throughput()), min, format(mean), p50, p90,
+                p99, p999, max);
+        }
+
+        void writeJson(final StringBuilder sb) {
+            sb.append("{\"name\":\"").append(name.replace("\\", "\\\\").replace("\"", "\\\""))
+                .append("\",\"count\":").append(count)
+                .append(",\"failures\":").append(failures)
+                .append(",\"duration-ms\":").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .append(",\"throughput\":").append(format(throughput()))
+                .append(",\"min-us\":").append(min)
+                .append(",\"mean-us\":").append(format(mean))
+                .append(",\"p50-us\":").append(p50)
+                .append(",\"p90-us\":").append(p90)
+                .append(",\"p99-us\":").append(p99)
+                .append(",\"p99.9-us\":").append(p999)
+                .append(",\"max-us\":").append(max)
+                .append('}');
+        }
+
+        void writeCsv(final StringBuilder sb) {
+            sb.append(type).append(',').append(name)
+                .append(',').append(count)
+                .append(',').append(failures)
+                .append(',').append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .append(',').append(format(throughput()))
+                .append(',').append(min)
+                .append(',').append(format(mean))
+                .append(',').append(p50)
+                .append(',').append(p90)
+                .append(',').append(p99)
+                .append(',').append(p999)
+                .append(',').append(max)
+                .append('\n');
+        }
+
+        private static String format(final double value) {
+            return String.format(Locale.ROOT, "%.2f", value);
+        }
+    }
+
+    private static final String CSV_HEADER = "type,name,count,failures,duration-ms,throughput,min-us,mean-us,p50-us,"
+        + "p90-us,p99-us,p99.9-us,max-us\n";
+
+    private final List<LatencyRecorder> recorders = new CopyOnWriteArrayList<>();
+    private final List<Stats> intervals = new ArrayList<>();
+    private final long intervalSeconds;
+    private final long expectedInterval;
+
+    private ScheduledExecutorService executor;
+    private long intervalStartNanos;
+
+    /**
+     * Create a reporter.
+     *
+     * @param intervalSeconds interval at which percentiles are reported, in seconds, non-positive to report them
+     *                        only at the end
+     * @param expectedInterval expected interval between requests sent by a thread, in microseconds, used to correct
+     *                         latencies for coordinated omission, non-positive to disable the correction
+     */
+    public LatencyReporter(final long intervalSeconds, final long expectedInterval) {
+        this.intervalSeconds = intervalSeconds;
+        this.expectedInterval = expectedInterval;
+    }
+
+    /**
+     * Create a recorder for a client thread.
+     *
+     * @param name name of the thread used in reports
+     * @return new recorder
+     */
+    public LatencyRecorder newRecorder(final String name) {
+        final LatencyRecorder recorder = new LatencyRecorder(name, expectedInterval);
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * Start reporting percentiles periodically.
+     */
+    public synchronized void start() {
+        intervalStartNanos = System.nanoTime();
+        if (intervalSeconds > 0) {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("latency-reporter").setDaemon(true).build());
+            executor.scheduleAtFixedRate(this::reportInterval, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop reporting, log the percentiles over the whole run and write them to a report file.
+     *
+     * @param reportFile report file, {@code null} if no report is to be written
+     * @param format format of the report
+     */
+    public void finish(final File reportFile, final Format format) {
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+        reportInterval();
+
+        final LatencyHistogram total = new LatencyHistogram();
+        long failures = 0;
+        long elapsedNanos = 0;
+        final List<Stats> threads = new ArrayList<>(recorders.size());
+        for (final LatencyRecorder recorder : recorders) {
+            final Stats stats = new Stats("thread", recorder.getName(), recorder.getHistogram(),
+                recorder.getFailures(), recorder.getElapsedNanos());
+            stats.log();
+            threads.add(stats);
+            total.add(recorder.getHistogram());
+            failures += recorder.getFailures();
+            elapsedNanos = Math.max(elapsedNanos, recorder.getElapsedNanos());
+        }
+        final Stats totalStats = new Stats("total", "total", total, failures, elapsedNanos);
+        totalStats.log();
+
+        if (reportFile != null) {
+            final String report;
+            synchronized (this) {
+                report = format == Format.CSV ? toCsv(totalStats, threads) : toJson(totalStats, threads);
+            }
+            try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(report);
+            } catch (IOException e) {
+                LOG.error("Failed to write latency report to {}", reportFile, e);
+                return;
+            }
+            LOG.info("Latency report written to {}", reportFile);
+        }
+    }
+
+    private synchronized void reportInterval() {
+        final long now = System.nanoTime();
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (final LatencyRecorder recorder : recorders) {
+            histogram.add(recorder.snapshotInterval());
+        }
+        final Stats stats = new Stats("interval", Integer.toString(intervals.size() + 1), histogram, 0,
+            now - intervalStartNanos);
+        intervalStartNanos = now;
+        if (stats.count != 0) {
+            stats.log();
+        }
+        intervals.add(stats);
+    }
+
+    private String toJson(final Stats total, final List<Stats> threads) {
+        final StringBuilder sb = new StringBuilder("{\"total\":");
+        total.writeJson(sb);
+        sb.append(",\n\"threads\":[");
+        appendJson(sb, threads);
+        sb.append("],\n\"intervals\":[");
+        appendJson(sb, intervals);
+        return sb.append("]}\n").toString();
+    }
+
+    private static void appendJson(final StringBuilder sb, final List<Stats> stats) {
+        for (int i = 0; i < stats.size(); i++) {
+            if (i != 0) {
+                sb.append(",\n");
+            }
+            stats.get(i).writeJson(sb);
+        }
+    }
+
+    private String toCsv(final Stats total, final List<Stats> threads) {
+        final StringBuilder sb = new StringBuilder(CSV_HEADER);
+        total.writeCsv(sb);
+        threads.forEach(stats -> stats.writeCsv(sb));
+        intervals.forEach(stats -> stats.writeCsv(sb));
+        return sb.toString();
+    }
+}
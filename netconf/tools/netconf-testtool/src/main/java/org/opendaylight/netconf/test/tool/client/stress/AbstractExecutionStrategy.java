@@ -7,24 +7,34 @@
  */
 package org.opendaylight.netconf.test.tool.client.stress;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
 abstract class AbstractExecutionStrategy implements ExecutionStrategy {
     private final Parameters params;
     private final List<NetconfMessage> preparedMessages;
     private final NetconfDeviceCommunicator sessionListener;
+    private final LatencyRecorder latencyRecorder;
     private final List<Integer> editBatches;
     private final int editAmount;
 
     AbstractExecutionStrategy(final Parameters params, final List<NetconfMessage> editConfigMsgs,
-                              final NetconfDeviceCommunicator sessionListener) {
+                              final NetconfDeviceCommunicator sessionListener,
+                              final LatencyRecorder latencyRecorder) {
         editAmount = editConfigMsgs.size();
         this.params = params;
         this.preparedMessages = editConfigMsgs;
         this.sessionListener = sessionListener;
+        this.latencyRecorder = latencyRecorder;
         this.editBatches = countEditBatchSizes(params, editConfigMsgs.size());
     }
 
@@ -58,6 +68,47 @@ abstract class AbstractExecutionStrategy implements ExecutionStrategy {
         return sessionListener;
     }
 
+    /**
+     * Send a request through the session listener, recording its latency once the response is received.
+     *
+     * @param message request to send
+     * @param rpc name of the request rpc
+     * @return future completing with the response
+     */
+    protected ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final NetconfMessage message, final QName rpc) {
+        return sendRequest(message, rpc, System.nanoTime());
+    }
+
+    /**
+     * Send a request through the session listener, recording its latency from the time it was scheduled to be sent
+     * once the response is received.
+     *
+     * @param message request to send
+     * @param rpc name of the request rpc
+     * @param sentNanos {@link System#nanoTime()} at which the request was scheduled to be sent
+     * @return future completing with the response
+     */
+    protected ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final NetconfMessage message, final QName rpc,
+            final long sentNanos) {
+        final ListenableFuture<RpcResult<NetconfMessage>> future = sessionListener.sendRequest(message, rpc);
+        Futures.addCallback(future, new FutureCallback<RpcResult<NetconfMessage>>() {
+            @Override
+            public void onSuccess(final RpcResult<NetconfMessage> result) {
+                if (result.isSuccessful()) {
+                    latencyRecorder.recordLatency(sentNanos);
+                } else {
+                    latencyRecorder.recordFailure();
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                latencyRecorder.recordFailure();
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
     protected List<Integer> getEditBatches() {
         return editBatches;
     }
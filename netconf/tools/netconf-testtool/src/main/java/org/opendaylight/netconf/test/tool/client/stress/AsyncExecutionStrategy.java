@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,8 +27,8 @@ class AsyncExecutionStrategy extends AbstractExecutionStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(AsyncExecutionStrategy.class);
 
     AsyncExecutionStrategy(final Parameters params, final List<NetconfMessage> editConfigMsgs,
-                           final NetconfDeviceCommunicator sessionListener) {
-        super(params, editConfigMsgs, sessionListener);
+                           final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder) {
+        super(params, editConfigMsgs, sessionListener, latencyRecorder);
     }
 
     @Override
@@ -45,13 +46,13 @@ class AsyncExecutionStrategy extends AbstractExecutionStrategy {
                     LOG.debug("Sending message {}", XmlUtil.toString(msg.getDocument()));
                 }
                 final ListenableFuture<RpcResult<NetconfMessage>> netconfMessageFuture =
-                        getSessionListener().sendRequest(msg, StressClient.EDIT_QNAME);
+                        sendRequest(msg, StressClient.EDIT_QNAME);
                 futures.add(netconfMessageFuture);
             }
             batchI++;
             LOG.info("Batch {} with size {} sent. Committing", batchI, editBatch);
             if (getParams().candidateDatastore) {
-                futures.add(getSessionListener().sendRequest(StressClient.COMMIT_MSG, StressClient.COMMIT_QNAME));
+                futures.add(sendRequest(StressClient.COMMIT_MSG, StressClient.COMMIT_QNAME));
             }
         }
 
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offered load of an open-loop run: a sequence of stages, each issuing requests at a target rate for a duration,
+ * the process in which requests arrive and the mix of operations they perform.
+ */
+final class LoadProfile {
+    /**
+     * Process in which requests arrive.
+     */
+    public enum Arrival {
+        /**
+         * Requests arrive at constant intervals.
+         */
+        CONSTANT,
+        /**
+         * Requests arrive as a Poisson process, with exponentially distributed intervals.
+         */
+        POISSON
+    }
+
+    /**
+     * Operation performed by a request.
+     */
+    enum Operation {
+        GET("get"),
+        GET_CONFIG("get-config"),
+        EDIT("edit"),
+        COMMIT("commit");
+
+        private final String argument;
+
+        Operation(final String argument) {
+            this.argument = argument;
+        }
+
+        static Operation forArgument(final String argument) {
+            for (final Operation operation : values()) {
+                if (operation.argument.equals(argument)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation " + argument + " in workload");
+        }
+    }
+
+    static final class Stage {
+        private final double rate;
+        private final long durationNanos;
+
+        Stage(final double rate, final long durationNanos) {
+            this.rate = rate;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Return the target rate of the stage, across all threads.
+         *
+         * @return requests per second
+         */
+        double getRate() {
+            return rate;
+        }
+
+        long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+    private static final Splitter LIST_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private final List<Stage> stages;
+    private final Arrival arrival;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private LoadProfile(final List<Stage> stages, final Arrival arrival, final Map<Operation, Integer> workload) {
+        this.stages = requireNonNull(stages);
+        this.arrival = requireNonNull(arrival);
+        operations = new Operation[workload.size()];
+        cumulativeWeights = new int[workload.size()];
+        int index = 0;
+        int total = 0;
+        for (final Map.Entry<Operation, Integer> entry : workload.entrySet()) {
+            total += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index] = total;
+            index++;
+        }
+    }
+
+    /**
+     * Create a profile from the open-loop parameters.
+     *
+     * @param params parameters with rate stages set
+     * @return load profile
+     * @throws IllegalArgumentException if the parameters are not valid
+     */
+    static LoadProfile create(final Parameters params) {
+        final ImmutableList.Builder<Stage> stages = ImmutableList.builder();
+        for (final String stage : LIST_SPLITTER.split(params.rateStages)) {
+            final List<String> parts = Splitter.on(':').trimResults().splitToList(stage);
+            checkArgument(parts.size() == 2, "Rate stage %s is not in rate:seconds format", stage);
+            final double rate;
+            final long seconds;
+            try {
+                rate = Double.parseDouble(parts.get(0));
+                seconds = Long.parseLong(parts.get(1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Rate stage " + stage + " is not in rate:seconds format", e);
+            }
+            checkArgument(rate > 0, "Rate of stage %s must be greater than 0", stage);
+            checkArgument(seconds > 0, "Duration of stage %s must be greater than 0", stage);
+            stages.add(new Stage(rate, TimeUnit.SECONDS.toNanos(seconds)));
+        }
+
+        final Map<Operation, Integer> workload = new EnumMap<>(Operation.class);
+        for (final String entry : LIST_SPLITTER.split(params.workload)) {
+            final List<String> parts = Splitter.on('=').trimResults().splitToList(entry);
+            checkArgument(parts.size() == 2, "Workload entry %s is not in operation=weight format", entry);
+            final int weight;
+            try {
+                weight = Integer.parseInt(parts.get(1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Workload entry " + entry + " is not in operation=weight format",
+                    e);
+            }
+            checkArgument(weight >= 0, "Weight of workload entry %s must not be negative", entry);
+            if (weight != 0) {
+                workload.merge(Operation.forArgument(parts.get(0).toLowerCase(Locale.ROOT)), weight, Integer::sum);
+            }
+        }
+
+        final LoadProfile profile = new LoadProfile(stages.build(), params.arrival, workload);
+        checkArgument(!profile.stages.isEmpty(), "No rate stages specified");
+        checkArgument(!workload.isEmpty(), "No operations specified in workload");
+        checkArgument(params.candidateDatastore || !workload.containsKey(Operation.COMMIT),
+            "Commit requests need the candidate datastore");
+        return profile;
+    }
+
+    List<Stage> getStages() {
+        return stages;
+    }
+
+    long getDurationNanos() {
+        return stages.stream().mapToLong(Stage::getDurationNanos).sum();
+    }
+
+    /**
+     * Return the interval to the next request of a single thread.
+     *
+     * @param rate target rate of the thread, in requests per second
+     * @param random source of randomness
+     * @return interval in nanoseconds
+     */
+    long nextIntervalNanos(final double rate, final Random random) {
+        final double meanNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        switch (arrival) {
+            case CONSTANT:
+                return (long) meanNanos;
+            case POISSON:
+                return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+            default:
+                throw new IllegalStateException("Unhandled arrival " + arrival);
+        }
+    }
+
+    /**
+     * Pick the operation of the next request, according to the workload weights.
+     *
+     * @param random source of randomness
+     * @return operation to perform
+     */
+    Operation nextOperation(final Random random) {
+        final int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + value + " out of range");
+    }
+}
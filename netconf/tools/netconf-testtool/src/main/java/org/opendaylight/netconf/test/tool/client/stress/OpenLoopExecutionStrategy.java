@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Open-loop strategy, sending requests at the rate given by the stages of a {@link LoadProfile}, regardless of
+ * the responses, so that latencies are measured under a known offered load. Latencies are measured from the time
+ * a request was scheduled to be sent, so that a client falling behind the schedule does not hide them.
+ */
+class OpenLoopExecutionStrategy extends AbstractExecutionStrategy {
+    private static final Logger LOG = LoggerFactory.getLogger(OpenLoopExecutionStrategy.class);
+
+    private final AtomicLong pendingResponses = new AtomicLong();
+    private final StageMonitor stageMonitor;
+    private int editIndex;
+
+    OpenLoopExecutionStrategy(final Parameters params, final List<NetconfMessage> editConfigMsgs,
+                              final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder,
+                              final StageMonitor stageMonitor) {
+        super(params, editConfigMsgs, sessionListener, latencyRecorder);
+        this.stageMonitor = requireNonNull(stageMonitor);
+    }
+
+    @Override
+    public void invoke() {
+        final LoadProfile profile = stageMonitor.getProfile();
+        final List<LoadProfile.Stage> stages = profile.getStages();
+        final Random random = ThreadLocalRandom.current();
+        final int threadAmount = getParams().threadAmount;
+
+        LOG.info("Begin sending open-loop requests");
+        long scheduledNanos = stageMonitor.getStartNanos();
+        int stage = 0;
+        while (!stageMonitor.isAborted() && !Thread.currentThread().isInterrupted()) {
+            // Each thread contributes an equal share of the stage rate
+            scheduledNanos += profile.nextIntervalNanos(stages.get(stage).getRate() / threadAmount, random);
+            stage = stageMonitor.stageAt(scheduledNanos);
+            if (stage < 0) {
+                break;
+            }
+
+            parkUntil(scheduledNanos);
+            stageMonitor.checkSlo(System.nanoTime());
+            send(profile.nextOperation(random), stage, scheduledNanos);
+        }
+
+        LOG.info("Requests sent, waiting for responses");
+        awaitResponses();
+        LOG.info("Responses received, ending...");
+    }
+
+    private void send(final LoadProfile.Operation operation, final int stage, final long scheduledNanos) {
+        final NetconfMessage message;
+        final QName rpc;
+        switch (operation) {
+            case GET:
+                message = StressClient.GET_MSG;
+                rpc = StressClient.GET_QNAME;
+                break;
+            case GET_CONFIG:
+                message = getParams().candidateDatastore ? StressClient.GET_CONFIG_CANDIDATE_MSG
+                    : StressClient.GET_CONFIG_RUNNING_MSG;
+                rpc = StressClient.GET_CONFIG_QNAME;
+                break;
+            case EDIT:
+                // Edits cycle through the prepared messages
+                message = getPreparedMessages().get(editIndex++ % getPreparedMessages().size());
+                rpc = StressClient.EDIT_QNAME;
+                break;
+            case COMMIT:
+                message = StressClient.COMMIT_MSG;
+                rpc = StressClient.COMMIT_QNAME;
+                break;
+            default:
+                throw new IllegalStateException("Unhandled operation " + operation);
+        }
+
+        stageMonitor.requestSent(stage);
+        pendingResponses.incrementAndGet();
+        Futures.addCallback(sendRequest(message, rpc, scheduledNanos), new FutureCallback<RpcResult<NetconfMessage>>() {
+            @Override
+            public void onSuccess(final RpcResult<NetconfMessage> result) {
+                if (!result.isSuccessful()) {
+                    LOG.debug("Request failed {}", result);
+                }
+                responseReceived(stage, scheduledNanos, result.isSuccessful());
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.debug("Request failed", throwable);
+                responseReceived(stage, scheduledNanos, false);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void responseReceived(final int stage, final long scheduledNanos, final boolean successful) {
+        stageMonitor.requestCompleted(stage, scheduledNanos, successful);
+        if (pendingResponses.decrementAndGet() == 0) {
+            synchronized (pendingResponses) {
+                pendingResponses.notifyAll();
+            }
+        }
+    }
+
+    private void awaitResponses() {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getParams().msgTimeout);
+        synchronized (pendingResponses) {
+            while (pendingResponses.get() != 0) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    LOG.warn("{} responses not received within {} seconds", pendingResponses.get(),
+                        getParams().msgTimeout);
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(pendingResponses, remaining);
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    private static void parkUntil(final long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0;
+                remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.net.UnknownHostException;
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.annotation.Arg;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyReporter;
 
 public class Parameters {
 
@@ -70,6 +71,36 @@ public class Parameters {
     @Arg(dest = "concurrent-message-limit")
     public int concurrentMessageLimit;
 
+    @Arg(dest = "latency-report")
+    public File latencyReport;
+
+    @Arg(dest = "latency-report-format")
+    public LatencyReporter.Format latencyReportFormat;
+
+    @Arg(dest = "latency-report-interval")
+    public long latencyReportInterval;
+
+    @Arg(dest = "latency-expected-interval")
+    public long latencyExpectedInterval;
+
+    @Arg(dest = "rate-stages")
+    public String rateStages;
+
+    @Arg(dest = "arrival")
+    public LoadProfile.Arrival arrival;
+
+    @Arg(dest = "workload")
+    public String workload;
+
+    @Arg(dest = "slo-latency")
+    public long sloLatency;
+
+    @Arg(dest = "slo-percentile")
+    public double sloPercentile;
+
+    @Arg(dest = "slo-abort")
+    public boolean sloAbort;
+
     static ArgumentParser getParser() {
         final ArgumentParser parser = ArgumentParsers.newArgumentParser("netconf stress client");
 
@@ -172,6 +203,70 @@ public class Parameters {
                 .help("Number of rpc messages that can be sent before receiving reply to them.")
                 .dest("concurrent-message-limit");
 
+        parser.addArgument("--latency-report")
+                .type(File.class)
+                .required(false)
+                .help("File to write latency percentiles and throughput, total, per thread and per interval, to")
+                .dest("latency-report");
+
+        parser.addArgument("--latency-report-format")
+                .type(LatencyReporter.Format.class)
+                .setDefault(LatencyReporter.Format.JSON)
+                .help("Format of the latency report, JSON or CSV")
+                .dest("latency-report-format");
+
+        parser.addArgument("--latency-report-interval")
+                .type(Long.class)
+                .setDefault(10L)
+                .help("Interval in seconds at which latency percentiles are logged, 0 to log them only at the end")
+                .dest("latency-report-interval");
+
+        parser.addArgument("--latency-expected-interval")
+                .type(Long.class)
+                .setDefault(0L)
+                .help("Expected interval in microseconds between requests sent by a thread. If set, latencies are "
+                    + "corrected for coordinated omission, as if requests were sent at this rate.")
+                .dest("latency-expected-interval");
+
+        parser.addArgument("--rate-stages")
+                .type(String.class)
+                .required(false)
+                .help("Enables open-loop mode, sending requests at a target rate regardless of responses. Comma "
+                    + "separated stages in rate:seconds format, e.g. 100:30,500:30,1000:60 to ramp up to 1000 "
+                    + "requests per second across all threads. Edit requests cycle through the prepared edits.")
+                .dest("rate-stages");
+
+        parser.addArgument("--arrival")
+                .type(LoadProfile.Arrival.class)
+                .setDefault(LoadProfile.Arrival.POISSON)
+                .help("Arrival of open-loop requests, CONSTANT or POISSON")
+                .dest("arrival");
+
+        parser.addArgument("--workload")
+                .type(String.class)
+                .setDefault("edit=100")
+                .help("Mix of open-loop requests as comma separated operation=weight pairs, with operations get, "
+                    + "get-config, edit and commit, e.g. get=70,edit=20,commit=10")
+                .dest("workload");
+
+        parser.addArgument("--slo-latency")
+                .type(Long.class)
+                .setDefault(0L)
+                .help("Latency SLO in microseconds each open-loop stage is checked against, 0 to disable")
+                .dest("slo-latency");
+
+        parser.addArgument("--slo-percentile")
+                .type(Double.class)
+                .setDefault(99.0)
+                .help("Percentile of open-loop requests which must succeed within the SLO latency")
+                .dest("slo-percentile");
+
+        parser.addArgument("--slo-abort")
+                .type(Boolean.class)
+                .setDefault(Boolean.FALSE)
+                .help("Whether to abort the remaining open-loop stages once a stage breaches the SLO")
+                .dest("slo-abort");
+
         return parser;
     }
 
@@ -189,6 +284,13 @@ public class Parameters {
         Preconditions.checkArgument(editContent.canRead(), "Edit content file is unreadable");
         Preconditions.checkArgument(threadAmount > 0, "Parameter thread-amount must be greater than 0");
         Preconditions.checkArgument(msgTimeout >= 0, "Parameter msg-timeout must be greater than 0");
+        Preconditions.checkArgument(latencyReportInterval >= 0, "Parameter latency-report-interval must not be "
+            + "negative");
+        Preconditions.checkArgument(latencyExpectedInterval >= 0, "Parameter latency-expected-interval must not be "
+            + "negative");
+        Preconditions.checkArgument(sloLatency >= 0, "Parameter slo-latency must not be negative");
+        Preconditions.checkArgument(sloPercentile > 0 && sloPercentile <= 100,
+            "Parameter slo-percentile must be greater than 0 and at most 100");
     }
 
     public InetSocketAddress getInetAddress() {
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the requests of an open-loop run per stage of its {@link LoadProfile} and checks each stage against
+ * a latency SLO: the given percentile of requests must be answered successfully within the SLO latency.
+ *
+ * <p>A stage is checked as soon as the SLO latency has passed since its end, while the run goes on. By then, any
+ * request of the stage still waiting for its response has missed the SLO, so the check is exact even if the device
+ * stops responding altogether. All stages are summarized at the end of the run, from all responses received.
+ */
+final class StageMonitor {
+    private static final Logger LOG = LoggerFactory.getLogger(StageMonitor.class);
+
+    private static final class StageStats {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+    }
+
+    private final LoadProfile profile;
+    private final long sloLatency;
+    private final double sloPercentile;
+    private final boolean abortOnBreach;
+    private final StageStats[] stats;
+    private final long[] stageEndOffsets;
+
+    private volatile long startNanos;
+    private volatile long nextCheckNanos;
+    private volatile boolean checksPending;
+    private volatile boolean aborted;
+
+    // Guarded by this
+    private int checkedStages;
+
+    /**
+     * Create a monitor.
+     *
+     * @param profile load profile of the run
+     * @param sloLatency SLO latency in microseconds, non-positive to disable SLO checks
+     * @param sloPercentile percentile of requests which must meet the SLO latency
+     * @param abortOnBreach whether to abort the run once a stage breaches the SLO
+     */
+    StageMonitor(final LoadProfile profile, final long sloLatency, final double sloPercentile,
+            final boolean abortOnBreach) {
+        this.profile = requireNonNull(profile);
+        this.sloLatency = sloLatency;
+        this.sloPercentile = sloPercentile;
+        this.abortOnBreach = abortOnBreach;
+
+        final List<LoadProfile.Stage> stages = profile.getStages();
+        stats = new StageStats[stages.size()];
+        stageEndOffsets = new long[stages.size()];
+        long offset = 0;
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new StageStats();
+            offset += stages.get(i).getDurationNanos();
+            stageEndOffsets[i] = offset;
+        }
+    }
+
+    LoadProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Start the run. Stages are timed from this point on.
+     */
+    void start() {
+        startNanos = System.nanoTime();
+        if (sloLatency > 0) {
+            nextCheckNanos = checkNanos(0);
+            checksPending = true;
+        }
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Return the stage a point in time falls into.
+     *
+     * @param nanos {@link System#nanoTime()} based time
+     * @return index of the stage, -1 if the time is past the last stage
+     */
+    int stageAt(final long nanos) {
+        final long offset = nanos - startNanos;
+        for (int i = 0; i < stageEndOffsets.length; i++) {
+            if (offset < stageEndOffsets[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    void requestSent(final int stage) {
+        stats[stage].sent.incrementAndGet();
+    }
+
+    /**
+     * Record the response to a request.
+     *
+     * @param stage index of the stage the request was sent in
+     * @param intendedNanos {@link System#nanoTime()} at which the request was scheduled to be sent
+     * @param successful whether the request succeeded
+     */
+    void requestCompleted(final int stage, final long intendedNanos, final boolean successful) {
+        if (successful) {
+            stats[stage].latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos));
+        } else {
+            stats[stage].failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Check the SLO of the stages for which enough time has passed since their end.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    void checkSlo(final long nowNanos) {
+        if (checksPending && nowNanos - nextCheckNanos >= 0) {
+            checkStages(nowNanos);
+        }
+    }
+
+    /**
+     * Check the SLO of all stages not checked yet and log a summary of all stages. To be called once all responses
+     * have been received or waiting for them has timed out.
+     */
+    synchronized void finish() {
+        checksPending = false;
+        while (sloLatency > 0 && checkedStages < stats.length) {
+            checkStage(checkedStages++);
+        }
+
+        long sent = 0;
+        long failed = 0;
+        double highestRateMeetingSlo = 0;
+        for (int i = 0; i < stats.length; i++) {
+            final StageStats stage = stats[i];
+            final double rate = profile.getStages().get(i).getRate();
+            sent += stage.sent.get();
+            failed += stage.failed.get();
+            if (stage.sent.get() == 0) {
+                LOG.info("Stage {} at {} req/s: no requests sent", i + 1, rate);
+                continue;
+            }
+            LOG.info("Stage {} at {} req/s: {} requests, {} failed, {} unanswered, latency us: p50 {}, p90 {}, p99 {}, "
+                + "max {}", i + 1, rate, stage.sent.get(), stage.failed.get(), unanswered(stage),
+                stage.latencies.getValueAtPercentile(50), stage.latencies.getValueAtPercentile(90),
+                stage.latencies.getValueAtPercentile(99), stage.latencies.getMaxValue());
+            if (sloLatency > 0 && !isBreached(stage)) {
+                highestRateMeetingSlo = Math.max(highestRateMeetingSlo, rate);
+            }
+        }
+        LOG.info("Open-loop run finished: {} requests sent, {} failed", sent, failed);
+        if (sloLatency > 0) {
+            if (highestRateMeetingSlo > 0) {
+                LOG.info("Highest rate meeting the SLO of p{} within {} us: {} req/s", sloPercentile, sloLatency,
+                    highestRateMeetingSlo);
+            } else {
+                LOG.warn("No stage met the SLO of p{} within {} us", sloPercentile, sloLatency);
+            }
+        }
+    }
+
+    private synchronized void checkStages(final long nowNanos) {
+        while (checkedStages < stats.length && nowNanos - checkNanos(checkedStages) >= 0) {
+            checkStage(checkedStages++);
+        }
+        if (checkedStages < stats.length) {
+            nextCheckNanos = checkNanos(checkedStages);
+        } else {
+            checksPending = false;
+        }
+    }
+
+    private void checkStage(final int index) {
+        final StageStats stage = stats[index];
+        final long sent = stage.sent.get();
+        if (sent == 0) {
+            return;
+        }
+        if (isBreached(stage)) {
+            LOG.warn("Stage {} at {} req/s breached the SLO of p{} within {} us: {} of {} requests failed, took "
+                + "longer or are unanswered", index + 1, profile.getStages().get(index).getRate(), sloPercentile,
+                sloLatency, violations(stage), sent);
+            if (abortOnBreach && !aborted) {
+                LOG.warn("Aborting the remaining stages");
+                aborted = true;
+            }
+        } else {
+            LOG.info("Stage {} at {} req/s met the SLO of p{} within {} us", index + 1,
+                profile.getStages().get(index).getRate(), sloPercentile, sloLatency);
+        }
+    }
+
+    private boolean isBreached(final StageStats stage) {
+        return violations(stage) > stage.sent.get() * (100 - sloPercentile) / 100;
+    }
+
+    private long violations(final StageStats stage) {
+        return stage.latencies.getCountAboveValue(sloLatency) + stage.failed.get() + unanswered(stage);
+    }
+
+    private static long unanswered(final StageStats stage) {
+        return stage.sent.get() - stage.failed.get() - stage.latencies.getTotalCount();
+    }
+
+    private long checkNanos(final int stage) {
+        return startNanos + stageEndOffsets[stage] + TimeUnit.MICROSECONDS.toNanos(sloLatency);
+    }
+}
@@ -34,7 +34,9 @@ import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandler;
 import org.opendaylight.netconf.sal.connect.api.RemoteDevice;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
 import org.opendaylight.netconf.test.tool.TestToolUtils;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyReporter;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -64,6 +66,39 @@ public final class StressClient {
         }
     }
 
+    static final QName GET_QNAME = NetconfMessageTransformUtil.NETCONF_GET_QNAME;
+    static final QName GET_CONFIG_QNAME = NetconfMessageTransformUtil.NETCONF_GET_CONFIG_QNAME;
+    static final NetconfMessage GET_MSG;
+    static final NetconfMessage GET_CONFIG_RUNNING_MSG;
+    static final NetconfMessage GET_CONFIG_CANDIDATE_MSG;
+
+    static {
+        try {
+            GET_MSG = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc message-id=\"get\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                    + "    <get/>\n"
+                    + "</rpc>"));
+            GET_CONFIG_RUNNING_MSG = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc message-id=\"get-config-running\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                    + "    <get-config>\n"
+                    + "        <source>\n"
+                    + "            <running/>\n"
+                    + "        </source>\n"
+                    + "    </get-config>\n"
+                    + "</rpc>"));
+            GET_CONFIG_CANDIDATE_MSG = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc message-id=\"get-config-candidate\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                    + "    <get-config>\n"
+                    + "        <source>\n"
+                    + "            <candidate/>\n"
+                    + "        </source>\n"
+                    + "    </get-config>\n"
+                    + "</rpc>"));
+        } catch (final SAXException | IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     static final QName EDIT_QNAME = QName.create(EditConfigInput.QNAME, "edit-config");
     static final org.w3c.dom.Document EDIT_CANDIDATE_BLUEPRINT;
     static final org.w3c.dom.Document EDIT_RUNNING_BLUEPRINT;
@@ -159,20 +194,34 @@ public final class StressClient {
 
         final NetconfClientDispatcherImpl netconfClientDispatcher = configureClientDispatcher(nioGroup, timer);
 
+        // Open-loop mode is enabled by rate stages
+        final StageMonitor stageMonitor = params.rateStages == null ? null : new StageMonitor(
+            LoadProfile.create(params), params.sloLatency, params.sloPercentile, params.sloAbort);
+        final LatencyReporter latencyReporter = new LatencyReporter(params.latencyReportInterval,
+            params.latencyExpectedInterval);
         final List<StressClientCallable> callables = new ArrayList<>(threadAmount);
-        for (final List<NetconfMessage> messages : allPreparedMessages) {
-            callables.add(new StressClientCallable(params, netconfClientDispatcher, messages));
+        for (int i = 0; i < threadAmount; i++) {
+            callables.add(new StressClientCallable(params, netconfClientDispatcher, allPreparedMessages.get(i),
+                latencyReporter.newRecorder("thread-" + (i + 1)), stageMonitor));
+        }
+        long timeoutSeconds = TimeUnit.MINUTES.toSeconds(4);
+        if (stageMonitor != null) {
+            timeoutSeconds += TimeUnit.NANOSECONDS.toSeconds(stageMonitor.getProfile().getDurationNanos());
         }
 
         final ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
 
         LOG.info("Starting stress test");
         final Stopwatch started = Stopwatch.createStarted();
+        latencyReporter.start();
+        if (stageMonitor != null) {
+            stageMonitor.start();
+        }
         try {
             final List<Future<Boolean>> futures = executorService.invokeAll(callables);
             for (final Future<Boolean> future : futures) {
                 try {
-                    future.get(4L, TimeUnit.MINUTES);
+                    future.get(timeoutSeconds, TimeUnit.SECONDS);
                 } catch (ExecutionException | TimeoutException e) {
                     throw new RuntimeException(e);
                 }
@@ -184,7 +233,12 @@ public final class StressClient {
         started.stop();
 
         LOG.info("FINISHED. Execution time: {}", started);
-        LOG.info("Requests per second: {}", params.editCount * 1000.0 / started.elapsed(TimeUnit.MILLISECONDS));
+        if (stageMonitor != null) {
+            stageMonitor.finish();
+        } else {
+            LOG.info("Requests per second: {}", params.editCount * 1000.0 / started.elapsed(TimeUnit.MILLISECONDS));
+        }
+        latencyReporter.finish(params.latencyReport, params.latencyReportFormat);
 
         // Cleanup
         timer.stop();
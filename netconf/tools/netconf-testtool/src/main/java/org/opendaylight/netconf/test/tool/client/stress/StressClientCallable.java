@@ -25,6 +25,7 @@ import org.opendaylight.netconf.sal.connect.api.RemoteDevice;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,13 +39,17 @@ public class StressClientCallable implements Callable<Boolean> {
     private final NetconfClientConfiguration cfg;
     private final NetconfClientSession netconfClientSession;
     private final ExecutionStrategy executionStrategy;
+    private final LatencyRecorder latencyRecorder;
 
     public StressClientCallable(final Parameters params,
                                 final NetconfClientDispatcherImpl netconfClientDispatcher,
-                                final List<NetconfMessage> preparedMessages) {
+                                final List<NetconfMessage> preparedMessages,
+                                final LatencyRecorder latencyRecorder,
+                                final StageMonitor stageMonitor) {
         this.params = params;
         this.sessionListener = getSessionListener(params.getInetAddress(), params.concurrentMessageLimit);
         this.netconfClientDispatcher = netconfClientDispatcher;
+        this.latencyRecorder = latencyRecorder;
         cfg = getNetconfClientConfiguration(this.params, this.sessionListener);
 
         LOG.info("Connecting to netconf server {}:{}", params.ip, params.port);
@@ -55,22 +60,32 @@ public class StressClientCallable implements Callable<Boolean> {
         } catch (final ExecutionException e) {
             throw new RuntimeException("Unable to connect", e);
         }
-        executionStrategy = getExecutionStrategy(params, preparedMessages, sessionListener);
+        executionStrategy = getExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder,
+            stageMonitor);
     }
 
     @Override
     public Boolean call() {
-        executionStrategy.invoke();
+        latencyRecorder.start();
+        try {
+            executionStrategy.invoke();
+        } finally {
+            latencyRecorder.stop();
+        }
         netconfClientSession.close();
         return Boolean.TRUE;
     }
 
     private static ExecutionStrategy getExecutionStrategy(final Parameters params,
-            final List<NetconfMessage> preparedMessages, final NetconfDeviceCommunicator sessionListener) {
-        if (params.async) {
-            return new AsyncExecutionStrategy(params, preparedMessages, sessionListener);
+            final List<NetconfMessage> preparedMessages, final NetconfDeviceCommunicator sessionListener,
+            final LatencyRecorder latencyRecorder, final StageMonitor stageMonitor) {
+        if (stageMonitor != null) {
+            return new OpenLoopExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder,
+                stageMonitor);
+        } else if (params.async) {
+            return new AsyncExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder);
         } else {
-            return new SyncExecutionStrategy(params, preparedMessages, sessionListener);
+            return new SyncExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder);
         }
     }
 
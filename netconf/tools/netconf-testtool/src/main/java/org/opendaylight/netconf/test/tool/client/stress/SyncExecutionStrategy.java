@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyRecorder;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,8 +27,8 @@ class SyncExecutionStrategy extends AbstractExecutionStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(SyncExecutionStrategy.class);
 
     SyncExecutionStrategy(final Parameters params, final List<NetconfMessage> preparedMessages,
-                          final NetconfDeviceCommunicator sessionListener) {
-        super(params, preparedMessages, sessionListener);
+                          final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder) {
+        super(params, preparedMessages, sessionListener, latencyRecorder);
     }
 
     @Override
@@ -44,7 +45,7 @@ class SyncExecutionStrategy extends AbstractExecutionStrategy {
                     LOG.debug("Sending message {}", XmlUtil.toString(msg.getDocument()));
                 }
                 final ListenableFuture<RpcResult<NetconfMessage>> netconfMessageFuture =
-                        getSessionListener().sendRequest(msg, StressClient.EDIT_QNAME);
+                        sendRequest(msg, StressClient.EDIT_QNAME);
                 // Wait for response
                 waitForResponse(responseCounter, netconfMessageFuture);
 
@@ -55,7 +56,7 @@ class SyncExecutionStrategy extends AbstractExecutionStrategy {
             // Commit batch sync
             if (getParams().candidateDatastore) {
                 waitForResponse(responseCounter,
-                        getSessionListener().sendRequest(StressClient.COMMIT_MSG, StressClient.COMMIT_QNAME));
+                        sendRequest(StressClient.COMMIT_MSG, StressClient.COMMIT_QNAME));
             }
         }
 
@@ -71,6 +71,7 @@ public class Configuration {
     private OperationsCreator operationsCreator;
     private AuthProvider authProvider = DEFAULT_AUTH_PROVIDER;
     private PublickeyAuthenticator publickeyAuthenticator = DEFAULT_PUBLIC_KEY_AUTHENTICATOR;
+    private File behaviorProfile;
 
     @Deprecated
     private boolean mdSal = false;
@@ -114,6 +115,14 @@ public class Configuration {
         this.defaultYangResources = defaultYangResources;
     }
 
+    public File getBehaviorProfile() {
+        return behaviorProfile;
+    }
+
+    public void setBehaviorProfile(final File behaviorProfile) {
+        this.behaviorProfile = behaviorProfile;
+    }
+
     public int getThreadPoolSize() {
         return threadPoolSize;
     }
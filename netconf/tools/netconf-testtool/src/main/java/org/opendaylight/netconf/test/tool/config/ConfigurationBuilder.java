@@ -108,6 +108,11 @@ public class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setBehaviorProfile(final File behaviorProfile) {
+        this.configuration.setBehaviorProfile(behaviorProfile);
+        return this;
+    }
+
     public ConfigurationBuilder setOperationsCreator(final OperationsCreator operationsCreator) {
         this.configuration.setOperationsCreator(operationsCreator);
         return this;
@@ -132,11 +137,13 @@ public class ConfigurationBuilder {
         this.configuration.setDefaultYangResources(template.getDefaultYangResources());
         this.configuration.setAuthProvider(template.getAuthProvider());
         this.configuration.setPublickeyAuthenticator(template.getPublickeyAuthenticator());
+        this.configuration.setBehaviorProfile(template.getBehaviorProfile());
         return this;
     }
 
     public ConfigurationBuilder from(final TesttoolParameters testtoolParameters) {
         this.configuration.setGenerateConfigsTimeout(testtoolParameters.generateConfigsTimeout);
+        this.configuration.setThreadPoolSize(testtoolParameters.threadPoolSize);
         this.configuration.setStartingPort(testtoolParameters.startingPort);
         this.configuration.setDeviceCount(testtoolParameters.deviceCount);
         this.configuration.setSsh(testtoolParameters.ssh);
@@ -146,6 +153,7 @@ public class ConfigurationBuilder {
         this.configuration.setInitialConfigXMLFile(testtoolParameters.initialConfigXMLFile);
         this.configuration.setNotificationFile(testtoolParameters.notificationFile);
         this.configuration.setSchemasDir(testtoolParameters.schemasDir);
+        this.configuration.setBehaviorProfile(testtoolParameters.behaviorProfile);
         this.configuration.setCapabilities(testtoolParameters.exi ? Configuration.DEFAULT_BASE_CAPABILITIES_EXI
                 : Configuration.DEFAULT_BASE_CAPABILITIES);
         return this;
@@ -39,35 +39,46 @@ import org.xml.sax.SAXException;
 public class SimulatedCreateSubscription extends AbstractLastNetconfOperation implements DefaultNetconfOperation {
 
     private final Map<Notification, NetconfMessage> notifications;
+    private final ScheduledExecutorService scheduledExecutorService;
     private NetconfServerSession session;
-    private ScheduledExecutorService scheduledExecutorService;
 
     public SimulatedCreateSubscription(final String id, final Optional<File> notificationsFile) {
-        super(id);
-
-        final Optional<Notifications> notifs;
+        this(id, notificationsFile.map(SimulatedCreateSubscription::loadNotifications).orElse(Collections.emptyMap()),
+            notificationsFile.isPresent() ? Executors.newScheduledThreadPool(1) : null);
+    }
 
-        if (notificationsFile.isPresent()) {
-            notifs = Optional.of(loadNotifications(notificationsFile.get()));
-            scheduledExecutorService = Executors.newScheduledThreadPool(1);
-        } else {
-            notifs = Optional.empty();
-        }
+    /**
+     * Create the operation with already loaded notifications, which may be shared by multiple sessions, along with
+     * the executor used to schedule them.
+     *
+     * @param id session id
+     * @param notifications notifications loaded by {@link #loadNotifications(File)}
+     * @param scheduledExecutorService executor to schedule notifications on
+     */
+    public SimulatedCreateSubscription(final String id, final Map<Notification, NetconfMessage> notifications,
+            final ScheduledExecutorService scheduledExecutorService) {
+        super(id);
+        this.notifications = notifications;
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
 
-        if (notifs.isPresent()) {
-            final Collection<Notification> toCopy = notifs.get().getNotificationList();
-            final Map<Notification, NetconfMessage> preparedMessages = Maps.newHashMapWithExpectedSize(toCopy.size());
-            for (final Notification notification : toCopy) {
-                final NetconfMessage parsedNotification = parseNetconfNotification(notification.getContent());
-                preparedMessages.put(notification, parsedNotification);
-            }
-            this.notifications = preparedMessages;
-        } else {
-            this.notifications = Collections.emptyMap();
+    /**
+     * Load notifications from a file and prepare the messages to send.
+     *
+     * @param file notifications file
+     * @return notifications along with their messages
+     */
+    public static Map<Notification, NetconfMessage> loadNotifications(final File file) {
+        final Collection<Notification> toCopy = parseNotifications(file).getNotificationList();
+        final Map<Notification, NetconfMessage> preparedMessages = Maps.newHashMapWithExpectedSize(toCopy.size());
+        for (final Notification notification : toCopy) {
+            final NetconfMessage parsedNotification = parseNetconfNotification(notification.getContent());
+            preparedMessages.put(notification, parsedNotification);
         }
+        return preparedMessages;
     }
 
-    private static Notifications loadNotifications(final File file) {
+    private static Notifications parseNotifications(final File file) {
         try {
             final JAXBContext jaxbContext = JAXBContext.newInstance(Notifications.class);
             final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
@@ -92,13 +103,16 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
         long delayAggregator = 0;
 
         for (final Map.Entry<Notification, NetconfMessage> notification : notifications.entrySet()) {
+            // Prepared messages may be shared with other sessions, each session sends its own copy
+            final NetconfMessage message = new NetconfMessage(
+                XmlUtil.createDocumentCopy(notification.getValue().getDocument()));
             for (int i = 0; i <= notification.getKey().getTimes(); i++) {
 
                 delayAggregator += notification.getKey().getDelayInSeconds();
 
                 scheduledExecutorService.schedule(() -> {
                     Preconditions.checkState(session != null, "Session is not set, cannot process notifications");
-                    session.sendMessage(notification.getValue());
+                    session.sendMessage(message);
                 }, delayAggregator, TimeUnit.SECONDS);
             }
         }
@@ -39,7 +39,19 @@ public class SimulatedGetConfig extends AbstractLastNetconfOperation {
         }
     }
 
-    private static DataList loadInitialConfigXMLFile(final File file) {
+    /**
+     * Create the operation on top of an already loaded storage, which may be shared by multiple sessions as long as
+     * they do not modify it.
+     *
+     * @param netconfSessionIdForReporting session id
+     * @param storage storage to return the configuration from
+     */
+    public SimulatedGetConfig(final String netconfSessionIdForReporting, final DataList storage) {
+        super(netconfSessionIdForReporting);
+        this.storage = storage;
+    }
+
+    public static DataList loadInitialConfigXMLFile(final File file) {
         LOG.info("Loading initial config xml file: {}", file.getName());
         DataList configData = new DataList();
         try {
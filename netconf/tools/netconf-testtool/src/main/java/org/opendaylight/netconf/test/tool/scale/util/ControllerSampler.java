@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.test.tool.scale.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Splitter;
+import com.google.common.io.CharStreams;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Samples the heap used by the controller and the number of its threads. The controller process is looked up the same
+ * way it is stopped, the heap is read with jstat and the threads from procfs, so both must be available.
+ */
+public final class ControllerSampler implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(ControllerSampler.class);
+
+    private static final Splitter WHITESPACE = Splitter.onPattern("\\s+").trimResults().omitEmptyStrings();
+    // Used capacities of the survivor, eden and old spaces, in KiB
+    private static final List<String> HEAP_COLUMNS = List.of("S0U", "S1U", "EU", "OU");
+
+    private final ScaleReport report;
+
+    public ControllerSampler(final ScaleReport report) {
+        this.report = requireNonNull(report);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:illegalCatch")
+    public void run() {
+        // Exceptions would cancel further samples
+        try {
+            final Optional<String> pid = controllerPid();
+            if (pid.isPresent()) {
+                report.controllerSampled(heapUsedKiB(pid.get()), threadCount(pid.get()));
+            } else {
+                LOG.debug("Controller is not running, skipping sample");
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to sample controller", e);
+        }
+    }
+
+    private static Optional<String> controllerPid() {
+        final String output = execute("pgrep", "-f", "org.apache.karaf.main.Main");
+        return output == null ? Optional.empty() : WHITESPACE.splitToList(output).stream().findFirst();
+    }
+
+    private static long heapUsedKiB(final String pid) {
+        final String output = execute("jstat", "-gc", pid);
+        if (output == null) {
+            return -1;
+        }
+        final List<String> lines = Splitter.on('\n').omitEmptyStrings().splitToList(output);
+        if (lines.size() < 2) {
+            LOG.debug("Unexpected jstat output {}", output);
+            return -1;
+        }
+        final List<String> header = WHITESPACE.splitToList(lines.get(0));
+        final List<String> values = WHITESPACE.splitToList(lines.get(1));
+        double used = 0;
+        for (final String column : HEAP_COLUMNS) {
+            final int index = header.indexOf(column);
+            if (index < 0 || index >= values.size()) {
+                LOG.debug("Column {} missing in jstat output {}", column, output);
+                return -1;
+            }
+            used += Double.parseDouble(values.get(index));
+        }
+        return (long) used;
+    }
+
+    private static int threadCount(final String pid) {
+        try {
+            for (final String line : Files.readAllLines(Paths.get("/proc", pid, "status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("Threads:")) {
+                    return Integer.parseInt(line.substring("Threads:".length()).trim());
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to read threads of process {}", pid, e);
+        }
+        return -1;
+    }
+
+    private static String execute(final String... command) {
+        try {
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            final String output = CharStreams.toString(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            if (process.waitFor() != 0) {
+                LOG.debug("Command {} failed: {}", command, output);
+                return null;
+            }
+            return output;
+        } catch (IOException e) {
+            LOG.debug("Failed to execute {}", command, e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
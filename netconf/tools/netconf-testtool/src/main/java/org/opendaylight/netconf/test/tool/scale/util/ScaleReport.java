@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.test.tool.scale.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.test.tool.client.stats.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Results of a single scale run, timed from the moment the controller is up:
+ * <ul>
+ *   <li>time until each device is connected, at the resolution of topology polls</li>
+ *   <li>setup time of each device, from the poll it first appears in the topology until the poll it is connected in,
+ *       covering session negotiation and schema setup</li>
+ *   <li>heap used by the controller and its thread count, sampled periodically</li>
+ *   <li>recovery from a reconnect storm, caused by dropping the sessions of a number of devices once all of them are
+ *       connected: the time each device took to get a new session and the time until all of them are connected
+ *       again</li>
+ * </ul>
+ * The results are logged and written to a JSON report.
+ */
+public final class ScaleReport {
+    private static final Logger LOG = LoggerFactory.getLogger(ScaleReport.class);
+
+    private static final class Sample {
+        private final long elapsedMillis;
+        private final long heapUsedKiB;
+        private final int threads;
+
+        Sample(final long elapsedMillis, final long heapUsedKiB, final int threads) {
+            this.elapsedMillis = elapsedMillis;
+            this.heapUsedKiB = heapUsedKiB;
+            this.threads = threads;
+        }
+    }
+
+    private final Map<String, Long> firstSeenMillis = new HashMap<>();
+    private final Map<String, Long> connectedMillis = new HashMap<>();
+    private final List<Sample> samples = new ArrayList<>();
+    private final LatencyHistogram sessionReconnects = new LatencyHistogram();
+    private final int deviceCount;
+    private final long pollIntervalSeconds;
+
+    private long startNanos;
+    private long allConnectedMillis = -1;
+    private int stormDevices = -1;
+    private long stormStartNanos;
+    private long sessionsRecoveredMillis = -1;
+    private long controllerRecoveredMillis = -1;
+
+    /**
+     * Create a report.
+     *
+     * @param deviceCount number of simulated devices
+     * @param pollIntervalSeconds interval at which the topology is polled
+     */
+    public ScaleReport(final int deviceCount, final long pollIntervalSeconds) {
+        this.deviceCount = deviceCount;
+        this.pollIntervalSeconds = pollIntervalSeconds;
+    }
+
+    /**
+     * Start timing the run. To be called once the controller is up.
+     */
+    public synchronized void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Record the connection status of nodes polled from the topology.
+     *
+     * @param statuses connection status by node id
+     * @return number of connected nodes
+     */
+    public synchronized int topologyPolled(final Map<String, String> statuses) {
+        final long now = elapsedMillis(System.nanoTime());
+        int connected = 0;
+        for (final Map.Entry<String, String> entry : statuses.entrySet()) {
+            firstSeenMillis.putIfAbsent(entry.getKey(), now);
+            if (TopologyStatus.CONNECTED.equals(entry.getValue())) {
+                connectedMillis.putIfAbsent(entry.getKey(), now);
+                connected++;
+            }
+        }
+        return connected;
+    }
+
+    public synchronized void allConnected() {
+        allConnectedMillis = elapsedMillis(System.nanoTime());
+    }
+
+    public synchronized void controllerSampled(final long heapUsedKiB, final int threads) {
+        samples.add(new Sample(elapsedMillis(System.nanoTime()), heapUsedKiB, threads));
+    }
+
+    /**
+     * Record the start of a reconnect storm.
+     *
+     * @param devices number of devices whose sessions were dropped
+     * @return {@link System#nanoTime()} at which the storm started
+     */
+    public synchronized long reconnectStormStarted(final int devices) {
+        stormDevices = devices;
+        stormStartNanos = System.nanoTime();
+        return stormStartNanos;
+    }
+
+    public synchronized boolean isReconnectStormStarted() {
+        return stormDevices >= 0;
+    }
+
+    /**
+     * Record a device getting a new session after its session was dropped.
+     *
+     * @param sessionUpNanos {@link System#nanoTime()} at which the new session was negotiated
+     */
+    public synchronized void deviceReconnected(final long sessionUpNanos) {
+        sessionReconnects.recordValue(TimeUnit.NANOSECONDS.toMillis(sessionUpNanos - stormStartNanos));
+    }
+
+    public synchronized void sessionsRecovered() {
+        sessionsRecoveredMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stormStartNanos);
+    }
+
+    public synchronized boolean isSessionsRecovered() {
+        return sessionsRecoveredMillis >= 0;
+    }
+
+    public synchronized void controllerRecovered() {
+        controllerRecoveredMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stormStartNanos);
+    }
+
+    /**
+     * Log the results and write them to a report file.
+     *
+     * @param reportFile report file, {@code null} if no report is to be written
+     */
+    public void finish(final File reportFile) {
+        final String report;
+        synchronized (this) {
+            final LatencyHistogram connected = histogram(connectedMillis.values());
+            final Map<String, Long> setups = new HashMap<>();
+            connectedMillis.forEach((node, millis) -> setups.put(node, millis - firstSeenMillis.get(node)));
+            final LatencyHistogram setup = histogram(setups.values());
+
+            LOG.info("{} devices: all connected in {} ms", deviceCount, allConnectedMillis);
+            logDistribution("Time to connected", connected);
+            logDistribution("Setup time", setup);
+            if (stormDevices >= 0) {
+                LOG.info("Reconnect storm of {} devices: sessions recovered in {} ms, devices connected again in {} ms",
+                    stormDevices, sessionsRecoveredMillis, controllerRecoveredMillis);
+                logDistribution("Session reconnect time", sessionReconnects);
+            }
+            samples.stream().mapToLong(sample -> sample.heapUsedKiB).max().ifPresent(
+                heap -> LOG.info("Peak controller heap used: {} KiB", heap));
+            samples.stream().mapToInt(sample -> sample.threads).max().ifPresent(
+                threads -> LOG.info("Peak controller threads: {}", threads));
+
+            report = toJson(connected, setup);
+        }
+
+        if (reportFile != null) {
+            try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(report);
+            } catch (IOException e) {
+                LOG.error("Failed to write scale report to {}", reportFile, e);
+                return;
+            }
+            LOG.info("Scale report written to {}", reportFile);
+        }
+    }
+
+    private String toJson(final LatencyHistogram connected, final LatencyHistogram setup) {
+        final StringBuilder sb = new StringBuilder("{\"devices\":").append(deviceCount)
+            .append(",\"poll-interval-s\":").append(pollIntervalSeconds)
+            .append(",\"all-connected-ms\":").append(allConnectedMillis)
+            .append(",\n\"time-to-connected\":");
+        appendDistribution(sb, connected);
+        sb.append(",\n\"setup\":");
+        appendDistribution(sb, setup);
+        if (stormDevices >= 0) {
+            sb.append(",\n\"reconnect-storm\":{\"devices\":").append(stormDevices)
+                .append(",\"sessions-recovered-ms\":").append(sessionsRecoveredMillis)
+                .append(",\"connected-ms\":").append(controllerRecoveredMillis)
+                .append(",\"session-reconnect\":");
+            appendDistribution(sb, sessionReconnects);
+            sb.append('}');
+        }
+        sb.append(",\n\"controller-samples\":[");
+        for (int i = 0; i < samples.size(); i++) {
+            final Sample sample = samples.get(i);
+            if (i != 0) {
+                sb.append(",\n");
+            }
+            sb.append("{\"time-ms\":").append(sample.elapsedMillis)
+                .append(",\"heap-used-kib\":").append(sample.heapUsedKiB)
+                .append(",\"threads\":").append(sample.threads)
+                .append('}');
+        }
+        return sb.append("]}\n").toString();
+    }
+
+    private long elapsedMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos - startNanos);
+    }
+
+    private static LatencyHistogram histogram(final Collection<Long> values) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        values.forEach(histogram::recordValue);
+        return histogram;
+    }
+
+    private static void logDistribution(final String name, final LatencyHistogram histogram) {
+        LOG.info("{} of {} devices, ms: min {}, p50 {}, p90 {}, p99 {}, max {}", name, histogram.getTotalCount(),
+            histogram.getMinValue(), histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+            histogram.getValueAtPercentile(99), histogram.getMaxValue());
+    }
+
+    private static void appendDistribution(final StringBuilder sb, final LatencyHistogram histogram) {
+        sb.append("{\"count\":").append(histogram.getTotalCount())
+            .append(",\"min-ms\":").append(histogram.getMinValue())
+            .append(",\"p50-ms\":").append(histogram.getValueAtPercentile(50))
+            .append(",\"p90-ms\":").append(histogram.getValueAtPercentile(90))
+            .append(",\"p99-ms\":").append(histogram.getValueAtPercentile(99))
+            .append(",\"max-ms\":").append(histogram.getMaxValue())
+            .append('}');
+    }
+}
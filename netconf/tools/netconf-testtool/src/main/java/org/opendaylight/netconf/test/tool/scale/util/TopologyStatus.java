@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.test.tool.scale.util;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Connection status of the nodes of the netconf topology, as read over RESTCONF.
+ */
+public final class TopologyStatus {
+    public static final String CONNECTED = "connected";
+
+    private static final String NODE = "node";
+    private static final String NODE_ID = "node-id";
+    private static final String CONNECTION_STATUS = "connection-status";
+
+    private TopologyStatus() {
+    }
+
+    /**
+     * Parse the connection status of all nodes from a topology.
+     *
+     * @param topology XML representation of the topology
+     * @return connection status by node id, empty string for nodes without a status
+     * @throws IllegalArgumentException if the topology cannot be parsed
+     */
+    public static Map<String, String> parse(final String topology) {
+        final Document document;
+        try {
+            document = XmlUtil.readXmlToDocument(topology);
+        } catch (SAXException | IOException e) {
+            throw new IllegalArgumentException("Cannot parse topology", e);
+        }
+
+        final Map<String, String> statuses = new HashMap<>();
+        final NodeList nodes = document.getElementsByTagNameNS("*", NODE);
+        for (int i = 0; i < nodes.getLength(); i++) {
+            final Element node = (Element) nodes.item(i);
+            final String nodeId = childText(node, NODE_ID);
+            if (nodeId != null) {
+                final NodeList status = node.getElementsByTagNameNS("*", CONNECTION_STATUS);
+                statuses.put(nodeId, status.getLength() != 0 ? status.item(0).getTextContent().trim() : "");
+            }
+        }
+        return statuses;
+    }
+
+    private static String childText(final Element element, final String localName) {
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE && localName.equals(child.getLocalName())) {
+                return child.getTextContent().trim();
+            }
+        }
+        return null;
+    }
+}
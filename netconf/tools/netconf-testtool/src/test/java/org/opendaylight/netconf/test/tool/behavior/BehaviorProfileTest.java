@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.behavior;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BehaviorProfileTest {
+    private BehaviorProfile profile;
+
+    @Before
+    public void setUp() throws Exception {
+        profile = BehaviorProfile.load(new File(getClass().getResource("/behavior-profile.xml").toURI()));
+    }
+
+    @Test
+    public void testRpcBehavior() {
+        final RpcBehavior getConfig = profile.getRpcBehavior("get-config");
+        assertEquals(1048576, getConfig.getPadding());
+        assertSame(profile.getRpcBehavior(RpcBehavior.ANY), profile.getRpcBehavior("lock"));
+
+        final DeviceBehavior device = new DeviceBehavior(profile, "device", 1);
+        final RpcBehavior editConfig = profile.getRpcBehavior("edit-config");
+        for (int i = 0; i < 1000; i++) {
+            final long getConfigLatency = device.sampleLatencyNanos(getConfig);
+            assertTrue(getConfigLatency >= 0 && getConfigLatency <= TimeUnit.MILLISECONDS.toNanos(5000));
+            final long editConfigLatency = device.sampleLatencyNanos(editConfig);
+            assertTrue(editConfigLatency >= TimeUnit.MILLISECONDS.toNanos(10)
+                && editConfigLatency <= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @Test
+    public void testReplay() {
+        final DeviceBehavior first = new DeviceBehavior(profile, "device", 1);
+        final DeviceBehavior second = new DeviceBehavior(profile, "device", 1);
+        final RpcBehavior getConfig = profile.getRpcBehavior("get-config");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.sampleLatencyNanos(getConfig), second.sampleLatencyNanos(getConfig));
+            assertEquals(first.nextNotificationNanos(), second.nextNotificationNanos());
+            assertEquals(first.sampleUptimeNanos(), second.sampleUptimeNanos());
+        }
+    }
+
+    @Test
+    public void testSessionDropped() {
+        final DeviceBehavior device = new DeviceBehavior(profile, "device", 1);
+        assertFalse(device.isDown());
+        device.sessionDropped();
+        assertTrue(device.isDown());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.recordValue(i);
+        }
+        assertEquals(1000, histogram.getTotalCount());
+        assertEquals(1, histogram.getMinValue());
+        assertEquals(1000, histogram.getMaxValue());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+        assertEquals(500, histogram.getValueAtPercentile(50));
+        assertEquals(900, histogram.getValueAtPercentile(90));
+        assertEquals(990, histogram.getValueAtPercentile(99));
+        assertEquals(999, histogram.getValueAtPercentile(99.9));
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(123_456);
+        histogram.recordValue(123_456_789);
+        histogram.recordValue(LatencyHistogram.HIGHEST_TRACKABLE_VALUE + 1);
+
+        assertWithinPrecision(123_456, histogram.getValueAtPercentile(30));
+        assertWithinPrecision(123_456_789, histogram.getValueAtPercentile(60));
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testCoordinatedOmissionCorrection() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValueWithExpectedInterval(1000, 100);
+        assertEquals(10, histogram.getTotalCount());
+        assertEquals(100, histogram.getMinValue());
+        assertEquals(1000, histogram.getMaxValue());
+        assertEquals(500, histogram.getValueAtPercentile(50));
+
+        final LatencyHistogram uncorrected = new LatencyHistogram();
+        uncorrected.recordValueWithExpectedInterval(1000, 0);
+        uncorrected.recordValueWithExpectedInterval(50, 100);
+        assertEquals(2, uncorrected.getTotalCount());
+    }
+
+    @Test
+    public void testSnapshotAndAdd() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(10);
+        histogram.recordValue(20);
+
+        final LatencyHistogram snapshot = histogram.snapshotAndReset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(2, snapshot.getTotalCount());
+
+        histogram.recordValue(30);
+        snapshot.add(histogram);
+        assertEquals(3, snapshot.getTotalCount());
+        assertEquals(10, snapshot.getMinValue());
+        assertEquals(30, snapshot.getMaxValue());
+        assertEquals(20, snapshot.getValueAtPercentile(50));
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        assertTrue("Expected " + expected + ", got " + actual,
+            actual >= expected && actual - expected <= expected / 1000);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.scale.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class TopologyStatusTest {
+    private static final String TOPOLOGY = "<topology xmlns=\"urn:TBD:params:xml:ns:yang:network-topology\">"
+        + "<topology-id>topology-netconf</topology-id>"
+        + "<node><node-id>17830-sim-device</node-id>"
+        + "<connection-status xmlns=\"urn:opendaylight:netconf-node-topology\">connected</connection-status>"
+        + "</node>"
+        + "<node><node-id>17831-sim-device</node-id>"
+        + "<connection-status xmlns=\"urn:opendaylight:netconf-node-topology\">connecting</connection-status>"
+        + "</node>"
+        + "<node><node-id>17832-sim-device</node-id></node>"
+        + "</topology>";
+
+    @Test
+    public void testParse() {
+        final Map<String, String> statuses = TopologyStatus.parse(TOPOLOGY);
+        assertEquals(3, statuses.size());
+        assertEquals(TopologyStatus.CONNECTED, statuses.get("17830-sim-device"));
+        assertEquals("connecting", statuses.get("17831-sim-device"));
+        assertEquals("", statuses.get("17832-sim-device"));
+    }
+
+    @Test
+    public void testReportCountsConnected() {
+        final ScaleReport report = new ScaleReport(3, 10);
+        report.start();
+        assertEquals(1, report.topologyPolled(TopologyStatus.parse(TOPOLOGY)));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.common.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.AsyncCallable;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
+import org.opendaylight.mdsal.dom.api.DOMMountPointService;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor of data requests. Requests targeting the local datastore are executed in the calling thread. Requests
+ * targeting a mount point are executed on a bounded pool of threads, with the number of requests running
+ * concurrently against a single mount point and the number of requests waiting for their turn being bounded by
+ * a {@link MountPointRequestLimiter}. Requests which do not fit into the queue are rejected.
+ *
+ * <p>
+ * A single mount point may occupy at most a fair share of the pool, so that a slow device cannot starve requests to
+ * other mount points. The queue of the pool is bounded as well, requests which do not fit into it are rejected.
+ */
+public final class MountPointRequestExecutor implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(MountPointRequestExecutor.class);
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Minimum number of mount points sharing the pool, a single mount point may occupy the corresponding share of
+     * threads at most.
+     */
+    @VisibleForTesting
+    static final int MIN_MOUNT_POINTS_SHARING_POOL = 4;
+
+    private final ThreadPoolExecutor threadPool;
+    private final ListeningExecutorService executor;
+    private final MountPointRequestLimiter limiter;
+    private final @Nullable ListenerRegistration<DOMMountPointListener> registration;
+
+    /**
+     * Create an executor.
+     *
+     * @param mountPointService     mount point service, used to release the state kept for removed mount points,
+     *                              {@code null} if it is not available
+     * @param maxThreads            maximum number of threads executing blocking requests
+     * @param maxConcurrentRequests maximum number of requests running concurrently against a single mount point, it is
+     *                              capped at a fair share of {@code maxThreads}
+     * @param maxQueuedRequests     maximum number of requests waiting for a single mount point, as well as
+     *                              the maximum number of blocking requests waiting for a thread
+     */
+    public MountPointRequestExecutor(final @Nullable DOMMountPointService mountPointService, final int maxThreads,
+            final int maxConcurrentRequests, final int maxQueuedRequests) {
+        checkArgument(maxThreads > 0, "Maximum number of threads must be positive");
+        checkArgument(maxQueuedRequests >= 0, "Maximum number of queued requests must not be negative");
+        threadPool = new ThreadPoolExecutor(maxThreads, maxThreads, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            maxQueuedRequests > 0 ? new LinkedBlockingQueue<>(maxQueuedRequests) : new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("restconf-mount-point-%d").setDaemon(true).build());
+        threadPool.allowCoreThreadTimeOut(true);
+        executor = MoreExecutors.listeningDecorator(threadPool);
+
+        final int fairShare = Math.max(1, maxThreads / MIN_MOUNT_POINTS_SHARING_POOL);
+        if (maxConcurrentRequests > fairShare) {
+            LOG.info("Limiting concurrent requests to a single mount point to {} of {} threads", fairShare,
+                maxThreads);
+        }
+        limiter = new MountPointRequestLimiter(Math.min(maxConcurrentRequests, fairShare), maxQueuedRequests);
+        registration = mountPointService == null ? null : mountPointService.registerProvisionListener(limiter);
+    }
+
+    /**
+     * Execute a blocking request and complete the {@link AsyncResponse} with its result.
+     *
+     * @param mountPoint    mount point targeted by the request, {@code null} for the local datastore
+     * @param asyncResponse suspended response
+     * @param task          request to execute
+     */
+    public void execute(final @Nullable DOMMountPoint mountPoint, final AsyncResponse asyncResponse,
+            final Callable<?> task) {
+        Futures.addCallback(submit(mountPoint, task), new FutureCallback<Object>() {
+            @Override
+            public void onSuccess(final Object result) {
+                asyncResponse.resume(result);
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                asyncResponse.resume(cause);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Submit a blocking request.
+     *
+     * @param mountPoint mount point targeted by the request, {@code null} for the local datastore
+     * @param task       request to execute
+     * @return a ListenableFuture containing the result of the request
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public <T> ListenableFuture<T> submit(final @Nullable DOMMountPoint mountPoint, final Callable<T> task) {
+        if (mountPoint == null) {
+            try {
+                return Futures.immediateFuture(task.call());
+            } catch (Exception e) {
+                return Futures.immediateFailedFuture(e);
+            }
+        }
+        return limiter.submit(mountPoint, () -> {
+            try {
+                return executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Rejecting request to mount point {}, {} requests are waiting for a thread",
+                    mountPoint.getIdentifier(), threadPool.getQueue().size(), e);
+                throw MountPointRequestLimiter.rejected(threadPool.isShutdown()
+                    ? "Requests to mount point " + mountPoint.getIdentifier()
+                        + " are not accepted, RESTCONF is shutting down"
+                    : "Too many pending requests to mount points");
+            }
+        });
+    }
+
+    /**
+     * Submit a non-blocking request. The request counts against the mount point limit until the future it returns
+     * completes.
+     *
+     * @param mountPoint mount point targeted by the request, {@code null} for the local datastore
+     * @param task       request to execute
+     * @return a ListenableFuture containing the result of the request
+     */
+    public <T> ListenableFuture<T> submitAsync(final @Nullable DOMMountPoint mountPoint, final AsyncCallable<T> task) {
+        return mountPoint == null ? Futures.submitAsync(task, MoreExecutors.directExecutor())
+            : limiter.submit(mountPoint, task);
+    }
+
+    public MountPointRequestLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    public void close() {
+        if (registration != null) {
+            registration.close();
+        }
+        limiter.close();
+        threadPool.shutdown();
+    }
+}
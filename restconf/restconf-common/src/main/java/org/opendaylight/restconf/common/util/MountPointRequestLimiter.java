@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.common.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.AsyncCallable;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
+import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limiter of requests running against mount points. The number of requests running concurrently against a single
+ * mount point and the number of requests waiting for their turn are bounded. Requests which do not fit into the queue
+ * are rejected with a {@link ErrorTag#RESOURCE_DENIED_TRANSPORT} error, which maps to HTTP 503.
+ *
+ * <p>
+ * Queued requests are started by the thread completing a running request. Requests are expected not to block when
+ * they are started, blocking work is to be handed to an executor by the request itself. Requests which complete while
+ * they are being started do not recurse into starting further requests, the starting thread picks those up instead.
+ * The limiter should be registered as a {@link DOMMountPointListener}, so that the state kept for a mount point is
+ * released when the mount point goes away.
+ */
+public final class MountPointRequestLimiter implements DOMMountPointListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(MountPointRequestLimiter.class);
+
+    private final ConcurrentMap<YangInstanceIdentifier, Limiter> limiters = new ConcurrentHashMap<>();
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+
+    private volatile boolean closed;
+
+    /**
+     * Create a limiter.
+     *
+     * @param maxConcurrentRequests maximum number of requests running concurrently against a single mount point
+     * @param maxQueuedRequests     maximum number of requests waiting for a single mount point
+     */
+    public MountPointRequestLimiter(final int maxConcurrentRequests, final int maxQueuedRequests) {
+        checkArgument(maxConcurrentRequests > 0, "Maximum number of concurrent requests must be positive");
+        checkArgument(maxQueuedRequests >= 0, "Maximum number of queued requests must not be negative");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * Submit a request against a mount point. The request counts against the mount point limit until the future it
+     * returns completes.
+     *
+     * @param mountPoint mount point targeted by the request
+     * @param task       request to execute
+     * @return a ListenableFuture containing the result of the request
+     */
+    public <T> ListenableFuture<T> submit(final DOMMountPoint mountPoint, final AsyncCallable<T> task) {
+        final YangInstanceIdentifier mountPointId = mountPoint.getIdentifier();
+        if (closed) {
+            return Futures.immediateFailedFuture(rejected("Requests to mount point " + mountPointId
+                + " are not accepted, RESTCONF is shutting down"));
+        }
+        return limiters.computeIfAbsent(mountPointId, Limiter::new).submit(requireNonNull(task));
+    }
+
+    /**
+     * Return the number of requests waiting for a mount point.
+     *
+     * @param mountPointId mount point identifier
+     * @return number of queued requests
+     */
+    public int getQueuedRequests(final YangInstanceIdentifier mountPointId) {
+        final Limiter limiter = limiters.get(mountPointId);
+        return limiter == null ? 0 : limiter.queued();
+    }
+
+    @Override
+    public void onMountPointCreated(final YangInstanceIdentifier path) {
+        // Limiters are created lazily
+    }
+
+    @Override
+    public void onMountPointRemoved(final YangInstanceIdentifier path) {
+        final Limiter limiter = limiters.remove(path);
+        if (limiter != null) {
+            limiter.abandon("Mount point " + path + " was removed");
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (YangInstanceIdentifier mountPointId : limiters.keySet()) {
+            final Limiter limiter = limiters.remove(mountPointId);
+            if (limiter != null) {
+                limiter.abandon("Requests to mount point " + mountPointId
+                    + " are not accepted, RESTCONF is shutting down");
+            }
+        }
+    }
+
+    static RestconfDocumentedException rejected(final String message) {
+        return new RestconfDocumentedException(message, ErrorType.TRANSPORT, ErrorTag.RESOURCE_DENIED_TRANSPORT);
+    }
+
+    /**
+     * Limiter of requests running against a single mount point.
+     */
+    private final class Limiter {
+        private final YangInstanceIdentifier mountPointId;
+
+        @GuardedBy("this")
+        private final Deque<Request<?>> pending = new ArrayDeque<>();
+        @GuardedBy("this")
+        private int running;
+        @GuardedBy("this")
+        private boolean abandoned;
+        @GuardedBy("this")
+        private boolean starting;
+
+        Limiter(final YangInstanceIdentifier mountPointId) {
+            this.mountPointId = mountPointId;
+        }
+
+        <T> ListenableFuture<T> submit(final AsyncCallable<T> task) {
+            final Request<T> request = new Request<>(task);
+            synchronized (this) {
+                if (abandoned) {
+                    return Futures.immediateFailedFuture(rejected("Mount point " + mountPointId + " was removed"));
+                }
+                // Queued requests go first, even if a slot was released and they were not started yet
+                if (running >= maxConcurrentRequests || !pending.isEmpty()) {
+                    if (pending.size() >= maxQueuedRequests) {
+                        LOG.debug("Rejecting request to mount point {}, {} requests are pending", mountPointId,
+                            pending.size());
+                        return Futures.immediateFailedFuture(rejected("Too many pending requests to mount point "
+                            + mountPointId));
+                    }
+                    pending.add(request);
+                    return request.result;
+                }
+                running++;
+            }
+            request.start();
+            return request.result;
+        }
+
+        synchronized int queued() {
+            return pending.size();
+        }
+
+        void abandon(final String message) {
+            final List<Request<?>> dropped;
+            synchronized (this) {
+                abandoned = true;
+                dropped = new ArrayList<>(pending);
+                pending.clear();
+            }
+            if (!dropped.isEmpty()) {
+                LOG.debug("Failing {} requests queued for mount point {}", dropped.size(), mountPointId);
+            }
+            for (Request<?> request : dropped) {
+                request.result.setException(rejected(message));
+            }
+        }
+
+        /**
+         * Release the slot held by a completed request and start queued requests in the completing thread. If another
+         * thread is starting queued requests already, or this thread is completing a request it is starting, the slot
+         * is left to that thread, so that requests completing immediately do not recurse.
+         */
+        private void release() {
+            synchronized (this) {
+                running--;
+                if (starting) {
+                    return;
+                }
+                starting = true;
+            }
+            startPending();
+        }
+
+        private void startPending() {
+            while (true) {
+                final Request<?> next;
+                synchronized (this) {
+                    next = running < maxConcurrentRequests ? pending.poll() : null;
+                    if (next == null) {
+                        starting = false;
+                        return;
+                    }
+                    running++;
+                }
+                next.start();
+            }
+        }
+
+        /**
+         * A request, possibly waiting for its turn.
+         */
+        private final class Request<T> {
+            final SettableFuture<T> result = SettableFuture.create();
+            private final AsyncCallable<T> task;
+
+            Request(final AsyncCallable<T> task) {
+                this.task = task;
+            }
+
+            void start() {
+                final ListenableFuture<T> future = Futures.submitAsync(task, MoreExecutors.directExecutor());
+                future.addListener(Limiter.this::release, MoreExecutors.directExecutor());
+                result.setFuture(future);
+            }
+        }
+    }
+}
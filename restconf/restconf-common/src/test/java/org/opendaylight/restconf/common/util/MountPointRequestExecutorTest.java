@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.container.AsyncResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+public class MountPointRequestExecutorTest {
+    private final MountPointRequestExecutor executor = new MountPointRequestExecutor(null, 1, 1, 1);
+    private final DOMMountPoint mountPoint = mock(DOMMountPoint.class);
+
+    @Before
+    public void setUp() {
+        doReturn(YangInstanceIdentifier.of(QName.create("ns", "2016-02-28", "device"))).when(mountPoint)
+            .getIdentifier();
+    }
+
+    @After
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void testLocalDatastoreRequestIsExecutedDirectly() throws Exception {
+        final AsyncResponse asyncResponse = mock(AsyncResponse.class);
+        executor.execute(null, asyncResponse, () -> "result");
+        verify(asyncResponse).resume((Object) "result");
+    }
+
+    @Test
+    public void testMountPointRequestsAreLimited() throws Exception {
+        final SettableFuture<String> first = SettableFuture.create();
+        final SettableFuture<String> second = SettableFuture.create();
+        final AtomicBoolean secondStarted = new AtomicBoolean();
+
+        final ListenableFuture<String> firstResult = executor.submitAsync(mountPoint, () -> first);
+        final ListenableFuture<String> secondResult = executor.submitAsync(mountPoint, () -> {
+            secondStarted.set(true);
+            return second;
+        });
+        final ListenableFuture<String> thirdResult = executor.submitAsync(mountPoint, () -> second);
+
+        // third request does not fit into the queue
+        try {
+            thirdResult.get();
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RestconfDocumentedException);
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT,
+                ((RestconfDocumentedException) e.getCause()).getErrors().get(0).getErrorTag());
+        }
+
+        // second request waits for the first one
+        assertFalse(secondStarted.get());
+        first.set("first");
+        assertEquals("first", firstResult.get());
+
+        second.set("second");
+        assertEquals("second", secondResult.get(5, TimeUnit.SECONDS));
+        assertTrue(secondStarted.get());
+    }
+
+    @Test
+    public void testBlockingMountPointRequest() throws Exception {
+        final ListenableFuture<String> result = executor.submit(mountPoint,
+            () -> Thread.currentThread().getName());
+        assertTrue(result.get(5, TimeUnit.SECONDS).startsWith("restconf-mount-point-"));
+    }
+
+    @Test
+    public void testQueuedAsyncRequestIsStartedDirectly() throws Exception {
+        final SettableFuture<String> first = SettableFuture.create();
+        final ListenableFuture<String> firstResult = executor.submitAsync(mountPoint, () -> first);
+        final ListenableFuture<String> secondResult = executor.submitAsync(mountPoint,
+            () -> Futures.immediateFuture(Thread.currentThread().getName()));
+
+        // a non-blocking request does not occupy a thread of the pool, it is started by the completing thread
+        first.set("first");
+        assertEquals("first", firstResult.get());
+        assertEquals(Thread.currentThread().getName(), secondResult.get());
+    }
+
+    @Test
+    public void testFullPoolQueueIsRejected() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final ListenableFuture<String> running = executor.submit(mountPoint("first"), () -> {
+            blocked.await();
+            return "first";
+        });
+        // waits for the only thread, the second mount point fills the queue of the pool
+        final ListenableFuture<String> queued = executor.submit(mountPoint("second"), () -> "second");
+        final ListenableFuture<String> rejected = executor.submit(mountPoint("third"), () -> "third");
+        try {
+            rejected.get(5, TimeUnit.SECONDS);
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT,
+                ((RestconfDocumentedException) e.getCause()).getErrors().get(0).getErrorTag());
+        }
+
+        blocked.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMountPointLimitedToFairShareOfPool() throws Exception {
+        final int threads = 2 * MountPointRequestExecutor.MIN_MOUNT_POINTS_SHARING_POOL;
+        try (MountPointRequestExecutor shared = new MountPointRequestExecutor(null, threads, threads, threads)) {
+            final SettableFuture<String> blocked = SettableFuture.create();
+            for (int i = 0; i < threads; ++i) {
+                shared.submitAsync(mountPoint, () -> blocked);
+            }
+            // only a fair share of the pool runs, the rest waits
+            assertEquals(threads - threads / MountPointRequestExecutor.MIN_MOUNT_POINTS_SHARING_POOL,
+                shared.getLimiter().getQueuedRequests(mountPoint.getIdentifier()));
+            blocked.set("done");
+            assertEquals(0, shared.getLimiter().getQueuedRequests(mountPoint.getIdentifier()));
+        }
+    }
+
+    @Test
+    public void testMountPointRemovalFailsQueuedRequests() throws Exception {
+        final SettableFuture<String> first = SettableFuture.create();
+        executor.submitAsync(mountPoint, () -> first);
+        final ListenableFuture<String> queued = executor.submitAsync(mountPoint, () -> first);
+        assertEquals(1, executor.getLimiter().getQueuedRequests(mountPoint.getIdentifier()));
+
+        executor.getLimiter().onMountPointRemoved(mountPoint.getIdentifier());
+        assertEquals(0, executor.getLimiter().getQueuedRequests(mountPoint.getIdentifier()));
+        try {
+            queued.get();
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT,
+                ((RestconfDocumentedException) e.getCause()).getErrors().get(0).getErrorTag());
+        }
+
+        // a re-created mount point starts with a clean slate
+        assertEquals("again", executor.submitAsync(mountPoint, () -> Futures.immediateFuture("again")).get());
+    }
+
+    @Test
+    public void testClosedExecutorRejectsRequests() throws Exception {
+        executor.close();
+        try {
+            executor.submit(mountPoint, () -> "result").get();
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT,
+                ((RestconfDocumentedException) e.getCause()).getErrors().get(0).getErrorTag());
+        }
+    }
+
+    private static DOMMountPoint mountPoint(final String name) {
+        final DOMMountPoint namedMountPoint = mock(DOMMountPoint.class);
+        doReturn(YangInstanceIdentifier.of(QName.create("ns", "2016-02-28", name))).when(namedMountPoint)
+            .getIdentifier();
+        return namedMountPoint;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * Unit tests for {@link MountPointRequestLimiter}.
+ */
+public class MountPointRequestLimiterTest {
+    private static final YangInstanceIdentifier MOUNT_POINT_ID =
+        YangInstanceIdentifier.of(QName.create("ns", "2016-02-28", "device"));
+
+    private final MountPointRequestLimiter limiter = new MountPointRequestLimiter(1, 2);
+    private final DOMMountPoint mountPoint = mock(DOMMountPoint.class);
+
+    @Before
+    public void setUp() {
+        doReturn(MOUNT_POINT_ID).when(mountPoint).getIdentifier();
+    }
+
+    @Test
+    public void testQueuedRequestsStartedByCompletingThread() throws Exception {
+        final SettableFuture<String> first = SettableFuture.create();
+        limiter.submit(mountPoint, () -> first);
+        final List<String> started = new ArrayList<>();
+        final ListenableFuture<String> second = limiter.submit(mountPoint, () -> {
+            started.add("second");
+            return Futures.immediateFuture("second");
+        });
+        final ListenableFuture<String> third = limiter.submit(mountPoint, () -> {
+            started.add("third");
+            return Futures.immediateFuture("third");
+        });
+        assertEquals(2, limiter.getQueuedRequests(MOUNT_POINT_ID));
+
+        // completion of the first request starts the queued requests in order, without hopping to another thread
+        first.set("first");
+        assertEquals(List.of("second", "third"), started);
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+
+        assertEquals("second", second.get());
+        assertEquals("third", third.get());
+        assertEquals(0, limiter.getQueuedRequests(MOUNT_POINT_ID));
+    }
+
+    @Test
+    public void testImmediatelyCompletingRequestsDoNotRecurse() throws Exception {
+        final int count = 10000;
+        final MountPointRequestLimiter deepLimiter = new MountPointRequestLimiter(1, count);
+        final SettableFuture<String> first = SettableFuture.create();
+        deepLimiter.submit(mountPoint, () -> first);
+
+        final int depth = new Throwable().getStackTrace().length;
+        final List<Integer> depths = new ArrayList<>();
+        final List<ListenableFuture<Integer>> queued = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            final int index = i;
+            queued.add(deepLimiter.submit(mountPoint, () -> {
+                depths.add(new Throwable().getStackTrace().length - depth);
+                return Futures.immediateFuture(index);
+            }));
+        }
+
+        first.set("first");
+        for (int i = 0; i < count; ++i) {
+            assertEquals(Integer.valueOf(i), queued.get(i).get());
+        }
+        // every request is started from the same loop, the stack does not grow with the number of requests
+        assertEquals(1, depths.stream().distinct().count());
+    }
+
+    @Test
+    public void testFullQueueIsRejected() throws Exception {
+        limiter.submit(mountPoint, SettableFuture::create);
+        limiter.submit(mountPoint, SettableFuture::create);
+        limiter.submit(mountPoint, SettableFuture::create);
+        assertRejected(limiter.submit(mountPoint, SettableFuture::create));
+    }
+
+    @Test
+    public void testMountPointRemoval() throws Exception {
+        limiter.submit(mountPoint, SettableFuture::create);
+        final ListenableFuture<Object> queued = limiter.submit(mountPoint, SettableFuture::create);
+
+        limiter.onMountPointRemoved(MOUNT_POINT_ID);
+        assertRejected(queued);
+        assertEquals(0, limiter.getQueuedRequests(MOUNT_POINT_ID));
+
+        final ListenableFuture<String> next = limiter.submit(mountPoint, () -> Futures.immediateFuture("next"));
+        assertEquals("next", next.get());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        final SettableFuture<String> first = SettableFuture.create();
+        final ListenableFuture<String> running = limiter.submit(mountPoint, () -> first);
+        final ListenableFuture<Object> queued = limiter.submit(mountPoint, SettableFuture::create);
+
+        limiter.close();
+        assertRejected(queued);
+        assertRejected(limiter.submit(mountPoint, SettableFuture::create));
+
+        // running requests are left to complete
+        assertFalse(running.isDone());
+        first.set("first");
+        assertEquals("first", running.get());
+    }
+
+    private static void assertRejected(final ListenableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RestconfDocumentedException);
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT,
+                ((RestconfDocumentedException) e.getCause()).getErrors().get(0).getErrorTag());
+        }
+    }
+}
@@ -16,6 +16,8 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -32,12 +34,12 @@ import org.opendaylight.restconf.common.patch.PatchStatusContext;
  * <ul>
  * <li><b>/restconf</b> - {@link #getRoot()}
  * <ul>
- * <li><b>/config</b> - {@link #readConfigurationData(String, UriInfo)}
- * {@link #updateConfigurationData(String, NormalizedNodeContext, UriInfo)}
- * {@link #createConfigurationData(NormalizedNodeContext, UriInfo)}
- * {@link #createConfigurationData(String, NormalizedNodeContext, UriInfo)}
- * {@link #deleteConfigurationData(String)}
- * <li><b>/operational</b> - {@link #readOperationalData(String, UriInfo)}
+ * <li><b>/config</b> - {@link #readConfigurationData(String, UriInfo, AsyncResponse)}
+ * {@link #updateConfigurationData(String, NormalizedNodeContext, UriInfo, AsyncResponse)}
+ * {@link #createConfigurationData(NormalizedNodeContext, UriInfo, AsyncResponse)}
+ * {@link #createConfigurationData(String, NormalizedNodeContext, UriInfo, AsyncResponse)}
+ * {@link #deleteConfigurationData(String, AsyncResponse)}
+ * <li><b>/operational</b> - {@link #readOperationalData(String, UriInfo, AsyncResponse)}
  * <li>/modules - {@link #getModules(UriInfo)}
  * <ul>
  * <li>/module
@@ -180,12 +182,28 @@ public interface RestconfService {
      *             UriInfo)
      */
     @Deprecated
+    NormalizedNodeContext readConfigurationData(String identifier, UriInfo uriInfo);
+
+    /**
+     * Get target data resource from config data store. The request thread is not blocked while the data are being read,
+     * the response is resumed once they are available.
+     *
+     * @param identifier
+     *            path to target
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link NormalizedNodeContext}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#readData(String,
+     *             UriInfo)
+     */
+    @Deprecated
     @GET
     @Path("/config/{identifier:.+}")
     @Produces({ Draft02.MediaTypes.DATA + JSON, Draft02.MediaTypes.DATA + XML, MediaType.APPLICATION_JSON,
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    NormalizedNodeContext readConfigurationData(@Encoded @PathParam("identifier") String identifier,
-            @Context UriInfo uriInfo);
+    void readConfigurationData(@Encoded @PathParam("identifier") String identifier, @Context UriInfo uriInfo,
+            @Suspended AsyncResponse asyncResponse);
 
     /**
      * Get target data resource from operational data store.
@@ -199,12 +217,28 @@ public interface RestconfService {
      *             UriInfo)
      */
     @Deprecated
+    NormalizedNodeContext readOperationalData(String identifier, UriInfo uriInfo);
+
+    /**
+     * Get target data resource from operational data store. The request thread is not blocked while the data are
+     * being read, the response is resumed once they are available.
+     *
+     * @param identifier
+     *            path to target
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link NormalizedNodeContext}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#readData(String,
+     *             UriInfo)
+     */
+    @Deprecated
     @GET
     @Path("/operational/{identifier:.+}")
     @Produces({ Draft02.MediaTypes.DATA + JSON, Draft02.MediaTypes.DATA + XML, MediaType.APPLICATION_JSON,
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    NormalizedNodeContext readOperationalData(@Encoded @PathParam("identifier") String identifier,
-            @Context UriInfo uriInfo);
+    void readOperationalData(@Encoded @PathParam("identifier") String identifier, @Context UriInfo uriInfo,
+            @Suspended AsyncResponse asyncResponse);
 
     /**
      * Create or replace the target data resource.
@@ -218,12 +252,30 @@ public interface RestconfService {
      *             NormalizedNodeContext, UriInfo)
      */
     @Deprecated
+    Response updateConfigurationData(String identifier, NormalizedNodeContext payload, UriInfo uriInfo);
+
+    /**
+     * Create or replace the target data resource. The request thread is not blocked while the data are being written,
+     * the response is resumed once the operation completes.
+     *
+     * @param identifier
+     *            path to target
+     * @param payload
+     *            data node for put to config DS
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link Response}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#putData(String,
+     *             NormalizedNodeContext, UriInfo)
+     */
+    @Deprecated
     @PUT
     @Path("/config/{identifier:.+}")
     @Consumes({ Draft02.MediaTypes.DATA + JSON, Draft02.MediaTypes.DATA + XML, MediaType.APPLICATION_JSON,
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response updateConfigurationData(@Encoded @PathParam("identifier") String identifier,
-            NormalizedNodeContext payload, @Context UriInfo uriInfo);
+    void updateConfigurationData(@Encoded @PathParam("identifier") String identifier,
+            NormalizedNodeContext payload, @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
     /**
      * Create a data resource in target.
@@ -239,12 +291,30 @@ public interface RestconfService {
      *             NormalizedNodeContext, UriInfo)
      */
     @Deprecated
+    Response createConfigurationData(String identifier, NormalizedNodeContext payload, UriInfo uriInfo);
+
+    /**
+     * Create a data resource in target. The request thread is not blocked while the data are being written, the
+     * response is resumed once the operation completes.
+     *
+     * @param identifier
+     *            path to target
+     * @param payload
+     *            new data
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link Response}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#postData(String,
+     *             NormalizedNodeContext, UriInfo)
+     */
+    @Deprecated
     @POST
     @Path("/config/{identifier:.+}")
     @Consumes({ Draft02.MediaTypes.DATA + JSON, Draft02.MediaTypes.DATA + XML, MediaType.APPLICATION_JSON,
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response createConfigurationData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
-            @Context UriInfo uriInfo);
+    void createConfigurationData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
+            @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
     /**
      * Create a data resource.
@@ -258,11 +328,28 @@ public interface RestconfService {
      *             RestconfDataService#postData(NormalizedNodeContext, UriInfo)
      */
     @Deprecated
+    Response createConfigurationData(NormalizedNodeContext payload, UriInfo uriInfo);
+
+    /**
+     * Create a data resource. The request thread is not blocked while the data are being written, the response is
+     * resumed once the operation completes.
+     *
+     * @param payload
+     *            new data
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link Response}
+     * @deprecated do not use this method. It will be replaced by
+     *             RestconfDataService#postData(NormalizedNodeContext, UriInfo)
+     */
+    @Deprecated
     @POST
     @Path("/config")
     @Consumes({ Draft02.MediaTypes.DATA + JSON, Draft02.MediaTypes.DATA + XML, MediaType.APPLICATION_JSON,
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response createConfigurationData(NormalizedNodeContext payload, @Context UriInfo uriInfo);
+    void createConfigurationData(NormalizedNodeContext payload, @Context UriInfo uriInfo,
+            @Suspended AsyncResponse asyncResponse);
 
     /**
      * Delete the target data resource.
@@ -273,9 +360,23 @@ public interface RestconfService {
      * @deprecated do not use this method. It will be replaced by RestconfDataService#deleteData(String)
      */
     @Deprecated
+    Response deleteConfigurationData(String identifier);
+
+    /**
+     * Delete the target data resource. The request thread is not blocked while the data are being deleted, the
+     * response is resumed once the operation completes.
+     *
+     * @param identifier
+     *            path to target
+     * @param asyncResponse
+     *            response resumed with {@link Response}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#deleteData(String)
+     */
+    @Deprecated
     @DELETE
     @Path("/config/{identifier:.+}")
-    Response deleteConfigurationData(@Encoded @PathParam("identifier") String identifier);
+    void deleteConfigurationData(@Encoded @PathParam("identifier") String identifier,
+            @Suspended AsyncResponse asyncResponse);
 
     /**
      * Subscribe to stream.
@@ -324,12 +425,30 @@ public interface RestconfService {
      *             PatchContext, UriInfo)
      */
     @Deprecated
+    PatchStatusContext patchConfigurationData(String identifier, PatchContext context, UriInfo uriInfo);
+
+    /**
+     * Ordered list of edits that are applied to the target datastore by the server. The request thread is not blocked
+     * while the edits are being applied, the response is resumed once the operation completes.
+     *
+     * @param identifier
+     *            path to target
+     * @param context
+     *            edits
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link PatchStatusContext}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#patchData(String,
+     *             PatchContext, UriInfo)
+     */
+    @Deprecated
     @Patch
     @Path("/config/{identifier:.+}")
     @Consumes({MediaTypes.PATCH + JSON, MediaTypes.PATCH + XML})
     @Produces({MediaTypes.PATCH_STATUS + JSON, MediaTypes.PATCH_STATUS + XML})
-    PatchStatusContext patchConfigurationData(@Encoded @PathParam("identifier") String identifier, PatchContext
-            context, @Context UriInfo uriInfo);
+    void patchConfigurationData(@Encoded @PathParam("identifier") String identifier, PatchContext context,
+            @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
     /**
      * Ordered list of edits that are applied to the datastore by the server.
@@ -343,9 +462,26 @@ public interface RestconfService {
      *             UriInfo)
      */
     @Deprecated
+    PatchStatusContext patchConfigurationData(PatchContext context, UriInfo uriInfo);
+
+    /**
+     * Ordered list of edits that are applied to the datastore by the server. The request thread is not blocked while
+     * the edits are being applied, the response is resumed once the operation completes.
+     *
+     * @param context
+     *            edits
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            response resumed with {@link PatchStatusContext}
+     * @deprecated do not use this method. It will be replaced by RestconfDataService#patchData(PatchContext,
+     *             UriInfo)
+     */
+    @Deprecated
     @Patch
     @Path("/config")
     @Consumes({MediaTypes.PATCH + JSON, MediaTypes.PATCH + XML})
     @Produces({MediaTypes.PATCH_STATUS + JSON, MediaTypes.PATCH_STATUS + XML})
-    PatchStatusContext patchConfigurationData(PatchContext context, @Context UriInfo uriInfo);
+    void patchConfigurationData(PatchContext context, @Context UriInfo uriInfo,
+            @Suspended AsyncResponse asyncResponse);
 }
@@ -9,6 +9,7 @@
 package org.opendaylight.netconf.sal.rest.impl;
 
 import com.google.common.base.Preconditions;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.netconf.md.sal.rest.schema.SchemaRetrievalService;
@@ -74,6 +75,18 @@ public class RestconfCompositeWrapper implements RestconfService, SchemaRetrieva
         return this.restconf.readOperationalData(identifier, uriInfo);
     }
 
+    @Override
+    public void readConfigurationData(final String identifier, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.restconf.readConfigurationData(identifier, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void readOperationalData(final String identifier, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.restconf.readOperationalData(identifier, uriInfo, asyncResponse);
+    }
+
     @Override
     public Response updateConfigurationData(final String identifier, final NormalizedNodeContext payload,
             final UriInfo uriInfo) {
@@ -117,6 +130,41 @@ public class RestconfCompositeWrapper implements RestconfService, SchemaRetrieva
         return this.restconf.patchConfigurationData(context, uriInfo);
     }
 
+    @Override
+    public void updateConfigurationData(final String identifier, final NormalizedNodeContext payload,
+            final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.restconf.updateConfigurationData(identifier, payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void createConfigurationData(final String identifier, final NormalizedNodeContext payload,
+            final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.restconf.createConfigurationData(identifier, payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void createConfigurationData(final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.restconf.createConfigurationData(payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void deleteConfigurationData(final String identifier, final AsyncResponse asyncResponse) {
+        this.restconf.deleteConfigurationData(identifier, asyncResponse);
+    }
+
+    @Override
+    public void patchConfigurationData(final String identifier, final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.restconf.patchConfigurationData(identifier, context, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void patchConfigurationData(final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.restconf.patchConfigurationData(context, uriInfo, asyncResponse);
+    }
+
     @Override
     public SchemaExportContext getSchema(final String mountId) {
         return this.schema.getSchema(mountId);
@@ -61,6 +61,7 @@ import org.opendaylight.restconf.common.patch.PatchEntity;
 import org.opendaylight.restconf.common.patch.PatchStatusContext;
 import org.opendaylight.restconf.common.patch.PatchStatusEntity;
 import org.opendaylight.restconf.common.util.DataChangeScope;
+import org.opendaylight.restconf.common.util.MountPointRequestExecutor;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -98,38 +99,62 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings("checkstyle:FinalClass")
 public class BrokerFacade implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(BrokerFacade.class);
+    private static final int DEFAULT_MOUNT_POINT_REQUEST_THREADS = 16;
+    private static final int DEFAULT_MAX_CONCURRENT_MOUNT_POINT_REQUESTS = 4;
+    private static final int DEFAULT_MAX_QUEUED_MOUNT_POINT_REQUESTS = 512;
 
     private volatile DOMRpcService rpcService;
 
     private final DOMDataBroker domDataBroker;
     private final DOMNotificationService domNotification;
     private final ControllerContext controllerContext;
+    private final MountPointRequestExecutor mountPointRequestExecutor;
+    private final boolean ownsMountPointRequestExecutor;
 
     @Inject
     public BrokerFacade(final @Reference DOMRpcService rpcService, final DOMDataBroker domDataBroker,
-            final @Reference DOMNotificationService domNotification, final ControllerContext controllerContext) {
+            final @Reference DOMNotificationService domNotification, final ControllerContext controllerContext,
+            final MountPointRequestExecutor mountPointRequestExecutor) {
+        this(rpcService, domDataBroker, domNotification, controllerContext, mountPointRequestExecutor, false);
+    }
+
+    private BrokerFacade(final DOMRpcService rpcService, final DOMDataBroker domDataBroker,
+            final DOMNotificationService domNotification, final ControllerContext controllerContext,
+            final MountPointRequestExecutor mountPointRequestExecutor, final boolean ownsMountPointRequestExecutor) {
         this.rpcService = Objects.requireNonNull(rpcService);
         this.domDataBroker = Objects.requireNonNull(domDataBroker);
         this.domNotification = Objects.requireNonNull(domNotification);
         this.controllerContext = Objects.requireNonNull(controllerContext);
+        this.mountPointRequestExecutor = Objects.requireNonNull(mountPointRequestExecutor);
+        this.ownsMountPointRequestExecutor = ownsMountPointRequestExecutor;
     }
 
     /**
-     * Factory method.
+     * Factory method. The facade creates a {@link MountPointRequestExecutor} with default limits, which tracks mount
+     * points of the {@link ControllerContext} and is closed along with the facade.
      *
      * @deprecated Just use
-     *             {@link #BrokerFacade(DOMRpcService, DOMDataBroker, DOMNotificationService, ControllerContext)}
-     *             constructor instead.
+     *             {@link #BrokerFacade(DOMRpcService, DOMDataBroker, DOMNotificationService, ControllerContext,
+     *             MountPointRequestExecutor)} constructor instead.
      */
     @Deprecated
     public static BrokerFacade newInstance(final DOMRpcService rpcService, final DOMDataBroker domDataBroker,
             final DOMNotificationService domNotification, final ControllerContext controllerContext) {
-        return new BrokerFacade(rpcService, domDataBroker, domNotification, controllerContext);
+        return new BrokerFacade(rpcService, domDataBroker, domNotification, controllerContext,
+            new MountPointRequestExecutor(controllerContext.getMountService(), DEFAULT_MOUNT_POINT_REQUEST_THREADS,
+                DEFAULT_MAX_CONCURRENT_MOUNT_POINT_REQUESTS, DEFAULT_MAX_QUEUED_MOUNT_POINT_REQUESTS), true);
+    }
+
+    MountPointRequestExecutor getMountPointRequestExecutor() {
+        return mountPointRequestExecutor;
     }
 
     @Override
     @PreDestroy
     public void close() {
+        if (ownsMountPointRequestExecutor) {
+            mountPointRequestExecutor.close();
+        }
     }
 
     /**
@@ -185,13 +210,7 @@ public class BrokerFacade implements Closeable {
      */
     public NormalizedNode<?, ?> readConfigurationData(final DOMMountPoint mountPoint, final YangInstanceIdentifier path,
             final String withDefa) {
-        final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
-        if (domDataBrokerService.isPresent()) {
-            try (DOMDataTreeReadTransaction tx = domDataBrokerService.get().newReadOnlyTransaction()) {
-                return readDataViaTransaction(tx, CONFIGURATION, path, withDefa);
-            }
-        }
-        throw dataBrokerUnavailable(path);
+        return awaitData(readConfigurationDataAsync(mountPoint, path, withDefa));
     }
 
     /**
@@ -217,13 +236,68 @@ public class BrokerFacade implements Closeable {
      * @return read data
      */
     public NormalizedNode<?, ?> readOperationalData(final DOMMountPoint mountPoint, final YangInstanceIdentifier path) {
-        final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
-        if (domDataBrokerService.isPresent()) {
-            try (DOMDataTreeReadTransaction tx = domDataBrokerService.get().newReadOnlyTransaction()) {
-                return readDataViaTransaction(tx, OPERATIONAL, path);
-            }
-        }
-        throw dataBrokerUnavailable(path);
+        return awaitData(readOperationalDataAsync(mountPoint, path));
+    }
+
+    /**
+     * Read config data by path without blocking.
+     *
+     * @param path
+     *            path of data
+     * @param withDefa
+     *            value of with-defaults parameter
+     * @return future completing with read data, or with {@code null} if there are no data
+     */
+    public FluentFuture<NormalizedNode<?, ?>> readConfigurationDataAsync(final YangInstanceIdentifier path,
+            final String withDefa) {
+        return readDataAsync(this.domDataBroker, CONFIGURATION, path, withDefa);
+    }
+
+    /**
+     * Read config data from mount point by path without blocking. The read is queued if too many operations are
+     * already running against the mount point, and rejected if too many are queued.
+     *
+     * @param mountPoint
+     *            mount point for reading data
+     * @param path
+     *            path of data
+     * @param withDefa
+     *            value of with-defaults parameter
+     * @return future completing with read data, or with {@code null} if there are no data
+     */
+    public FluentFuture<NormalizedNode<?, ?>> readConfigurationDataAsync(final DOMMountPoint mountPoint,
+            final YangInstanceIdentifier path, final String withDefa) {
+        final DOMDataBroker mountDataBroker = mountPointDataBroker(mountPoint, path);
+        return FluentFuture.from(this.mountPointRequestExecutor.submitAsync(mountPoint,
+            () -> readDataAsync(mountDataBroker, CONFIGURATION, path, withDefa)));
+    }
+
+    /**
+     * Read operational data by path without blocking.
+     *
+     * @param path
+     *            path of data
+     * @return future completing with read data, or with {@code null} if there are no data
+     */
+    public FluentFuture<NormalizedNode<?, ?>> readOperationalDataAsync(final YangInstanceIdentifier path) {
+        return readDataAsync(this.domDataBroker, OPERATIONAL, path, null);
+    }
+
+    /**
+     * Read operational data from mount point by path without blocking. The read is queued if too many operations are
+     * already running against the mount point, and rejected if too many are queued.
+     *
+     * @param mountPoint
+     *            mount point for reading data
+     * @param path
+     *            path of data
+     * @return future completing with read data, or with {@code null} if there are no data
+     */
+    public FluentFuture<NormalizedNode<?, ?>> readOperationalDataAsync(final DOMMountPoint mountPoint,
+            final YangInstanceIdentifier path) {
+        final DOMDataBroker mountDataBroker = mountPointDataBroker(mountPoint, path);
+        return FluentFuture.from(this.mountPointRequestExecutor.submitAsync(mountPoint,
+            () -> readDataAsync(mountDataBroker, OPERATIONAL, path, null)));
     }
 
     /**
@@ -542,6 +616,39 @@ public class BrokerFacade implements Closeable {
         }
     }
 
+    private FluentFuture<NormalizedNode<?, ?>> readDataAsync(final DOMDataBroker broker,
+            final LogicalDatastoreType datastore, final YangInstanceIdentifier path, final String withDefa) {
+        LOG.trace("Read {} via Restconf: {}", datastore.name(), path);
+
+        final DOMDataTreeReadTransaction tx = broker.newReadOnlyTransaction();
+        final FluentFuture<Optional<NormalizedNode<?, ?>>> future = tx.read(datastore, path);
+        future.addListener(tx::close, MoreExecutors.directExecutor());
+        return future.<NormalizedNode<?, ?>>transform(optional -> !optional.isPresent() ? null
+                : withDefa == null ? optional.get() : prepareDataByParamWithDef(optional.get(), path, withDefa),
+                MoreExecutors.directExecutor())
+            .catching(ReadFailedException.class, e -> {
+                LOG.warn("Error reading {} from datastore {}", path, datastore.name(), e);
+                throw RestconfDocumentedException.decodeAndThrow("Error reading data.", e);
+            }, MoreExecutors.directExecutor());
+    }
+
+    private static NormalizedNode<?, ?> awaitData(final FluentFuture<NormalizedNode<?, ?>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestconfDocumentedException("Error reading data.", e);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RestconfDocumentedException("Error reading data.", e.getCause());
+        }
+    }
+
+    private static DOMDataBroker mountPointDataBroker(final DOMMountPoint mountPoint,
+            final YangInstanceIdentifier path) {
+        return mountPoint.getService(DOMDataBroker.class).orElseThrow(() -> dataBrokerUnavailable(path));
+    }
+
     private NormalizedNode<?, ?> prepareDataByParamWithDef(final NormalizedNode<?, ?> result,
             final YangInstanceIdentifier path, final String withDefa) {
         boolean trim;
@@ -131,6 +131,15 @@ public final class ControllerContext implements EffectiveModelContextListener, C
         this.dataNormalizer = new DataNormalizer(globalSchema);
     }
 
+    /**
+     * Return the mount point service used to resolve mount points.
+     *
+     * @return mount point service, {@code null} if mount points are not supported
+     */
+    public DOMMountPointService getMountService() {
+        return mountService;
+    }
+
     public DOMYangTextSourceProvider getYangTextSourceProvider() {
         return yangTextSourceProvider;
     }
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.netconf.sal.restconf.impl;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicates;
@@ -17,8 +19,10 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.net.URI;
 import java.time.Instant;
@@ -45,6 +49,7 @@ import java.util.concurrent.ExecutionException;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
@@ -69,12 +74,14 @@ import org.opendaylight.netconf.sal.streams.listeners.Notificator;
 import org.opendaylight.netconf.sal.streams.websockets.WebSocketServer;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.context.NormalizedNodeContext;
+import org.opendaylight.restconf.common.context.WriterParameters;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
 import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
 import org.opendaylight.restconf.common.patch.PatchContext;
 import org.opendaylight.restconf.common.patch.PatchStatusContext;
 import org.opendaylight.restconf.common.util.DataChangeScope;
+import org.opendaylight.restconf.common.util.MountPointRequestExecutor;
 import org.opendaylight.restconf.common.util.OperationsResourceUtils;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
@@ -182,20 +189,25 @@ public final class RestconfImpl implements RestconfService {
 
     private final ControllerContext controllerContext;
 
+    private final MountPointRequestExecutor mountPointRequestExecutor;
+
     @Inject
-    public RestconfImpl(final BrokerFacade broker, final ControllerContext controllerContext) {
+    public RestconfImpl(final BrokerFacade broker, final ControllerContext controllerContext,
+            final MountPointRequestExecutor mountPointRequestExecutor) {
         this.broker = broker;
         this.controllerContext = controllerContext;
+        this.mountPointRequestExecutor = requireNonNull(mountPointRequestExecutor);
     }
 
     /**
-     * Factory method.
+     * Factory method. Requests to mount points share the {@link MountPointRequestExecutor} of the broker.
      *
-     * @deprecated Just use {@link #RestconfImpl(BrokerFacade, ControllerContext)} constructor instead.
+     * @deprecated Just use {@link #RestconfImpl(BrokerFacade, ControllerContext, MountPointRequestExecutor)}
+     *             constructor instead.
      */
     @Deprecated
     public static RestconfImpl newInstance(final BrokerFacade broker, final ControllerContext controllerContext) {
-        return new RestconfImpl(broker, controllerContext);
+        return new RestconfImpl(broker, controllerContext, broker.getMountPointRequestExecutor());
     }
 
     @Override
@@ -651,49 +663,46 @@ public final class RestconfImpl implements RestconfService {
 
     @Override
     public NormalizedNodeContext readConfigurationData(final String identifier, final UriInfo uriInfo) {
-        boolean withDefaUsed = false;
-        String withDefa = null;
-
-        for (final Entry<String, List<String>> entry : uriInfo.getQueryParameters().entrySet()) {
-            switch (entry.getKey()) {
-                case "with-defaults":
-                    if (!withDefaUsed) {
-                        withDefaUsed = true;
-                        withDefa = entry.getValue().iterator().next();
-                    } else {
-                        throw new RestconfDocumentedException("With-defaults parameter can be used only once.");
-                    }
-                    break;
-                default:
-                    LOG.info("Unknown key : {}.", entry.getKey());
-                    break;
-            }
-        }
-        boolean tagged = false;
-        if (withDefaUsed) {
-            if ("report-all-tagged".equals(withDefa)) {
-                tagged = true;
-                withDefa = null;
-            }
-            if ("report-all".equals(withDefa)) {
-                withDefa = null;
-            }
-        }
-
+        final WithDefaultsParameter withDefaults = WithDefaultsParameter.parse(uriInfo);
         final InstanceIdentifierContext<?> iiWithData = this.controllerContext.toInstanceIdentifier(identifier);
         final DOMMountPoint mountPoint = iiWithData.getMountPoint();
         NormalizedNode<?, ?> data = null;
         final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
         if (mountPoint != null) {
-            data = this.broker.readConfigurationData(mountPoint, normalizedII, withDefa);
+            data = this.broker.readConfigurationData(mountPoint, normalizedII, withDefaults.value);
         } else {
-            data = this.broker.readConfigurationData(normalizedII, withDefa);
+            data = this.broker.readConfigurationData(normalizedII, withDefaults.value);
         }
         if (data == null) {
             throw dataMissing(identifier);
         }
         return new NormalizedNodeContext(iiWithData, data,
-                QueryParametersParser.parseWriterParameters(uriInfo, tagged));
+                QueryParametersParser.parseWriterParameters(uriInfo, withDefaults.tagged));
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void readConfigurationData(final String identifier, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        final InstanceIdentifierContext<?> iiWithData;
+        final WriterParameters writerParameters;
+        final FluentFuture<NormalizedNode<?, ?>> future;
+        try {
+            final WithDefaultsParameter withDefaults = WithDefaultsParameter.parse(uriInfo);
+            iiWithData = this.controllerContext.toInstanceIdentifier(identifier);
+            writerParameters = QueryParametersParser.parseWriterParameters(uriInfo, withDefaults.tagged);
+            final DOMMountPoint mountPoint = iiWithData.getMountPoint();
+            final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
+            if (mountPoint != null) {
+                future = this.broker.readConfigurationDataAsync(mountPoint, normalizedII, withDefaults.value);
+            } else {
+                future = this.broker.readConfigurationDataAsync(normalizedII, withDefaults.value);
+            }
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+            return;
+        }
+        resumeWithData(asyncResponse, identifier, iiWithData, writerParameters, future);
     }
 
     @Override
@@ -713,6 +722,50 @@ public final class RestconfImpl implements RestconfService {
         return new NormalizedNodeContext(iiWithData, data, QueryParametersParser.parseWriterParameters(uriInfo));
     }
 
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void readOperationalData(final String identifier, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        final InstanceIdentifierContext<?> iiWithData;
+        final WriterParameters writerParameters;
+        final FluentFuture<NormalizedNode<?, ?>> future;
+        try {
+            iiWithData = this.controllerContext.toInstanceIdentifier(identifier);
+            writerParameters = QueryParametersParser.parseWriterParameters(uriInfo);
+            final DOMMountPoint mountPoint = iiWithData.getMountPoint();
+            final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
+            if (mountPoint != null) {
+                future = this.broker.readOperationalDataAsync(mountPoint, normalizedII);
+            } else {
+                future = this.broker.readOperationalDataAsync(normalizedII);
+            }
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+            return;
+        }
+        resumeWithData(asyncResponse, identifier, iiWithData, writerParameters, future);
+    }
+
+    private static void resumeWithData(final AsyncResponse asyncResponse, final String identifier,
+            final InstanceIdentifierContext<?> iiWithData, final WriterParameters writerParameters,
+            final FluentFuture<NormalizedNode<?, ?>> future) {
+        future.addCallback(new FutureCallback<NormalizedNode<?, ?>>() {
+            @Override
+            public void onSuccess(final NormalizedNode<?, ?> data) {
+                if (data == null) {
+                    asyncResponse.resume(dataMissing(identifier));
+                } else {
+                    asyncResponse.resume(new NormalizedNodeContext(iiWithData, data, writerParameters));
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                asyncResponse.resume(cause);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
     private static RestconfDocumentedException dataMissing(final String identifier) {
         LOG.debug("Request could not be completed because the relevant data model content does not exist {}",
             identifier);
@@ -1289,6 +1342,65 @@ public final class RestconfImpl implements RestconfService {
         }
     }
 
+    @Override
+    public void updateConfigurationData(final String identifier, final NormalizedNodeContext payload,
+            final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.mountPointRequestExecutor.execute(mountPointOf(payload), asyncResponse,
+            () -> updateConfigurationData(identifier, payload, uriInfo));
+    }
+
+    @Override
+    public void createConfigurationData(final String identifier, final NormalizedNodeContext payload,
+            final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        createConfigurationData(payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void createConfigurationData(final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.mountPointRequestExecutor.execute(mountPointOf(payload), asyncResponse,
+            () -> createConfigurationData(payload, uriInfo));
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void deleteConfigurationData(final String identifier, final AsyncResponse asyncResponse) {
+        final DOMMountPoint mountPoint;
+        try {
+            mountPoint = this.controllerContext.toInstanceIdentifier(identifier).getMountPoint();
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+            return;
+        }
+        this.mountPointRequestExecutor.execute(mountPoint, asyncResponse, () -> deleteConfigurationData(identifier));
+    }
+
+    @Override
+    public void patchConfigurationData(final String identifier, final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.mountPointRequestExecutor.execute(mountPointOf(context), asyncResponse,
+            () -> patchConfigurationData(identifier, context, uriInfo));
+    }
+
+    @Override
+    public void patchConfigurationData(final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.mountPointRequestExecutor.execute(mountPointOf(context), asyncResponse,
+            () -> patchConfigurationData(context, uriInfo));
+    }
+
+    /**
+     * Return the mount point targeted by a write. Writes to a mount point are executed off the request thread, within
+     * the limits imposed on the mount point, while writes to the local datastore are executed directly.
+     */
+    private static DOMMountPoint mountPointOf(final NormalizedNodeContext payload) {
+        return payload == null ? null : payload.getInstanceIdentifierContext().getMountPoint();
+    }
+
+    private static DOMMountPoint mountPointOf(final PatchContext context) {
+        return context == null ? null : context.getInstanceIdentifierContext().getMountPoint();
+    }
+
     /**
      * Load parameter for subscribing to stream from input composite node.
      *
@@ -1527,4 +1639,50 @@ public final class RestconfImpl implements RestconfService {
 
         return Futures.immediateFuture(new DefaultDOMRpcResult(output));
     }
+
+    /**
+     * Value of the with-defaults query parameter, as passed to {@link BrokerFacade}, and whether the defaults are to
+     * be tagged.
+     */
+    private static final class WithDefaultsParameter {
+        final String value;
+        final boolean tagged;
+
+        private WithDefaultsParameter(final String value, final boolean tagged) {
+            this.value = value;
+            this.tagged = tagged;
+        }
+
+        static WithDefaultsParameter parse(final UriInfo uriInfo) {
+            boolean withDefaUsed = false;
+            String withDefa = null;
+
+            for (final Entry<String, List<String>> entry : uriInfo.getQueryParameters().entrySet()) {
+                switch (entry.getKey()) {
+                    case "with-defaults":
+                        if (!withDefaUsed) {
+                            withDefaUsed = true;
+                            withDefa = entry.getValue().iterator().next();
+                        } else {
+                            throw new RestconfDocumentedException("With-defaults parameter can be used only once.");
+                        }
+                        break;
+                    default:
+                        LOG.info("Unknown key : {}.", entry.getKey());
+                        break;
+                }
+            }
+            boolean tagged = false;
+            if (withDefaUsed) {
+                if ("report-all-tagged".equals(withDefa)) {
+                    tagged = true;
+                    withDefa = null;
+                }
+                if ("report-all".equals(withDefa)) {
+                    withDefa = null;
+                }
+            }
+            return new WithDefaultsParameter(withDefa, tagged);
+        }
+    }
 }
@@ -8,9 +8,16 @@
 package org.opendaylight.netconf.sal.restconf.impl;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
@@ -131,6 +138,24 @@ public final class StatisticsRestconfServiceWrapper implements RestconfService {
         return normalizedNodeContext;
     }
 
+    @Override
+    public void readConfigurationData(final String identifier, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.configGet.incrementAndGet();
+        this.delegate.readConfigurationData(identifier, uriInfo,
+            new CountingAsyncResponse(asyncResponse, StatisticsRestconfServiceWrapper::hasData,
+                this.successGetConfig, this.failureGetConfig));
+    }
+
+    @Override
+    public void readOperationalData(final String identifier, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.operationalGet.incrementAndGet();
+        this.delegate.readOperationalData(identifier, uriInfo,
+            new CountingAsyncResponse(asyncResponse, StatisticsRestconfServiceWrapper::hasData,
+                this.successGetOperational, this.failureGetOperational));
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public Response updateConfigurationData(final String identifier, final NormalizedNodeContext payload,
@@ -209,6 +234,41 @@ public final class StatisticsRestconfServiceWrapper implements RestconfService {
         return response;
     }
 
+    @Override
+    public void updateConfigurationData(final String identifier, final NormalizedNodeContext payload,
+            final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.configPut.incrementAndGet();
+        this.delegate.updateConfigurationData(identifier, payload, uriInfo,
+            new CountingAsyncResponse(asyncResponse, StatisticsRestconfServiceWrapper::isOk,
+                this.successPut, this.failurePut));
+    }
+
+    @Override
+    public void createConfigurationData(final String identifier, final NormalizedNodeContext payload,
+            final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.configPost.incrementAndGet();
+        this.delegate.createConfigurationData(identifier, payload, uriInfo,
+            new CountingAsyncResponse(asyncResponse, StatisticsRestconfServiceWrapper::isOk,
+                this.successPost, this.failurePost));
+    }
+
+    @Override
+    public void createConfigurationData(final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.configPost.incrementAndGet();
+        this.delegate.createConfigurationData(payload, uriInfo,
+            new CountingAsyncResponse(asyncResponse, StatisticsRestconfServiceWrapper::isOk,
+                this.successPost, this.failurePost));
+    }
+
+    @Override
+    public void deleteConfigurationData(final String identifier, final AsyncResponse asyncResponse) {
+        this.configDelete.incrementAndGet();
+        this.delegate.deleteConfigurationData(identifier,
+            new CountingAsyncResponse(asyncResponse, StatisticsRestconfServiceWrapper::isOk,
+                this.successDelete, this.failureDelete));
+    }
+
     @Override
     public NormalizedNodeContext subscribeToStream(final String identifier, final UriInfo uriInfo) {
         return this.delegate.subscribeToStream(identifier, uriInfo);
@@ -230,6 +290,18 @@ public final class StatisticsRestconfServiceWrapper implements RestconfService {
         return this.delegate.patchConfigurationData(payload, uriInfo);
     }
 
+    @Override
+    public void patchConfigurationData(final String identifier, final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegate.patchConfigurationData(identifier, context, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void patchConfigurationData(final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegate.patchConfigurationData(context, uriInfo, asyncResponse);
+    }
+
     public BigInteger getConfigDelete() {
         return BigInteger.valueOf(this.configDelete.get());
     }
@@ -293,4 +365,106 @@ public final class StatisticsRestconfServiceWrapper implements RestconfService {
     public BigInteger getFailureDelete() {
         return BigInteger.valueOf(this.failureDelete.get());
     }
+
+    private static boolean hasData(final Object response) {
+        return response instanceof NormalizedNodeContext && ((NormalizedNodeContext) response).getData() != null;
+    }
+
+    private static boolean isOk(final Object response) {
+        return response instanceof Response && ((Response) response).getStatus() == Status.OK.getStatusCode();
+    }
+
+    /**
+     * Counts the outcome of a request once the response is resumed, as the request completes asynchronously.
+     */
+    private static final class CountingAsyncResponse implements AsyncResponse {
+        private final AsyncResponse delegate;
+        private final Predicate<Object> isSuccess;
+        private final AtomicLong success;
+        private final AtomicLong failure;
+
+        CountingAsyncResponse(final AsyncResponse delegate, final Predicate<Object> isSuccess,
+                final AtomicLong success, final AtomicLong failure) {
+            this.delegate = delegate;
+            this.isSuccess = isSuccess;
+            this.success = success;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean resume(final Object response) {
+            if (this.isSuccess.test(response)) {
+                this.success.incrementAndGet();
+            } else {
+                this.failure.incrementAndGet();
+            }
+            return this.delegate.resume(response);
+        }
+
+        @Override
+        public boolean resume(final Throwable response) {
+            this.failure.incrementAndGet();
+            return this.delegate.resume(response);
+        }
+
+        @Override
+        public boolean cancel() {
+            return this.delegate.cancel();
+        }
+
+        @Override
+        public boolean cancel(final int retryAfter) {
+            return this.delegate.cancel(retryAfter);
+        }
+
+        @Override
+        public boolean cancel(final Date retryAfter) {
+            return this.delegate.cancel(retryAfter);
+        }
+
+        @Override
+        public boolean isSuspended() {
+            return this.delegate.isSuspended();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return this.delegate.isDone();
+        }
+
+        @Override
+        public boolean setTimeout(final long time, final TimeUnit unit) {
+            return this.delegate.setTimeout(time, unit);
+        }
+
+        @Override
+        public void setTimeoutHandler(final TimeoutHandler handler) {
+            this.delegate.setTimeoutHandler(handler);
+        }
+
+        @Override
+        public Collection<Class<?>> register(final Class<?> callback) {
+            return this.delegate.register(callback);
+        }
+
+        @Override
+        public Map<Class<?>, Collection<Class<?>>> register(final Class<?> callback, final Class<?>... callbacks) {
+            return this.delegate.register(callback, callbacks);
+        }
+
+        @Override
+        public Collection<Class<?>> register(final Object callback) {
+            return this.delegate.register(callback);
+        }
+
+        @Override
+        public Map<Class<?>, Collection<Class<?>>> register(final Object callback, final Object... callbacks) {
+            return this.delegate.register(callback, callbacks);
+        }
+    }
 }
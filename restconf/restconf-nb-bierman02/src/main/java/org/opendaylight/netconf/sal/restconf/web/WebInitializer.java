@@ -41,13 +41,13 @@ public class WebInitializer {
 
         WebContextBuilder webContextBuilder = WebContext.builder().contextPath("restconf").supportsSessions(false)
                 .addServlet(ServletDetails.builder().servlet(servletSupport.createHttpServletBuilder(webApp).build())
-                    .addUrlPattern("/*").build())
+                    .asyncSupported(true).addUrlPattern("/*").build())
 
                 // Allows user to add javax.servlet.Filter(s) in front of REST services
                 .addFilter(FilterDetails.builder().filter(new CustomFilterAdapter(customFilterAdapterConfig))
-                    .addUrlPattern("/*").build());
+                    .addUrlPattern("/*").asyncSupported(true).build());
 
-        webContextSecurer.requireAuthentication(webContextBuilder, "/*");
+        webContextSecurer.requireAuthentication(webContextBuilder, true, "/*");
 
         registration = webServer.registerWebContext(webContextBuilder.build());
     }
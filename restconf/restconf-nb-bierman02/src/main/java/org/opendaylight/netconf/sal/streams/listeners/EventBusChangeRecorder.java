@@ -7,15 +7,25 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 class EventBusChangeRecorder<T extends BaseListenerInterface> {
 
     private static final Logger LOG = LoggerFactory.getLogger(EventBusChangeRecorder.class);
+    private static final AttributeKey<AtomicLong> DROPPED_FRAMES =
+            AttributeKey.valueOf(EventBusChangeRecorder.class, "droppedFrames");
+
     private final T listener;
 
     /**
@@ -28,7 +38,9 @@ class EventBusChangeRecorder<T extends BaseListenerInterface> {
         this.listener = listener;
     }
 
+    // Events of a listener are delivered by a single thread, there is no need for the bus to synchronize them
     @Subscribe
+    @AllowConcurrentEvents
     public void recordCustomerChange(final Event event) {
         if (event.getType() == EventType.REGISTER) {
             final Channel subscriber = event.getSubscriber();
@@ -36,18 +48,79 @@ class EventBusChangeRecorder<T extends BaseListenerInterface> {
                 this.listener.getSubscribers().add(subscriber);
             }
         } else if (event.getType() == EventType.DEREGISTER) {
-            this.listener.getSubscribers().remove(event.getSubscriber());
+            if (this.listener.getSubscribers().remove(event.getSubscriber())) {
+                logDroppedFrames(event.getSubscriber());
+            }
             Notificator.removeListenerIfNoSubscriberExists(this.listener);
         } else if (event.getType() == EventType.NOTIFY) {
-            for (final Channel subscriber : this.listener.getSubscribers()) {
-                if (subscriber.isActive()) {
+            fanOut(event.getData());
+        }
+    }
+
+    /**
+     * Send data to all subscribers. The data are encoded once, each subscriber is written a duplicate of the same
+     * frame. Subscribers which cannot keep up, i.e. their channel is not writable, miss the data, which is counted in
+     * {@link #droppedFrames(Channel)}.
+     *
+     * @param data data to be sent
+     */
+    private void fanOut(final String data) {
+        final Set<Channel> subscribers = this.listener.getSubscribers();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        final TextWebSocketFrame frame = new TextWebSocketFrame(
+            ByteBufUtil.writeUtf8(PooledByteBufAllocator.DEFAULT, data));
+        try {
+            for (final Channel subscriber : subscribers) {
+                if (!subscriber.isActive()) {
+                    LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
+                    if (subscribers.remove(subscriber)) {
+                        logDroppedFrames(subscriber);
+                    }
+                } else if (subscriber.isWritable()) {
                     LOG.debug("Data are sent to subscriber {}:", subscriber.remoteAddress());
-                    subscriber.writeAndFlush(new TextWebSocketFrame(event.getData()));
+                    subscriber.writeAndFlush(frame.retainedDuplicate());
                 } else {
-                    LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
-                    this.listener.getSubscribers().remove(subscriber);
+                    final long dropped = countDroppedFrame(subscriber);
+                    if (dropped == 1) {
+                        LOG.warn("Subscriber {} of {} cannot keep up, dropping data until it catches up",
+                            subscriber.remoteAddress(), listener.getStreamName());
+                    } else {
+                        LOG.debug("Subscriber {} is not writable, {} frames dropped so far",
+                            subscriber.remoteAddress(), dropped);
+                    }
                 }
             }
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static long countDroppedFrame(final Channel subscriber) {
+        final Attribute<AtomicLong> attr = subscriber.attr(DROPPED_FRAMES);
+        final AtomicLong created = new AtomicLong();
+        final AtomicLong existing = attr.setIfAbsent(created);
+        return (existing != null ? existing : created).incrementAndGet();
+    }
+
+    private void logDroppedFrames(final Channel subscriber) {
+        final long dropped = droppedFrames(subscriber);
+        if (dropped != 0) {
+            LOG.info("Subscriber {} of {} missed {} frames", subscriber.remoteAddress(), listener.getStreamName(),
+                dropped);
         }
     }
+
+    /**
+     * Return the number of frames a subscriber missed because its channel was not writable.
+     *
+     * @param subscriber subscriber channel
+     * @return number of dropped frames
+     */
+    static long droppedFrames(final Channel subscriber) {
+        final AtomicLong dropped = subscriber.attr(DROPPED_FRAMES).get();
+        return dropped == null ? 0 : dropped.get();
+    }
 }
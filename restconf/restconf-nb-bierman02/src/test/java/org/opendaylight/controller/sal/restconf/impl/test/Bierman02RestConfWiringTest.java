@@ -24,6 +24,7 @@ import org.opendaylight.infrautils.inject.guice.testutils.AnnotationsModule;
 import org.opendaylight.infrautils.inject.guice.testutils.GuiceRule;
 import org.opendaylight.netconf.sal.restconf.api.RestConfConfig;
 import org.opendaylight.netconf.sal.restconf.impl.Bierman02RestConfWiring;
+import org.opendaylight.restconf.common.util.MountPointRequestExecutor;
 
 /**
  * Tests if the {@link Bierman02RestConfWiring} works.
@@ -38,6 +39,7 @@ public class Bierman02RestConfWiringTest {
             bind(Bierman02RestConfWiring.class).asEagerSingleton();
             bind(RestConfConfig.class).toInstance(() -> 9090);
             bind(CustomFilterAdapterConfiguration.class).toInstance(listener -> { });
+            bind(MountPointRequestExecutor.class).toInstance(new MountPointRequestExecutor(null, 4, 16, 512));
         }
     }
 
@@ -10,6 +10,7 @@ package org.opendaylight.controller.sal.restconf.impl.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -31,8 +32,11 @@ import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
@@ -68,6 +72,7 @@ import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
 import org.opendaylight.restconf.common.patch.PatchContext;
 import org.opendaylight.restconf.common.patch.PatchStatusContext;
 import org.opendaylight.restconf.common.util.DataChangeScope;
+import org.opendaylight.restconf.common.util.MountPointRequestExecutor;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -182,6 +187,74 @@ public class BrokerFacadeTest {
         }
     }
 
+    @Test
+    public void testReadConfigurationDataAsync() throws Exception {
+        when(this.readTransaction.read(any(LogicalDatastoreType.class), any(YangInstanceIdentifier.class))).thenReturn(
+                this.dummyNodeInFuture);
+
+        final NormalizedNode<?, ?> actualNode = this.brokerFacade.readConfigurationDataAsync(this.instanceID, null)
+                .get();
+
+        assertSame("readConfigurationDataAsync", this.dummyNode, actualNode);
+        verify(this.readTransaction).close();
+    }
+
+    @Test
+    public void testReadOperationalDataAsyncFromMountPoint() throws Exception {
+        doReturn(Optional.of(this.domDataBroker)).when(this.mockMountInstance).getService(DOMDataBroker.class);
+        doReturn(YangInstanceIdentifier.empty()).when(this.mockMountInstance).getIdentifier();
+        doReturn(immediateFluentFuture(Optional.empty())).when(this.readTransaction)
+                .read(LogicalDatastoreType.OPERATIONAL, this.instanceID);
+
+        assertNull(this.brokerFacade.readOperationalDataAsync(this.mockMountInstance, this.instanceID).get());
+        verify(this.readTransaction).close();
+    }
+
+    @Test
+    public void testMountPointReadsOverQueueLimitAreRejected() throws Exception {
+        final BrokerFacade limitedFacade = new BrokerFacade(mockRpcService, domDataBroker, domNotification,
+            controllerContext, new MountPointRequestExecutor(null, 1, 1, 1));
+        doReturn(Optional.of(this.domDataBroker)).when(this.mockMountInstance).getService(DOMDataBroker.class);
+        doReturn(YangInstanceIdentifier.empty()).when(this.mockMountInstance).getIdentifier();
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> pendingRead = SettableFuture.create();
+        doReturn(FluentFuture.from(pendingRead)).when(this.readTransaction)
+                .read(LogicalDatastoreType.OPERATIONAL, this.instanceID);
+
+        final FluentFuture<NormalizedNode<?, ?>> running =
+            limitedFacade.readOperationalDataAsync(this.mockMountInstance, this.instanceID);
+        final FluentFuture<NormalizedNode<?, ?>> queued =
+            limitedFacade.readOperationalDataAsync(this.mockMountInstance, this.instanceID);
+        try {
+            limitedFacade.readOperationalDataAsync(this.mockMountInstance, this.instanceID).get();
+            fail("Read should have been rejected");
+        } catch (final ExecutionException e) {
+            final RestconfDocumentedException cause = (RestconfDocumentedException) e.getCause();
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT, cause.getErrors().get(0).getErrorTag());
+        }
+
+        pendingRead.set(Optional.of(this.dummyNode));
+        assertSame(this.dummyNode, running.get());
+        assertSame(this.dummyNode, queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void test503Async() throws Exception {
+        final RpcError error = RpcResultBuilder.newError(
+                RpcError.ErrorType.TRANSPORT,
+                ErrorTag.RESOURCE_DENIED.getTagValue(),
+                "Master is down. Please try again.");
+        doReturn(immediateFailedFluentFuture(new ReadFailedException("Read from transaction failed", error)))
+                .when(readTransaction).read(any(LogicalDatastoreType.class), any(YangInstanceIdentifier.class));
+        try {
+            brokerFacade.readOperationalDataAsync(this.instanceID).get();
+            fail("This test should fail.");
+        } catch (final ExecutionException e) {
+            final RestconfDocumentedException cause = (RestconfDocumentedException) e.getCause();
+            assertEquals("getErrorTag", ErrorTag.RESOURCE_DENIED_TRANSPORT, cause.getErrors().get(0).getErrorTag());
+            assertEquals("getErrorType", ErrorType.TRANSPORT, cause.getErrors().get(0).getErrorType());
+        }
+    }
+
     @Test
     public void testInvokeRpc() throws Exception {
         final DOMRpcResult expResult = mock(DOMRpcResult.class);
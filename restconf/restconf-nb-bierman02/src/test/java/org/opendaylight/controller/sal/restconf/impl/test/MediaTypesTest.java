@@ -9,6 +9,7 @@ package org.opendaylight.controller.sal.restconf.impl.test;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriInfo;
@@ -29,6 +31,7 @@ import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
 import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeJsonBodyWriter;
@@ -98,21 +101,28 @@ public class MediaTypesTest extends JerseyTest {
         final String uriPrefix = "/config/";
         final String uriPath = "ietf-interfaces:interfaces";
         final String uri = uriPrefix + uriPath;
-        when(restconfService.readConfigurationData(eq(uriPath), any(UriInfo.class))).thenReturn(null);
+        doAnswer(MediaTypesTest::resumeWithNull).when(restconfService).readConfigurationData(eq(uriPath),
+            any(UriInfo.class), any(AsyncResponse.class));
         get(uri, Draft02.MediaTypes.DATA + JSON);
-        verify(restconfService, times(1)).readConfigurationData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(1)).readConfigurationData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, Draft02.MediaTypes.DATA + XML);
-        verify(restconfService, times(2)).readConfigurationData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(2)).readConfigurationData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, MediaType.APPLICATION_JSON);
-        verify(restconfService, times(3)).readConfigurationData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(3)).readConfigurationData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, MediaType.APPLICATION_XML);
-        verify(restconfService, times(4)).readConfigurationData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(4)).readConfigurationData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, MediaType.TEXT_XML);
-        verify(restconfService, times(5)).readConfigurationData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(5)).readConfigurationData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
 
         // negative tests
         get(uri, MediaType.TEXT_PLAIN);
-        verify(restconfService, times(5)).readConfigurationData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(5)).readConfigurationData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
     }
 
     @Test
@@ -120,21 +130,28 @@ public class MediaTypesTest extends JerseyTest {
         final String uriPrefix = "/operational/";
         final String uriPath = "ietf-interfaces:interfaces";
         final String uri = uriPrefix + uriPath;
-        when(restconfService.readOperationalData(eq(uriPath), any(UriInfo.class))).thenReturn(null);
+        doAnswer(MediaTypesTest::resumeWithNull).when(restconfService).readOperationalData(eq(uriPath),
+            any(UriInfo.class), any(AsyncResponse.class));
         get(uri, Draft02.MediaTypes.DATA + JSON);
-        verify(restconfService, times(1)).readOperationalData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(1)).readOperationalData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, Draft02.MediaTypes.DATA + XML);
-        verify(restconfService, times(2)).readOperationalData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(2)).readOperationalData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, MediaType.APPLICATION_JSON);
-        verify(restconfService, times(3)).readOperationalData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(3)).readOperationalData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, MediaType.APPLICATION_XML);
-        verify(restconfService, times(4)).readOperationalData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(4)).readOperationalData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
         get(uri, MediaType.TEXT_XML);
-        verify(restconfService, times(5)).readOperationalData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(5)).readOperationalData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
 
         // negative tests
         get(uri, MediaType.TEXT_PLAIN);
-        verify(restconfService, times(5)).readOperationalData(eq(uriPath), any(UriInfo.class));
+        verify(restconfService, times(5)).readOperationalData(eq(uriPath), any(UriInfo.class),
+            any(AsyncResponse.class));
     }
 
     @Test
@@ -257,4 +274,8 @@ public class MediaTypesTest extends JerseyTest {
         return target(uri).request(acceptMediaType).post(Entity.entity(data, contentTypeMediaType)).getStatus();
     }
 
+    private static Object resumeWithNull(final InvocationOnMock invocation) {
+        invocation.<AsyncResponse>getArgument(2).resume((Object) null);
+        return null;
+    }
 }
@@ -16,8 +16,11 @@ import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateNullFluentFuture;
 
 import com.google.common.collect.ImmutableMap;
 import java.net.URI;
@@ -120,6 +123,11 @@ public class RestGetOperationTest extends JerseyTest {
         mountInstance = mock(DOMMountPoint.class);
         controllerContext = TestRestconfUtils.newControllerContext(schemaContextYangsIetf, mountInstance);
         brokerFacade = mock(BrokerFacade.class);
+        // Reads find no data unless stubbed otherwise
+        doReturn(immediateNullFluentFuture()).when(brokerFacade).readConfigurationDataAsync(any(), any());
+        doReturn(immediateNullFluentFuture()).when(brokerFacade).readConfigurationDataAsync(any(), any(), any());
+        doReturn(immediateNullFluentFuture()).when(brokerFacade).readOperationalDataAsync(any());
+        doReturn(immediateNullFluentFuture()).when(brokerFacade).readOperationalDataAsync(any(), any());
         restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
 
         ResourceConfig resourceConfig = new ResourceConfig();
@@ -165,11 +173,10 @@ public class RestGetOperationTest extends JerseyTest {
     /**
      * MountPoint test. URI represents mount point.
      */
-    @SuppressWarnings("unchecked")
     @Test
     public void getDataWithUrlMountPoint() throws Exception {
-        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), any(YangInstanceIdentifier.class),
-                isNull())).thenReturn(prepareCnDataForMountPointTest(false));
+        doReturn(immediateFluentFuture(prepareCnDataForMountPointTest(false))).when(brokerFacade)
+                .readConfigurationDataAsync(any(DOMMountPoint.class), any(YangInstanceIdentifier.class), isNull());
         when(mountInstance.getSchemaContext()).thenReturn(schemaContextTestModule);
 
         String uri = "/config/ietf-interfaces:interfaces/interface/0/yang-ext:mount/test-module:cont/cont1";
@@ -184,14 +191,14 @@ public class RestGetOperationTest extends JerseyTest {
      * Slashes in URI behind mount point. lst1 element with key GigabitEthernet0%2F0%2F0%2F0 (GigabitEthernet0/0/0/0) is
      * requested via GET HTTP operation. It is tested whether %2F character is replaced with simple / in
      * InstanceIdentifier parameter in method
-     * {@link BrokerFacade#readConfigurationData(DOMMountPoint, YangInstanceIdentifier)} which is called in
-     * method {@link RestconfImpl#readConfigurationData}
+     * {@link BrokerFacade#readConfigurationDataAsync(DOMMountPoint, YangInstanceIdentifier, String)} which is called
+     * in method {@link RestconfImpl#readConfigurationData}
      */
     @Test
     public void getDataWithSlashesBehindMountPoint() throws Exception {
         final YangInstanceIdentifier awaitedInstanceIdentifier = prepareInstanceIdentifierForList();
-        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), eq(awaitedInstanceIdentifier),
-                isNull())).thenReturn(prepareCnDataForSlashesBehindMountPointTest());
+        doReturn(immediateFluentFuture(prepareCnDataForSlashesBehindMountPointTest())).when(brokerFacade)
+                .readConfigurationDataAsync(any(DOMMountPoint.class), eq(awaitedInstanceIdentifier), isNull());
 
         when(mountInstance.getSchemaContext()).thenReturn(schemaContextTestModule);
 
@@ -219,8 +226,8 @@ public class RestGetOperationTest extends JerseyTest {
 
     @Test
     public void getDataMountPointIntoHighestElement() throws Exception {
-        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), any(YangInstanceIdentifier.class),
-                isNull())).thenReturn(prepareCnDataForMountPointTest(true));
+        doReturn(immediateFluentFuture(prepareCnDataForMountPointTest(true))).when(brokerFacade)
+                .readConfigurationDataAsync(any(DOMMountPoint.class), any(YangInstanceIdentifier.class), isNull());
 
         when(mountInstance.getSchemaContext()).thenReturn(schemaContextTestModule);
 
@@ -246,7 +253,7 @@ public class RestGetOperationTest extends JerseyTest {
                     .withChild(ImmutableNodes.leafNode(newTestModuleQName("type"), newTestModuleQName("test-identity")))
                     .withChild(ImmutableNodes.leafNode(newTestModuleQName("name"), "foo"))
                     .withChild(ImmutableNodes.leafNode(newTestModuleQName("data"), "bar")).build()).build();
-        when(brokerFacade.readConfigurationData(iid, null)).thenReturn(data);
+        doReturn(immediateFluentFuture(data)).when(brokerFacade).readConfigurationDataAsync(iid, null);
 
         final String uri = "/config/test-module:modules/module/test-module:test-identity/foo";
         assertEquals(200, get(uri, MediaType.APPLICATION_XML));
@@ -600,15 +607,14 @@ public class RestGetOperationTest extends JerseyTest {
 
     }
 
-    @SuppressWarnings("unchecked")
     private void mockReadOperationalDataMethod() {
-        when(brokerFacade.readOperationalData(any(YangInstanceIdentifier.class))).thenReturn(answerFromGet);
+        doReturn(immediateFluentFuture(answerFromGet)).when(brokerFacade)
+                .readOperationalDataAsync(any(YangInstanceIdentifier.class));
     }
 
-    @SuppressWarnings("unchecked")
     private void mockReadConfigurationDataMethod() {
-        when(brokerFacade.readConfigurationData(any(YangInstanceIdentifier.class), isNull()))
-                .thenReturn(answerFromGet);
+        doReturn(immediateFluentFuture(answerFromGet)).when(brokerFacade)
+                .readConfigurationDataAsync(any(YangInstanceIdentifier.class), isNull());
     }
 
     @SuppressWarnings("rawtypes")
@@ -81,6 +81,7 @@ public class RestPostOperationTest extends JerseyTest {
         // set(TestProperties.RECORD_LOG_LEVEL, Level.ALL.intValue());
 
         mountInstance = mock(DOMMountPoint.class);
+        doReturn(YangInstanceIdentifier.empty()).when(mountInstance).getIdentifier();
         controllerContext = TestRestconfUtils.newControllerContext(schemaContext, mountInstance);
         brokerFacade = mock(BrokerFacade.class);
         restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
@@ -93,6 +93,7 @@ public class RestPutOperationTest extends JerseyTest {
         // set(TestProperties.RECORD_LOG_LEVEL, Level.ALL.intValue());
 
         mountInstance = mock(DOMMountPoint.class);
+        doReturn(YangInstanceIdentifier.empty()).when(mountInstance).getIdentifier();
         final ControllerContext controllerContext =
                 TestRestconfUtils.newControllerContext(schemaContextYangsIetf, mountInstance);
         brokerFacade = mock(BrokerFacade.class);
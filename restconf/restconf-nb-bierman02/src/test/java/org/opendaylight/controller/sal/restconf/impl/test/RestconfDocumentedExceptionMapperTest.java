@@ -14,9 +14,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
-import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Iterators;
 import com.google.common.io.ByteStreams;
@@ -37,6 +37,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -177,7 +178,8 @@ public class RestconfDocumentedExceptionMapperTest extends JerseyTest {
 
     void stageMockEx(final RestconfDocumentedException ex) {
         reset(mockRestConf);
-        when(mockRestConf.readOperationalData(any(String.class), any(UriInfo.class))).thenThrow(ex);
+        doAnswer(invocation -> invocation.<AsyncResponse>getArgument(2).resume(ex)).when(mockRestConf)
+            .readOperationalData(any(String.class), any(UriInfo.class), any(AsyncResponse.class));
     }
 
     void testJsonResponse(final RestconfDocumentedException ex, final Status expStatus, final ErrorType expErrorType,
@@ -649,8 +651,8 @@ public class RestconfDocumentedExceptionMapperTest extends JerseyTest {
         // The StructuredDataToJsonProvider should throw a
         // RestconfDocumentedException with no data
 
-        when(mockRestConf.readOperationalData(any(String.class), any(UriInfo.class))).thenReturn(
-                new NormalizedNodeContext(null, null));
+        doAnswer(invocation -> invocation.<AsyncResponse>getArgument(2).resume(new NormalizedNodeContext(null, null)))
+            .when(mockRestConf).readOperationalData(any(String.class), any(UriInfo.class), any(AsyncResponse.class));
 
         final Response resp = target("/operational/foo").request(MediaType.APPLICATION_JSON).get();
 
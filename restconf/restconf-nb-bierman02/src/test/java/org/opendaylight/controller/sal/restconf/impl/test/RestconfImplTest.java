@@ -12,8 +12,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +36,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.UriBuilder;
@@ -40,6 +45,7 @@ import javax.ws.rs.core.UriInfo;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
@@ -57,8 +63,12 @@ import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError;
 import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
 import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
+import org.opendaylight.restconf.common.patch.PatchContext;
+import org.opendaylight.restconf.common.patch.PatchStatusContext;
+import org.opendaylight.restconf.common.util.MountPointRequestExecutor;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
@@ -171,6 +181,45 @@ public class RestconfImplTest {
         verify(rpcService, times(2)).invokeRpc(any(SchemaPath.class), any());
     }
 
+    @Test
+    public void testPatchOnMountPointDoesNotBlockRequestThread() throws Exception {
+        final MountPointRequestExecutor executor = new MountPointRequestExecutor(null, 1, 1, 0);
+        final RestconfImpl limitedRestconf = new RestconfImpl(brokerFacade, controllerContext, executor);
+
+        final PatchContext patch = mock(PatchContext.class);
+        final InstanceIdentifierContext<?> iiCtx = mock(InstanceIdentifierContext.class);
+        doReturn(iiCtx).when(patch).getInstanceIdentifierContext();
+        final DOMMountPoint mount = mock(DOMMountPoint.class);
+        doReturn(mount).when(iiCtx).getMountPoint();
+        doReturn(YangInstanceIdentifier.empty()).when(mount).getIdentifier();
+
+        final CountDownLatch patchApplied = new CountDownLatch(1);
+        final PatchStatusContext status = mock(PatchStatusContext.class);
+        doAnswer(invocation -> {
+            patchApplied.await();
+            return status;
+        }).when(brokerFacade).patchConfigurationDataWithinTransaction(patch);
+
+        try {
+            final AsyncResponse first = mock(AsyncResponse.class);
+            limitedRestconf.patchConfigurationData(patch, null, first);
+
+            // the device is busy and no requests may queue up for it
+            final AsyncResponse second = mock(AsyncResponse.class);
+            limitedRestconf.patchConfigurationData(patch, null, second);
+            final ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+            verify(second).resume(captor.capture());
+            assertEquals(ErrorTag.RESOURCE_DENIED_TRANSPORT,
+                ((RestconfDocumentedException) captor.getValue()).getErrors().get(0).getErrorTag());
+
+            verify(first, never()).resume(any(Object.class));
+            patchApplied.countDown();
+            verify(first, timeout(5000)).resume((Object) status);
+        } finally {
+            executor.close();
+        }
+    }
+
     /**
      * Create notification stream for toaster module.
      */
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventBusChangeRecorderTest {
+    private final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+    private EventBusChangeRecorder<BaseListenerInterface> recorder;
+
+    @Before
+    public void setUp() {
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(subscribers).when(listener).getSubscribers();
+        doReturn("stream").when(listener).getStreamName();
+        recorder = new EventBusChangeRecorder<>(listener);
+    }
+
+    @Test
+    public void testFanOut() {
+        final EmbeddedChannel first = subscribe();
+        final EmbeddedChannel second = subscribe();
+
+        publish("{\"notification\":\"événement\"}");
+
+        final TextWebSocketFrame firstFrame = first.readOutbound();
+        final TextWebSocketFrame secondFrame = second.readOutbound();
+        assertEquals("{\"notification\":\"événement\"}", firstFrame.text());
+        assertEquals("{\"notification\":\"événement\"}", secondFrame.text());
+
+        // Both frames share a single buffer, referenced once by each subscriber
+        assertEquals(2, firstFrame.refCnt());
+        firstFrame.release();
+        secondFrame.release();
+        assertEquals(0, firstFrame.refCnt());
+
+        assertEquals(0, EventBusChangeRecorder.droppedFrames(first));
+        assertEquals(0, EventBusChangeRecorder.droppedFrames(second));
+    }
+
+    @Test
+    public void testUnwritableSubscriberDropsFrames() {
+        final EmbeddedChannel slow = subscribe();
+        final EmbeddedChannel fast = subscribe();
+        slow.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        assertFalse(slow.isWritable());
+
+        publish("first");
+        publish("second");
+
+        assertNull(slow.readOutbound());
+        assertEquals(2, EventBusChangeRecorder.droppedFrames(slow));
+        assertEquals("first", readAndRelease(fast));
+        assertEquals("second", readAndRelease(fast));
+        assertEquals(0, EventBusChangeRecorder.droppedFrames(fast));
+    }
+
+    @Test
+    public void testDeregisterSubscriberWithDroppedFrames() {
+        final EmbeddedChannel slow = subscribe();
+        slow.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        publish("data");
+        assertEquals(1, EventBusChangeRecorder.droppedFrames(slow));
+
+        final Event event = new Event(EventType.DEREGISTER);
+        event.setSubscriber(slow);
+        recorder.recordCustomerChange(event);
+        assertEquals(0, subscribers.size());
+    }
+
+    @Test
+    public void testInactiveSubscriberRemoved() {
+        final EmbeddedChannel channel = subscribe();
+        channel.close();
+
+        publish("data");
+
+        assertEquals(0, subscribers.size());
+    }
+
+    private EmbeddedChannel subscribe() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final Event event = new Event(EventType.REGISTER);
+        event.setSubscriber(channel);
+        recorder.recordCustomerChange(event);
+        return channel;
+    }
+
+    private void publish(final String data) {
+        final Event event = new Event(EventType.NOTIFY);
+        event.setData(data);
+        recorder.recordCustomerChange(event);
+    }
+
+    private static String readAndRelease(final EmbeddedChannel channel) {
+        final TextWebSocketFrame frame = channel.readOutbound();
+        try {
+            return frame.text();
+        } finally {
+            frame.release();
+        }
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.restconf.nb.rfc8040;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.aries.blueprint.annotation.service.Reference;
@@ -68,4 +69,8 @@ public class Rfc8040RestConfWiring {
         return servicesNotifWrapper;
     }
 
+    @PreDestroy
+    public void close() {
+        servicesWrapper.close();
+    }
 }
@@ -27,6 +27,8 @@ import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.nb.rfc8040.Rfc8040.IetfYangLibrary;
 import org.opendaylight.restconf.nb.rfc8040.Rfc8040.MonitoringModule;
 import org.opendaylight.restconf.nb.rfc8040.utils.mapping.RestconfMappingNodeUtil;
+import org.opendaylight.restconf.nb.rfc8040.utils.parser.IdentifierCacheStatistics;
+import org.opendaylight.restconf.nb.rfc8040.utils.parser.ParserIdentifier;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
@@ -50,6 +52,7 @@ public class SchemaContextHandler implements SchemaContextListenerHandler, AutoC
 
     private final TransactionChainHandler transactionChainHandler;
     private final DOMSchemaService domSchemaService;
+    private final IdentifierCacheStatistics identifierCacheStatistics = new IdentifierCacheStatistics();
     private ListenerRegistration<?> listenerRegistration;
 
     private volatile EffectiveModelContext schemaContext;
@@ -69,6 +72,7 @@ public class SchemaContextHandler implements SchemaContextListenerHandler, AutoC
     @PostConstruct
     public void init() {
         listenerRegistration = domSchemaService.registerSchemaContextListener(this);
+        identifierCacheStatistics.registerMBean();
     }
 
     @Override
@@ -77,10 +81,17 @@ public class SchemaContextHandler implements SchemaContextListenerHandler, AutoC
         if (listenerRegistration != null) {
             listenerRegistration.close();
         }
+        identifierCacheStatistics.unregisterMBean();
     }
 
     @Override
     public void onModelContextUpdated(final EffectiveModelContext context) {
+        final EffectiveModelContext previous = schemaContext;
+        if (previous != null) {
+            LOG.debug("Schema context updated, identifier cache statistics of the previous context {}",
+                ParserIdentifier.getIdentifierCacheStats(previous));
+            ParserIdentifier.invalidateIdentifierCache(previous);
+        }
         schemaContext = requireNonNull(context);
 
         final Module ietfYangLibraryModule =
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.nb.rfc8040.jersey.providers;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.ext.Provider;
+import javax.xml.transform.dom.DOMSource;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.restconf.common.context.NormalizedNodeContext;
+import org.opendaylight.restconf.common.schema.SchemaExportContext;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.Module;
+
+/**
+ * Response filter attaching a weak {@link EntityTag} to successful responses to GET requests and answering
+ * conditional requests with {@code 304 Not Modified} when the client already has the current representation.
+ *
+ * <p>
+ * Tags of data are derived from the content of the {@link NormalizedNode} which was read, the query parameters
+ * of the request and the negotiated media type, so the response body does not have to be serialized to find out
+ * that it did not change. Sibling nodes of unordered containers are combined regardless of their order. Tags
+ * of YANG module sources are derived from the identity of the module within the global or mount point schema.
+ */
+@Provider
+public final class EntityTagResponseFilter implements ContainerResponseFilter {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final String method = requestContext.getMethod();
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)
+                || responseContext.getStatus() != Status.OK.getStatusCode()) {
+            return;
+        }
+
+        final EntityTag entityTag = entityTag(responseContext.getEntity(),
+            requestContext.getUriInfo().getRequestUri().getRawQuery(), responseContext.getMediaType());
+        if (entityTag == null) {
+            return;
+        }
+
+        responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+        final ResponseBuilder preconditionFailed = requestContext.getRequest().evaluatePreconditions(entityTag);
+        if (preconditionFailed != null) {
+            final Response response = preconditionFailed.build();
+            responseContext.setStatus(response.getStatus());
+            responseContext.setEntity(null);
+        }
+    }
+
+    /**
+     * Compute the entity tag of a response entity.
+     *
+     * @param entity    response entity
+     * @param query     raw query of the request, may be {@code null}
+     * @param mediaType media type of the response, may be {@code null}
+     * @return entity tag or {@code null} if the entity is not supported
+     */
+    static @Nullable EntityTag entityTag(final @Nullable Object entity, final @Nullable String query,
+            final @Nullable MediaType mediaType) {
+        final Hasher hasher;
+        if (entity instanceof NormalizedNodeContext) {
+            final NormalizedNode<?, ?> data = ((NormalizedNodeContext) entity).getData();
+            if (data == null) {
+                return null;
+            }
+            hasher = HASH_FUNCTION.newHasher().putBytes(hashNode(data).asBytes());
+        } else if (entity instanceof SchemaExportContext) {
+            final Module module = ((SchemaExportContext) entity).getModule();
+            hasher = HASH_FUNCTION.newHasher()
+                .putUnencodedChars(module.getName())
+                .putUnencodedChars(module.getQNameModule().toString());
+        } else {
+            return null;
+        }
+
+        if (query != null) {
+            hasher.putUnencodedChars(query);
+        }
+        if (mediaType != null) {
+            hasher.putUnencodedChars(mediaType.toString());
+        }
+        return new EntityTag(hasher.hash().toString(), true);
+    }
+
+    private static HashCode hashNode(final NormalizedNode<?, ?> node) {
+        final Hasher hasher = HASH_FUNCTION.newHasher().putUnencodedChars(node.getIdentifier().toString());
+        if (node instanceof NormalizedNodeContainer) {
+            final Collection<? extends NormalizedNode<?, ?>> children =
+                ((NormalizedNodeContainer<?, ?, ?>) node).getValue();
+            if (!children.isEmpty()) {
+                final List<HashCode> childHashes = new ArrayList<>(children.size());
+                for (final NormalizedNode<?, ?> child : children) {
+                    childHashes.add(hashNode(child));
+                }
+                hasher.putBytes((node instanceof OrderedNodeContainer ? Hashing.combineOrdered(childHashes)
+                    : Hashing.combineUnordered(childHashes)).asBytes());
+            }
+        } else {
+            putValue(hasher, node.getValue());
+        }
+        return hasher.hash();
+    }
+
+    private static void putValue(final Hasher hasher, final Object value) {
+        if (value instanceof byte[]) {
+            hasher.putBytes((byte[]) value);
+        } else if (value instanceof DOMSource) {
+            // anyxml content has no stable string form, use its identity
+            hasher.putInt(System.identityHashCode(value));
+        } else {
+            hasher.putUnencodedChars(String.valueOf(value));
+        }
+    }
+}
@@ -21,9 +21,9 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.ext.Provider;
-import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.dom.DOMSource;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.context.NormalizedNodeContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
@@ -57,7 +57,6 @@ import org.opendaylight.yangtools.yang.model.api.OperationDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 @Provider
@@ -75,8 +74,14 @@ public class XmlNormalizedNodeBodyReader extends AbstractNormalizedNodeBodyReade
     protected NormalizedNodeContext readBody(final InstanceIdentifierContext<?> path, final InputStream entityStream)
             throws WebApplicationException {
         try {
-            final Document doc = UntrustedXML.newDocumentBuilder().parse(entityStream);
-            return parse(path,doc);
+            final XMLStreamReader reader = UntrustedXML.createXMLStreamReader(entityStream);
+            try {
+                // Position the reader at the root element, so we can check it before parsing the rest of the body
+                reader.nextTag();
+                return parse(path, reader);
+            } finally {
+                reader.close();
+            }
         } catch (final RestconfDocumentedException e) {
             throw e;
         } catch (final Exception e) {
@@ -87,8 +92,8 @@ public class XmlNormalizedNodeBodyReader extends AbstractNormalizedNodeBodyReade
         }
     }
 
-    private NormalizedNodeContext parse(final InstanceIdentifierContext<?> pathContext, final Document doc)
-            throws XMLStreamException, IOException, ParserConfigurationException, SAXException, URISyntaxException {
+    private NormalizedNodeContext parse(final InstanceIdentifierContext<?> pathContext, final XMLStreamReader reader)
+            throws XMLStreamException, IOException, SAXException, URISyntaxException {
         final SchemaNode schemaNodeContext = pathContext.getSchemaNode();
         DataSchemaNode schemaNode;
         final boolean isOperation;
@@ -102,8 +107,8 @@ public class XmlNormalizedNodeBodyReader extends AbstractNormalizedNodeBodyReade
             throw new IllegalStateException("Unknown SchemaNode " + schemaNodeContext);
         }
 
-        final String docRootElm = doc.getDocumentElement().getLocalName();
-        final String docRootNamespace = doc.getDocumentElement().getNamespaceURI();
+        final String docRootElm = reader.getLocalName();
+        final String docRootNamespace = reader.getNamespaceURI();
         final List<YangInstanceIdentifier.PathArgument> iiToDataList = new ArrayList<>();
 
         if (isPost() && !isOperation) {
@@ -138,7 +143,7 @@ public class XmlNormalizedNodeBodyReader extends AbstractNormalizedNodeBodyReade
                 || schemaNode instanceof LeafSchemaNode) {
             final XmlParserStream xmlParser = XmlParserStream.create(writer, pathContext.getSchemaContext(),
                     schemaNode);
-            xmlParser.traverse(new DOMSource(doc.getDocumentElement()));
+            xmlParser.parse(new RootElementReader(reader));
             parsed = resultHolder.getResult();
 
             // When parsing an XML source with a list root node
@@ -168,6 +173,28 @@ public class XmlNormalizedNodeBodyReader extends AbstractNormalizedNodeBodyReade
         return new NormalizedNodeContext(outIIContext, parsed);
     }
 
+    /**
+     * {@link XMLStreamReader} already positioned at the root element. {@link XmlParserStream} expects to move to
+     * the root element itself, hence the first {@link #nextTag()} does not advance the underlying reader. This allows
+     * us to check the root element and then parse the body in a single pass, without building a DOM document.
+     */
+    private static final class RootElementReader extends StreamReaderDelegate {
+        private boolean atRoot = true;
+
+        RootElementReader(final XMLStreamReader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            if (atRoot) {
+                atRoot = false;
+                return getEventType();
+            }
+            return super.nextTag();
+        }
+    }
+
     private static Deque<Object> findPathToSchemaNodeByName(final DataSchemaNode schemaNode, final String elementName,
                                                             final String namespace) {
         final Deque<Object> result = new ArrayDeque<>();
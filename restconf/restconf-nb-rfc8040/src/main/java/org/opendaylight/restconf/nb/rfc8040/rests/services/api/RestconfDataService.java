@@ -16,6 +16,8 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -36,96 +38,171 @@ import org.opendaylight.restconf.nb.rfc8040.utils.RestconfConstants;
 public interface RestconfDataService extends UpdateHandlers {
 
     /**
-     * Get target data resource.
+     * Get target data resource. The request is completed asynchronously once the data has been read.
      *
      * @param identifier
      *            path to target
      * @param uriInfo
      *            URI info
-     * @return {@link NormalizedNodeContext}
+     * @param asyncResponse
+     *            suspended response completed with {@link NormalizedNodeContext}
      */
     @GET
     @Path("/data/{identifier:.+}")
     @Produces({ Rfc8040.MediaTypes.DATA + RestconfConstants.JSON, Rfc8040.MediaTypes.DATA + RestconfConstants.XML,
             Rfc8040.MediaTypes.DATA, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response readData(@Encoded @PathParam("identifier") String identifier, @Context UriInfo uriInfo);
+    void readData(@Encoded @PathParam("identifier") String identifier, @Context UriInfo uriInfo,
+            @Suspended AsyncResponse asyncResponse);
 
     /**
-     * Get target data resource from data root.
+     * Get target data resource from data root. The request is completed asynchronously once the data has been read.
      *
      * @param uriInfo
      *            URI info
-     * @return {@link NormalizedNodeContext}
+     * @param asyncResponse
+     *            suspended response completed with {@link NormalizedNodeContext}
      */
     @GET
     @Path("/data")
     @Produces({ Rfc8040.MediaTypes.DATA + RestconfConstants.JSON, Rfc8040.MediaTypes.DATA + RestconfConstants.XML,
             Rfc8040.MediaTypes.DATA, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response readData(@Context UriInfo uriInfo);
+    void readData(@Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
+
+    /**
+     * Get target data resource, waiting for the read to complete.
+     *
+     * @param identifier
+     *            path to target
+     * @param uriInfo
+     *            URI info
+     * @return {@link NormalizedNodeContext}
+     */
+    Response readData(String identifier, UriInfo uriInfo);
+
+    /**
+     * Get target data resource from data root, waiting for the read to complete.
+     *
+     * @param uriInfo
+     *            URI info
+     * @return {@link NormalizedNodeContext}
+     */
+    Response readData(UriInfo uriInfo);
 
     /**
-     * Create or replace the target data resource.
+     * Create or replace the target data resource. Requests against a mount point are completed asynchronously.
      *
      * @param identifier
      *            path to target
      * @param payload
      *            data node for put to config DS
-     * @return {@link Response}
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            suspended response completed with {@link Response}
      */
     @PUT
     @Path("/data/{identifier:.+}")
     @Consumes({ Rfc8040.MediaTypes.DATA + RestconfConstants.JSON, Rfc8040.MediaTypes.DATA + RestconfConstants.XML,
             Rfc8040.MediaTypes.DATA, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response putData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
-            @Context UriInfo uriInfo);
+    void putData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
+            @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
     /**
-     * Create a data resource in target.
+     * Create or replace the target data resource, waiting for the operation to complete.
      *
      * @param identifier
      *            path to target
      * @param payload
-     *            new data
+     *            data node for put to config DS
      * @param uriInfo
      *            URI info
      * @return {@link Response}
      */
+    Response putData(String identifier, NormalizedNodeContext payload, UriInfo uriInfo);
+
+    /**
+     * Create a data resource in target. Requests against a mount point are completed asynchronously.
+     *
+     * @param identifier
+     *            path to target
+     * @param payload
+     *            new data
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            suspended response completed with {@link Response}
+     */
     @POST
     @Path("/data/{identifier:.+}")
     @Consumes({ Rfc8040.MediaTypes.DATA + RestconfConstants.JSON, Rfc8040.MediaTypes.DATA + RestconfConstants.XML,
             Rfc8040.MediaTypes.DATA, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response postData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
-            @Context UriInfo uriInfo);
+    void postData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
+            @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
     /**
-     * Create a data resource.
+     * Create a data resource in target, waiting for the operation to complete.
      *
+     * @param identifier
+     *            path to target
      * @param payload
      *            new data
      * @param uriInfo
      *            URI info
      * @return {@link Response}
      */
+    Response postData(String identifier, NormalizedNodeContext payload, UriInfo uriInfo);
+
+    /**
+     * Create a data resource. Requests against a mount point are completed asynchronously.
+     *
+     * @param payload
+     *            new data
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            suspended response completed with {@link Response}
+     */
     @POST
     @Path("/data")
     @Consumes({ Rfc8040.MediaTypes.DATA + RestconfConstants.JSON, Rfc8040.MediaTypes.DATA + RestconfConstants.XML,
             Rfc8040.MediaTypes.DATA, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response postData(NormalizedNodeContext payload, @Context UriInfo uriInfo);
+    void postData(NormalizedNodeContext payload, @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
+
+    /**
+     * Create a data resource, waiting for the operation to complete.
+     *
+     * @param payload
+     *            new data
+     * @param uriInfo
+     *            URI info
+     * @return {@link Response}
+     */
+    Response postData(NormalizedNodeContext payload, UriInfo uriInfo);
 
     /**
-     * Delete the target data resource.
+     * Delete the target data resource. Requests against a mount point are completed asynchronously.
      *
      * @param identifier
      *            path to target
-     * @return {@link Response}
+     * @param asyncResponse
+     *            suspended response completed with {@link Response}
      */
     @DELETE
     @Path("/data/{identifier:.+}")
-    Response deleteData(@Encoded @PathParam("identifier") String identifier);
+    void deleteData(@Encoded @PathParam("identifier") String identifier, @Suspended AsyncResponse asyncResponse);
+
+    /**
+     * Delete the target data resource, waiting for the operation to complete.
+     *
+     * @param identifier
+     *            path to target
+     * @return {@link Response}
+     */
+    Response deleteData(String identifier);
 
     /**
      * Ordered list of edits that are applied to the target datastore by the
-     * server.
+     * server. Requests against a mount point are completed asynchronously.
      *
      * @param identifier
      *            path to target
@@ -133,7 +210,8 @@ public interface RestconfDataService extends UpdateHandlers {
      *            edits
      * @param uriInfo
      *            URI info
-     * @return {@link PatchStatusContext}
+     * @param asyncResponse
+     *            suspended response completed with {@link PatchStatusContext}
      */
     @Patch
     @Path("/data/{identifier:.+}")
@@ -141,40 +219,82 @@ public interface RestconfDataService extends UpdateHandlers {
             Rfc8040.MediaTypes.YANG_PATCH + RestconfConstants.XML })
     @Produces({ Rfc8040.MediaTypes.YANG_PATCH_STATUS + RestconfConstants.JSON,
             Rfc8040.MediaTypes.YANG_PATCH_STATUS + RestconfConstants.XML })
-    PatchStatusContext patchData(@Encoded @PathParam("identifier") String identifier, PatchContext context,
-                                 @Context UriInfo uriInfo);
+    void patchData(@Encoded @PathParam("identifier") String identifier, PatchContext context,
+                   @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
     /**
-     * Ordered list of edits that are applied to the datastore by the server.
+     * Ordered list of edits that are applied to the target datastore by the
+     * server, waiting for the operation to complete.
      *
+     * @param identifier
+     *            path to target
      * @param context
      *            edits
      * @param uriInfo
      *            URI info
      * @return {@link PatchStatusContext}
      */
+    PatchStatusContext patchData(String identifier, PatchContext context, UriInfo uriInfo);
+
+    /**
+     * Ordered list of edits that are applied to the datastore by the server. Requests against a mount point are
+     * completed asynchronously.
+     *
+     * @param context
+     *            edits
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            suspended response completed with {@link PatchStatusContext}
+     */
     @Patch
     @Path("/data")
     @Consumes({ Rfc8040.MediaTypes.YANG_PATCH + RestconfConstants.JSON,
             Rfc8040.MediaTypes.YANG_PATCH + RestconfConstants.XML })
     @Produces({ Rfc8040.MediaTypes.YANG_PATCH_STATUS + RestconfConstants.JSON,
             Rfc8040.MediaTypes.YANG_PATCH_STATUS + RestconfConstants.XML })
-    PatchStatusContext patchData(PatchContext context, @Context UriInfo uriInfo);
+    void patchData(PatchContext context, @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
 
+    /**
+     * Ordered list of edits that are applied to the datastore by the server, waiting for the operation to complete.
+     *
+     * @param context
+     *            edits
+     * @param uriInfo
+     *            URI info
+     * @return {@link PatchStatusContext}
+     */
+    PatchStatusContext patchData(PatchContext context, UriInfo uriInfo);
 
     /**
-     * Partially modify the target data resource.
+     * Partially modify the target data resource. Requests against a mount point are completed asynchronously.
      *
      * @param identifier
      *            path to target
      * @param payload
      *            data node for put to config DS
-     * @return {@link Response}
+     * @param uriInfo
+     *            URI info
+     * @param asyncResponse
+     *            suspended response completed with {@link Response}
      */
     @Patch
     @Path("/data/{identifier:.+}")
     @Consumes({ Rfc8040.MediaTypes.DATA + RestconfConstants.JSON, Rfc8040.MediaTypes.DATA + RestconfConstants.XML,
             Rfc8040.MediaTypes.DATA, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaType.TEXT_XML })
-    Response patchData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
-                       @Context UriInfo uriInfo);
+    void patchData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
+                   @Context UriInfo uriInfo, @Suspended AsyncResponse asyncResponse);
+
+    /**
+     * Partially modify the target data resource, waiting for the operation to complete.
+     *
+     * @param identifier
+     *            path to target
+     * @param payload
+     *            data node for put to config DS
+     * @param uriInfo
+     *            URI info
+     * @return {@link Response}
+     */
+    Response patchData(String identifier, NormalizedNodeContext payload, UriInfo uriInfo);
 }
@@ -17,6 +17,8 @@ import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsCo
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_PATH;
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_PATH_PART;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.net.URI;
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -27,6 +29,7 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import javax.ws.rs.Path;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.eclipse.jdt.annotation.NonNull;
@@ -45,6 +48,7 @@ import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
 import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
 import org.opendaylight.restconf.common.patch.PatchContext;
 import org.opendaylight.restconf.common.patch.PatchStatusContext;
+import org.opendaylight.restconf.common.util.MountPointRequestExecutor;
 import org.opendaylight.restconf.nb.rfc8040.Rfc8040;
 import org.opendaylight.restconf.nb.rfc8040.handlers.ActionServiceHandler;
 import org.opendaylight.restconf.nb.rfc8040.handlers.DOMMountPointServiceHandler;
@@ -70,8 +74,6 @@ import org.opendaylight.restconf.nb.rfc8040.utils.parser.IdentifierCodec;
 import org.opendaylight.restconf.nb.rfc8040.utils.parser.ParserIdentifier;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
 import org.opendaylight.yangtools.concepts.Immutable;
-import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -87,7 +89,7 @@ import org.slf4j.LoggerFactory;
  * Implementation of {@link RestconfDataService}.
  */
 @Path("/")
-public class RestconfDataServiceImpl implements RestconfDataService {
+public class RestconfDataServiceImpl implements RestconfDataService, AutoCloseable {
     private static final class QueryParams implements Immutable {
         final @Nullable String point;
         final @Nullable String insert;
@@ -103,6 +105,7 @@ public class RestconfDataServiceImpl implements RestconfDataService {
 
     private final RestconfStreamsSubscriptionService delegRestconfSubscrService;
     private final SubscribeToStreamUtil streamUtils;
+    private final MountPointRequestExecutor requestExecutor;
 
     // FIXME: evaluate thread-safety of updates (synchronized) vs. access (mostly unsynchronized) here
     private SchemaContextHandler schemaContextHandler;
@@ -123,6 +126,14 @@ public class RestconfDataServiceImpl implements RestconfDataService {
         this.delegRestconfSubscrService = requireNonNull(delegRestconfSubscrService);
         streamUtils = configuration.isUseSSE() ? SubscribeToStreamUtil.serverSentEvents()
                 : SubscribeToStreamUtil.webSockets();
+        requestExecutor = new MountPointRequestExecutor(mountPointServiceHandler.get(),
+                configuration.getMountPointRequestThreads(), configuration.getMaxConcurrentMountPointRequests(),
+                configuration.getMaxQueuedMountPointRequests());
+    }
+
+    @Override
+    public void close() {
+        requestExecutor.close();
     }
 
     @Override
@@ -140,6 +151,37 @@ public class RestconfDataServiceImpl implements RestconfDataService {
         }
     }
 
+    @Override
+    public void readData(final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        readData(null, uriInfo, asyncResponse);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void readData(final String identifier, final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        final EffectiveModelContext schemaContextRef = this.schemaContextHandler.get();
+        final InstanceIdentifierContext<?> instanceIdentifier = ParserIdentifier.toInstanceIdentifier(
+                identifier, schemaContextRef, Optional.of(this.mountPointServiceHandler.get()));
+        final WriterParameters parameters = ReadDataTransactionUtil.parseUriParameters(instanceIdentifier, uriInfo);
+
+        final DOMMountPoint mountPoint = instanceIdentifier.getMountPoint();
+        final RestconfStrategy strategy = getRestconfStrategy(instanceIdentifier, mountPoint);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = requestExecutor.submitAsync(mountPoint,
+            () -> readData(identifier, parameters.getContent(), strategy, parameters.getWithDefault(),
+                schemaContextRef, uriInfo));
+        future.addListener(() -> {
+            final Response response;
+            try {
+                response = prepareReadResponse(identifier, uriInfo, instanceIdentifier, parameters,
+                    ReadDataTransactionUtil.getReadData(future));
+            } catch (RuntimeException e) {
+                asyncResponse.resume(e);
+                return;
+            }
+            asyncResponse.resume(response);
+        }, MoreExecutors.directExecutor());
+    }
+
     @Override
     public Response readData(final UriInfo uriInfo) {
         return readData(null, uriInfo);
@@ -154,8 +196,24 @@ public class RestconfDataServiceImpl implements RestconfDataService {
 
         final DOMMountPoint mountPoint = instanceIdentifier.getMountPoint();
         final RestconfStrategy strategy = getRestconfStrategy(instanceIdentifier, mountPoint);
-        final NormalizedNode<?, ?> node = readData(identifier, parameters.getContent(),
-                strategy, parameters.getWithDefault(), schemaContextRef, uriInfo);
+        final NormalizedNode<?, ?> node = ReadDataTransactionUtil.getReadData(readData(identifier,
+                parameters.getContent(), strategy, parameters.getWithDefault(), schemaContextRef, uriInfo));
+        return prepareReadResponse(identifier, uriInfo, instanceIdentifier, parameters, node);
+    }
+
+    /**
+     * Prepare response to a read request from the data which were read.
+     *
+     * @param identifier         identifier of data to read
+     * @param uriInfo            uri info
+     * @param instanceIdentifier {@link InstanceIdentifierContext} of read data
+     * @param parameters         {@link WriterParameters} of the request
+     * @param node               read data
+     * @return {@link Response}
+     */
+    private Response prepareReadResponse(final String identifier, final UriInfo uriInfo,
+            final InstanceIdentifierContext<?> instanceIdentifier, final WriterParameters parameters,
+            final NormalizedNode<?, ?> node) {
         if (identifier != null && identifier.contains(STREAM_PATH) && identifier.contains(STREAM_ACCESS_PATH_PART)
                 && identifier.contains(STREAM_LOCATION_PATH_PART)) {
             final String value = (String) node.getValue();
@@ -171,11 +229,9 @@ public class RestconfDataServiceImpl implements RestconfDataService {
 
         if (parameters.getContent().equals(RestconfDataServiceConstant.ReadData.ALL)
                     || parameters.getContent().equals(RestconfDataServiceConstant.ReadData.CONFIG)) {
-            final QName type = node.getNodeType();
+            // ETag is derived from the data by EntityTagResponseFilter
             return Response.status(200)
                     .entity(new NormalizedNodeContext(instanceIdentifier, node, parameters))
-                    .header("ETag", '"' + type.getModule().getRevision().map(Revision::toString).orElse(null)
-                        + "-" + type.getLocalName() + '"')
                     .header("Last-Modified", FORMATTER.format(LocalDateTime.now(Clock.systemUTC())))
                     .build();
         }
@@ -193,15 +249,15 @@ public class RestconfDataServiceImpl implements RestconfDataService {
      * @param withDefa      value of with-defaults parameter
      * @param schemaContext schema context
      * @param uriInfo       uri info
-     * @return {@link NormalizedNode}
+     * @return a ListenableFuture containing the result of the read
      */
-    private NormalizedNode<?, ?> readData(final String identifier, final String content,
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> readData(final String identifier, final String content,
             final RestconfStrategy strategy, final String withDefa, final EffectiveModelContext schemaContext,
             final UriInfo uriInfo) {
         if (identifier != null && identifier.contains(STREAMS_PATH) && !identifier.contains(STREAM_PATH_PART)) {
             createAllYangNotificationStreams(strategy, schemaContext, uriInfo);
         }
-        return ReadDataTransactionUtil.readData(content, strategy, withDefa, schemaContext);
+        return ReadDataTransactionUtil.readDataAsync(content, strategy, withDefa, schemaContext);
     }
 
     private void createAllYangNotificationStreams(final RestconfStrategy strategy,
@@ -260,6 +316,13 @@ public class RestconfDataServiceImpl implements RestconfDataService {
             mapToStreams);
     }
 
+    @Override
+    public void putData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        requestExecutor.execute(requireNonNull(payload).getInstanceIdentifierContext().getMountPoint(),
+            asyncResponse, () -> putData(identifier, payload, uriInfo));
+    }
+
     @Override
     public Response putData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
         requireNonNull(payload);
@@ -329,6 +392,19 @@ public class RestconfDataServiceImpl implements RestconfDataService {
         }
     }
 
+    @Override
+    public void postData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        postData(payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void postData(final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        requestExecutor.execute(requireNonNull(payload).getInstanceIdentifierContext().getMountPoint(),
+            asyncResponse, () -> postData(payload, uriInfo));
+    }
+
     @Override
     public Response postData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
         return postData(payload, uriInfo);
@@ -350,15 +426,44 @@ public class RestconfDataServiceImpl implements RestconfDataService {
     }
 
     @Override
-    public Response deleteData(final String identifier) {
+    public void deleteData(final String identifier, final AsyncResponse asyncResponse) {
         final InstanceIdentifierContext<?> instanceIdentifier = ParserIdentifier.toInstanceIdentifier(
                 identifier, this.schemaContextHandler.get(), Optional.of(this.mountPointServiceHandler.get()));
+        requestExecutor.execute(instanceIdentifier.getMountPoint(), asyncResponse,
+            () -> deleteData(instanceIdentifier));
+    }
 
+    @Override
+    public Response deleteData(final String identifier) {
+        return deleteData(ParserIdentifier.toInstanceIdentifier(
+                identifier, this.schemaContextHandler.get(), Optional.of(this.mountPointServiceHandler.get())));
+    }
+
+    private Response deleteData(final InstanceIdentifierContext<?> instanceIdentifier) {
         final DOMMountPoint mountPoint = instanceIdentifier.getMountPoint();
         final RestconfStrategy strategy = getRestconfStrategy(instanceIdentifier, mountPoint);
         return DeleteDataTransactionUtil.deleteData(strategy);
     }
 
+    @Override
+    public void patchData(final String identifier, final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        patchData(context, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void patchData(final PatchContext context, final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        requestExecutor.execute(requireNonNull(context).getInstanceIdentifierContext().getMountPoint(),
+            asyncResponse, () -> patchData(context, uriInfo));
+    }
+
+    @Override
+    public void patchData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        requestExecutor.execute(requireNonNull(payload).getInstanceIdentifierContext().getMountPoint(),
+            asyncResponse, () -> patchData(identifier, payload, uriInfo));
+    }
+
     @Override
     public PatchStatusContext patchData(final String identifier, final PatchContext context, final UriInfo uriInfo) {
         return patchData(context, uriInfo);
@@ -86,7 +86,10 @@ final class FutureCallbackTx {
             LOG.warn("Transaction({}) FAILED!", txType, e);
 
             final Throwable cause = e.getCause();
-            if (cause instanceof DOMRpcException) {
+            if (cause instanceof RestconfDocumentedException) {
+                // Failure raised while processing the result, e.g. when merging config and state data
+                throw (RestconfDocumentedException) cause;
+            } else if (cause instanceof DOMRpcException) {
                 dataFactory.setResult((T) new DefaultDOMRpcResult(ImmutableList.of(
                     RpcResultBuilder.newError(RpcError.ErrorType.RPC, "operation-failed", cause.getMessage()))));
             } else if (cause instanceof DOMActionException) {
@@ -8,7 +8,9 @@
 package org.opendaylight.restconf.nb.rfc8040.rests.utils;
 
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -199,19 +201,51 @@ public final class ReadDataTransactionUtil {
     public static @Nullable NormalizedNode<?, ?> readData(final @NonNull String valueOfContent,
                                                           final @NonNull RestconfStrategy strategy,
                                                           final String withDefa, final SchemaContext ctx) {
+        return getReadData(readDataAsync(valueOfContent, strategy, withDefa, ctx));
+    }
+
+    /**
+     * Get result of a read started by {@link #readDataAsync(String, RestconfStrategy, String, SchemaContext)},
+     * waiting for it to complete if needed.
+     *
+     * @param future future returned from {@link #readDataAsync(String, RestconfStrategy, String, SchemaContext)}
+     * @return {@link NormalizedNode}
+     * @throws RestconfDocumentedException if the read failed
+     */
+    public static @Nullable NormalizedNode<?, ?> getReadData(
+            final @NonNull ListenableFuture<Optional<NormalizedNode<?, ?>>> future) {
+        final NormalizedNodeFactory dataFactory = new NormalizedNodeFactory();
+        FutureCallbackTx.addCallback(future, RestconfDataServiceConstant.ReadData.READ_TYPE_TX, dataFactory);
+        return dataFactory.build();
+    }
+
+    /**
+     * Read specific type of data from data store via transaction without waiting for the result. When reading
+     * both config and state data, both reads are issued at once and merged when both of them complete. Close
+     * {@link DOMTransactionChain} if any inside of object {@link RestconfStrategy} provided as a parameter once
+     * the returned future completes.
+     *
+     * @param valueOfContent type of data to read (config, state, all)
+     * @param strategy       {@link RestconfStrategy} - object that perform the actual DS operations
+     * @param withDefa       vaule of with-defaults parameter
+     * @param ctx            schema context
+     * @return a ListenableFuture containing the result of the read
+     */
+    public static @NonNull ListenableFuture<Optional<NormalizedNode<?, ?>>> readDataAsync(
+            final @NonNull String valueOfContent, final @NonNull RestconfStrategy strategy, final String withDefa,
+            final SchemaContext ctx) {
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future;
         switch (valueOfContent) {
             case RestconfDataServiceConstant.ReadData.CONFIG:
-                if (withDefa == null) {
-                    return readDataViaTransaction(strategy, LogicalDatastoreType.CONFIGURATION, true);
-                } else {
-                    return prepareDataByParamWithDef(
-                            readDataViaTransaction(strategy, LogicalDatastoreType.CONFIGURATION, true),
-                            strategy.getInstanceIdentifier().getInstanceIdentifier(), withDefa, ctx);
-                }
+                future = readConfigData(strategy, withDefa, ctx);
+                break;
             case RestconfDataServiceConstant.ReadData.NONCONFIG:
-                return readDataViaTransaction(strategy, LogicalDatastoreType.OPERATIONAL, true);
+                future = strategy.read(LogicalDatastoreType.OPERATIONAL,
+                        strategy.getInstanceIdentifier().getInstanceIdentifier());
+                break;
             case RestconfDataServiceConstant.ReadData.ALL:
-                return readAllData(strategy, withDefa, ctx);
+                future = readAllData(strategy, withDefa, ctx);
+                break;
             default:
                 strategy.cancel();
                 throw new RestconfDocumentedException(
@@ -219,6 +253,13 @@ public final class ReadDataTransactionUtil {
                                 "Invalid content parameter: " + valueOfContent, null,
                                 "The content parameter value must be either config, nonconfig or all (default)"));
         }
+
+        final DOMTransactionChain transactionChain = strategy.getTransactionChain();
+        if (transactionChain != null) {
+            //Method close transactionChain if any
+            future.addListener(transactionChain::close, MoreExecutors.directExecutor());
+        }
+        return future;
     }
 
     private static NormalizedNode<?, ?> prepareDataByParamWithDef(final NormalizedNode<?, ?> result,
@@ -345,76 +386,70 @@ public final class ReadDataTransactionUtil {
     }
 
     /**
-     * If is set specific {@link LogicalDatastoreType} in {@link RestconfStrategy}, then read this type of data from DS.
-     * If don't, we have to read all data from DS (state + config)
+     * Read config data and apply with-defaults parameter to them, if any.
      *
-     * @param strategy              {@link RestconfStrategy} - object that perform the actual DS operations
-     * @param closeTransactionChain If is set to true, after transaction it will close transactionChain
-     *                              in {@link RestconfStrategy} if any
-     * @return {@link NormalizedNode}
+     * @param strategy {@link RestconfStrategy} - object that perform the actual DS operations
+     * @param withDefa with-defaults parameter
+     * @param ctx      schema context
+     * @return a ListenableFuture containing the result of the read
      */
-    private static @Nullable NormalizedNode<?, ?> readDataViaTransaction(
-            final @NonNull RestconfStrategy strategy,
-            final LogicalDatastoreType store,
-            final boolean closeTransactionChain) {
-        final NormalizedNodeFactory dataFactory = new NormalizedNodeFactory();
-        final ListenableFuture<Optional<NormalizedNode<?, ?>>> listenableFuture = strategy.read(
-                store, strategy.getInstanceIdentifier().getInstanceIdentifier());
-        if (closeTransactionChain) {
-            //Method close transactionChain if any
-            FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                    dataFactory, strategy.getTransactionChain());
-        } else {
-            FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                    dataFactory);
+    private static ListenableFuture<Optional<NormalizedNode<?, ?>>> readConfigData(
+            final @NonNull RestconfStrategy strategy, final String withDefa, final SchemaContext ctx) {
+        final YangInstanceIdentifier path = strategy.getInstanceIdentifier().getInstanceIdentifier();
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> configFuture =
+                strategy.read(LogicalDatastoreType.CONFIGURATION, path);
+        if (withDefa == null) {
+            return configFuture;
         }
-        return dataFactory.build();
+        return Futures.transform(configFuture,
+            configDataNode -> configDataNode.map(node -> prepareDataByParamWithDef(node, path, withDefa, ctx)),
+            MoreExecutors.directExecutor());
     }
 
     /**
-     * Read config and state data, then map them. Close {@link DOMTransactionChain} inside of object
-     * {@link RestconfStrategy} provided as a parameter if any.
+     * Read config and state data concurrently, then map them once both reads complete.
      *
      * @param strategy {@link RestconfStrategy} - object that perform the actual DS operations
      * @param withDefa with-defaults parameter
      * @param ctx      schema context
-     * @return {@link NormalizedNode}
+     * @return a ListenableFuture containing the result of the read
      */
-    private static @Nullable NormalizedNode<?, ?> readAllData(final @NonNull RestconfStrategy strategy,
-            final String withDefa, final SchemaContext ctx) {
+    private static ListenableFuture<Optional<NormalizedNode<?, ?>>> readAllData(
+            final @NonNull RestconfStrategy strategy, final String withDefa, final SchemaContext ctx) {
         // PREPARE STATE DATA NODE
-        final NormalizedNode<?, ?> stateDataNode = readDataViaTransaction(
-                strategy, LogicalDatastoreType.OPERATIONAL, false);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> stateFuture = strategy.read(
+                LogicalDatastoreType.OPERATIONAL, strategy.getInstanceIdentifier().getInstanceIdentifier());
 
         // PREPARE CONFIG DATA NODE
-        final NormalizedNode<?, ?> configDataNode;
-        //Here will be closed transactionChain if any
-        if (withDefa == null) {
-            configDataNode = readDataViaTransaction(
-                    strategy, LogicalDatastoreType.CONFIGURATION, true);
-        } else {
-            configDataNode = prepareDataByParamWithDef(
-                    readDataViaTransaction(strategy, LogicalDatastoreType.CONFIGURATION, true),
-                    strategy.getInstanceIdentifier().getInstanceIdentifier(), withDefa, ctx);
-        }
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> configFuture =
+                readConfigData(strategy, withDefa, ctx);
 
-        // if no data exists
-        if (stateDataNode == null && configDataNode == null) {
-            return null;
-        }
+        return Futures.whenAllSucceeded(stateFuture, configFuture).call(
+            () -> mergeAllData(Futures.getDone(stateFuture), Futures.getDone(configFuture)),
+            MoreExecutors.directExecutor());
+    }
 
-        // return config data
-        if (stateDataNode == null) {
+    /**
+     * Map config and state data read from the datastore.
+     *
+     * @param stateDataNode  data node of state data, if any
+     * @param configDataNode data node of config data, if any
+     * @return {@link NormalizedNode}
+     */
+    private static Optional<NormalizedNode<?, ?>> mergeAllData(final Optional<NormalizedNode<?, ?>> stateDataNode,
+            final Optional<NormalizedNode<?, ?>> configDataNode) {
+        // return config data, if no data exists it is empty as well
+        if (!stateDataNode.isPresent()) {
             return configDataNode;
         }
 
         // return state data
-        if (configDataNode == null) {
+        if (!configDataNode.isPresent()) {
             return stateDataNode;
         }
 
         // merge data from config and state
-        return mergeStateAndConfigData(stateDataNode, configDataNode);
+        return Optional.of(mergeStateAndConfigData(stateDataNode.get(), configDataNode.get()));
     }
 
     /**
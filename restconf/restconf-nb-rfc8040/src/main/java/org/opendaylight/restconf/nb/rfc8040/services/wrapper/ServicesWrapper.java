@@ -8,6 +8,7 @@
 package org.opendaylight.restconf.nb.rfc8040.services.wrapper;
 
 import javax.ws.rs.Path;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
@@ -23,7 +24,6 @@ import org.opendaylight.restconf.nb.rfc8040.handlers.NotificationServiceHandler;
 import org.opendaylight.restconf.nb.rfc8040.handlers.RpcServiceHandler;
 import org.opendaylight.restconf.nb.rfc8040.handlers.SchemaContextHandler;
 import org.opendaylight.restconf.nb.rfc8040.handlers.TransactionChainHandler;
-import org.opendaylight.restconf.nb.rfc8040.rests.services.api.RestconfDataService;
 import org.opendaylight.restconf.nb.rfc8040.rests.services.api.RestconfInvokeOperationsService;
 import org.opendaylight.restconf.nb.rfc8040.rests.services.api.RestconfStreamsSubscriptionService;
 import org.opendaylight.restconf.nb.rfc8040.rests.services.api.TransactionServicesWrapper;
@@ -47,16 +47,16 @@ import org.opendaylight.restconf.nb.rfc8040.streams.Configuration;
  * </ul>
  */
 @Path("/")
-public final class ServicesWrapper implements BaseServicesWrapper, TransactionServicesWrapper {
+public final class ServicesWrapper implements BaseServicesWrapper, TransactionServicesWrapper, AutoCloseable {
 
-    private final RestconfDataService delegRestconfDataService;
+    private final RestconfDataServiceImpl delegRestconfDataService;
     private final RestconfInvokeOperationsService delegRestconfInvokeOpsService;
     private final RestconfStreamsSubscriptionService delegRestconfSubscrService;
     private final RestconfOperationsService delegRestOpsService;
     private final RestconfSchemaService delegRestSchService;
     private final RestconfService delegRestService;
 
-    private ServicesWrapper(final RestconfDataService delegRestconfDataService,
+    private ServicesWrapper(final RestconfDataServiceImpl delegRestconfDataService,
             final RestconfInvokeOperationsService delegRestconfInvokeOpsService,
             final RestconfStreamsSubscriptionService delegRestconfSubscrService,
             final RestconfOperationsService delegRestOpsService, final RestconfSchemaService delegRestSchService,
@@ -84,8 +84,9 @@ public final class ServicesWrapper implements BaseServicesWrapper, TransactionSe
         RestconfStreamsSubscriptionService restconfSubscrService = new RestconfStreamsSubscriptionServiceImpl(
             domDataBrokerHandler, notificationServiceHandler, schemaCtxHandler, transactionChainHandler,
             configuration);
-        RestconfDataService restconfDataService = new RestconfDataServiceImpl(schemaCtxHandler, transactionChainHandler,
-            domMountPointServiceHandler, restconfSubscrService, actionServiceHandler, configuration);
+        RestconfDataServiceImpl restconfDataService = new RestconfDataServiceImpl(schemaCtxHandler,
+            transactionChainHandler, domMountPointServiceHandler, restconfSubscrService, actionServiceHandler,
+            configuration);
         RestconfInvokeOperationsService restconfInvokeOpsService = new RestconfInvokeOperationsServiceImpl(
             rpcServiceHandler, schemaCtxHandler);
         RestconfService restconfService = new RestconfImpl(schemaCtxHandler);
@@ -108,6 +109,16 @@ public final class ServicesWrapper implements BaseServicesWrapper, TransactionSe
         return this.delegRestSchService.getSchema(mountAndModuleId);
     }
 
+    @Override
+    public void readData(final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.readData(uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void readData(final String identifier, final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.readData(identifier, uriInfo, asyncResponse);
+    }
+
     @Override
     public Response readData(final UriInfo uriInfo) {
         return this.delegRestconfDataService.readData(uriInfo);
@@ -118,6 +129,46 @@ public final class ServicesWrapper implements BaseServicesWrapper, TransactionSe
         return this.delegRestconfDataService.readData(identifier, uriInfo);
     }
 
+    @Override
+    public void putData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.putData(identifier, payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void postData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.postData(identifier, payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void postData(final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.postData(payload, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void deleteData(final String identifier, final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.deleteData(identifier, asyncResponse);
+    }
+
+    @Override
+    public void patchData(final String identifier, final PatchContext context, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.patchData(identifier, context, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void patchData(final PatchContext context, final UriInfo uriInfo, final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.patchData(context, uriInfo, asyncResponse);
+    }
+
+    @Override
+    public void patchData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo,
+            final AsyncResponse asyncResponse) {
+        this.delegRestconfDataService.patchData(identifier, payload, uriInfo, asyncResponse);
+    }
+
     @Override
     public Response putData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
         return this.delegRestconfDataService.putData(identifier, payload, uriInfo);
@@ -168,4 +219,9 @@ public final class ServicesWrapper implements BaseServicesWrapper, TransactionSe
     public NormalizedNodeContext getLibraryVersion() {
         return this.delegRestService.getLibraryVersion();
     }
+
+    @Override
+    public void close() {
+        delegRestconfDataService.close();
+    }
 }
@@ -17,11 +17,17 @@ import com.google.common.base.MoreObjects;
 public class Configuration {
 
     private static final int MAX_FRAGMENT_LENGTH = 65535;
+    private static final int DEFAULT_MAX_CONCURRENT_MOUNT_POINT_REQUESTS = 4;
+    private static final int DEFAULT_MAX_QUEUED_MOUNT_POINT_REQUESTS = 512;
+    private static final int DEFAULT_MOUNT_POINT_REQUEST_THREADS = 16;
 
     private final int maximumFragmentLength;
     private final int idleTimeout;
     private final int heartbeatInterval;
     private final boolean useSSE;
+    private final int maxConcurrentMountPointRequests;
+    private final int maxQueuedMountPointRequests;
+    private final int mountPointRequestThreads;
 
     /**
      * Creation of the restconf configuration holder with verification of input parameters.
@@ -34,16 +40,49 @@ public class Configuration {
      */
     public Configuration(final int maximumFragmentLength, final int idleTimeout, final int heartbeatInterval,
             final boolean useSSE) {
+        this(maximumFragmentLength, idleTimeout, heartbeatInterval, useSSE,
+            DEFAULT_MAX_CONCURRENT_MOUNT_POINT_REQUESTS, DEFAULT_MAX_QUEUED_MOUNT_POINT_REQUESTS,
+            DEFAULT_MOUNT_POINT_REQUEST_THREADS);
+    }
+
+    /**
+     * Creation of the restconf configuration holder with verification of input parameters.
+     *
+     * @param maximumFragmentLength           Maximum web-socket fragment length in number of Unicode code units
+     *                                        (characters) (exceeded message length leads to fragmentation
+     *                                        of messages).
+     * @param idleTimeout                     Maximum idle time of web-socket session before the session is closed
+     *                                        (milliseconds).
+     * @param heartbeatInterval               Interval in milliseconds between sending of ping control frames.
+     * @param useSSE                          when is true use SSE else use WS
+     * @param maxConcurrentMountPointRequests Maximum number of data requests executed concurrently against
+     *                                        a single mount point.
+     * @param maxQueuedMountPointRequests     Maximum number of data requests waiting for execution against
+     *                                        a single mount point (exceeding requests are rejected).
+     * @param mountPointRequestThreads        Maximum number of threads executing data requests against mount points.
+     */
+    public Configuration(final int maximumFragmentLength, final int idleTimeout, final int heartbeatInterval,
+            final boolean useSSE, final int maxConcurrentMountPointRequests, final int maxQueuedMountPointRequests,
+            final int mountPointRequestThreads) {
         checkArgument(idleTimeout > 0, "Idle timeout must be specified by positive value.");
         checkArgument(maximumFragmentLength >= 0 && maximumFragmentLength < MAX_FRAGMENT_LENGTH,
                 "Maximum fragment length must be disabled (0) or specified by positive value less than 64 KB.");
         checkArgument(heartbeatInterval >= 0, "Heartbeat ping interval must be "
                 + "disabled (0) or specified by positive value.");
+        checkArgument(maxConcurrentMountPointRequests > 0, "Maximum number of concurrent mount point requests "
+                + "must be specified by positive value.");
+        checkArgument(maxQueuedMountPointRequests >= 0, "Maximum number of queued mount point requests must be "
+                + "disabled (0) or specified by positive value.");
+        checkArgument(mountPointRequestThreads > 0, "Maximum number of mount point request threads must be "
+                + "specified by positive value.");
 
         this.maximumFragmentLength = maximumFragmentLength;
         this.idleTimeout = idleTimeout;
         this.heartbeatInterval = heartbeatInterval;
         this.useSSE = useSSE;
+        this.maxConcurrentMountPointRequests = maxConcurrentMountPointRequests;
+        this.maxQueuedMountPointRequests = maxQueuedMountPointRequests;
+        this.mountPointRequestThreads = mountPointRequestThreads;
     }
 
     public int getMaximumFragmentLength() {
@@ -67,6 +106,18 @@ public class Configuration {
         return useSSE;
     }
 
+    public int getMaxConcurrentMountPointRequests() {
+        return maxConcurrentMountPointRequests;
+    }
+
+    public int getMaxQueuedMountPointRequests() {
+        return maxQueuedMountPointRequests;
+    }
+
+    public int getMountPointRequestThreads() {
+        return mountPointRequestThreads;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -74,6 +125,9 @@ public class Configuration {
                 .add("idleTimeout", idleTimeout)
                 .add("heartbeatInterval", heartbeatInterval)
                 .add("useSSE", useSSE)
+                .add("maxConcurrentMountPointRequests", maxConcurrentMountPointRequests)
+                .add("maxQueuedMountPointRequests", maxQueuedMountPointRequests)
+                .add("mountPointRequestThreads", mountPointRequestThreads)
                 .toString();
     }
 }
\ No newline at end of file
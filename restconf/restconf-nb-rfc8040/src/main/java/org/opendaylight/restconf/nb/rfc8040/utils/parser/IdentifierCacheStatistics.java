@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.nb.rfc8040.utils.parser;
+
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+
+/**
+ * {@link IdentifierCacheStatisticsMXBean} backed by {@link ParserIdentifier}.
+ */
+public final class IdentifierCacheStatistics extends AbstractMXBean implements IdentifierCacheStatisticsMXBean {
+
+    public IdentifierCacheStatistics() {
+        super("IdentifierCacheStatistics", "restconf-nb-rfc8040", null);
+    }
+
+    @Override
+    public long getHitCount() {
+        return ParserIdentifier.getIdentifierCacheStats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return ParserIdentifier.getIdentifierCacheStats().missCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return ParserIdentifier.getIdentifierCacheStats().evictionCount();
+    }
+
+    @Override
+    public long getCachedIdentifierCount() {
+        return ParserIdentifier.getCachedIdentifierCount();
+    }
+}
@@ -11,6 +11,10 @@ import static com.google.common.base.Verify.verifyNotNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Iterables;
 import java.time.format.DateTimeParseException;
 import java.util.AbstractMap.SimpleImmutableEntry;
@@ -20,6 +24,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
@@ -53,6 +58,42 @@ public final class ParserIdentifier {
 
     private static final Logger LOG = LoggerFactory.getLogger(ParserIdentifier.class);
     private static final Splitter MP_SPLITTER = Splitter.on("/" + RestconfConstants.MOUNT);
+    private static final int MAX_CACHED_IDENTIFIERS = 4096;
+
+    /**
+     * Identifiers parsed in a schema context, without mount point. Entries are held per schema context, compared by
+     * identity and referenced weakly, hence mount points sharing a schema context share the entries and the entries
+     * are dropped together with a schema context which is no longer in use. For that to happen, the cached values
+     * must not reference the schema context.
+     */
+    private static final Cache<EffectiveModelContext, ContextEntries> CONTEXT_ENTRIES = CacheBuilder.newBuilder()
+            .weakKeys().removalListener(ParserIdentifier::onContextEntriesRemoved).build();
+
+    /**
+     * Statistics of the identifier caches of schema contexts which are no longer in use.
+     */
+    private static final AtomicReference<CacheStats> RELEASED_STATS =
+            new AtomicReference<>(new CacheStats(0, 0, 0, 0, 0, 0));
+
+    private static final class ContextEntries {
+        private final Cache<String, ParsedIdentifier> identifiers = CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_IDENTIFIERS).recordStats().build();
+        private final Cache<String, YangInstanceIdentifier> mountPaths = CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_IDENTIFIERS).build();
+    }
+
+    /**
+     * A parsed identifier, without the schema context it was parsed in.
+     */
+    private static final class ParsedIdentifier {
+        private final YangInstanceIdentifier path;
+        private final SchemaNode schemaNode;
+
+        ParsedIdentifier(final YangInstanceIdentifier path, final SchemaNode schemaNode) {
+            this.path = path;
+            this.schemaNode = schemaNode;
+        }
+    }
 
     private ParserIdentifier() {
         throw new UnsupportedOperationException("Util class.");
@@ -88,7 +129,12 @@ public final class ParserIdentifier {
 
         final Iterator<String> pathsIt = MP_SPLITTER.split(identifier).iterator();
         final String mountPointId = pathsIt.next();
-        final YangInstanceIdentifier mountPath = IdentifierCodec.deserialize(mountPointId, schemaContext);
+        final Cache<String, YangInstanceIdentifier> mountPaths = contextEntries(schemaContext).mountPaths;
+        YangInstanceIdentifier mountPath = mountPaths.getIfPresent(mountPointId);
+        if (mountPath == null) {
+            mountPath = IdentifierCodec.deserialize(mountPointId, schemaContext);
+            mountPaths.put(mountPointId, mountPath);
+        }
         final DOMMountPoint mountPoint = mountPointService.get().getMountPoint(mountPath)
                 .orElseThrow(() -> new RestconfDocumentedException("Mount point does not exist.",
                     ErrorType.PROTOCOL, ErrorTag.DATA_MISSING));
@@ -110,9 +156,74 @@ public final class ParserIdentifier {
      */
     private static InstanceIdentifierContext<?> createIIdContext(final EffectiveModelContext schemaContext,
             final String url, final @Nullable DOMMountPoint mountPoint) {
-        final YangInstanceIdentifier urlPath = IdentifierCodec.deserialize(url, schemaContext);
-        return new InstanceIdentifierContext<>(urlPath, getPathSchema(schemaContext, urlPath), mountPoint,
-                schemaContext);
+        final Cache<String, ParsedIdentifier> identifiers = url == null ? null
+                : contextEntries(schemaContext).identifiers;
+        ParsedIdentifier parsed = identifiers == null ? null : identifiers.getIfPresent(url);
+        if (parsed == null) {
+            final YangInstanceIdentifier urlPath = IdentifierCodec.deserialize(url, schemaContext);
+            parsed = new ParsedIdentifier(urlPath, getPathSchema(schemaContext, urlPath));
+            // An empty path resolves to the schema context itself, which must not be referenced from the cache
+            if (identifiers != null && !urlPath.isEmpty()) {
+                identifiers.put(url, parsed);
+            }
+        }
+        return new InstanceIdentifierContext<>(parsed.path, parsed.schemaNode, mountPoint, schemaContext);
+    }
+
+    /**
+     * Get statistics of the cache of identifiers parsed in a schema context.
+     *
+     * @param schemaContext schema context
+     * @return {@link CacheStats}, empty if no identifiers have been parsed in the schema context
+     */
+    public static CacheStats getIdentifierCacheStats(final EffectiveModelContext schemaContext) {
+        final ContextEntries entries = CONTEXT_ENTRIES.getIfPresent(schemaContext);
+        return entries == null ? new CacheStats(0, 0, 0, 0, 0, 0) : entries.identifiers.stats();
+    }
+
+    /**
+     * Get statistics of the caches of identifiers parsed in all schema contexts, including those which are no longer
+     * in use.
+     *
+     * @return {@link CacheStats}
+     */
+    public static CacheStats getIdentifierCacheStats() {
+        // Account for the schema contexts which have been collected in the meantime
+        CONTEXT_ENTRIES.cleanUp();
+        CacheStats stats = RELEASED_STATS.get();
+        for (final ContextEntries entries : CONTEXT_ENTRIES.asMap().values()) {
+            stats = stats.plus(entries.identifiers.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Get the number of identifiers currently cached, in all schema contexts.
+     *
+     * @return number of cached identifiers
+     */
+    public static long getCachedIdentifierCount() {
+        return CONTEXT_ENTRIES.asMap().values().stream().mapToLong(entries -> entries.identifiers.size()).sum();
+    }
+
+    /**
+     * Drop the identifiers parsed in a schema context, which is known to be no longer in use.
+     *
+     * @param schemaContext schema context
+     */
+    public static void invalidateIdentifierCache(final EffectiveModelContext schemaContext) {
+        CONTEXT_ENTRIES.invalidate(schemaContext);
+    }
+
+    private static ContextEntries contextEntries(final EffectiveModelContext schemaContext) {
+        return CONTEXT_ENTRIES.asMap().computeIfAbsent(schemaContext, key -> new ContextEntries());
+    }
+
+    private static void onContextEntriesRemoved(
+            final RemovalNotification<EffectiveModelContext, ContextEntries> notification) {
+        RELEASED_STATS.accumulateAndGet(notification.getValue().identifiers.stats(), CacheStats::plus);
+        LOG.debug("Dropping {} cached identifiers of a schema context which is no longer in use, statistics {}",
+            notification.getValue().identifiers.size(), notification.getValue().identifiers.stats());
     }
 
     private static SchemaNode getPathSchema(final SchemaContext schemaContext, final YangInstanceIdentifier urlPath) {
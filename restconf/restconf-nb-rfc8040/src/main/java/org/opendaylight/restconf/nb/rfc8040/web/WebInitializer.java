@@ -47,7 +47,7 @@ public class WebInitializer {
         WebContextBuilder webContextBuilder = WebContext.builder().contextPath(RestconfConstants.BASE_URI_PATTERN)
                 .supportsSessions(false)
                 .addServlet(ServletDetails.builder().servlet(servletSupport.createHttpServletBuilder(webApp).build())
-                        .addUrlPattern("/*").build())
+                        .asyncSupported(true).addUrlPattern("/*").build())
                 .addServlet(ServletDetails.builder().servlet(servletSupport.createHttpServletBuilder(webAppNotif)
                         .build()).asyncSupported(true).addUrlPattern("/notif/*").name("notificationServlet").build())
                 .addServlet(ServletDetails.builder().servlet(webSocketServlet).addAllUrlPatterns(Lists.newArrayList(
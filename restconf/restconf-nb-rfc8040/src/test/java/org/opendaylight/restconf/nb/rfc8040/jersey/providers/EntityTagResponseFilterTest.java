@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.restconf.nb.rfc8040.jersey.providers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.restconf.common.context.NormalizedNodeContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class EntityTagResponseFilterTest {
+    private static final QName CONT = QName.create("ns", "2016-02-28", "cont");
+    private static final QName LEAF_A = QName.create(CONT, "a");
+    private static final QName LEAF_B = QName.create(CONT, "b");
+
+    private final EntityTagResponseFilter filter = new EntityTagResponseFilter();
+    private final ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+    private final ContainerResponseContext responseContext = mock(ContainerResponseContext.class);
+    private final Request request = mock(Request.class);
+    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+    @Before
+    public void setUp() {
+        final UriInfo uriInfo = mock(UriInfo.class);
+        doReturn(URI.create("http://localhost/rests/data/cont?content=config")).when(uriInfo).getRequestUri();
+        doReturn(uriInfo).when(requestContext).getUriInfo();
+        doReturn(request).when(requestContext).getRequest();
+        doReturn(HttpMethod.GET).when(requestContext).getMethod();
+        doReturn(200).when(responseContext).getStatus();
+        doReturn(MediaType.APPLICATION_JSON_TYPE).when(responseContext).getMediaType();
+        doReturn(headers).when(responseContext).getHeaders();
+    }
+
+    @Test
+    public void testEntityTagDependsOnContent() {
+        final EntityTag first = entityTag(container("x", "y", false));
+        assertTrue(first.isWeak());
+        assertEquals(first, entityTag(container("x", "y", false)));
+        assertEquals(first, entityTag(container("x", "y", true)));
+        assertNotEquals(first, entityTag(container("x", "z", false)));
+        assertNotEquals(first, EntityTagResponseFilter.entityTag(context(container("x", "y", false)), "depth=1",
+            MediaType.APPLICATION_JSON_TYPE));
+        assertNotEquals(first, EntityTagResponseFilter.entityTag(context(container("x", "y", false)),
+            "content=config", MediaType.APPLICATION_XML_TYPE));
+    }
+
+    @Test
+    public void testNotModified() {
+        doReturn(context(container("x", "y", false))).when(responseContext).getEntity();
+        doReturn(Response.notModified()).when(request).evaluatePreconditions(any(EntityTag.class));
+
+        filter.filter(requestContext, responseContext);
+
+        assertEquals(entityTag(container("x", "y", false)), headers.getFirst(HttpHeaders.ETAG));
+        verify(responseContext).setStatus(304);
+        verify(responseContext).setEntity(null);
+    }
+
+    @Test
+    public void testModified() {
+        doReturn(context(container("x", "y", false))).when(responseContext).getEntity();
+
+        filter.filter(requestContext, responseContext);
+
+        assertEquals(entityTag(container("x", "y", false)), headers.getFirst(HttpHeaders.ETAG));
+        verify(responseContext, never()).setStatus(304);
+        verify(responseContext, never()).setEntity(null);
+    }
+
+    @Test
+    public void testNoEntityTagForPut() {
+        doReturn(HttpMethod.PUT).when(requestContext).getMethod();
+
+        filter.filter(requestContext, responseContext);
+
+        assertNull(headers.getFirst(HttpHeaders.ETAG));
+    }
+
+    private static EntityTag entityTag(final ContainerNode data) {
+        return EntityTagResponseFilter.entityTag(context(data), "content=config", MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    private static NormalizedNodeContext context(final ContainerNode data) {
+        return new NormalizedNodeContext(null, data);
+    }
+
+    private static ContainerNode container(final String valueA, final String valueB, final boolean reversed) {
+        return reversed
+            ? Builders.containerBuilder().withNodeIdentifier(NodeIdentifier.create(CONT))
+                .withChild(ImmutableNodes.leafNode(LEAF_B, valueB))
+                .withChild(ImmutableNodes.leafNode(LEAF_A, valueA))
+                .build()
+            : Builders.containerBuilder().withNodeIdentifier(NodeIdentifier.create(CONT))
+                .withChild(ImmutableNodes.leafNode(LEAF_A, valueA))
+                .withChild(ImmutableNodes.leafNode(LEAF_B, valueB))
+                .build();
+    }
+}
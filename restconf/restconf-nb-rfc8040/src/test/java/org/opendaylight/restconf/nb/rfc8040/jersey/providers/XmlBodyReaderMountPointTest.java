@@ -238,4 +238,23 @@ public class XmlBodyReaderMountPointTest extends AbstractBodyReaderTest {
             Assert.assertEquals(RestconfError.ErrorTag.MALFORMED_MESSAGE, restconfError.getErrorTag());
         }
     }
+
+    /**
+     * Test that a body which is not well-formed XML is reported as a malformed message also behind a mount point.
+     */
+    @Test
+    public void malformedBodyTest() throws Exception {
+        mockBodyReader("instance-identifier-module:cont/yang-ext:mount/instance-identifier-module:cont",
+            this.xmlBodyReader, false);
+        final InputStream inputStream = XmlBodyReaderMountPointTest.class
+                .getResourceAsStream("/instanceidentifier/xml/xmldata_malformed.xml");
+        try {
+            this.xmlBodyReader.readFrom(null, null, null, this.mediaType, null, inputStream);
+            Assert.fail("Test should fail due to malformed XML body");
+        } catch (final RestconfDocumentedException exception) {
+            final RestconfError restconfError = exception.getErrors().get(0);
+            Assert.assertEquals(RestconfError.ErrorType.PROTOCOL, restconfError.getErrorType());
+            Assert.assertEquals(RestconfError.ErrorTag.MALFORMED_MESSAGE, restconfError.getErrorTag());
+        }
+    }
 }
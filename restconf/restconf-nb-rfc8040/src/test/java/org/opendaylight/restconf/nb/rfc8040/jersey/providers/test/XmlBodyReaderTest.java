@@ -32,6 +32,8 @@ import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
@@ -117,6 +119,42 @@ public class XmlBodyReaderTest extends AbstractBodyReaderTest {
         checkExpectValueNormalizeNodeContext(dataSchemaNode, returnValue, dataII);
     }
 
+    @Test
+    public void listEntryPutTest() throws Exception {
+        mockBodyReader("foo:top-level-list=key-value", this.xmlBodyReader, false);
+        final InputStream inputStream = XmlBodyReaderTest.class.getResourceAsStream("/foo-xml-test/foo.xml");
+        final NormalizedNodeContext returnValue = this.xmlBodyReader.readFrom(null, null, null, this.mediaType, null,
+                inputStream);
+        checkNormalizedNodeContext(returnValue);
+
+        final QName listQName = QName.create("foo", "top-level-list");
+        final NodeIdentifierWithPredicates entryId = NodeIdentifierWithPredicates.of(listQName,
+            QName.create(listQName, "key-leaf"), "key-value");
+        assertEquals(YangInstanceIdentifier.create(new NodeIdentifier(listQName), entryId),
+            returnValue.getInstanceIdentifierContext().getInstanceIdentifier());
+        assertEquals(entryId, returnValue.getData().getIdentifier());
+    }
+
+    /**
+     * Test that the XML declaration, comments and whitespace preceding the root element are skipped before the root
+     * element is checked against the request URI.
+     */
+    @Test
+    public void moduleDataWithPrologTest() throws Exception {
+        final DataSchemaNode dataSchemaNode = schemaContext
+                .getDataChildByName(QName.create(INSTANCE_IDENTIFIER_MODULE_QNAME, "cont"));
+        final YangInstanceIdentifier dataII = YangInstanceIdentifier.of(dataSchemaNode.getQName());
+        mockBodyReader("instance-identifier-module:cont", this.xmlBodyReader, false);
+        final InputStream inputStream = XmlBodyReaderTest.class
+                .getResourceAsStream("/instanceidentifier/xml/xmldata_prolog.xml");
+        final NormalizedNodeContext returnValue = this.xmlBodyReader.readFrom(null, null, null, this.mediaType, null,
+                inputStream);
+        checkNormalizedNodeContext(returnValue);
+        checkExpectValueNormalizeNodeContext(dataSchemaNode, returnValue, dataII);
+        assertNotNull(NormalizedNodes.findNode(returnValue.getData(),
+            dataII.node(QName.create(dataSchemaNode.getQName(), "cont1"))));
+    }
+
     @Test
     public void moduleSubContainerDataPutTest() throws Exception {
         final DataSchemaNode dataSchemaNode = schemaContext
@@ -285,4 +323,21 @@ public class XmlBodyReaderTest extends AbstractBodyReaderTest {
         }
     }
 
+    /**
+     * Test that a body which is not well-formed XML is reported as a malformed message.
+     */
+    @Test
+    public void malformedBodyTest() throws Exception {
+        mockBodyReader("instance-identifier-module:cont", this.xmlBodyReader, false);
+        final InputStream inputStream =
+                XmlBodyReaderTest.class.getResourceAsStream("/instanceidentifier/xml/xmldata_malformed.xml");
+        try {
+            this.xmlBodyReader.readFrom(null, null, null, this.mediaType, null, inputStream);
+            Assert.fail("Test should fail due to malformed XML body");
+        } catch (final RestconfDocumentedException exception) {
+            final RestconfError restconfError = exception.getErrors().get(0);
+            Assert.assertEquals(RestconfError.ErrorType.PROTOCOL, restconfError.getErrorType());
+            Assert.assertEquals(RestconfError.ErrorTag.MALFORMED_MESSAGE, restconfError.getErrorTag());
+        }
+    }
 }
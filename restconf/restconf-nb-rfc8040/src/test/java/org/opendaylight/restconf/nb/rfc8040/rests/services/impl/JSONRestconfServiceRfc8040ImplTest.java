@@ -198,6 +198,10 @@ public class JSONRestconfServiceRfc8040ImplTest {
         final DOMMountPointServiceHandler mountPointServiceHandler =
                 new DOMMountPointServiceHandler(mockMountPointService);
 
+        doReturn(8).when(configuration).getMaxConcurrentMountPointRequests();
+        doReturn(512).when(configuration).getMaxQueuedMountPointRequests();
+        doReturn(4).when(configuration).getMountPointRequestThreads();
+
         final DOMNotificationService mockNotificationService = mock(DOMNotificationService.class);
         final ServicesWrapper servicesWrapper = ServicesWrapper.newInstance(schemaContextHandler,
                 mountPointServiceHandler, txChainHandler, new DOMDataBrokerHandler(mockDOMDataBroker),
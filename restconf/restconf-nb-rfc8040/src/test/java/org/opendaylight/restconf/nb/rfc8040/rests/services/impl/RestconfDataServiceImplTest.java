@@ -16,6 +16,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.opendaylight.restconf.common.patch.PatchEditOperation.CREATE;
 import static org.opendaylight.restconf.common.patch.PatchEditOperation.DELETE;
 import static org.opendaylight.restconf.common.patch.PatchEditOperation.REMOVE;
@@ -30,13 +32,16 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -210,11 +215,15 @@ public class RestconfDataServiceImplTest {
                 Mockito.mock(DOMSchemaService.class));
 
         schemaContextHandler.onModelContextUpdated(this.contextRef);
+        doReturn(8).when(configuration).getMaxConcurrentMountPointRequests();
+        doReturn(512).when(configuration).getMaxQueuedMountPointRequests();
+        doReturn(4).when(configuration).getMountPointRequestThreads();
         this.dataService = new RestconfDataServiceImpl(schemaContextHandler, this.transactionChainHandler,
                 new DOMMountPointServiceHandler(mountPointService), this.delegRestconfSubscrService,
                 this.actionServiceHandler, configuration);
         doReturn(Optional.of(this.mountPoint)).when(this.mountPointService)
                 .getMountPoint(any(YangInstanceIdentifier.class));
+        doReturn(this.iidBase).when(this.mountPoint).getIdentifier();
         doCallRealMethod().when(this.mountPoint).getSchemaContext();
         doReturn(this.contextRef).when(this.mountPoint).getEffectiveModelContext();
         doReturn(Optional.of(this.mountDataBroker)).when(this.mountPoint).getService(DOMDataBroker.class);
@@ -224,6 +233,11 @@ public class RestconfDataServiceImplTest {
         doReturn(this.readWrite).when(this.mountTransactionChain).newReadWriteTransaction();
     }
 
+    @After
+    public void tearDown() {
+        this.dataService.close();
+    }
+
     @Test
     public void testReadData() {
         doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
@@ -237,6 +251,35 @@ public class RestconfDataServiceImplTest {
         assertEquals(this.buildBaseCont, ((NormalizedNodeContext) response.getEntity()).getData());
     }
 
+    @Test
+    public void testReadDataAsync() {
+        doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
+        doReturn(immediateFluentFuture(Optional.of(this.buildBaseCont))).when(this.read)
+                .read(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doReturn(immediateFluentFuture(Optional.empty()))
+                .when(this.read).read(LogicalDatastoreType.OPERATIONAL, this.iidBase);
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.readData("example-jukebox:jukebox", this.uriInfo, asyncResponse);
+
+        final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertEquals(200, captor.getValue().getStatus());
+        assertEquals(this.buildBaseCont, ((NormalizedNodeContext) captor.getValue().getEntity()).getData());
+    }
+
+    @Test
+    public void testReadDataAsyncNoData() {
+        doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
+        doReturn(immediateFluentFuture(Optional.empty()))
+                .when(this.read).read(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doReturn(immediateFluentFuture(Optional.empty()))
+                .when(this.read).read(LogicalDatastoreType.OPERATIONAL, this.iidBase);
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.readData("example-jukebox:jukebox", this.uriInfo, asyncResponse);
+
+        verify(asyncResponse).resume(any(RestconfDocumentedException.class));
+    }
+
     @Test
     public void testReadRootData() {
         doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
@@ -519,6 +562,123 @@ public class RestconfDataServiceImplTest {
         assertNull(status.getGlobalErrors());
     }
 
+    @Test
+    public void testPutDataAsync() {
+        final InstanceIdentifierContext<DataSchemaNode> iidContext =
+                new InstanceIdentifierContext<>(this.iidBase, this.schemaNode, null, this.contextRef);
+        final NormalizedNodeContext payload = new NormalizedNodeContext(iidContext, this.buildBaseCont);
+
+        doReturn(immediateTrueFluentFuture()).when(this.readWrite)
+                .exists(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doNothing().when(this.readWrite).put(LogicalDatastoreType.CONFIGURATION, this.iidBase, payload.getData());
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.putData(null, payload, this.uriInfo, asyncResponse);
+
+        final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertEquals(Response.Status.NO_CONTENT.getStatusCode(), captor.getValue().getStatus());
+    }
+
+    @Test
+    public void testPutDataAsyncWithMountPoint() {
+        final InstanceIdentifierContext<DataSchemaNode> iidContext =
+                new InstanceIdentifierContext<>(this.iidBase, this.schemaNode, mountPoint, this.contextRef);
+        final NormalizedNodeContext payload = new NormalizedNodeContext(iidContext, this.buildBaseCont);
+
+        doReturn(immediateTrueFluentFuture()).when(this.readWrite)
+                .exists(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doNothing().when(this.readWrite).put(LogicalDatastoreType.CONFIGURATION, this.iidBase, payload.getData());
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.putData(null, payload, this.uriInfo, asyncResponse);
+
+        // mount point requests complete on the request executor
+        final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse, timeout(5000)).resume(captor.capture());
+        assertEquals(Response.Status.NO_CONTENT.getStatusCode(), captor.getValue().getStatus());
+    }
+
+    @Test
+    public void testPostDataAsync() {
+        final QName listQname = QName.create(this.baseQName, "playlist");
+        final QName listKeyQname = QName.create(this.baseQName, "name");
+        final NodeIdentifierWithPredicates nodeWithKey =
+                NodeIdentifierWithPredicates.of(listQname, listKeyQname, "name of band");
+        final MapNode buildList = Builders.mapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(listQname))
+                .withChild(Builders.mapEntryBuilder()
+                    .withNodeIdentifier(nodeWithKey)
+                    .withChild(Builders.leafBuilder()
+                        .withNodeIdentifier(new NodeIdentifier(listKeyQname))
+                        .withValue("name of band")
+                        .build())
+                    .build())
+                .build();
+
+        doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
+        final InstanceIdentifierContext<? extends SchemaNode> iidContext =
+                new InstanceIdentifierContext<>(this.iidBase, null, null, this.contextRef);
+        final NormalizedNodeContext payload = new NormalizedNodeContext(iidContext, buildList);
+        final YangInstanceIdentifier node = this.iidBase.node(nodeWithKey);
+        doReturn(immediateFalseFluentFuture())
+                .when(this.readWrite).exists(LogicalDatastoreType.CONFIGURATION, node);
+        doNothing().when(this.readWrite).put(LogicalDatastoreType.CONFIGURATION, node, payload.getData());
+        doReturn(UriBuilder.fromUri("http://localhost:8181/restconf/15/")).when(this.uriInfo).getBaseUriBuilder();
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.postData(null, payload, this.uriInfo, asyncResponse);
+
+        final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertEquals(201, captor.getValue().getStatus());
+    }
+
+    @Test
+    public void testDeleteDataAsync() {
+        doNothing().when(this.readWrite).delete(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doReturn(immediateTrueFluentFuture())
+                .when(this.readWrite).exists(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.deleteData("example-jukebox:jukebox", asyncResponse);
+
+        final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertEquals(Response.Status.NO_CONTENT.getStatusCode(), captor.getValue().getStatus());
+    }
+
+    @Test
+    public void testDeleteDataAsyncMountPoint() {
+        doNothing().when(this.readWrite).delete(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doReturn(immediateTrueFluentFuture())
+                .when(this.readWrite).exists(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.deleteData("example-jukebox:jukebox/yang-ext:mount/example-jukebox:jukebox", asyncResponse);
+
+        final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse, timeout(5000)).resume(captor.capture());
+        assertEquals(Response.Status.NO_CONTENT.getStatusCode(), captor.getValue().getStatus());
+    }
+
+    @Test
+    public void testPatchDataAsync() {
+        final InstanceIdentifierContext<? extends SchemaNode> iidContext = new InstanceIdentifierContext<>(
+                this.iidBase, this.schemaNode, this.mountPoint, this.contextRef);
+        final List<PatchEntity> entity = new ArrayList<>();
+        entity.add(new PatchEntity("replace data", REPLACE, this.iidBase, this.buildBaseCont));
+        final PatchContext patch = new PatchContext(iidContext, entity, "test patch id");
+
+        doReturn(immediateFluentFuture(Optional.of(this.buildBaseCont))).when(this.read)
+                .read(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doNothing().when(this.write).put(LogicalDatastoreType.CONFIGURATION, this.iidBase, this.buildBaseCont);
+        doReturn(immediateFalseFluentFuture())
+                .when(this.readWrite).exists(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        final AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        this.dataService.patchData(patch, this.uriInfo, asyncResponse);
+
+        final ArgumentCaptor<PatchStatusContext> captor = ArgumentCaptor.forClass(PatchStatusContext.class);
+        verify(asyncResponse, timeout(5000)).resume(captor.capture());
+        assertTrue(captor.getValue().isOk());
+        assertEquals("replace data", captor.getValue().getEditCollection().get(0).getEditId());
+    }
+
     @Test
     public void testPatchDataDeleteNotExist() throws Exception {
         final InstanceIdentifierContext<? extends SchemaNode> iidContext =
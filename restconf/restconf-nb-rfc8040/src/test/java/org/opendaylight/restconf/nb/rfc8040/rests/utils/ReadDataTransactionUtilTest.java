@@ -14,10 +14,13 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.Collections;
 import java.util.Optional;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -192,6 +195,35 @@ public class ReadDataTransactionUtilTest {
         assertEquals(checkingData, normalizedNode);
     }
 
+    @Test
+    public void readContainerDataAllConcurrentTest() throws Exception {
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> configFuture = SettableFuture.create();
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> stateFuture = SettableFuture.create();
+        doReturn(configFuture).when(this.netconfService).getConfig(DATA.path);
+        doReturn(stateFuture).when(this.netconfService).get(DATA.path);
+        doReturn(DATA.path).when(context).getInstanceIdentifier();
+
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = ReadDataTransactionUtil.readDataAsync(
+                RestconfDataServiceConstant.ReadData.ALL, netconfStrategy, null, schemaContext);
+
+        // both reads have to be issued before any of them completes
+        verify(this.netconfService).getConfig(DATA.path);
+        verify(this.netconfService).get(DATA.path);
+        assertFalse(future.isDone());
+
+        stateFuture.set(Optional.of(DATA.data4));
+        assertFalse(future.isDone());
+        configFuture.set(Optional.of(DATA.data3));
+
+        final ContainerNode checkingData = Builders
+                .containerBuilder()
+                .withNodeIdentifier(NODE_IDENTIFIER)
+                .withChild(DATA.contentLeaf)
+                .withChild(DATA.contentLeaf2)
+                .build();
+        assertEquals(Optional.of(checkingData), future.get());
+    }
+
     @Test
     public void readContainerDataConfigNoValueOfContentTest() {
         doReturn(immediateFluentFuture(Optional.of(DATA.data3))).when(read)
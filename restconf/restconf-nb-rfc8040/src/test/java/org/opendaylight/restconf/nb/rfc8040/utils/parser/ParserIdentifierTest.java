@@ -9,11 +9,14 @@ package org.opendaylight.restconf.nb.rfc8040.utils.parser;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.when;
 
+import com.google.common.cache.CacheStats;
+import java.lang.ref.WeakReference;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.junit.AfterClass;
@@ -188,6 +191,59 @@ public class ParserIdentifierTest {
                 SCHEMA_CONTEXT_ON_MOUNT_POINT, context.getSchemaContext());
     }
 
+    /**
+     * Test of caching of parsed identifiers. Parsing the same identifier in the same schema context should hit
+     * the cache, while parsing it in another schema context should not.
+     */
+    @Test
+    public void toInstanceIdentifierCacheTest() throws Exception {
+        final EffectiveModelContext context =
+                YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/parser-identifier"));
+        final EffectiveModelContext otherContext =
+                YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/parser-identifier"));
+
+        final InstanceIdentifierContext<?> first = ParserIdentifier.toInstanceIdentifier(
+                TEST_IDENT, context, Optional.empty());
+        final InstanceIdentifierContext<?> second = ParserIdentifier.toInstanceIdentifier(
+                TEST_IDENT, context, Optional.empty());
+        assertEquals(first.getInstanceIdentifier(), second.getInstanceIdentifier());
+        assertSame(first.getSchemaNode(), second.getSchemaNode());
+
+        final CacheStats stats = ParserIdentifier.getIdentifierCacheStats(context);
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+
+        final InstanceIdentifierContext<?> other = ParserIdentifier.toInstanceIdentifier(
+                TEST_IDENT, otherContext, Optional.empty());
+        assertNotSame(first.getSchemaNode(), other.getSchemaNode());
+        assertSame(otherContext, other.getSchemaContext());
+        assertEquals(first.getInstanceIdentifier(), other.getInstanceIdentifier());
+        assertEquals(1, ParserIdentifier.getIdentifierCacheStats(otherContext).missCount());
+    }
+
+    /**
+     * Identifiers cached for a schema context must not keep it reachable once it is no longer in use.
+     */
+    @Test
+    public void toInstanceIdentifierCacheReleasesContextTest() throws Exception {
+        EffectiveModelContext context =
+                YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/parser-identifier"));
+        ParserIdentifier.toInstanceIdentifier(TEST_IDENT, context, Optional.empty());
+        ParserIdentifier.toInstanceIdentifier(TEST_IDENT, context, Optional.empty());
+        final long hits = ParserIdentifier.getIdentifierCacheStats().hitCount();
+
+        final WeakReference<EffectiveModelContext> released = new WeakReference<>(context);
+        context = null;
+        for (int i = 0; i < 100 && released.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("Schema context is still reachable", released.get());
+
+        // Statistics of the released context are still reported
+        assertEquals(hits, ParserIdentifier.getIdentifierCacheStats().hitCount());
+    }
+
     /**
      * Test of creating <code>InstanceIdentifierContext</code> when identifier is <code>null</code>.
      * <code>{@link YangInstanceIdentifier#empty()}</code> should be returned.
@@ -10,6 +10,7 @@ package org.opendaylight.netconf.sal.rest.doc.impl;
 import static org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
 
 import java.util.Objects;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
 import org.opendaylight.netconf.sal.rest.doc.swagger.CommonApiObject;
@@ -26,14 +27,21 @@ public class AllModulesDocGenerator {
     }
 
     public CommonApiObject getAllModulesDoc(final UriInfo uriInfo, final URIType uriType, final OAversion oaversion) {
-        final DefinitionNames definitionNames = new DefinitionNames();
         final SwaggerObject doc;
         if (uriType.equals(URIType.DRAFT02)) {
-            doc = apiDocGeneratorDraft02.getAllModulesDoc(uriInfo, definitionNames, uriType, oaversion);
+            doc = apiDocGeneratorDraft02.getAllModulesDoc(uriInfo, uriType, oaversion);
         } else {
-            doc = apiDocGeneratorRFC8040.getAllModulesDoc(uriInfo, definitionNames, uriType, oaversion);
+            doc = apiDocGeneratorRFC8040.getAllModulesDoc(uriInfo, uriType, oaversion);
         }
 
         return BaseYangSwaggerGenerator.getAppropriateDoc(doc, oaversion);
     }
+
+    public StreamingOutput streamAllModulesDoc(final UriInfo uriInfo, final URIType uriType,
+                                               final OAversion oaversion) {
+        if (uriType.equals(URIType.DRAFT02)) {
+            return apiDocGeneratorDraft02.streamAllModulesDoc(uriInfo, uriType, oaversion);
+        }
+        return apiDocGeneratorRFC8040.streamAllModulesDoc(uriInfo, uriType, oaversion);
+    }
 }
@@ -21,6 +21,10 @@ public class ApiDocGeneratorDraftO2 extends BaseYangSwaggerGeneratorDraft02 {
         super(Optional.of(Objects.requireNonNull(schemaService)));
     }
 
+    public ApiDocGeneratorDraftO2(final DOMSchemaService schemaService, final ApiDocGeneratorPool generatorPool) {
+        super(Optional.of(Objects.requireNonNull(schemaService)), generatorPool);
+    }
+
     public ApiDocGeneratorDraftO2(final DOMSchemaService schemaService, final String basePath) {
         super(Optional.of(Objects.requireNonNull(schemaService)), basePath);
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.doc.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool generating the modules of a document in parallel. A single pool is shared by all generators, so the number of
+ * threads is bounded regardless of the number of concurrent requests. The pool is owned by whoever created it and has
+ * to be closed once the generators are gone.
+ */
+public final class ApiDocGeneratorPool implements AutoCloseable {
+    /**
+     * Generates modules one after another in the calling thread.
+     */
+    public static final ApiDocGeneratorPool SEQUENTIAL = new ApiDocGeneratorPool(null);
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApiDocGeneratorPool.class);
+
+    // null if modules are generated sequentially
+    private final ForkJoinPool pool;
+
+    private ApiDocGeneratorPool(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Create a pool with a number of threads.
+     *
+     * @param threads number of threads, zero or less to use one thread per processor
+     * @return a new pool
+     */
+    public static ApiDocGeneratorPool create(final int threads) {
+        final int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        LOG.debug("Generating API docs with {} threads", parallelism);
+        return new ApiDocGeneratorPool(new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("apidoc-generator-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false));
+    }
+
+    /**
+     * Submit a task generating a part of a document. A sequential pool runs the task before returning.
+     *
+     * @param task task to run
+     * @return task whose result is to be joined
+     */
+    <T> ForkJoinTask<T> submit(final Callable<T> task) {
+        if (pool != null) {
+            return pool.submit(task);
+        }
+        final ForkJoinTask<T> adapted = ForkJoinTask.adapt(task);
+        adapted.invoke();
+        return adapted;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
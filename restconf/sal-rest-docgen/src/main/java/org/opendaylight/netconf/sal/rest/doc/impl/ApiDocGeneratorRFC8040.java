@@ -23,6 +23,10 @@ public class ApiDocGeneratorRFC8040 extends BaseYangSwaggerGeneratorRFC8040 {
         super(Optional.of(Objects.requireNonNull(schemaService)));
     }
 
+    public ApiDocGeneratorRFC8040(final DOMSchemaService schemaService, final ApiDocGeneratorPool generatorPool) {
+        super(Optional.of(Objects.requireNonNull(schemaService)), generatorPool);
+    }
+
     public ApiDocGeneratorRFC8040(final DOMSchemaService schemaService, final String basePath) {
         super(Optional.of(Objects.requireNonNull(schemaService)), basePath);
     }
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.netconf.sal.rest.doc.api.ApiDocService;
@@ -26,17 +27,22 @@ import org.opendaylight.netconf.sal.rest.doc.swagger.MountPointInstance;
  * RESTCONF APIs. The output of this is used by embedded Swagger UI.
  *
  * <p>
- * NOTE: These API's need to be synchronized due to bug 1198. Thread access to
- * the SchemaContext is not synchronized properly and thus you can end up with
- * missing definitions without this synchronization. There are likely otherways
- * to work around this limitation, but given that this API is a dev only tool
- * and not dependent UI, this was the fastest work around.
+ * NOTE: Generated definitions and paths are cached per schema context and
+ * shared between requests, which are served concurrently. Documents are
+ * assembled from the cached nodes without modifying them.
+ *
+ * <p>
+ * Documents of all modules can be requested with {@code stream=true}, in which
+ * case they are generated module by module while being written out, bypassing
+ * the cache. This keeps memory use flat for mount points with large schemas.
  */
 public class ApiDocServiceImpl implements ApiDocService {
 
     public static final int DEFAULT_PAGESIZE = 20;
     // Query parameter
     private static final String PAGE_NUM = "pageNum";
+    // Query parameter requesting the document to be generated while it is written out
+    private static final String STREAM = "stream";
 
     public enum URIType { RFC8040, DRAFT02 }
 
@@ -63,7 +69,11 @@ public class ApiDocServiceImpl implements ApiDocService {
     }
 
     @Override
-    public synchronized Response getAllModulesDoc(final UriInfo uriInfo) {
+    public Response getAllModulesDoc(final UriInfo uriInfo) {
+        if (isStreamed(uriInfo)) {
+            return Response.ok(allModulesDocGenerator.streamAllModulesDoc(uriInfo, identifyUriType(uriInfo),
+                    identifyOpenApiVersion(uriInfo)), MediaType.APPLICATION_JSON).build();
+        }
         final CommonApiObject allModulesDoc = allModulesDocGenerator.getAllModulesDoc(uriInfo, identifyUriType(uriInfo),
                 identifyOpenApiVersion(uriInfo));
         return Response.ok(allModulesDoc).build();
@@ -73,7 +83,7 @@ public class ApiDocServiceImpl implements ApiDocService {
      * Generates Swagger compliant document listing APIs for module.
      */
     @Override
-    public synchronized Response getDocByModule(final String module, final String revision, final UriInfo uriInfo) {
+    public Response getDocByModule(final String module, final String revision, final UriInfo uriInfo) {
         final CommonApiObject doc;
         final OAversion oaversion = identifyOpenApiVersion(uriInfo);
         if (identifyUriType(uriInfo).equals(URIType.RFC8040)) {
@@ -89,12 +99,12 @@ public class ApiDocServiceImpl implements ApiDocService {
      * Redirects to embedded swagger ui.
      */
     @Override
-    public synchronized Response getApiExplorer(final UriInfo uriInfo) {
+    public Response getApiExplorer(final UriInfo uriInfo) {
         return Response.seeOther(uriInfo.getBaseUriBuilder().path("../explorer/index.html").build()).build();
     }
 
     @Override
-    public synchronized Response getListOfMounts(final UriInfo uriInfo) {
+    public Response getListOfMounts(final UriInfo uriInfo) {
         final MountPointSwagger mountPointSwagger;
         if (identifyUriType(uriInfo).equals(URIType.RFC8040)) {
             mountPointSwagger = mountPointSwaggerRFC8040;
@@ -108,7 +118,7 @@ public class ApiDocServiceImpl implements ApiDocService {
     }
 
     @Override
-    public synchronized Response getMountDocByModule(final String instanceNum, final String module,
+    public Response getMountDocByModule(final String instanceNum, final String module,
                                                      final String revision, final UriInfo uriInfo) {
         final CommonApiObject api;
         final OAversion oaversion = identifyOpenApiVersion(uriInfo);
@@ -125,12 +135,18 @@ public class ApiDocServiceImpl implements ApiDocService {
     }
 
     @Override
-    public synchronized Response getMountDoc(final String instanceNum, final UriInfo uriInfo) {
+    public Response getMountDoc(final String instanceNum, final UriInfo uriInfo) {
         final CommonApiObject api;
         final OAversion oaversion = identifyOpenApiVersion(uriInfo);
         final String stringPageNum = uriInfo.getQueryParameters().getFirst(PAGE_NUM);
         final Optional<Integer> pageNum = stringPageNum != null ? Optional.of(Integer.valueOf(stringPageNum))
                 : Optional.empty();
+        if (isStreamed(uriInfo)) {
+            final MountPointSwagger mountPointSwagger = identifyUriType(uriInfo).equals(URIType.RFC8040)
+                    ? mountPointSwaggerRFC8040 : mountPointSwaggerDraft02;
+            return Response.ok(mountPointSwagger.streamMountPointApi(uriInfo, Long.parseLong(instanceNum), pageNum,
+                    identifyUriType(uriInfo), oaversion), MediaType.APPLICATION_JSON).build();
+        }
         if (identifyUriType(uriInfo).equals(URIType.RFC8040)) {
             api = mountPointSwaggerRFC8040
                     .getMountPointApi(uriInfo, Long.parseLong(instanceNum), pageNum, URIType.RFC8040,
@@ -143,6 +159,10 @@ public class ApiDocServiceImpl implements ApiDocService {
         return Response.ok(api).build();
     }
 
+    private static boolean isStreamed(final UriInfo uriInfo) {
+        return Boolean.parseBoolean(uriInfo.getQueryParameters().getFirst(STREAM));
+    }
+
     private static URIType identifyUriType(final UriInfo uriInfo) {
         if (uriInfo.getBaseUri().toString().contains("/18/")) {
             return URIType.RFC8040;
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.sal.rest.doc.impl;
 
+import static java.util.Objects.requireNonNull;
 import static org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.DEFAULT_PAGESIZE;
 import static org.opendaylight.netconf.sal.rest.doc.model.builder.OperationBuilder.CONFIG;
 import static org.opendaylight.netconf.sal.rest.doc.model.builder.OperationBuilder.TOP;
@@ -19,6 +20,7 @@ import static org.opendaylight.netconf.sal.rest.doc.model.builder.OperationBuild
 import static org.opendaylight.netconf.sal.rest.doc.util.JsonUtil.addFields;
 import static org.opendaylight.netconf.sal.rest.doc.util.RestDocgenUtil.resolvePathArgumentsName;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -44,10 +46,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinTask;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
+import org.opendaylight.netconf.sal.rest.doc.impl.SwaggerDocCache.Definitions;
 import org.opendaylight.netconf.sal.rest.doc.swagger.CommonApiObject;
 import org.opendaylight.netconf.sal.rest.doc.swagger.Components;
 import org.opendaylight.netconf.sal.rest.doc.swagger.Info;
@@ -81,17 +86,33 @@ public abstract class BaseYangSwaggerGenerator {
     private static final String API_VERSION = "1.0.0";
     private static final String SWAGGER_VERSION = "2.0";
     private static final String OPEN_API_VERSION = "3.0.3";
+    private static final String PATHS_KEY = "paths";
+    private static final String DEFINITIONS_KEY = "definitions";
+    private static final String COMPONENTS_KEY = "components";
+    private static final String SCHEMAS_KEY = "schemas";
 
-    private final DefinitionGenerator jsonConverter = new DefinitionGenerator();
+    /**
+     * Marker of the set of all modules of a schema context in {@link SwaggerDocCache}.
+     */
+    private static final Object ALL_MODULES = new Object();
+
+    private final SwaggerDocCache cache = new SwaggerDocCache();
 
     private final ObjectMapper mapper = new ObjectMapper();
     private final DOMSchemaService schemaService;
+    private final ApiDocGeneratorPool generatorPool;
 
     public static final String BASE_PATH = "/";
     public static final String MODULE_NAME_SUFFIX = "_module";
 
     protected BaseYangSwaggerGenerator(final Optional<DOMSchemaService> schemaService) {
+        this(schemaService, ApiDocGeneratorPool.SEQUENTIAL);
+    }
+
+    protected BaseYangSwaggerGenerator(final Optional<DOMSchemaService> schemaService,
+            final ApiDocGeneratorPool generatorPool) {
         this.schemaService = schemaService.orElse(null);
+        this.generatorPool = requireNonNull(generatorPool);
         this.mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
     }
 
@@ -147,18 +168,25 @@ public abstract class BaseYangSwaggerGenerator {
         return resourceList;
     }
 
-    public SwaggerObject getAllModulesDoc(final UriInfo uriInfo, final DefinitionNames definitionNames,
-                                          final URIType uriType, final OAversion oaversion) {
+    public SwaggerObject getAllModulesDoc(final UriInfo uriInfo, final URIType uriType, final OAversion oaversion) {
         final SchemaContext schemaContext = schemaService.getGlobalContext();
         Preconditions.checkState(schemaContext != null);
-        return getAllModulesDoc(uriInfo, Optional.empty(), schemaContext, Optional.empty(), "", definitionNames,
-                uriType, oaversion);
+        return getAllModulesDoc(uriInfo, Optional.empty(), schemaContext, Optional.empty(), "", uriType, oaversion);
     }
 
     public SwaggerObject getAllModulesDoc(final UriInfo uriInfo, final Optional<Range<Integer>> range,
                                           final SchemaContext schemaContext, final Optional<String> deviceName,
-                                          final String context, final DefinitionNames definitionNames,
-                                          final URIType uriType, final OAversion oaversion) {
+                                          final String context, final URIType uriType, final OAversion oaversion) {
+        final SwaggerObject doc = createAllModulesDoc(uriInfo, deviceName, uriType);
+        fillDoc(doc, range, schemaContext, context, deviceName, uriType, oaversion);
+        return doc;
+    }
+
+    /**
+     * Create a document for all modules, with empty definitions and paths.
+     */
+    public SwaggerObject createAllModulesDoc(final UriInfo uriInfo, final Optional<String> deviceName,
+                                             final URIType uriType) {
         final String schema = createSchemaFromUriInfo(uriInfo);
         final String host = createHostFromUriInfo(uriInfo);
         String name = "Controller";
@@ -170,33 +198,127 @@ public abstract class BaseYangSwaggerGenerator {
         final SwaggerObject doc = createSwaggerObject(schema, host, BASE_PATH, title);
         doc.setDefinitions(JsonNodeFactory.instance.objectNode());
         doc.setPaths(JsonNodeFactory.instance.objectNode());
-
-        fillDoc(doc, range, schemaContext, context, deviceName, uriType, oaversion, definitionNames);
-
         return doc;
     }
 
     public void fillDoc(final SwaggerObject doc, final Optional<Range<Integer>> range,
                         final SchemaContext schemaContext, final String context, final Optional<String> deviceName,
-                        final URIType uriType, final OAversion oaversion, final DefinitionNames definitionNames) {
-        final SortedSet<Module> modules = getSortedModules(schemaContext);
-        final Set<Module> filteredModules;
-        if (range.isPresent()) {
-            filteredModules = filterByRange(modules, range.get());
+                        final URIType uriType, final OAversion oaversion) {
+        final Set<Module> filteredModules = filterModules(schemaContext, range);
+        final Object selector = range.isPresent() ? range.get() : ALL_MODULES;
+        final Definitions definitions = cache.getDefinitions(schemaContext, selector, oaversion,
+            () -> generateDefinitions(filteredModules, schemaContext, oaversion, false));
+        final ObjectNode paths = cache.getPaths(schemaContext, selector, context, deviceName, uriType, oaversion,
+            () -> generatePaths(filteredModules, context, deviceName, schemaContext, uriType, oaversion,
+                definitions.getDefinitionNames(), false));
+
+        // Cached nodes are shared, only their fields are added to the document
+        addFields(doc.getDefinitions(), definitions.getDefinitions().fields());
+        addFields(doc.getPaths(), paths.fields());
+        logDocument(doc);
+    }
+
+    public StreamingOutput streamAllModulesDoc(final UriInfo uriInfo, final URIType uriType,
+                                               final OAversion oaversion) {
+        final SchemaContext schemaContext = schemaService.getGlobalContext();
+        Preconditions.checkState(schemaContext != null);
+        return streamAllModulesDoc(createAllModulesDoc(uriInfo, Optional.empty(), uriType), Optional.empty(),
+                schemaContext, Optional.empty(), "", uriType, oaversion);
+    }
+
+    /**
+     * Return output writing the same document as {@link #fillDoc(SwaggerObject, Optional, SchemaContext, String,
+     * Optional, URIType, OAversion)} would, generating it module by module while it is written. Only the definitions
+     * or paths of a single module are held in memory at a time, nothing is cached.
+     *
+     * @param doc document providing everything but the modules, its definitions and paths are written ahead of the
+     *            ones of the modules
+     */
+    public StreamingOutput streamAllModulesDoc(final SwaggerObject doc, final Optional<Range<Integer>> range,
+                                               final SchemaContext schemaContext, final Optional<String> deviceName,
+                                               final String context, final URIType uriType,
+                                               final OAversion oaversion) {
+        final Set<Module> filteredModules = filterModules(schemaContext, range);
+        return output -> {
+            final JsonGenerator generator = this.mapper.getFactory().createGenerator(output);
+            writeDoc(generator, doc, filteredModules, schemaContext, context, deviceName, uriType, oaversion);
+            generator.flush();
+        };
+    }
+
+    private void writeDoc(final JsonGenerator generator, final SwaggerObject doc, final Set<Module> modules,
+                          final SchemaContext schemaContext, final String context,
+                          final Optional<String> deviceName, final URIType uriType,
+                          final OAversion oaversion) throws IOException {
+        final ObjectNode header = this.mapper.valueToTree(getAppropriateDoc(doc, oaversion));
+        header.remove(PATHS_KEY);
+        header.remove(DEFINITIONS_KEY);
+        header.remove(COMPONENTS_KEY);
+
+        generator.writeStartObject();
+        writeFields(generator, header);
+
+        // Definitions go first, generating them registers the names the paths refer to
+        if (oaversion.equals(OAversion.V3_0)) {
+            generator.writeObjectFieldStart(COMPONENTS_KEY);
+            generator.writeObjectFieldStart(SCHEMAS_KEY);
         } else {
-            filteredModules = modules;
+            generator.writeObjectFieldStart(DEFINITIONS_KEY);
         }
+        writeFields(generator, doc.getDefinitions());
+        final DefinitionGenerator jsonConverter = new DefinitionGenerator();
+        final DefinitionNames definitionNames = new DefinitionNames();
+        for (final Module module : modules) {
+            LOG.debug("Writing definitions of [{}]...", module.getName());
+            try {
+                writeFields(generator, jsonConverter.convertToJsonSchema(module, schemaContext, definitionNames,
+                        oaversion, false));
+            } catch (final IOException e) {
+                LOG.error("Exception occured in DefinitionGenerator", e);
+            }
+        }
+        if (oaversion.equals(OAversion.V3_0)) {
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
 
-        for (final Module module : filteredModules) {
-            final String revisionString = module.getQNameModule().getRevision().map(Revision::toString).orElse(null);
+        generator.writeObjectFieldStart(PATHS_KEY);
+        writeFields(generator, doc.getPaths());
+        for (final Module module : modules) {
+            LOG.debug("Writing paths of [{}]...", module.getName());
+            final ObjectNode paths = JsonNodeFactory.instance.objectNode();
+            addModulePaths(module, context, deviceName, schemaContext, uriType, oaversion, definitionNames, paths,
+                    false);
+            writeFields(generator, paths);
+        }
+        generator.writeEndObject();
 
-            LOG.debug("Working on [{},{}]...", module.getName(), revisionString);
+        generator.writeEndObject();
+    }
 
-            getSwaggerDocSpec(module, context, deviceName, schemaContext, uriType, oaversion, definitionNames, doc,
-                    false);
+    private static void writeFields(final JsonGenerator generator, final ObjectNode node) throws IOException {
+        final Iterator<Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            final Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
         }
     }
 
+    /**
+     * Drop generated paths of a mount point, so that they are regenerated on next request.
+     *
+     * @param context prefix of the paths of the mount point
+     */
+    public void invalidateMountPoint(final String context) {
+        cache.invalidatePaths(context);
+    }
+
+    private Set<Module> filterModules(final SchemaContext schemaContext, final Optional<Range<Integer>> range) {
+        final SortedSet<Module> modules = getSortedModules(schemaContext);
+        return range.isPresent() ? filterByRange(modules, range.get()) : modules;
+    }
+
     private static Set<Module> filterByRange(final SortedSet<Module> modules, final Range<Integer> range) {
         final int begin = range.lowerEndpoint();
         final int end = range.upperEndpoint();
@@ -288,36 +410,109 @@ public abstract class BaseYangSwaggerGenerator {
                                            final SchemaContext schemaContext, final URIType uriType,
                                            final OAversion oaversion) {
         final SwaggerObject doc = createSwaggerObject(schema, host, basePath, module.getName());
-        final DefinitionNames definitionNames = new DefinitionNames();
-        return getSwaggerDocSpec(module, context, Optional.empty(), schemaContext, uriType, oaversion,
-                definitionNames, doc, true);
+        final Set<Module> modules = Collections.singleton(module);
+        final Definitions definitions = cache.getDefinitions(schemaContext, module.getQNameModule(), oaversion,
+            () -> generateDefinitions(modules, schemaContext, oaversion, true));
+        final ObjectNode paths = cache.getPaths(schemaContext, module.getQNameModule(), context, Optional.empty(),
+            uriType, oaversion, () -> generatePaths(modules, context, Optional.empty(), schemaContext, uriType,
+                oaversion, definitions.getDefinitionNames(), true));
+
+        // Cached nodes are shared, the document gets its own copies of the top-level objects
+        final ObjectNode docDefinitions = JsonNodeFactory.instance.objectNode();
+        addFields(docDefinitions, definitions.getDefinitions().fields());
+        doc.setDefinitions(docDefinitions);
+        final ObjectNode docPaths = JsonNodeFactory.instance.objectNode();
+        addFields(docPaths, paths.fields());
+        doc.setPaths(docPaths);
+        logDocument(doc);
+        return doc;
     }
 
+    private Definitions generateDefinitions(final Collection<Module> modules,
+                                                   final SchemaContext schemaContext, final OAversion oaversion,
+                                                   final boolean isForSingleModule) {
+        final DefinitionNames definitionNames = new DefinitionNames();
+        final ObjectNode definitions = JsonNodeFactory.instance.objectNode();
+        if (modules.size() < 2) {
+            for (final Module module : modules) {
+                addFields(definitions, convertModule(module, schemaContext, definitionNames, oaversion,
+                        isForSingleModule).fields());
+            }
+            return new Definitions(definitions, definitionNames);
+        }
 
-    public SwaggerObject getSwaggerDocSpec(final Module module, final String context, final Optional<String> deviceName,
-                                           final SchemaContext schemaContext, final URIType uriType,
-                                           final OAversion oaversion, final DefinitionNames definitionNames,
-                                           final SwaggerObject doc, final boolean isForSingleModule) {
-        final ObjectNode definitions;
+        /*
+         * Modules are converted in parallel on the generator pool, each against its own registry of definition
+         * names. The registries are merged in module order. A module which looked up a name or node registered by
+         * a preceding module is converted again against the merged registry, so the result is the same as if
+         * the modules were converted one after another.
+         */
+        final List<ForkJoinTask<Definitions>> tasks = new ArrayList<>(modules.size());
+        for (final Module module : modules) {
+            tasks.add(generatorPool.submit(() -> {
+                final DefinitionNames moduleNames = DefinitionNames.tracking();
+                return new Definitions(convertModule(module, schemaContext, moduleNames, oaversion,
+                        isForSingleModule), moduleNames);
+            }));
+        }
 
-        try {
-            if (isForSingleModule) {
-                definitions = this.jsonConverter.convertToJsonSchema(module, schemaContext, definitionNames, oaversion,
-                        true);
-                doc.setDefinitions(definitions);
+        final Iterator<ForkJoinTask<Definitions>> results = tasks.iterator();
+        for (final Module module : modules) {
+            final Definitions moduleDefinitions = results.next().join();
+            final ObjectNode converted;
+            if (definitionNames.mergeIfIndependent(moduleDefinitions.getDefinitionNames())) {
+                converted = moduleDefinitions.getDefinitions();
             } else {
-                definitions = this.jsonConverter.convertToJsonSchema(module, schemaContext, definitionNames, oaversion,
-                        false);
-                addFields(doc.getDefinitions(), definitions.fields());
-            }
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Document: {}", this.mapper.writeValueAsString(doc));
+                LOG.debug("Definitions of {} depend on preceding modules, converting them again", module.getName());
+                converted = convertModule(module, schemaContext, definitionNames, oaversion, isForSingleModule);
             }
+            addFields(definitions, converted.fields());
+        }
+        return new Definitions(definitions, definitionNames);
+    }
+
+    private static ObjectNode convertModule(final Module module, final SchemaContext schemaContext,
+                                            final DefinitionNames definitionNames, final OAversion oaversion,
+                                            final boolean isForSingleModule) {
+        LOG.debug("Working on [{},{}]...", module.getName(),
+            module.getQNameModule().getRevision().map(Revision::toString).orElse(null));
+        try {
+            // DefinitionGenerator tracks the module being converted, hence it cannot be shared
+            return new DefinitionGenerator().convertToJsonSchema(module, schemaContext, definitionNames, oaversion,
+                    isForSingleModule);
         } catch (final IOException e) {
             LOG.error("Exception occured in DefinitionGenerator", e);
+            return JsonNodeFactory.instance.objectNode();
+        }
+    }
+
+    private ObjectNode generatePaths(final Collection<Module> modules, final String context,
+                                     final Optional<String> deviceName, final SchemaContext schemaContext,
+                                     final URIType uriType, final OAversion oaversion,
+                                     final DefinitionNames definitionNames, final boolean isForSingleModule) {
+        // Paths only read definition names, they are generated in parallel and added in module order
+        final List<ForkJoinTask<ObjectNode>> tasks = new ArrayList<>(modules.size());
+        for (final Module module : modules) {
+            tasks.add(generatorPool.submit(() -> {
+                final ObjectNode modulePaths = JsonNodeFactory.instance.objectNode();
+                addModulePaths(module, context, deviceName, schemaContext, uriType, oaversion, definitionNames,
+                        modulePaths, isForSingleModule);
+                return modulePaths;
+            }));
         }
 
         final ObjectNode paths = JsonNodeFactory.instance.objectNode();
+        for (final ForkJoinTask<ObjectNode> task : tasks) {
+            addFields(paths, task.join().fields());
+        }
+        LOG.debug("Number of Paths found [{}]", paths.size());
+        return paths;
+    }
+
+    private void addModulePaths(final Module module, final String context, final Optional<String> deviceName,
+                                final SchemaContext schemaContext, final URIType uriType,
+                                final OAversion oaversion, final DefinitionNames definitionNames,
+                                final ObjectNode paths, final boolean isForSingleModule) {
         final String moduleName = module.getName();
 
         boolean hasAddRootPostLink = false;
@@ -366,16 +561,16 @@ public abstract class BaseYangSwaggerGenerator {
             addOperations(rpcDefinition, moduleName, deviceName, paths, resourcePath, module.getName(), definitionNames,
                     schemaContext, oaversion);
         }
+    }
 
-        LOG.debug("Number of Paths found [{}]", paths.size());
-
-        if (isForSingleModule) {
-            doc.setPaths(paths);
-        } else {
-            addFields(doc.getPaths(), paths.fields());
+    private void logDocument(final SwaggerObject doc) {
+        if (LOG.isDebugEnabled()) {
+            try {
+                LOG.debug("Document: {}", this.mapper.writeValueAsString(doc));
+            } catch (final IOException e) {
+                LOG.error("Failed to serialize document", e);
+            }
         }
-
-        return doc;
     }
 
     private void addRootPostLink(final Module module, final Optional<String> deviceName, final ArrayNode pathParams,
@@ -26,6 +26,12 @@ public abstract class BaseYangSwaggerGeneratorDraft02 extends BaseYangSwaggerGen
         this.basePath = DEFAULT_BASE_PATH;
     }
 
+    protected BaseYangSwaggerGeneratorDraft02(final Optional<DOMSchemaService> schemaService,
+            final ApiDocGeneratorPool generatorPool) {
+        super(schemaService, generatorPool);
+        this.basePath = DEFAULT_BASE_PATH;
+    }
+
     protected BaseYangSwaggerGeneratorDraft02(final Optional<DOMSchemaService> schemaService, final String basePath) {
         super(schemaService);
         this.basePath = basePath;
@@ -26,6 +26,12 @@ public abstract class BaseYangSwaggerGeneratorRFC8040 extends BaseYangSwaggerGen
         this.basePath = DEFAULT_BASE_PATH;
     }
 
+    protected BaseYangSwaggerGeneratorRFC8040(final Optional<DOMSchemaService> schemaService,
+            final ApiDocGeneratorPool generatorPool) {
+        super(schemaService, generatorPool);
+        this.basePath = DEFAULT_BASE_PATH;
+    }
+
     protected BaseYangSwaggerGeneratorRFC8040(final Optional<DOMSchemaService> schemaService, final String basePath) {
         super(schemaService);
         this.basePath = basePath;
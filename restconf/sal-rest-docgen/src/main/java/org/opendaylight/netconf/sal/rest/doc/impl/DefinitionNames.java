@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.sal.rest.doc.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,16 +18,46 @@ public class DefinitionNames {
 
     private final HashMap<SchemaNode, String> discriminators;
     private final Set<String> names;
+    // Names and nodes looked up by a tracking instance, null otherwise
+    private final Set<String> lookedUpNames;
+    private final Set<SchemaNode> lookedUpNodes;
 
     public DefinitionNames() {
+        this(false);
+    }
+
+    private DefinitionNames(final boolean tracking) {
         names = new HashSet<>();
         discriminators = new HashMap<>();
+        lookedUpNames = tracking ? new HashSet<>() : null;
+        lookedUpNodes = tracking ? new HashSet<>() : null;
+    }
+
+    /**
+     * Create an instance recording every name and node looked up in it, so that its registrations can be merged into
+     * another instance with {@link #mergeIfIndependent(DefinitionNames)}.
+     */
+    static DefinitionNames tracking() {
+        return new DefinitionNames(true);
+    }
+
+    private boolean containsName(final String name) {
+        if (lookedUpNames != null) {
+            lookedUpNames.add(name);
+        }
+        return names.contains(name);
+    }
+
+    private void lookedUp(final SchemaNode node) {
+        if (lookedUpNodes != null) {
+            lookedUpNodes.add(node);
+        }
     }
 
     private int pickDiscriminator(final List<String> clearNames, final int discriminator) {
         for (final String clearName : clearNames) {
             final String newName = clearName + discriminator;
-            if (names.contains(newName)) {
+            if (containsName(newName)) {
                 return pickDiscriminator(clearNames, discriminator + 1);
             }
         }
@@ -36,7 +67,7 @@ public class DefinitionNames {
     String pickDiscriminator(final SchemaNode node, final List<String> clearNames) {
         String discriminator = "";
         for (final String clearName: clearNames) {
-            if (names.contains(clearName)) {
+            if (containsName(clearName)) {
                 discriminator = String.valueOf(pickDiscriminator(clearNames, 1));
             }
         }
@@ -48,7 +79,7 @@ public class DefinitionNames {
     }
 
     void addUnlinkedName(final String name) {
-        if (!names.contains(name)) {
+        if (!containsName(name)) {
             names.add(name);
         } else {
             throw new IllegalArgumentException(String.format("Definition name:%s already in use", name));
@@ -56,11 +87,30 @@ public class DefinitionNames {
     }
 
     boolean isListedNode(final SchemaNode node) {
+        lookedUp(node);
         return discriminators.containsKey(node);
     }
 
     public String getDiscriminator(final SchemaNode node) {
+        lookedUp(node);
         return discriminators.get(node);
     }
 
+    /**
+     * Merge registrations of a {@link #tracking()} instance, provided it did not look up any name or node registered
+     * in this instance. Every lookup then has the same outcome against this instance as it had against the tracking
+     * one, hence the registrations are the same as if they were made here.
+     *
+     * @param other tracking instance
+     * @return {@code true} if the registrations were merged, {@code false} if they depend on this instance
+     */
+    boolean mergeIfIndependent(final DefinitionNames other) {
+        if (!Collections.disjoint(names, other.lookedUpNames)
+                || other.lookedUpNodes.stream().anyMatch(discriminators::containsKey)) {
+            return false;
+        }
+        names.addAll(other.names);
+        discriminators.putAll(other.discriminators);
+        return true;
+    }
 }
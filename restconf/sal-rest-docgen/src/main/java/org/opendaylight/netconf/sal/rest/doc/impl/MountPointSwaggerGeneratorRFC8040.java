@@ -27,6 +27,13 @@ public class MountPointSwaggerGeneratorRFC8040 extends BaseYangSwaggerGeneratorR
         mountPointSwagger.init();
     }
 
+    public MountPointSwaggerGeneratorRFC8040(final DOMSchemaService schemaService,
+            final DOMMountPointService mountService, final ApiDocGeneratorPool generatorPool) {
+        super(Optional.of(schemaService), generatorPool);
+        mountPointSwagger = new MountPointSwagger(schemaService, mountService, this);
+        mountPointSwagger.init();
+    }
+
     public MountPointSwaggerGeneratorRFC8040(final DOMSchemaService schemaService,
             final DOMMountPointService mountService, final String basePath) {
         super(Optional.of(schemaService), basePath);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.doc.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Cache of generated definitions and paths. Entries are held per schema context, compared by identity and
+ * referenced weakly, so they are dropped together with a schema context which is no longer in use. Definitions do
+ * not depend on where the schema is mounted and are shared by all mount points with the same schema context, paths
+ * are held per mount point.
+ *
+ * <p>
+ * Cached nodes are shared between documents and must not be modified.
+ */
+final class SwaggerDocCache {
+    /**
+     * Definitions generated for a set of modules, along with the names registered while generating them, which are
+     * needed to generate the paths referencing the definitions.
+     */
+    static final class Definitions {
+        private final ObjectNode definitions;
+        private final DefinitionNames definitionNames;
+
+        Definitions(final ObjectNode definitions, final DefinitionNames definitionNames) {
+            this.definitions = requireNonNull(definitions);
+            this.definitionNames = requireNonNull(definitionNames);
+        }
+
+        ObjectNode getDefinitions() {
+            return definitions;
+        }
+
+        DefinitionNames getDefinitionNames() {
+            return definitionNames;
+        }
+    }
+
+    private static final class Key {
+        private final Object modules;
+        private final OAversion oaversion;
+        private final String context;
+        private final Optional<String> deviceName;
+        private final URIType uriType;
+
+        Key(final Object modules, final OAversion oaversion, final String context,
+                final Optional<String> deviceName, final URIType uriType) {
+            this.modules = modules;
+            this.oaversion = oaversion;
+            this.context = context;
+            this.deviceName = deviceName;
+            this.uriType = uriType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modules, oaversion, context, deviceName, uriType);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return modules.equals(other.modules) && oaversion == other.oaversion && uriType == other.uriType
+                    && Objects.equals(context, other.context) && Objects.equals(deviceName, other.deviceName);
+        }
+    }
+
+    private static final class ContextEntries {
+        private final Cache<Key, Definitions> definitions = CacheBuilder.newBuilder()
+                .maximumSize(MAX_ENTRIES_PER_CONTEXT).build();
+        private final Cache<Key, ObjectNode> paths = CacheBuilder.newBuilder()
+                .maximumSize(MAX_ENTRIES_PER_CONTEXT).build();
+    }
+
+    private static final int MAX_ENTRIES_PER_CONTEXT = 4096;
+
+    private final Cache<SchemaContext, ContextEntries> contexts = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * Return the definitions of a set of modules, generating them if they are not cached.
+     *
+     * @param schemaContext schema context of the modules
+     * @param modules       identifier of the set of modules
+     * @param oaversion     OpenAPI version
+     * @param generator     generator of the definitions
+     * @return definitions
+     */
+    Definitions getDefinitions(final SchemaContext schemaContext, final Object modules, final OAversion oaversion,
+            final Callable<Definitions> generator) {
+        return get(entries(schemaContext).definitions, new Key(modules, oaversion, null, null, null), generator);
+    }
+
+    /**
+     * Return the paths of a set of modules, generating them if they are not cached.
+     *
+     * @param schemaContext schema context of the modules
+     * @param modules       identifier of the set of modules
+     * @param context       prefix of the paths, identifying the mount point
+     * @param deviceName    name of the mounted device
+     * @param uriType       RESTCONF flavour
+     * @param oaversion     OpenAPI version
+     * @param generator     generator of the paths
+     * @return paths
+     */
+    ObjectNode getPaths(final SchemaContext schemaContext, final Object modules, final String context,
+            final Optional<String> deviceName, final URIType uriType, final OAversion oaversion,
+            final Callable<ObjectNode> generator) {
+        return get(entries(schemaContext).paths, new Key(modules, oaversion, context, deviceName, uriType),
+            generator);
+    }
+
+    /**
+     * Drop paths generated for a mount point.
+     *
+     * @param context prefix of the paths of the mount point
+     */
+    void invalidatePaths(final String context) {
+        for (final ContextEntries entries : contexts.asMap().values()) {
+            entries.paths.asMap().keySet().removeIf(key -> context.equals(key.context));
+        }
+    }
+
+    /**
+     * Drop all cached entries.
+     */
+    void invalidateAll() {
+        contexts.invalidateAll();
+    }
+
+    private ContextEntries entries(final SchemaContext schemaContext) {
+        return get(contexts, schemaContext, ContextEntries::new);
+    }
+
+    private static <K, V> V get(final Cache<K, V> cache, final K key, final Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Failed to generate documentation", e.getCause());
+        }
+    }
+}
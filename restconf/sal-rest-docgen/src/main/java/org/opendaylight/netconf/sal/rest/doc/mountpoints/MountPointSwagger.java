@@ -30,6 +30,7 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
@@ -38,7 +39,6 @@ import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
 import org.opendaylight.netconf.sal.rest.doc.impl.BaseYangSwaggerGenerator;
-import org.opendaylight.netconf.sal.rest.doc.impl.DefinitionNames;
 import org.opendaylight.netconf.sal.rest.doc.swagger.CommonApiObject;
 import org.opendaylight.netconf.sal.rest.doc.swagger.SwaggerObject;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
@@ -167,29 +167,13 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
         if (context == null) {
             return null;
         }
-        final DefinitionNames definitionNames = new DefinitionNames();
-
-        boolean includeDataStore = true;
-        Optional<Range<Integer>> range = Optional.empty();
-
-        if (pageNum.isPresent()) {
-            final int pageNumValue = pageNum.get();
-            final int end = DEFAULT_PAGESIZE * pageNumValue - 1;
-            int start = end - DEFAULT_PAGESIZE;
-            if (pageNumValue == 1) {
-                start++;
-            } else {
-                includeDataStore = false;
-            }
-            range = Optional.of(Range.closed(start, end));
-        }
 
         final SwaggerObject doc;
 
-        final SwaggerObject swaggerObject = swaggerGenerator.getAllModulesDoc(uriInfo, range, context,
-                Optional.of(deviceName), urlPrefix, definitionNames, uriType, oaversion);
+        final SwaggerObject swaggerObject = swaggerGenerator.getAllModulesDoc(uriInfo, pageRange(pageNum), context,
+                Optional.of(deviceName), urlPrefix, uriType, oaversion);
 
-        if (includeDataStore) {
+        if (includesDataStore(pageNum)) {
             doc = generateDataStoreApiDoc(uriInfo, urlPrefix, deviceName);
             addFields(doc.getPaths() ,swaggerObject.getPaths().fields());
             addFields(doc.getDefinitions() ,swaggerObject.getDefinitions().fields());
@@ -201,6 +185,47 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
         return BaseYangSwaggerGenerator.getAppropriateDoc(doc, oaversion);
     }
 
+    /**
+     * Return output writing the same document as {@link #getMountPointApi(UriInfo, Long, Optional, URIType,
+     * OAversion)}, generating it while it is written.
+     */
+    public StreamingOutput streamMountPointApi(final UriInfo uriInfo, final Long id, final Optional<Integer> pageNum,
+                                               final URIType uriType, final OAversion oaversion) {
+        final YangInstanceIdentifier iid = getInstanceId(id);
+        final SchemaContext context = getSchemaContext(iid);
+        final String urlPrefix = getYangMountUrl(iid);
+        final String deviceName  = extractDeviceName(iid);
+
+        if (context == null) {
+            return null;
+        }
+
+        final SwaggerObject doc = swaggerGenerator.createAllModulesDoc(uriInfo, Optional.of(deviceName), uriType);
+        if (includesDataStore(pageNum)) {
+            addFields(doc.getPaths(), generateDataStoreApiDoc(uriInfo, urlPrefix, deviceName).getPaths().fields());
+        }
+        return swaggerGenerator.streamAllModulesDoc(doc, pageRange(pageNum), context, Optional.of(deviceName),
+                urlPrefix, uriType, oaversion);
+    }
+
+    private static Optional<Range<Integer>> pageRange(final Optional<Integer> pageNum) {
+        if (pageNum.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final int pageNumValue = pageNum.get();
+        final int end = DEFAULT_PAGESIZE * pageNumValue - 1;
+        int start = end - DEFAULT_PAGESIZE;
+        if (pageNumValue == 1) {
+            start++;
+        }
+        return Optional.of(Range.closed(start, end));
+    }
+
+    private static boolean includesDataStore(final Optional<Integer> pageNum) {
+        return pageNum.isEmpty() || pageNum.get() == 1;
+    }
+
     private static String extractDeviceName(final YangInstanceIdentifier iid) {
         return ((YangInstanceIdentifier.NodeIdentifierWithPredicates.Singleton)iid.getLastPathArgument())
                 .values().getElement().toString();
@@ -247,6 +272,8 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
 
     @Override
     public void onMountPointCreated(final YangInstanceIdentifier path) {
+        // A new mount point may reuse the identifier of a removed one with a different schema
+        swaggerGenerator.invalidateMountPoint(getYangMountUrl(path));
         synchronized (this.lock) {
             LOG.debug("Mount point {} created", path);
             final Long idLong = this.idKey.incrementAndGet();
@@ -257,6 +284,7 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
 
     @Override
     public void onMountPointRemoved(final YangInstanceIdentifier path) {
+        swaggerGenerator.invalidateMountPoint(getYangMountUrl(path));
         synchronized (this.lock) {
             LOG.debug("Mount point {} removed", path);
             final Long id = this.instanceIdToLongId.remove(path);
@@ -14,6 +14,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Preconditions;
 import java.sql.Date;
@@ -26,8 +27,11 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocGeneratorDraftO2;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocGeneratorPool;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
+import org.opendaylight.netconf.sal.rest.doc.impl.DefinitionGenerator;
+import org.opendaylight.netconf.sal.rest.doc.impl.DefinitionNames;
 import org.opendaylight.netconf.sal.rest.doc.swagger.SwaggerObject;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
@@ -189,6 +193,63 @@ public class ApiDocGeneratorTest {
         }
     }
 
+    @Test
+    public void testCachedModuleDoc() throws Exception {
+        Preconditions.checkArgument(this.helper.getModules() != null, "No modules found");
+
+        for (final Module m : this.helper.getModules()) {
+            if (m.getQNameModule().getNamespace().toString().equals(NAMESPACE_2)
+                    && m.getQNameModule().getRevision().equals(REVISION_2)) {
+                final SwaggerObject first = this.generator.getSwaggerDocSpec(m, "http","localhost:8181", "/", "",
+                        this.schemaContext, URIType.DRAFT02, ApiDocServiceImpl.OAversion.V2_0);
+                final String firstPaths = first.getPaths().toString();
+                final String firstDefinitions = first.getDefinitions().toString();
+
+                // Changes to a document must not leak into documents served from the cache
+                first.getPaths().removeAll();
+                first.getDefinitions().removeAll();
+
+                final SwaggerObject second = this.generator.getSwaggerDocSpec(m, "http","localhost:8181", "/", "",
+                        this.schemaContext, URIType.DRAFT02, ApiDocServiceImpl.OAversion.V2_0);
+                assertEquals(firstPaths, second.getPaths().toString());
+                assertEquals(firstDefinitions, second.getDefinitions().toString());
+
+                // Paths are held per mount point
+                final SwaggerObject mounted = this.generator.getSwaggerDocSpec(m, "http","localhost:8181", "/",
+                        "/nodes/node/1/yang-ext:mount", this.schemaContext, URIType.DRAFT02,
+                        ApiDocServiceImpl.OAversion.V2_0);
+                assertTrue(mounted.getPaths().fieldNames().next().contains("/nodes/node/1/yang-ext:mount"));
+                assertEquals(firstDefinitions, mounted.getDefinitions().toString());
+            }
+        }
+    }
+
+    @Test
+    public void testAllModulesDocMatchesSequentialConversion() throws Exception {
+        final ObjectNode expected = JsonNodeFactory.instance.objectNode();
+        final DefinitionGenerator converter = new DefinitionGenerator();
+        final DefinitionNames definitionNames = new DefinitionNames();
+        for (final Module m : this.generator.getSortedModules(this.schemaContext)) {
+            expected.setAll(converter.convertToJsonSchema(m, this.schemaContext, definitionNames,
+                    ApiDocServiceImpl.OAversion.V2_0, false));
+        }
+
+        // Sequential generation, then parallel generation on a pool
+        final SwaggerObject doc = this.generator.getAllModulesDoc(this.helper.createMockUriInfo("http://localhost"),
+                URIType.DRAFT02, ApiDocServiceImpl.OAversion.V2_0);
+        // Compared as strings, so that the order of definitions is checked as well
+        assertEquals(expected.toString(), doc.getDefinitions().toString());
+
+        try (ApiDocGeneratorPool pool = ApiDocGeneratorPool.create(2)) {
+            final SwaggerObject parallelDoc = new ApiDocGeneratorDraftO2(
+                this.helper.createMockSchemaService(this.schemaContext), pool).getAllModulesDoc(
+                    this.helper.createMockUriInfo("http://localhost"), URIType.DRAFT02,
+                    ApiDocServiceImpl.OAversion.V2_0);
+            assertEquals(expected.toString(), parallelDoc.getDefinitions().toString());
+            assertEquals(doc.getPaths().toString(), parallelDoc.getPaths().toString());
+        }
+    }
+
     /**
      * Tests whether from yang files are generated all required paths for HTTP operations (GET, DELETE, PUT, POST)
      *
@@ -14,7 +14,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
@@ -121,4 +123,23 @@ public class MountPointSwaggerTest {
                 "/restconf/operations" + INSTANCE_URL + "yang-ext:mount"));
         assertEquals(expectedUrls, actualUrls);
     }
+
+    @Test
+    public void testStreamedMountPointApi() throws Exception {
+        final UriInfo mockInfo = this.helper.createMockUriInfo(HTTP_URL);
+        this.swagger.onMountPointCreated(INSTANCE_ID); // add this ID into the list of mount points
+
+        final ObjectMapper mapper = new ObjectMapper();
+        for (final OAversion oaversion : OAversion.values()) {
+            for (final Optional<Integer> pageNum : Arrays.asList(Optional.<Integer>empty(), Optional.of(1))) {
+                final JsonNode expected = mapper.valueToTree(this.swagger.getMountPointApi(mockInfo, 1L, pageNum,
+                        URIType.DRAFT02, oaversion));
+
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                this.swagger.streamMountPointApi(mockInfo, 1L, pageNum, URIType.DRAFT02, oaversion).write(output);
+                assertEquals("document differs for " + oaversion + " page " + pageNum, expected,
+                        mapper.readTree(output.toByteArray()));
+            }
+        }
+    }
 }